@@ -0,0 +1,227 @@
+package com.synerset.hvacengine.common;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe map of calculated values, shared by caches of the engine. <p>
+ * Cache is divided into independently locked segments, each of them holding a bounded {@link LinkedHashMap}. Once segment capacity is
+ * reached, its least recently used entry (access order) or its oldest entry (insertion order) is evicted. Segment capacities sum up
+ * exactly to the maximum size of the cache. Hit, miss and eviction statistics are collected for the whole cache. <p>
+ * Values are not calculated under lock, therefore concurrent misses of the same key may calculate the same value more than once, and
+ * only the first stored value is kept.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of cached values
+ */
+public final class SegmentedCache<K, V> {
+
+    private final int maxSize;
+    private final Segment<K, V>[] segments;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+    private volatile long version;
+
+    @SuppressWarnings("unchecked")
+    private SegmentedCache(int maxSize, int concurrencyLevel, boolean isAccessOrder) {
+        if (maxSize < 1 || concurrencyLevel < 1) {
+            throw new HvacEngineArgumentException("Cache size and concurrency level must be positive. maxSize = " + maxSize
+                                                  + " concurrencyLevel = " + concurrencyLevel);
+        }
+        this.maxSize = maxSize;
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.evictionCount = new LongAdder();
+        int numberOfSegments = Math.min(concurrencyLevel, maxSize);
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[numberOfSegments];
+        for (int i = 0; i < numberOfSegments; i++) {
+            // Segment capacities sum up exactly to maxSize
+            int segmentCapacity = maxSize / numberOfSegments + (i < maxSize % numberOfSegments ? 1 : 0);
+            segments[i] = new Segment<>(segmentCapacity, isAccessOrder, evictionCount);
+        }
+    }
+
+    /**
+     * Returns value stored for provided key and counts a hit, or returns {@code null} and counts a miss.
+     *
+     * @param key the key
+     * @return the cached value, or {@code null} if not present
+     */
+    public V get(K key) {
+        CommonValidators.requireNotNull(key);
+        V value = segmentFor(key).get(key);
+        if (value == null) {
+            missCount.increment();
+        } else {
+            hitCount.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Stores value for provided key, unless a value is already stored.
+     *
+     * @param key   the key
+     * @param value the value to be stored
+     * @return the value stored for provided key, which is either already present value or provided one
+     */
+    public V putIfAbsent(K key, V value) {
+        CommonValidators.requireNotNull(key);
+        CommonValidators.requireNotNull(value);
+        return segmentFor(key).putIfAbsent(key, value);
+    }
+
+    /**
+     * Removes all cached values. Statistics are not affected.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Removes all cached values if provided version differs from the version of the previous call. Intended to drop values calculated
+     * with outdated global settings. Keys should include the version as well, so values stored concurrently under previous version
+     * are never returned.
+     *
+     * @param currentVersion the current version of settings the values depend on
+     */
+    public void clearIfVersionChanged(long currentVersion) {
+        if (version == currentVersion) {
+            return;
+        }
+        synchronized (this) {
+            if (version != currentVersion) {
+                clear();
+                version = currentVersion;
+            }
+        }
+    }
+
+    /**
+     * Resets hit, miss and eviction counters.
+     */
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Returns ratio of cache hits to all requests, or 0 if no requests were made.
+     *
+     * @return hit rate, -
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long requests = hits + missCount.sum();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    /**
+     * Bounded map of a single lock segment. Access order of {@link LinkedHashMap} is used for least recently used eviction, and
+     * insertion order for first in, first out eviction.
+     */
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, V> entries;
+        private final int capacity;
+        private final LongAdder evictionCount;
+
+        private Segment(int capacity, boolean isAccessOrder, LongAdder evictionCount) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, isAccessOrder);
+            this.capacity = capacity;
+            this.evictionCount = evictionCount;
+        }
+
+        private synchronized V get(K key) {
+            return entries.get(key);
+        }
+
+        private synchronized V putIfAbsent(K key, V value) {
+            V existing = entries.putIfAbsent(key, value);
+            if (existing != null) {
+                return existing;
+            }
+            if (entries.size() > capacity) {
+                Iterator<K> eldest = entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictionCount.increment();
+            }
+            return value;
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    // Static factory methods
+
+    /**
+     * Creates cache evicting least recently used entries of each segment.
+     *
+     * @param maxSize          maximum number of cached values
+     * @param concurrencyLevel number of independently locked segments, limited to maximum size
+     * @param <K>              the type of keys
+     * @param <V>              the type of cached values
+     * @return segmented cache
+     */
+    public static <K, V> SegmentedCache<K, V> ofLeastRecentlyUsed(int maxSize, int concurrencyLevel) {
+        return new SegmentedCache<>(maxSize, concurrencyLevel, true);
+    }
+
+    /**
+     * Creates cache evicting the oldest entries of each segment.
+     *
+     * @param maxSize          maximum number of cached values
+     * @param concurrencyLevel number of independently locked segments, limited to maximum size
+     * @param <K>              the type of keys
+     * @param <V>              the type of cached values
+     * @return segmented cache
+     */
+    public static <K, V> SegmentedCache<K, V> ofFirstInFirstOut(int maxSize, int concurrencyLevel) {
+        return new SegmentedCache<>(maxSize, concurrencyLevel, false);
+    }
+
+}
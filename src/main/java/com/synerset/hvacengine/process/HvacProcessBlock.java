@@ -2,10 +2,15 @@ package com.synerset.hvacengine.process;
 
 import com.synerset.hvacengine.common.ConsolePrintable;
 import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
+import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
 import com.synerset.hvacengine.process.blockmodel.OutputConnection;
 import com.synerset.hvacengine.process.blockmodel.Processable;
 import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
 
+import java.util.List;
+
 /**
  * Represents a block in the HVAC processing pipeline that handles both input and output of
  * airflow data, and performs specific processing to produce a result. <p>
@@ -29,6 +34,27 @@ public interface HvacProcessBlock extends ConsolePrintable, Processable<ProcessR
      */
     ProcessType getProcessType();
 
+    /**
+     * Executes the process calculations on input data provided by the specified data access, and passes output data back to it. <p>
+     * Unlike {@link #runProcessCalculations()}, this method does not read or modify any state of this block, so one configured
+     * block can be evaluated concurrently with different data.
+     *
+     * @param connectorDataAccess The data access providing input data and receiving output data of this block's connectors.
+     * @return The result of the process calculation.
+     */
+    ProcessResult runProcessCalculations(ConnectorDataAccess connectorDataAccess);
+
+    /**
+     * Returns the version of this block's configuration held outside of its connectors, such as calculation settings. Version is
+     * incremented each time such configuration changes, so processing engines reusing last results of blocks with unchanged inputs
+     * recalculate the block anyway. Blocks without such configuration always return 0.
+     *
+     * @return The configuration version of this block.
+     */
+    default long getConfigurationVersion() {
+        return 0;
+    }
+
     /**
      * Connects the output of another block (with airflow data) to this block's input. <p>
      * This method validates the provided output connection, ensuring it is not null,
@@ -41,4 +67,24 @@ public interface HvacProcessBlock extends ConsolePrintable, Processable<ProcessR
         CommonValidators.requireNotNull(blockWithAirFlowOutput);
         getInputConnector().connectAndConsumeDataFrom(blockWithAirFlowOutput.getOutputConnector());
     }
+
+    /**
+     * Returns all input connectors of this block: the airflow input connector and any additional process inputs.
+     * Processing engines use them to determine which blocks this block depends on.
+     *
+     * @return A list of all input connectors of this block.
+     */
+    default List<ConnectorInput<?>> getAllInputConnectors() {
+        return List.of(getInputConnector());
+    }
+
+    /**
+     * Returns all output connectors of this block: the airflow output connector and any additional process outputs,
+     * such as heat or condensate.
+     *
+     * @return A list of all output connectors of this block.
+     */
+    default List<ConnectorOutput<?>> getAllOutputConnectors() {
+        return List.of(getOutputConnector());
+    }
 }
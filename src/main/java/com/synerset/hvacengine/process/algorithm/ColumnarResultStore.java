@@ -0,0 +1,154 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+
+import java.util.List;
+
+/**
+ * Fixed capacity store of key quantities of process results (see {@link ResultQuantity}), per block and per run, kept as primitive
+ * values. When capacity is reached, values of the oldest run are overwritten. Memory usage does not depend on the number of runs,
+ * and stored values do not keep any result objects alive. <p>
+ * Values of each quantity and block are stored contiguously, so a time series of a single quantity is read without any lookups.
+ * Runs are indexed from the oldest retained run (index 0). If the number of results per run changes (for example when a block was
+ * added to the engine), values of previous runs are discarded.
+ */
+public final class ColumnarResultStore {
+
+    private static final ResultQuantity[] QUANTITIES = ResultQuantity.values();
+
+    private final int capacity;
+    // [quantity][blockIndex * capacity + slot]
+    private final double[][] columns;
+    private ProcessType[] processTypes;
+    private int numberOfBlocks;
+    private int firstSlot;
+    private int size;
+
+    ColumnarResultStore(int capacity) {
+        if (capacity < 1) {
+            throw new HvacEngineArgumentException("Columnar store capacity must be positive, capacity=" + capacity);
+        }
+        this.capacity = capacity;
+        this.columns = new double[QUANTITIES.length][];
+        this.processTypes = new ProcessType[0];
+    }
+
+    void recordRun(List<ProcessResult> runResults) {
+        if (runResults.size() != numberOfBlocks) {
+            resetLayout(runResults.size());
+        }
+        int slot;
+        if (size < capacity) {
+            slot = (firstSlot + size) % capacity;
+            size++;
+        } else {
+            slot = firstSlot;
+            firstSlot = (firstSlot + 1) % capacity;
+        }
+        for (int blockIndex = 0; blockIndex < numberOfBlocks; blockIndex++) {
+            ProcessResult processResult = runResults.get(blockIndex);
+            processTypes[blockIndex] = processResult.processType();
+            int position = blockIndex * capacity + slot;
+            FlowOfHumidAir outletAirFlow = processResult.outletAirFlow();
+            columns[ResultQuantity.OUTLET_TEMPERATURE.ordinal()][position] = outletAirFlow.getTemperature().getInCelsius();
+            columns[ResultQuantity.OUTLET_HUMIDITY_RATIO.ordinal()][position] = outletAirFlow.getHumidityRatio().getInKilogramPerKilogram();
+            columns[ResultQuantity.OUTLET_RELATIVE_HUMIDITY.ordinal()][position] = outletAirFlow.getRelativeHumidity().getInPercent();
+            columns[ResultQuantity.OUTLET_SPECIFIC_ENTHALPY.ordinal()][position] = outletAirFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
+            columns[ResultQuantity.HEAT_OF_PROCESS.ordinal()][position] = processResult.heatOfProcess().getInWatts();
+            columns[ResultQuantity.CONDENSATE_MASS_FLOW.ordinal()][position] = processResult instanceof CoolingResult coolingResult
+                    ? coolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond()
+                    : 0.0;
+        }
+    }
+
+    void clear() {
+        firstSlot = 0;
+        size = 0;
+    }
+
+    /**
+     * Retrieves a single stored value.
+     *
+     * @param quantity   The {@link ResultQuantity}.
+     * @param runIndex   The index of retained run, 0 for the oldest one.
+     * @param blockIndex The position of the block result in run results.
+     * @return The stored value, in units specified by {@link ResultQuantity}.
+     */
+    public double getValue(ResultQuantity quantity, int runIndex, int blockIndex) {
+        requireValidIndices(quantity, runIndex, blockIndex);
+        return columns[quantity.ordinal()][blockIndex * capacity + (firstSlot + runIndex) % capacity];
+    }
+
+    /**
+     * Retrieves values of a quantity for all retained runs of a block, from the oldest to the latest run.
+     *
+     * @param quantity   The {@link ResultQuantity}.
+     * @param blockIndex The position of the block result in run results.
+     * @return A new array of values, in units specified by {@link ResultQuantity}.
+     */
+    public double[] getSeries(ResultQuantity quantity, int blockIndex) {
+        double[] series = new double[size];
+        if (size == 0) {
+            return series;
+        }
+        requireValidIndices(quantity, 0, blockIndex);
+        double[] column = columns[quantity.ordinal()];
+        int blockOffset = blockIndex * capacity;
+        int headLength = Math.min(size, capacity - firstSlot);
+        System.arraycopy(column, blockOffset + firstSlot, series, 0, headLength);
+        System.arraycopy(column, blockOffset, series, headLength, size - headLength);
+        return series;
+    }
+
+    public ProcessType getProcessType(int blockIndex) {
+        if (blockIndex < 0 || blockIndex >= numberOfBlocks) {
+            throw new HvacEngineArgumentException("Block index out of range, blockIndex=" + blockIndex + ", numberOfBlocks=" + numberOfBlocks);
+        }
+        return processTypes[blockIndex];
+    }
+
+    /**
+     * Retrieves the number of retained runs.
+     *
+     * @return The number of runs, not greater than capacity.
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getNumberOfBlocks() {
+        return numberOfBlocks;
+    }
+
+    // Helper Methods
+
+    private void resetLayout(int newNumberOfBlocks) {
+        numberOfBlocks = newNumberOfBlocks;
+        processTypes = new ProcessType[newNumberOfBlocks];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new double[newNumberOfBlocks * capacity];
+        }
+        clear();
+    }
+
+    private void requireValidIndices(ResultQuantity quantity, int runIndex, int blockIndex) {
+        if (quantity == null) {
+            throw new HvacEngineArgumentException("Result quantity must not be null.");
+        }
+        if (runIndex < 0 || runIndex >= size) {
+            throw new HvacEngineArgumentException("Run index out of range, runIndex=" + runIndex + ", size=" + size);
+        }
+        if (blockIndex < 0 || blockIndex >= numberOfBlocks) {
+            throw new HvacEngineArgumentException("Block index out of range, blockIndex=" + blockIndex + ", numberOfBlocks=" + numberOfBlocks);
+        }
+    }
+
+}
@@ -0,0 +1,667 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
+import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingEquations;
+import com.synerset.hvacengine.process.cooling.CoolingFromPower;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.hvacengine.process.heating.HeatingEquations;
+import com.synerset.hvacengine.process.heating.HeatingFromHumidity;
+import com.synerset.hvacengine.process.heating.HeatingFromPower;
+import com.synerset.hvacengine.process.heating.HeatingFromTemperature;
+import com.synerset.hvacengine.process.heating.HeatingValidators;
+import com.synerset.hvacengine.process.mixing.Mixing;
+import com.synerset.hvacengine.process.mixing.MixingEquations;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.property.fluids.humidair.HumidAir;
+import com.synerset.hvacengine.property.fluids.humidair.HumidAirEquations;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.List;
+
+/**
+ * Fused evaluator of a linear chain of compiled process blocks, passing primitive air state (pressure, temperature, humidity ratio,
+ * dry air mass flow) between stages, without creating {@link HumidAir}, {@link FlowOfHumidAir} or result objects. Intended for
+ * control loop simulations with very short time steps, where object churn of the regular block calculations dominates. <p>
+ * Heating blocks, cooling from target temperature or power and mixing with external flows are evaluated by primitive kernels. Other blocks
+ * are evaluated through their regular calculations on materialized inlet flow, so their stages are correct but not allocation-free.
+ * Stage parameters (heating or cooling power in W, target temperature in oC or target relative humidity in %) are captured on compilation and
+ * can be changed between evaluations, for example by a controller. Only process direction checks are applied by primitive kernels.
+ * Full validation and result objects are available on request with {@link #materializeResults()}. <p>
+ * An instance holds mutable evaluation state and is not thread-safe. Use one instance per thread, compiled from a shared topology.
+ */
+public final class FusedProcessChain {
+
+    // Indices of primitive air state
+    private static final int PRESSURE = 0;
+    private static final int TEMPERATURE = 1;
+    private static final int HUMIDITY_RATIO = 2;
+    private static final int DRY_AIR_MASS_FLOW = 3;
+    private static final int SPECIFIC_ENTHALPY = 4;
+    private static final int STATE_SIZE = 5;
+
+    private static final double HEATING_TEMPERATURE_LIMIT = HumidAir.TEMPERATURE_MAX_LIMIT.getInCelsius();
+    private static final double HEATING_RH_MIN_LIMIT = RelativeHumidity.RH_MIN_LIMIT.getInPercent();
+
+    private final ProcessTopology topology;
+    private final ProcessRunContext runContext;
+    private final FusedStage[] stages;
+    private final double[] inletState;
+    private final double[] airState;
+    private boolean isEvaluated;
+
+    private FusedProcessChain(ProcessRunContext compilationContext) {
+        CommonValidators.requireNotNull(compilationContext);
+        this.topology = compilationContext.getTopology();
+        this.runContext = topology.createRunContext();
+        this.runContext.copySourceDataFrom(compilationContext);
+        List<HvacProcessBlock> processBlocks = topology.getProcessBlocks();
+        this.stages = new FusedStage[processBlocks.size()];
+        for (int i = 0; i < stages.length; i++) {
+            HvacProcessBlock processBlock = processBlocks.get(i);
+            requireLinearChainWiring(processBlock, i == 0 ? null : processBlocks.get(i - 1));
+            stages[i] = createStage(processBlock);
+        }
+        this.inletState = new double[STATE_SIZE];
+        this.airState = new double[STATE_SIZE];
+    }
+
+    /**
+     * Evaluates all stages for provided inlet air state. Results are available through getters of this chain until the next evaluation.
+     *
+     * @param pressure       inlet air absolute pressure, Pa
+     * @param temperature    inlet air temperature, oC
+     * @param humidityRatio  inlet air humidity ratio, kg.wv/kg.da
+     * @param dryAirMassFlow inlet dry air mass flow, kg/s
+     * @throws HvacEngineArgumentException if target of any stage is not valid for its inlet state.
+     */
+    public void evaluate(double pressure, double temperature, double humidityRatio, double dryAirMassFlow) {
+        isEvaluated = false;
+        inletState[PRESSURE] = pressure;
+        inletState[TEMPERATURE] = temperature;
+        inletState[HUMIDITY_RATIO] = humidityRatio;
+        inletState[DRY_AIR_MASS_FLOW] = dryAirMassFlow;
+        inletState[SPECIFIC_ENTHALPY] = Double.NaN;
+        System.arraycopy(inletState, 0, airState, 0, STATE_SIZE);
+        for (FusedStage stage : stages) {
+            stage.evaluate(airState);
+        }
+        isEvaluated = true;
+    }
+
+    /**
+     * Evaluates all stages for provided inlet airflow.
+     *
+     * @param inletAirFlow The inlet {@link FlowOfHumidAir}.
+     */
+    public void evaluate(FlowOfHumidAir inletAirFlow) {
+        CommonValidators.requireNotNull(inletAirFlow);
+        evaluate(inletAirFlow.getPressure().getInPascals(),
+                inletAirFlow.getTemperature().getInCelsius(),
+                inletAirFlow.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond());
+    }
+
+    /**
+     * Changes the parameter of the specified stage, used by following evaluations: heating power in W for heating from power,
+     * target temperature in oC for heating or cooling from temperature, target relative humidity in % for heating or cooling from
+     * humidity, cooling power in W for cooling from power.
+     *
+     * @param stageIndex The index of the stage, in topological order.
+     * @param value      The new parameter value.
+     * @throws HvacEngineArgumentException if the stage has no parameter or value is not finite.
+     */
+    public void setStageParameter(int stageIndex, double value) {
+        FusedStage stage = getStage(stageIndex);
+        if (stage.parameterKey == null) {
+            throw new HvacEngineArgumentException("Stage has no parameter: " + stage.processBlock.getProcessType());
+        }
+        if (!Double.isFinite(value)) {
+            throw new HvacEngineArgumentException("Stage parameter must be finite, value=" + value);
+        }
+        stage.parameter = value;
+        stage.isParameterChanged = true;
+    }
+
+    public double getStageParameter(int stageIndex) {
+        return getStage(stageIndex).parameter;
+    }
+
+    /**
+     * Retrieves heat of process of the specified stage in last evaluation, W, with the same sign as in the stage process result.
+     *
+     * @param stageIndex The index of the stage, in topological order.
+     * @return heat of process, W
+     */
+    public double getStageHeatOfProcess(int stageIndex) {
+        requireEvaluated();
+        return getStage(stageIndex).heatOfProcess;
+    }
+
+    /**
+     * Retrieves condensate mass flow of the specified stage in last evaluation, kg/s.
+     *
+     * @param stageIndex The index of the stage, in topological order.
+     * @return condensate mass flow, kg/s
+     */
+    public double getStageCondensateMassFlow(int stageIndex) {
+        requireEvaluated();
+        return getStage(stageIndex).condensateMassFlow;
+    }
+
+    public double getOutletPressure() {
+        requireEvaluated();
+        return airState[PRESSURE];
+    }
+
+    public double getOutletTemperature() {
+        requireEvaluated();
+        return airState[TEMPERATURE];
+    }
+
+    public double getOutletHumidityRatio() {
+        requireEvaluated();
+        return airState[HUMIDITY_RATIO];
+    }
+
+    public double getOutletDryAirMassFlow() {
+        requireEvaluated();
+        return airState[DRY_AIR_MASS_FLOW];
+    }
+
+    /**
+     * Creates outlet airflow of the last stage in last evaluation.
+     *
+     * @return The outlet {@link FlowOfHumidAir}.
+     */
+    public FlowOfHumidAir materializeOutletAirFlow() {
+        requireEvaluated();
+        return toAirFlow(airState);
+    }
+
+    /**
+     * Runs regular, fully validated calculations of all blocks for the inlet state and stage parameters of last evaluation.
+     *
+     * @return A new {@link ProcessRunContext} with results of all blocks.
+     */
+    public ProcessRunContext materializeResults() {
+        requireEvaluated();
+        ProcessRunContext resultContext = topology.createRunContext();
+        resultContext.copySourceDataFrom(runContext);
+        for (FusedStage stage : stages) {
+            if (stage.isParameterChanged) {
+                resultContext.putSourceData(stage.parameterKey, stage.toParameterData());
+            }
+        }
+        resultContext.withInletAirFlow(toAirFlow(inletState));
+        return topology.run(resultContext);
+    }
+
+    public ProcessTopology getTopology() {
+        return topology;
+    }
+
+    public int size() {
+        return stages.length;
+    }
+
+    // Helper Methods
+
+    private FusedStage getStage(int stageIndex) {
+        if (stageIndex < 0 || stageIndex >= stages.length) {
+            throw new HvacEngineArgumentException("Stage index out of range, stageIndex=" + stageIndex + ", size=" + stages.length);
+        }
+        return stages[stageIndex];
+    }
+
+    private void requireEvaluated() {
+        if (!isEvaluated) {
+            throw new HvacEngineArgumentException("Fused process chain has not been evaluated successfully.");
+        }
+    }
+
+    private void requireLinearChainWiring(HvacProcessBlock processBlock, HvacProcessBlock previousBlock) {
+        for (ConnectorInput<?> inputConnector : processBlock.getAllInputConnectors()) {
+            Object dataKey = topology.getDataKey(inputConnector);
+            boolean isAirFlowInput = inputConnector == processBlock.getInputConnector();
+            if (isAirFlowInput && previousBlock != null && dataKey != previousBlock.getOutputConnector()) {
+                throw new HvacEngineArgumentException("Fused process chain requires each block to be fed by the previous block: "
+                                                      + processBlock.getProcessType());
+            }
+            if (!isAirFlowInput && dataKey instanceof ConnectorOutput<?> outputConnector
+                && topology.isBlockOutput(outputConnector)) {
+                throw new HvacEngineArgumentException("Fused process chain requires block parameters from external sources: "
+                                                      + processBlock.getProcessType());
+            }
+        }
+    }
+
+    private FusedStage createStage(HvacProcessBlock processBlock) {
+        if (processBlock instanceof HeatingFromPower heating) {
+            Power inputPower = requireData(heating.getTargetInputPowerConnector());
+            return new HeatingFromPowerStage(heating, topology.getDataKey(heating.getTargetInputPowerConnector()), inputPower.getInWatts());
+        }
+        if (processBlock instanceof HeatingFromTemperature heating) {
+            Temperature targetTemperature = requireData(heating.getTargetTemperatureConnector());
+            return new HeatingFromTemperatureStage(heating, topology.getDataKey(heating.getTargetTemperatureConnector()),
+                    targetTemperature.getInCelsius());
+        }
+        if (processBlock instanceof HeatingFromHumidity heating) {
+            RelativeHumidity targetRelativeHumidity = requireData(heating.getTargetRelativeHumidityConnector());
+            return new HeatingFromHumidityStage(heating, topology.getDataKey(heating.getTargetRelativeHumidityConnector()),
+                    targetRelativeHumidity.getInPercent());
+        }
+        if (processBlock instanceof CoolingFromTemperature cooling) {
+            Temperature targetTemperature = requireData(cooling.getTargetTemperatureConnector());
+            CoolantData coolantData = requireData(cooling.getCoolantDataConnector());
+            return new CoolingFromTemperatureStage(cooling, topology.getDataKey(cooling.getTargetTemperatureConnector()),
+                    targetTemperature.getInCelsius(), coolantData);
+        }
+        if (processBlock instanceof CoolingFromPower cooling) {
+            Power coolingPower = requireData(cooling.getHeatConnector());
+            CoolantData coolantData = requireData(cooling.getCoolantDataConnector());
+            return new CoolingFromPowerStage(cooling, topology.getDataKey(cooling.getHeatConnector()), coolingPower.getInWatts(), coolantData);
+        }
+        if (processBlock instanceof Mixing mixing) {
+            List<FlowOfHumidAir> mixingFlows = mixing.getInputMixingFlowConnectors().stream()
+                    .map(this::requireData)
+                    .toList();
+            return new MixingStage(mixing, mixingFlows);
+        }
+        return new MaterializingStage(processBlock);
+    }
+
+    private <T> T requireData(ConnectorInput<T> inputConnector) {
+        T data = runContext.getInputData(inputConnector);
+        if (data == null) {
+            throw new HvacEngineArgumentException("Missing input data for fused process chain compilation.");
+        }
+        return data;
+    }
+
+    private static FlowOfHumidAir toAirFlow(double[] state) {
+        HumidAir humidAir = HumidAir.of(Pressure.ofPascal(state[PRESSURE]),
+                Temperature.ofCelsius(state[TEMPERATURE]),
+                HumidityRatio.ofKilogramPerKilogram(state[HUMIDITY_RATIO]));
+        return FlowOfHumidAir.ofDryAirMassFlow(humidAir, MassFlow.ofKilogramsPerSecond(state[DRY_AIR_MASS_FLOW]));
+    }
+
+    private static double specificEnthalpyOf(double[] state) {
+        double specificEnthalpy = state[SPECIFIC_ENTHALPY];
+        if (Double.isNaN(specificEnthalpy)) {
+            specificEnthalpy = HumidAirEquations.specificEnthalpy(state[TEMPERATURE], state[HUMIDITY_RATIO], state[PRESSURE]);
+        }
+        return specificEnthalpy;
+    }
+
+    /**
+     * Single stage of the chain. Evaluation updates provided air state in place and stores heat of process and condensate of the stage.
+     */
+    private abstract static class FusedStage {
+
+        final HvacProcessBlock processBlock;
+        final Object parameterKey;
+        double parameter;
+        boolean isParameterChanged;
+        double heatOfProcess;
+        double condensateMassFlow;
+
+        FusedStage(HvacProcessBlock processBlock, Object parameterKey, double parameter) {
+            this.processBlock = processBlock;
+            this.parameterKey = parameterKey;
+            this.parameter = parameter;
+        }
+
+        abstract void evaluate(double[] state);
+
+        abstract Object toParameterData();
+
+        void setUnchanged(double[] state) {
+            heatOfProcess = 0.0;
+            condensateMassFlow = 0.0;
+        }
+
+        void setHeatingResult(double[] state, double[] heatingResult) {
+            heatOfProcess = heatingResult[HeatingEquations.HEATING_HEAT_OF_PROCESS] * 1000d;
+            condensateMassFlow = 0.0;
+            state[TEMPERATURE] = heatingResult[HeatingEquations.HEATING_OUTLET_TEMPERATURE];
+            state[SPECIFIC_ENTHALPY] = heatingResult[HeatingEquations.HEATING_OUTLET_SPECIFIC_ENTHALPY];
+        }
+
+    }
+
+    private static final class HeatingFromPowerStage extends FusedStage {
+
+        private final double[] heatingResult;
+
+        HeatingFromPowerStage(HvacProcessBlock processBlock, Object parameterKey, double inputPowerInWatts) {
+            super(processBlock, parameterKey, inputPowerInWatts);
+            this.heatingResult = new double[HeatingEquations.HEATING_RESULT_SIZE];
+        }
+
+        @Override
+        void evaluate(double[] state) {
+            double qHeat = parameter / 1000d;
+            if (qHeat < 0) {
+                throw new HvacEngineArgumentException("Power must be provided as positive value for heating. Q_heat = " + parameter + " W");
+            }
+            double mdaIn = state[DRY_AIR_MASS_FLOW];
+            condensateMassFlow = 0.0;
+            heatOfProcess = parameter;
+            if (qHeat == 0.0 || mdaIn == 0.0) {
+                return;
+            }
+            double pIn = state[PRESSURE];
+            double xIn = state[HUMIDITY_RATIO];
+            double iIn = specificEnthalpyOf(state);
+            if (qHeat >= HeatingValidators.estimateMaxHeatingPower(pIn, xIn, iIn, mdaIn * (1.0 + xIn))) {
+                throw new HvacEngineArgumentException("Unphysical input heating power for provided inlet flow. Q_in = " + parameter + " W");
+            }
+            HeatingEquations.heatingFromPower(pIn, xIn, iIn, mdaIn, qHeat, heatingResult);
+            state[TEMPERATURE] = heatingResult[HeatingEquations.HEATING_OUTLET_TEMPERATURE];
+            state[SPECIFIC_ENTHALPY] = Double.NaN;
+        }
+
+        @Override
+        Object toParameterData() {
+            return Power.ofWatts(parameter);
+        }
+
+    }
+
+    private static final class HeatingFromTemperatureStage extends FusedStage {
+
+        private final double[] heatingResult;
+
+        HeatingFromTemperatureStage(HvacProcessBlock processBlock, Object parameterKey, double targetTemperature) {
+            super(processBlock, parameterKey, targetTemperature);
+            this.heatingResult = new double[HeatingEquations.HEATING_RESULT_SIZE];
+        }
+
+        @Override
+        void evaluate(double[] state) {
+            double tIn = state[TEMPERATURE];
+            double tOut = parameter;
+            if (tOut > HEATING_TEMPERATURE_LIMIT || tOut < tIn) {
+                throw new HvacEngineArgumentException("Invalid target temperature for heating. t_in = " + tIn + " t_target = " + tOut);
+            }
+            double mdaIn = state[DRY_AIR_MASS_FLOW];
+            if (tOut == tIn || mdaIn == 0.0) {
+                setUnchanged(state);
+                return;
+            }
+            HeatingEquations.heatingFromTargetTemperature(state[PRESSURE], state[HUMIDITY_RATIO], specificEnthalpyOf(state), mdaIn,
+                    tOut, heatingResult);
+            setHeatingResult(state, heatingResult);
+        }
+
+        @Override
+        Object toParameterData() {
+            return Temperature.ofCelsius(parameter);
+        }
+
+    }
+
+    private static final class HeatingFromHumidityStage extends FusedStage {
+
+        private final double[] heatingResult;
+
+        HeatingFromHumidityStage(HvacProcessBlock processBlock, Object parameterKey, double targetRelativeHumidity) {
+            super(processBlock, parameterKey, targetRelativeHumidity);
+            this.heatingResult = new double[HeatingEquations.HEATING_RESULT_SIZE];
+        }
+
+        @Override
+        void evaluate(double[] state) {
+            double pIn = state[PRESSURE];
+            double xIn = state[HUMIDITY_RATIO];
+            double rhIn = HumidAirEquations.relativeHumidity(state[TEMPERATURE], xIn, pIn);
+            double rhOut = parameter;
+            if (rhOut < HEATING_RH_MIN_LIMIT || rhOut > HeatingValidators.REALISTIC_RH_LIMIT_VALUE || rhOut > rhIn) {
+                throw new HvacEngineArgumentException("Invalid target relative humidity for heating. RH_in = " + rhIn + " RH_target = " + rhOut);
+            }
+            double mdaIn = state[DRY_AIR_MASS_FLOW];
+            if (rhOut == rhIn || mdaIn == 0.0) {
+                setUnchanged(state);
+                return;
+            }
+            HeatingEquations.heatingFromRelativeHumidity(pIn, xIn, specificEnthalpyOf(state), mdaIn, rhOut, heatingResult);
+            setHeatingResult(state, heatingResult);
+        }
+
+        @Override
+        Object toParameterData() {
+            return RelativeHumidity.ofPercentage(parameter);
+        }
+
+    }
+
+    private static final class CoolingFromTemperatureStage extends FusedStage {
+
+        private final double averageWallTemperature;
+        private final boolean hasNoCoolantTemperatureDifference;
+        private final double[] coilResult;
+
+        CoolingFromTemperatureStage(HvacProcessBlock processBlock, Object parameterKey, double targetTemperature, CoolantData coolantData) {
+            super(processBlock, parameterKey, targetTemperature);
+            this.averageWallTemperature = coolantData.getAverageTemperature().getInCelsius();
+            this.hasNoCoolantTemperatureDifference = coolantData.getTemperatureDifference().isCloseToZero();
+            this.coilResult = new double[CoolingEquations.COIL_RESULT_SIZE];
+        }
+
+        @Override
+        void evaluate(double[] state) {
+            double tIn = state[TEMPERATURE];
+            double targetTemperature = parameter;
+            if (targetTemperature <= 0 || targetTemperature > tIn) {
+                throw new HvacEngineArgumentException("Invalid target temperature for cooling. t_in = " + tIn + " t_target = " + targetTemperature);
+            }
+            double mdaIn = state[DRY_AIR_MASS_FLOW];
+            if (mdaIn == 0.0 || hasNoCoolantTemperatureDifference) {
+                setUnchanged(state);
+                return;
+            }
+            double pIn = state[PRESSURE];
+            double xIn = state[HUMIDITY_RATIO];
+            double rhIn = HumidAirEquations.relativeHumidity(tIn, xIn, pIn);
+            double tdpIn = HumidAirEquations.dewPointTemperature(tIn, rhIn, pIn);
+            CoolingEquations.coolingFromTargetTemperature(pIn, tIn, xIn, specificEnthalpyOf(state), mdaIn, tdpIn,
+                    averageWallTemperature, targetTemperature, coilResult);
+            heatOfProcess = coilResult[CoolingEquations.COIL_HEAT_OF_PROCESS] * 1000d;
+            condensateMassFlow = coilResult[CoolingEquations.COIL_CONDENSATE_MASS_FLOW];
+            if (coilResult[CoolingEquations.COIL_OUTLET_TEMPERATURE] != tIn) {
+                state[TEMPERATURE] = coilResult[CoolingEquations.COIL_OUTLET_TEMPERATURE];
+                state[HUMIDITY_RATIO] = coilResult[CoolingEquations.COIL_OUTLET_HUMIDITY_RATIO];
+                state[SPECIFIC_ENTHALPY] = Double.NaN;
+            }
+        }
+
+        @Override
+        Object toParameterData() {
+            return Temperature.ofCelsius(parameter);
+        }
+
+    }
+
+    private static final class CoolingFromPowerStage extends FusedStage {
+
+        private final double averageWallTemperature;
+        private final boolean hasNoCoolantTemperatureDifference;
+        private final double[] coilResult;
+
+        CoolingFromPowerStage(HvacProcessBlock processBlock, Object parameterKey, double coolingPowerInWatts, CoolantData coolantData) {
+            super(processBlock, parameterKey, coolingPowerInWatts);
+            this.averageWallTemperature = coolantData.getAverageTemperature().getInCelsius();
+            this.hasNoCoolantTemperatureDifference = coolantData.getTemperatureDifference().isCloseToZero();
+            this.coilResult = new double[CoolingEquations.COIL_RESULT_SIZE];
+        }
+
+        @Override
+        void evaluate(double[] state) {
+            double mdaIn = state[DRY_AIR_MASS_FLOW];
+            if (parameter == 0.0 || mdaIn == 0.0 || hasNoCoolantTemperatureDifference) {
+                setUnchanged(state);
+                heatOfProcess = Math.abs(parameter);
+                return;
+            }
+            double pIn = state[PRESSURE];
+            double tIn = state[TEMPERATURE];
+            double xIn = state[HUMIDITY_RATIO];
+            double rhIn = HumidAirEquations.relativeHumidity(tIn, xIn, pIn);
+            double tdpIn = HumidAirEquations.dewPointTemperature(tIn, rhIn, pIn);
+            CoolingEquations.coolingFromPower(pIn, tIn, xIn, specificEnthalpyOf(state), mdaIn, tdpIn,
+                    averageWallTemperature, parameter / 1000d, coilResult);
+            heatOfProcess = coilResult[CoolingEquations.COIL_HEAT_OF_PROCESS] * 1000d;
+            condensateMassFlow = coilResult[CoolingEquations.COIL_CONDENSATE_MASS_FLOW];
+            if (coilResult[CoolingEquations.COIL_OUTLET_TEMPERATURE] != tIn) {
+                state[TEMPERATURE] = coilResult[CoolingEquations.COIL_OUTLET_TEMPERATURE];
+                state[HUMIDITY_RATIO] = coilResult[CoolingEquations.COIL_OUTLET_HUMIDITY_RATIO];
+                state[SPECIFIC_ENTHALPY] = Double.NaN;
+            }
+        }
+
+        @Override
+        Object toParameterData() {
+            return Power.ofWatts(parameter);
+        }
+
+    }
+
+    /**
+     * Mixing with flows captured on compilation. Sums of recirculation flows are computed once.
+     */
+    private static final class MixingStage extends FusedStage {
+
+        private final int numberOfMixingFlows;
+        private final double mixingDryAirMassFlow;
+        private final double mixingMoistureFlow;
+        private final double mixingEnthalpyFlow;
+        private final double mixingMaxPressure;
+        private final double[] mixingResult;
+
+        MixingStage(HvacProcessBlock processBlock, List<FlowOfHumidAir> mixingFlows) {
+            super(processBlock, null, Double.NaN);
+            this.numberOfMixingFlows = mixingFlows.size();
+            double dryAirMassFlow = 0;
+            double moistureFlow = 0;
+            double enthalpyFlow = 0;
+            double maxPressure = 0;
+            for (FlowOfHumidAir mixingFlow : mixingFlows) {
+                double mda = mixingFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+                dryAirMassFlow += mda;
+                moistureFlow += mda * mixingFlow.getHumidityRatio().getInKilogramPerKilogram();
+                enthalpyFlow += mda * mixingFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
+                maxPressure = Math.max(maxPressure, mixingFlow.getPressure().getInPascals());
+            }
+            this.mixingDryAirMassFlow = dryAirMassFlow;
+            this.mixingMoistureFlow = moistureFlow;
+            this.mixingEnthalpyFlow = enthalpyFlow;
+            this.mixingMaxPressure = maxPressure;
+            this.mixingResult = new double[MixingEquations.MIXING_RESULT_SIZE];
+        }
+
+        @Override
+        void evaluate(double[] state) {
+            double mdaIn = state[DRY_AIR_MASS_FLOW];
+            setUnchanged(state);
+            if (numberOfMixingFlows == 0 || mixingDryAirMassFlow == 0.0 || mdaIn == 0.0 && numberOfMixingFlows > 1) {
+                return;
+            }
+            double mixingPressure = numberOfMixingFlows == 1 ? state[PRESSURE] : mixingMaxPressure;
+            MixingEquations.mixingOfFlowSums(state[PRESSURE], state[HUMIDITY_RATIO], specificEnthalpyOf(state), mdaIn,
+                    mixingDryAirMassFlow, mixingMoistureFlow, mixingEnthalpyFlow, mixingPressure, mixingResult);
+            state[PRESSURE] = mixingResult[MixingEquations.MIXING_OUTLET_PRESSURE];
+            state[TEMPERATURE] = mixingResult[MixingEquations.MIXING_OUTLET_TEMPERATURE];
+            state[HUMIDITY_RATIO] = mixingResult[MixingEquations.MIXING_OUTLET_HUMIDITY_RATIO];
+            state[DRY_AIR_MASS_FLOW] = mixingResult[MixingEquations.MIXING_OUTLET_DRY_AIR_MASS_FLOW];
+            state[SPECIFIC_ENTHALPY] = Double.NaN;
+        }
+
+        @Override
+        Object toParameterData() {
+            return null;
+        }
+
+    }
+
+    /**
+     * Stage of a block without primitive kernel, evaluated with regular calculations on materialized inlet flow.
+     */
+    private final class MaterializingStage extends FusedStage {
+
+        private final ProcessRunContext stageContext;
+        private final Object inletDataKey;
+
+        MaterializingStage(HvacProcessBlock processBlock) {
+            super(processBlock, null, Double.NaN);
+            this.stageContext = topology.createRunContext();
+            this.stageContext.copySourceDataFrom(runContext);
+            this.inletDataKey = topology.getDataKey(processBlock.getInputConnector());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void evaluate(double[] state) {
+            FlowOfHumidAir inletAirFlow = toAirFlow(state);
+            if (inletDataKey instanceof ConnectorOutput<?> previousOutput && topology.isBlockOutput(previousOutput)) {
+                stageContext.setOutputData((ConnectorOutput<FlowOfHumidAir>) previousOutput, inletAirFlow);
+            } else {
+                stageContext.putSourceData(inletDataKey, inletAirFlow);
+            }
+            ProcessResult processResult = processBlock.runProcessCalculations(stageContext);
+            FlowOfHumidAir outletAirFlow = processResult.outletAirFlow();
+            heatOfProcess = processResult.heatOfProcess().getInWatts();
+            condensateMassFlow = processResult instanceof CoolingResult coolingResult
+                    ? coolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond()
+                    : 0.0;
+            state[PRESSURE] = outletAirFlow.getPressure().getInPascals();
+            state[TEMPERATURE] = outletAirFlow.getTemperature().getInCelsius();
+            state[HUMIDITY_RATIO] = outletAirFlow.getHumidityRatio().getInKilogramPerKilogram();
+            state[DRY_AIR_MASS_FLOW] = outletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+            state[SPECIFIC_ENTHALPY] = outletAirFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
+        }
+
+        @Override
+        Object toParameterData() {
+            return null;
+        }
+
+    }
+
+    // Static factory methods
+
+    /**
+     * Compiles a fused chain from provided topology, with stage parameters and external data captured on topology compilation.
+     *
+     * @param topology The compiled linear process topology.
+     * @return A new {@link FusedProcessChain}.
+     * @throws HvacEngineArgumentException if blocks are not connected as a linear chain with external parameter sources.
+     */
+    public static FusedProcessChain of(ProcessTopology topology) {
+        CommonValidators.requireNotNull(topology);
+        return new FusedProcessChain(topology.createRunContext());
+    }
+
+    /**
+     * Compiles a fused chain from topology of provided run context, with source data overrides of the context.
+     *
+     * @param runContext The run context with source data overrides.
+     * @return A new {@link FusedProcessChain}.
+     * @throws HvacEngineArgumentException if blocks are not connected as a linear chain with external parameter sources.
+     */
+    public static FusedProcessChain of(ProcessRunContext runContext) {
+        return new FusedProcessChain(runContext);
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.synerset.hvacengine.process.algorithm;
+
+/**
+ * Convergence acceleration of fixed-point iteration in {@link RecirculationLoopSolver}.
+ */
+public enum LoopAcceleration {
+    /** Plain fixed-point iteration, each iteration takes the loop output as next loop input. */
+    NONE,
+    /** Aitken dynamic relaxation, with a single relaxation factor updated from two last residuals. */
+    AITKEN,
+    /** Anderson acceleration (type II), mixing several last iterates to minimize the linearized residual. */
+    ANDERSON
+}
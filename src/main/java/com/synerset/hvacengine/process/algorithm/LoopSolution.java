@@ -0,0 +1,25 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+
+/**
+ * Solution of a recirculation loop with convergence diagnostics.
+ *
+ * @param runContext         The run context of the last process chain evaluation, with results of all blocks.
+ * @param loopAirFlow        The airflow at the loop-closing input used in the last evaluation.
+ * @param isConverged        Whether the loop residual dropped below tolerance within the iteration limit.
+ * @param iterations         The number of performed iterations.
+ * @param chainEvaluations   The number of process chain evaluations, including the final one.
+ * @param residualNorm       The last scaled residual norm (oC, g/kg and kg/s components).
+ * @param residualHistory    The scaled residual norm of each iteration.
+ * @param acceleration       The used {@link LoopAcceleration}.
+ */
+public record LoopSolution(ProcessRunContext runContext,
+                           FlowOfHumidAir loopAirFlow,
+                           boolean isConverged,
+                           int iterations,
+                           int chainEvaluations,
+                           double residualNorm,
+                           double[] residualHistory,
+                           LoopAcceleration acceleration) {
+}
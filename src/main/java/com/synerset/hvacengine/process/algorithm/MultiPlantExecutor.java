@@ -0,0 +1,243 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.ProcessResult;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs many independent plants (for example all air handling units of a campus), each being a {@link SequentialProcessingEngine} or a
+ * run context of a compiled {@link ProcessTopology}, using multiple threads, and aggregates their results. <p>
+ * Run cost of plants varies widely (cooling from power with nested solvers is much heavier than heating from temperature), so plants
+ * are not split statically between threads. Workers take plants one by one from a shared order, which starts with the highest priority
+ * and, within the same priority, with plants which took longest in previous runs. Long plants therefore do not end up at the tail of a
+ * run, while idle workers keep taking remaining plants ({@link ForkJoinPool#commonPool()} is used by default). <p>
+ * A failure of one plant does not stop others, it is reported in its {@link PlantRunResult}. Plants should not share process blocks,
+ * and should not be modified while running. Runs of one executor are sequential.
+ */
+public class MultiPlantExecutor {
+
+    private final Executor executor;
+    private final int parallelism;
+    private final List<Plant> plants;
+    private final Set<HvacProcessBlock> plantBlocks;
+    private final Set<ProcessRunContext> plantRunContexts;
+
+    /**
+     * Constructs a new multi-plant executor.
+     *
+     * @param executor    The executor used to run worker threads.
+     * @param parallelism The maximum number of concurrently running workers.
+     */
+    public MultiPlantExecutor(Executor executor, int parallelism) {
+        CommonValidators.requireNotNull(executor);
+        if (parallelism < 1) {
+            throw new HvacEngineArgumentException("Parallelism must be positive, parallelism=" + parallelism);
+        }
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.plants = new ArrayList<>();
+        this.plantBlocks = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.plantRunContexts = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Adds a plant modelled by a sequential engine. Each run calls {@link SequentialProcessingEngine#runCalculationsForAllNodes()}.
+     *
+     * @param plantId  The unique identifier of the plant.
+     * @param engine   The engine with connected process blocks, not shared with other plants.
+     * @param priority The priority of the plant, higher priority plants are started first.
+     * @return This executor.
+     * @throws HvacEngineArgumentException if the identifier is already used or engine blocks are used by another plant.
+     */
+    public synchronized MultiPlantExecutor addPlant(String plantId, SequentialProcessingEngine engine, int priority) {
+        CommonValidators.requireNotNull(engine);
+        if (engine.getAllProcessBlocks().isEmpty()) {
+            throw new HvacEngineArgumentException("No process found for plant: " + plantId);
+        }
+        requireUniquePlantId(plantId);
+        for (HvacProcessBlock processBlock : engine.getAllProcessBlocks()) {
+            if (plantBlocks.contains(processBlock)) {
+                throw new HvacEngineArgumentException("Process block is already used by another plant, plantId=" + plantId);
+            }
+        }
+        plantBlocks.addAll(engine.getAllProcessBlocks());
+        plants.add(new Plant(plantId, priority, () -> {
+            engine.runCalculationsForAllNodes();
+            return engine.getAllProcessBlocks().stream().map(HvacProcessBlock::getProcessResult).toList();
+        }));
+        return this;
+    }
+
+    /**
+     * Adds a plant modelled by a run context of a compiled topology. The topology may be shared by many plants, each with its own
+     * context, for example with different inlet airflow or setpoints.
+     *
+     * @param plantId    The unique identifier of the plant.
+     * @param runContext The run context with source data overrides of the plant, not shared with other plants.
+     * @param priority   The priority of the plant, higher priority plants are started first.
+     * @return This executor.
+     * @throws HvacEngineArgumentException if the identifier is already used or run context is used by another plant.
+     */
+    public synchronized MultiPlantExecutor addPlant(String plantId, ProcessRunContext runContext, int priority) {
+        CommonValidators.requireNotNull(runContext);
+        requireUniquePlantId(plantId);
+        if (plantRunContexts.contains(runContext)) {
+            throw new HvacEngineArgumentException("Run context is already used by another plant, plantId=" + plantId);
+        }
+        plantRunContexts.add(runContext);
+        ProcessTopology topology = runContext.getTopology();
+        plants.add(new Plant(plantId, priority, () -> topology.run(runContext).getProcessResults()));
+        return this;
+    }
+
+    /**
+     * Adds a plant modelled by a compiled topology, run with source data captured on compilation.
+     *
+     * @param plantId  The unique identifier of the plant.
+     * @param topology The compiled process topology.
+     * @param priority The priority of the plant, higher priority plants are started first.
+     * @return This executor.
+     */
+    public MultiPlantExecutor addPlant(String plantId, ProcessTopology topology, int priority) {
+        CommonValidators.requireNotNull(topology);
+        return addPlant(plantId, topology.createRunContext(), priority);
+    }
+
+    /**
+     * Runs all plants once and aggregates their results.
+     *
+     * @return The {@link MultiPlantRunResult} with results of all plants in order of registration.
+     */
+    public synchronized MultiPlantRunResult runAllPlants() {
+        int numberOfPlants = plants.size();
+        if (numberOfPlants == 0) {
+            return MultiPlantRunResult.of(List.of());
+        }
+        Plant[] runOrder = plants.toArray(new Plant[0]);
+        Arrays.sort(runOrder, Comparator.comparingInt(Plant::getPriority).reversed()
+                .thenComparing(Comparator.comparingLong(Plant::getEstimatedRunTimeNanos).reversed()));
+
+        AtomicInteger nextPlant = new AtomicInteger();
+        int numberOfWorkers = Math.min(parallelism, numberOfPlants);
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[numberOfWorkers];
+        for (int i = 0; i < numberOfWorkers; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                int plantIndex;
+                while ((plantIndex = nextPlant.getAndIncrement()) < numberOfPlants) {
+                    runOrder[plantIndex].run();
+                }
+            }, executor);
+        }
+        awaitAll(workers);
+        return MultiPlantRunResult.of(plants.stream().map(Plant::getLastRunResult).toList());
+    }
+
+    public synchronized List<String> getPlantIds() {
+        return plants.stream().map(Plant::getPlantId).toList();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // Helper Methods
+
+    private void requireUniquePlantId(String plantId) {
+        CommonValidators.requireNotNull(plantId);
+        if (plants.stream().anyMatch(plant -> plant.getPlantId().equals(plantId))) {
+            throw new HvacEngineArgumentException("Plant identifier is already used, plantId=" + plantId);
+        }
+    }
+
+    private static void awaitAll(CompletableFuture<?>[] workers) {
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * A registered plant, with its last run result and smoothed run time used to order following runs.
+     */
+    private static final class Plant {
+
+        private final String plantId;
+        private final int priority;
+        private final Supplier<List<ProcessResult>> runner;
+        private volatile long estimatedRunTimeNanos;
+        private volatile PlantRunResult lastRunResult;
+
+        private Plant(String plantId, int priority, Supplier<List<ProcessResult>> runner) {
+            this.plantId = plantId;
+            this.priority = priority;
+            this.runner = runner;
+        }
+
+        private void run() {
+            long startTime = System.nanoTime();
+            List<ProcessResult> processResults = List.of();
+            RuntimeException failure = null;
+            try {
+                processResults = List.copyOf(runner.get());
+            } catch (RuntimeException exception) {
+                failure = exception;
+            }
+            long runTimeNanos = System.nanoTime() - startTime;
+            estimatedRunTimeNanos = estimatedRunTimeNanos == 0 ? runTimeNanos : (3 * estimatedRunTimeNanos + runTimeNanos) / 4;
+            lastRunResult = new PlantRunResult(plantId, priority, processResults, failure, runTimeNanos);
+        }
+
+        private String getPlantId() {
+            return plantId;
+        }
+
+        private int getPriority() {
+            return priority;
+        }
+
+        private long getEstimatedRunTimeNanos() {
+            return estimatedRunTimeNanos;
+        }
+
+        private PlantRunResult getLastRunResult() {
+            return lastRunResult;
+        }
+
+    }
+
+    // Static factory methods
+
+    /**
+     * Static factory method to create a {@link MultiPlantExecutor} using common fork-join pool and its parallelism.
+     *
+     * @return A new instance of {@link MultiPlantExecutor}.
+     */
+    public static MultiPlantExecutor of() {
+        return new MultiPlantExecutor(ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Static factory method to create a {@link MultiPlantExecutor} using provided executor and parallelism.
+     *
+     * @param executor    The executor used to run worker threads.
+     * @param parallelism The maximum number of concurrently running workers.
+     * @return A new instance of {@link MultiPlantExecutor}.
+     */
+    public static MultiPlantExecutor of(Executor executor, int parallelism) {
+        return new MultiPlantExecutor(executor, parallelism);
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+
+import java.util.List;
+
+/**
+ * Results of a run of all plants of a {@link MultiPlantExecutor}, with totals aggregated over successfully calculated plants: cooling
+ * power of cooling and dry cooling processes, heating power of heating processes and condensate mass flow of cooling processes.
+ *
+ * @param plantResults        The results of all plants, in order of plant registration.
+ * @param totalCoolingPower   The sum of heat of all cooling processes.
+ * @param totalHeatingPower   The sum of heat of all heating processes.
+ * @param totalCondensateFlow The sum of condensate mass flows of all cooling processes.
+ */
+public record MultiPlantRunResult(List<PlantRunResult> plantResults,
+                                  Power totalCoolingPower,
+                                  Power totalHeatingPower,
+                                  MassFlow totalCondensateFlow) {
+
+    /**
+     * Retrieves results of the specified plant.
+     *
+     * @param plantId The identifier of the plant.
+     * @return The {@link PlantRunResult} of the plant.
+     * @throws HvacEngineArgumentException if there is no plant with the specified identifier.
+     */
+    public PlantRunResult getPlantResult(String plantId) {
+        CommonValidators.requireNotNull(plantId);
+        return plantResults.stream()
+                .filter(plantResult -> plantResult.plantId().equals(plantId))
+                .findFirst()
+                .orElseThrow(() -> new HvacEngineArgumentException("Plant not found: " + plantId));
+    }
+
+    public List<PlantRunResult> getFailedPlantResults() {
+        return plantResults.stream().filter(plantResult -> !plantResult.isSuccessful()).toList();
+    }
+
+    public boolean isSuccessful() {
+        return plantResults.stream().allMatch(PlantRunResult::isSuccessful);
+    }
+
+    // Static factory methods
+
+    /**
+     * Creates a run result, aggregating totals of provided plant results.
+     *
+     * @param plantResults The results of all plants, in order of plant registration.
+     * @return A new {@link MultiPlantRunResult}.
+     */
+    public static MultiPlantRunResult of(List<PlantRunResult> plantResults) {
+        CommonValidators.requireNotNull(plantResults);
+        double coolingPower = 0;
+        double heatingPower = 0;
+        double condensateFlow = 0;
+        for (PlantRunResult plantResult : plantResults) {
+            for (ProcessResult processResult : plantResult.processResults()) {
+                ProcessType processType = processResult.processType();
+                if (processType == ProcessType.COOLING || processType == ProcessType.DRY_COOLING) {
+                    coolingPower += processResult.heatOfProcess().getInWatts();
+                } else if (processType == ProcessType.HEATING) {
+                    heatingPower += processResult.heatOfProcess().getInWatts();
+                }
+                if (processResult instanceof CoolingResult coolingResult) {
+                    condensateFlow += coolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond();
+                }
+            }
+        }
+        return new MultiPlantRunResult(List.copyOf(plantResults), Power.ofWatts(coolingPower), Power.ofWatts(heatingPower),
+                MassFlow.ofKilogramsPerSecond(condensateFlow));
+    }
+
+}
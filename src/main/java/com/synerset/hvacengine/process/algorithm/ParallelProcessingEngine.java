@@ -0,0 +1,225 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.ConsolePrintable;
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.ProcessType;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A class that manages and executes a graph of connected HVAC process blocks. <p>
+ * Unlike {@link SequentialProcessingEngine}, this engine does not connect added blocks to each other. Blocks are expected to be already
+ * wired through their connectors, which allows branched topologies, for example several independent streams feeding one mixing block.
+ * On each run, a dependency graph is built from the current connector wiring and blocks are executed in topological order.
+ * Blocks which do not depend on each other are executed concurrently on the provided executor ({@link ForkJoinPool#commonPool()}
+ * by default, a virtual-thread executor can be provided as well). <p>
+ * Process results are collected in topological order. For a linear chain of blocks this is the order in which they were added.
+ */
+public class ParallelProcessingEngine implements ConsolePrintable {
+
+    private final List<HvacProcessBlock> processBlocksToCompute;
+    private final List<ProcessResult> processResults;
+    private final Executor executor;
+    private final ProcessChangeTracker changeTracker;
+
+    /**
+     * Constructs a new empty parallel processing engine using provided executor.
+     *
+     * @param executor The executor used to run independent process blocks.
+     */
+    public ParallelProcessingEngine(Executor executor) {
+        CommonValidators.requireNotNull(executor);
+        this.executor = executor;
+        this.processBlocksToCompute = new ArrayList<>();
+        this.processResults = new ArrayList<>();
+        this.changeTracker = new ProcessChangeTracker();
+    }
+
+    /**
+     * Constructs a new empty parallel processing engine using common fork-join pool.
+     */
+    public ParallelProcessingEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Adds a new process node (block) to the processing engine. The block is not connected to any other block.
+     *
+     * @param processNode The {@link HvacProcessBlock} to be added.
+     * @return The index at which the process node was added, or -1 if the node is null.
+     */
+    public int addProcessNode(HvacProcessBlock processNode) {
+        if (processNode == null) {
+            return -1;
+        }
+        processBlocksToCompute.add(processNode);
+        return processBlocksToCompute.size() - 1;
+    }
+
+    /**
+     * Runs the calculations for all process blocks in the engine, executing independent blocks concurrently.
+     * Blocks whose inputs and configuration have not changed since their last calculation are not recalculated, their last results
+     * are reused. After changing global settings, {@link #invalidateAllNodes()} has to be called.
+     * Results of the previous run are replaced.
+     *
+     * @return The {@link ProcessResult} of the last block in topological order.
+     * @throws HvacEngineArgumentException if there are no process blocks, connections contain a cycle or airflow data for any of
+     *                                     starting blocks is missing.
+     */
+    public ProcessResult runCalculationsForAllNodes() {
+        if (processBlocksToCompute.isEmpty()) {
+            throw new HvacEngineArgumentException("No process found. Cannot run calculations");
+        }
+
+        ProcessGraph processGraph = ProcessGraph.of(processBlocksToCompute);
+        requireInletAirFlowData(processGraph);
+
+        int[] topologicalOrder = processGraph.getTopologicalOrder();
+        CompletableFuture<?>[] blockFutures = new CompletableFuture<?>[processGraph.size()];
+        for (int blockIndex : topologicalOrder) {
+            int[] dependencies = processGraph.getDependencies(blockIndex);
+            CompletableFuture<Void> dependenciesCompleted = dependencies.length == 0
+                    ? CompletableFuture.completedFuture(null)
+                    : CompletableFuture.allOf(Arrays.stream(dependencies).mapToObj(i -> blockFutures[i]).toArray(CompletableFuture[]::new));
+            HvacProcessBlock processBlock = processGraph.getBlock(blockIndex);
+            blockFutures[blockIndex] = dependenciesCompleted.thenRunAsync(() -> changeTracker.calculateIfRequired(processBlock), executor);
+        }
+        awaitAll(blockFutures);
+
+        processResults.clear();
+        for (int blockIndex : topologicalOrder) {
+            processResults.add(processGraph.getBlock(blockIndex).getProcessResult());
+        }
+        return getLastResult();
+    }
+
+    /**
+     * Marks all process blocks for recalculation. By default, blocks are recalculated only if any of their inputs or their
+     * configuration has changed since their last calculation, otherwise their last results are reused. Changes of global settings,
+     * such as {@code HumidAirEquations.setSaturationPressureModel}, are not detected, this method has to be called after them.
+     */
+    public void invalidateAllNodes() {
+        changeTracker.invalidateAll();
+    }
+
+    /**
+     * Retrieves all the process results collected during the last execution, in topological order.
+     *
+     * @return An unmodifiable list of {@link ProcessResult} instances.
+     */
+    public List<ProcessResult> getProcessResults() {
+        return Collections.unmodifiableList(processResults);
+    }
+
+    /**
+     * Retrieves the process results filtered by the specified process type.
+     *
+     * @param processType The {@link ProcessType} to filter by.
+     * @return A list of {@link ProcessResult} instances that match the specified process type.
+     */
+    public List<ProcessResult> getResults(ProcessType processType) {
+        return processResults.stream().filter(result -> result.processType() == processType).toList();
+    }
+
+    /**
+     * Retrieves the result of the last block in topological order.
+     *
+     * @return The final {@link ProcessResult}.
+     */
+    public ProcessResult getLastResult() {
+        return processResults.get(processResults.size() - 1);
+    }
+
+    /**
+     * Retrieves all the process blocks that have been added to the engine, in order of addition.
+     *
+     * @return An unmodifiable list of {@link HvacProcessBlock} instances.
+     */
+    public List<HvacProcessBlock> getAllProcessBlocks() {
+        return Collections.unmodifiableList(processBlocksToCompute);
+    }
+
+    /**
+     * Converts the engine's results into a string format suitable for console output.
+     *
+     * @return A string containing all process results formatted for console output.
+     */
+    @Override
+    public String toConsoleOutput() {
+        StringBuilder stringBuilder = new StringBuilder();
+        processResults.forEach(result -> stringBuilder.append(result.toConsoleOutput()).append("\n"));
+        return stringBuilder.toString();
+    }
+
+    // Helper Methods
+
+    private static void requireInletAirFlowData(ProcessGraph processGraph) {
+        for (int blockIndex : processGraph.getTopologicalOrder()) {
+            if (processGraph.getDependencies(blockIndex).length > 0) {
+                continue;
+            }
+            HvacProcessBlock startingBlock = processGraph.getBlock(blockIndex);
+            startingBlock.getInputConnector().updateConnectorData();
+            if (startingBlock.getInputConnector().getConnectorData() == null) {
+                throw new HvacEngineArgumentException("No inlet airflow data found for block: " + startingBlock.getProcessType()
+                                                      + ". Cannot run calculations");
+            }
+        }
+    }
+
+    private static void awaitAll(CompletableFuture<?>[] blockFutures) {
+        try {
+            CompletableFuture.allOf(blockFutures).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    // Static factory methods
+
+    /**
+     * Static factory method to create an instance of {@link ParallelProcessingEngine} using common fork-join pool.
+     *
+     * @return A new instance of {@link ParallelProcessingEngine}.
+     */
+    public static ParallelProcessingEngine of() {
+        return new ParallelProcessingEngine();
+    }
+
+    /**
+     * Static factory method to create an instance of {@link ParallelProcessingEngine} with a list of connected process nodes.
+     *
+     * @param processNodes The {@link HvacProcessBlock} nodes to be added to the processing engine.
+     * @return A new instance of {@link ParallelProcessingEngine} with the specified nodes.
+     */
+    public static ParallelProcessingEngine of(HvacProcessBlock... processNodes) {
+        ParallelProcessingEngine parallelProcessingEngine = new ParallelProcessingEngine();
+        Arrays.stream(processNodes).forEach(parallelProcessingEngine::addProcessNode);
+        return parallelProcessingEngine;
+    }
+
+    /**
+     * Static factory method to create an instance of {@link ParallelProcessingEngine} using provided executor,
+     * with a list of connected process nodes.
+     *
+     * @param executor     The executor used to run independent process blocks.
+     * @param processNodes The {@link HvacProcessBlock} nodes to be added to the processing engine.
+     * @return A new instance of {@link ParallelProcessingEngine} with the specified executor and nodes.
+     */
+    public static ParallelProcessingEngine of(Executor executor, HvacProcessBlock... processNodes) {
+        ParallelProcessingEngine parallelProcessingEngine = new ParallelProcessingEngine(executor);
+        Arrays.stream(processNodes).forEach(parallelProcessingEngine::addProcessNode);
+        return parallelProcessingEngine;
+    }
+
+}
@@ -0,0 +1,251 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a long time series of inlet airflow states through a compiled {@link ProcessTopology} in pipeline-parallel mode. <p>
+ * Each process block runs as its own stage on a dedicated thread. Stages are connected by bounded queues in topological order,
+ * so while stage k processes time step t, stage k+1 processes time step t-1. Each block processes time steps strictly one by one
+ * and in order, which makes this mode suitable where per time step state (for example warm starts or controller memory) forbids
+ * splitting the series between threads, as {@link ScenarioBatchRunner} does. <p>
+ * Bounded queues limit the number of time steps in flight, so a slow stage applies backpressure to the stages before it.
+ * Results are returned in order of provided time steps.
+ */
+public class PipelineTimeSeriesRunner {
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 64;
+    private static final TimeStep END_OF_SERIES = new TimeStep(-1, null);
+
+    private final ProcessTopology topology;
+    private final int queueCapacity;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Constructs a new pipeline time series runner.
+     *
+     * @param topology      The compiled process topology.
+     * @param queueCapacity The capacity of a queue between two consecutive stages.
+     * @param threadFactory The factory of stage threads, one thread per process block is created for each run.
+     */
+    public PipelineTimeSeriesRunner(ProcessTopology topology, int queueCapacity, ThreadFactory threadFactory) {
+        CommonValidators.requireNotNull(topology);
+        CommonValidators.requireNotNull(threadFactory);
+        if (queueCapacity < 1) {
+            throw new HvacEngineArgumentException("Queue capacity must be positive, queueCapacity=" + queueCapacity);
+        }
+        this.topology = topology;
+        this.queueCapacity = queueCapacity;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * Runs all time steps through the pipeline.
+     *
+     * @param inletAirFlows The inlet airflow states, one per time step.
+     * @return A list of completed run contexts, one per time step, in order of provided inlet states.
+     * @throws HvacEngineArgumentException if calculations of any time step fail on missing or invalid data. The first failure is rethrown.
+     */
+    public List<ProcessRunContext> runTimeSeries(List<FlowOfHumidAir> inletAirFlows) {
+        CommonValidators.requireNotNull(inletAirFlows);
+        inletAirFlows.forEach(CommonValidators::requireNotNull);
+        ProcessRunContext[] runContexts = new ProcessRunContext[inletAirFlows.size()];
+        if (runContexts.length == 0) {
+            return List.of();
+        }
+
+        int[] stageBlocks = topology.getProcessGraph().getTopologicalOrder();
+        int numberOfStages = stageBlocks.length;
+        List<BlockingQueue<TimeStep>> queues = new ArrayList<>(numberOfStages - 1);
+        for (int i = 0; i < numberOfStages - 1; i++) {
+            queues.add(new ArrayBlockingQueue<>(queueCapacity));
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        ExecutorService stageExecutor = Executors.newThreadPerTaskExecutor(threadFactory);
+        try {
+            Future<?>[] stages = new Future<?>[numberOfStages];
+            for (int stage = 0; stage < numberOfStages; stage++) {
+                BlockingQueue<TimeStep> inputQueue = stage == 0 ? null : queues.get(stage - 1);
+                BlockingQueue<TimeStep> outputQueue = stage == numberOfStages - 1 ? null : queues.get(stage);
+                int blockIndex = stageBlocks[stage];
+                stages[stage] = stageExecutor.submit(() -> {
+                    runStage(blockIndex, inletAirFlows, inputQueue, outputQueue, runContexts, failure);
+                    return null;
+                });
+            }
+            awaitAll(stages);
+        } finally {
+            stageExecutor.shutdownNow();
+        }
+
+        rethrowFailure(failure.get());
+        return List.of(runContexts);
+    }
+
+    /**
+     * Runs all time steps through the pipeline.
+     *
+     * @param inletAirFlows The inlet airflow states, one per time step.
+     * @return A list of completed run contexts, one per time step, in order of provided inlet states.
+     */
+    public List<ProcessRunContext> runTimeSeries(FlowOfHumidAir... inletAirFlows) {
+        CommonValidators.requireNotNull(inletAirFlows);
+        return runTimeSeries(Arrays.asList(inletAirFlows));
+    }
+
+    /**
+     * Runs all time steps through the pipeline and returns the result of the last block in topological order for each of them.
+     *
+     * @param inletAirFlows The inlet airflow states, one per time step.
+     * @return A list of last block results, in order of provided inlet states.
+     */
+    public List<ProcessResult> runTimeSeriesForLastResults(List<FlowOfHumidAir> inletAirFlows) {
+        return runTimeSeries(inletAirFlows).stream()
+                .map(ProcessRunContext::getLastResult)
+                .toList();
+    }
+
+    public ProcessTopology getTopology() {
+        return topology;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    // Helper Methods
+
+    /**
+     * Runs one stage until the end of series marker is received. The first stage creates time steps from inlet states, the last one
+     * stores completed run contexts. After a failure, stages stop calculating, but keep draining their input queues, so no stage
+     * remains blocked on a full queue. The end of series marker is forwarded even if the stage itself fails, so downstream stages
+     * always terminate.
+     */
+    private void runStage(int blockIndex, List<FlowOfHumidAir> inletAirFlows, BlockingQueue<TimeStep> inputQueue,
+                          BlockingQueue<TimeStep> outputQueue, ProcessRunContext[] runContexts,
+                          AtomicReference<Throwable> failure) throws InterruptedException {
+
+        try {
+            processTimeSteps(blockIndex, inletAirFlows, inputQueue, outputQueue, runContexts, failure);
+        } catch (Throwable throwable) {
+            failure.compareAndSet(null, throwable);
+            throw throwable;
+        } finally {
+            if (outputQueue != null) {
+                outputQueue.put(END_OF_SERIES);
+            }
+        }
+    }
+
+    private void processTimeSteps(int blockIndex, List<FlowOfHumidAir> inletAirFlows, BlockingQueue<TimeStep> inputQueue,
+                                  BlockingQueue<TimeStep> outputQueue, ProcessRunContext[] runContexts,
+                                  AtomicReference<Throwable> failure) throws InterruptedException {
+
+        int nextTimeStep = 0;
+        while (true) {
+            TimeStep timeStep;
+            if (inputQueue == null) {
+                if (nextTimeStep == inletAirFlows.size() || failure.get() != null) {
+                    break;
+                }
+                ProcessRunContext runContext = topology.createRunContext().withInletAirFlow(inletAirFlows.get(nextTimeStep));
+                timeStep = new TimeStep(nextTimeStep++, runContext);
+            } else {
+                timeStep = inputQueue.take();
+            }
+            if (timeStep == END_OF_SERIES) {
+                break;
+            }
+            if (failure.get() != null) {
+                continue;
+            }
+            try {
+                topology.runBlock(blockIndex, timeStep.runContext());
+            } catch (Throwable throwable) {
+                failure.compareAndSet(null, throwable);
+                continue;
+            }
+            if (outputQueue == null) {
+                runContexts[timeStep.index()] = timeStep.runContext();
+            } else {
+                outputQueue.put(timeStep);
+            }
+        }
+    }
+
+    private static void rethrowFailure(Throwable failure) {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        throw new CompletionException(failure);
+    }
+
+    private static void awaitAll(Future<?>[] stages) {
+        try {
+            for (Future<?> stage : stages) {
+                stage.get();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Pipeline run was interrupted.");
+        } catch (ExecutionException exception) {
+            rethrowFailure(exception.getCause());
+        }
+    }
+
+    private record TimeStep(int index, ProcessRunContext runContext) {
+    }
+
+    // Static factory methods
+
+    /**
+     * Static factory method to create a {@link PipelineTimeSeriesRunner} with default queue capacity and platform stage threads.
+     *
+     * @param topology The compiled process topology.
+     * @return A new instance of {@link PipelineTimeSeriesRunner}.
+     */
+    public static PipelineTimeSeriesRunner of(ProcessTopology topology) {
+        return of(topology, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Static factory method to create a {@link PipelineTimeSeriesRunner} with provided queue capacity and platform stage threads.
+     *
+     * @param topology      The compiled process topology.
+     * @param queueCapacity The capacity of a queue between two consecutive stages.
+     * @return A new instance of {@link PipelineTimeSeriesRunner}.
+     */
+    public static PipelineTimeSeriesRunner of(ProcessTopology topology, int queueCapacity) {
+        ThreadFactory threadFactory = Thread.ofPlatform().name("hvac-pipeline-stage-", 0).daemon().factory();
+        return new PipelineTimeSeriesRunner(topology, queueCapacity, threadFactory);
+    }
+
+    /**
+     * Static factory method to create a {@link PipelineTimeSeriesRunner} with provided queue capacity and thread factory, for example
+     * {@code Thread.ofVirtual().factory()}.
+     *
+     * @param topology      The compiled process topology.
+     * @param queueCapacity The capacity of a queue between two consecutive stages.
+     * @param threadFactory The factory of stage threads.
+     * @return A new instance of {@link PipelineTimeSeriesRunner}.
+     */
+    public static PipelineTimeSeriesRunner of(ProcessTopology topology, int queueCapacity, ThreadFactory threadFactory) {
+        return new PipelineTimeSeriesRunner(topology, queueCapacity, threadFactory);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.process.ProcessResult;
+
+import java.util.List;
+
+/**
+ * Outcome of a single plant run in {@link MultiPlantExecutor}.
+ *
+ * @param plantId        The identifier of the plant.
+ * @param priority       The priority of the plant, higher priority plants are started first.
+ * @param processResults The results of all plant blocks, in calculation order. Empty if the run failed.
+ * @param failure        The exception thrown by the plant run, or {@code null} if the run succeeded.
+ * @param runTimeNanos   The duration of the plant run, in nanoseconds.
+ */
+public record PlantRunResult(String plantId,
+                             int priority,
+                             List<ProcessResult> processResults,
+                             RuntimeException failure,
+                             long runTimeNanos) {
+
+    public boolean isSuccessful() {
+        return failure == null;
+    }
+
+}
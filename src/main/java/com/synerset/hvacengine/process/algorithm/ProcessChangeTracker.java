@@ -0,0 +1,87 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks input connector versions and configuration versions of process blocks at the time of their last calculation. A block requires
+ * recalculation if it was never calculated, its set of input connectors has changed, data of any of its input connectors has changed
+ * or its configuration version has changed since. Blocks downstream of an unchanged block consume unchanged output data, therefore they
+ * are not recalculated either. <p>
+ * Global settings which are not part of any block (for example {@code HumidAirEquations.setSaturationPressureModel}) are not tracked,
+ * {@link #invalidateAll()} has to be called after changing them. <p>
+ * Different blocks can be tracked concurrently.
+ */
+final class ProcessChangeTracker {
+
+    private final Map<HvacProcessBlock, InputSnapshot> inputSnapshots = new ConcurrentHashMap<>();
+
+    /**
+     * Updates all input connectors of provided block from their sources and checks if block requires recalculation.
+     *
+     * @param processBlock process block to be checked
+     * @return true if block has to be recalculated, false if its last result is still valid
+     */
+    boolean requiresCalculation(HvacProcessBlock processBlock) {
+        List<ConnectorInput<?>> inputConnectors = processBlock.getAllInputConnectors();
+        inputConnectors.forEach(ConnectorInput::updateConnectorData);
+        InputSnapshot lastSnapshot = inputSnapshots.get(processBlock);
+        return lastSnapshot == null
+               || processBlock.getProcessResult() == null
+               || lastSnapshot.configurationVersion() != processBlock.getConfigurationVersion()
+               || !lastSnapshot.matches(inputConnectors);
+    }
+
+    /**
+     * Runs calculations of provided block if any of its inputs has changed since its last calculation.
+     *
+     * @param processBlock process block to be calculated
+     * @return true if block was recalculated
+     */
+    boolean calculateIfRequired(HvacProcessBlock processBlock) {
+        if (!requiresCalculation(processBlock)) {
+            return false;
+        }
+        long configurationVersion = processBlock.getConfigurationVersion();
+        processBlock.runProcessCalculations();
+        inputSnapshots.put(processBlock, InputSnapshot.of(processBlock.getAllInputConnectors(), configurationVersion));
+        return true;
+    }
+
+    /**
+     * Forgets all recorded snapshots, so each block will be recalculated on its next check.
+     */
+    void invalidateAll() {
+        inputSnapshots.clear();
+    }
+
+    private record InputSnapshot(ConnectorInput<?>[] inputConnectors, long[] versions, long configurationVersion) {
+
+        private boolean matches(List<ConnectorInput<?>> currentInputConnectors) {
+            if (currentInputConnectors.size() != inputConnectors.length) {
+                return false;
+            }
+            for (int i = 0; i < inputConnectors.length; i++) {
+                ConnectorInput<?> currentConnector = currentInputConnectors.get(i);
+                if (currentConnector != inputConnectors[i] || currentConnector.getVersion() != versions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static InputSnapshot of(List<ConnectorInput<?>> inputConnectors, long configurationVersion) {
+            ConnectorInput<?>[] connectors = inputConnectors.toArray(new ConnectorInput<?>[0]);
+            long[] versions = new long[connectors.length];
+            for (int i = 0; i < connectors.length; i++) {
+                versions[i] = connectors[i].getVersion();
+            }
+            return new InputSnapshot(connectors, versions, configurationVersion);
+        }
+    }
+
+}
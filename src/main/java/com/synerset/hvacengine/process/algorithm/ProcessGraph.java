@@ -0,0 +1,131 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
+import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
+
+import java.util.*;
+
+/**
+ * Dependency graph of connected process blocks. Block B depends on block A, if any of B input connectors consumes data from any of
+ * A output connectors. Connections to outputs not owned by any block in the graph (for example {@code SimpleDataSource}) are treated as
+ * external inputs. Torn input connectors (closing recirculation loops) are treated as external inputs as well, so a graph with loops
+ * can be sorted once its loops are torn. Blocks are topologically sorted, ties are resolved by the order in which blocks were provided.<p>
+ * Graph is a snapshot of connector wiring at the time of creation and does not follow later changes.
+ */
+final class ProcessGraph {
+
+    private final List<HvacProcessBlock> processBlocks;
+    private final int[][] dependencies;
+    private final int[][] dependents;
+    private final int[] topologicalOrder;
+
+    private ProcessGraph(List<HvacProcessBlock> processBlocks, Set<ConnectorInput<?>> tornInputs) {
+        CommonValidators.requireNotNull(processBlocks);
+        CommonValidators.requireNotNull(tornInputs);
+        this.processBlocks = List.copyOf(processBlocks);
+        int numberOfBlocks = this.processBlocks.size();
+
+        Map<ConnectorOutput<?>, Integer> outputOwners = new IdentityHashMap<>();
+        for (int i = 0; i < numberOfBlocks; i++) {
+            for (ConnectorOutput<?> outputConnector : this.processBlocks.get(i).getAllOutputConnectors()) {
+                outputOwners.put(outputConnector, i);
+            }
+        }
+
+        List<Set<Integer>> dependencySets = new ArrayList<>(numberOfBlocks);
+        List<Set<Integer>> dependentSets = new ArrayList<>(numberOfBlocks);
+        for (int i = 0; i < numberOfBlocks; i++) {
+            dependencySets.add(new TreeSet<>());
+            dependentSets.add(new TreeSet<>());
+        }
+        for (int i = 0; i < numberOfBlocks; i++) {
+            for (ConnectorInput<?> inputConnector : this.processBlocks.get(i).getAllInputConnectors()) {
+                Integer owner = outputOwners.get(inputConnector.getParentConnector());
+                if (owner == null || tornInputs.contains(inputConnector)) {
+                    continue;
+                }
+                if (owner == i) {
+                    throw new HvacEngineArgumentException("Process block cannot consume its own output: " + this.processBlocks.get(i).getProcessType());
+                }
+                dependencySets.get(i).add(owner);
+                dependentSets.get(owner).add(i);
+            }
+        }
+        this.dependencies = toArrays(dependencySets);
+        this.dependents = toArrays(dependentSets);
+        this.topologicalOrder = sortTopologically();
+    }
+
+    private int[] sortTopologically() {
+        int numberOfBlocks = processBlocks.size();
+        int[] remainingDependencies = new int[numberOfBlocks];
+        PriorityQueue<Integer> readyBlocks = new PriorityQueue<>();
+        for (int i = 0; i < numberOfBlocks; i++) {
+            remainingDependencies[i] = dependencies[i].length;
+            if (remainingDependencies[i] == 0) {
+                readyBlocks.add(i);
+            }
+        }
+        int[] order = new int[numberOfBlocks];
+        int count = 0;
+        while (!readyBlocks.isEmpty()) {
+            int block = readyBlocks.poll();
+            order[count++] = block;
+            for (int dependent : dependents[block]) {
+                if (--remainingDependencies[dependent] == 0) {
+                    readyBlocks.add(dependent);
+                }
+            }
+        }
+        if (count != numberOfBlocks) {
+            throw new HvacEngineArgumentException("Process blocks connections contain a cycle. Cannot determine calculation order.");
+        }
+        return order;
+    }
+
+    int size() {
+        return processBlocks.size();
+    }
+
+    HvacProcessBlock getBlock(int index) {
+        return processBlocks.get(index);
+    }
+
+    List<HvacProcessBlock> getProcessBlocks() {
+        return processBlocks;
+    }
+
+    int[] getDependencies(int index) {
+        return dependencies[index];
+    }
+
+    int[] getDependents(int index) {
+        return dependents[index];
+    }
+
+    int[] getTopologicalOrder() {
+        return topologicalOrder;
+    }
+
+    private static int[][] toArrays(List<Set<Integer>> sets) {
+        int[][] arrays = new int[sets.size()][];
+        for (int i = 0; i < sets.size(); i++) {
+            arrays[i] = sets.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return arrays;
+    }
+
+    // Static factory methods
+
+    static ProcessGraph of(List<HvacProcessBlock> processBlocks) {
+        return new ProcessGraph(processBlocks, Set.of());
+    }
+
+    static ProcessGraph of(List<HvacProcessBlock> processBlocks, Set<ConnectorInput<?>> tornInputs) {
+        return new ProcessGraph(processBlocks, tornInputs);
+    }
+
+}
@@ -0,0 +1,228 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.ProcessType;
+
+import java.util.*;
+
+/**
+ * History of process results of consecutive engine runs, retained according to a {@link ResultRetentionPolicy}. <p>
+ * Results are indexed by process type on recording, so filtered results are available without scanning the history. Getters return
+ * unmodifiable snapshots. Methods with the {@code View} suffix return unmodifiable live views instead, without copying: they reflect
+ * runs recorded later, and results evicted by the retention policy disappear from them.
+ */
+public final class ProcessResultHistory {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final ResultRetentionPolicy retentionPolicy;
+    private final int numberOfRunsWithResultObjects;
+    private final ArrayDeque<ProcessResult[]> retainedRuns;
+    private final ResultRing retainedResults;
+    private final Map<ProcessType, ResultRing> resultsByType;
+    private final ColumnarResultStore columnarStore;
+    private long numberOfRecordedRuns;
+
+    public ProcessResultHistory(ResultRetentionPolicy retentionPolicy) {
+        CommonValidators.requireNotNull(retentionPolicy);
+        this.retentionPolicy = retentionPolicy;
+        this.numberOfRunsWithResultObjects = retentionPolicy.numberOfRunsWithResultObjects();
+        this.retainedRuns = new ArrayDeque<>();
+        this.retainedResults = new ResultRing();
+        this.resultsByType = new EnumMap<>(ProcessType.class);
+        for (ProcessType processType : ProcessType.values()) {
+            resultsByType.put(processType, new ResultRing());
+        }
+        this.columnarStore = retentionPolicy.retentionMode() == ResultRetentionMode.COLUMNAR
+                ? new ColumnarResultStore(retentionPolicy.numberOfRuns())
+                : null;
+    }
+
+    /**
+     * Records results of a single run, in order of calculation, and evicts results of runs exceeding the retention policy.
+     */
+    void recordRun(List<ProcessResult> runResults) {
+        CommonValidators.requireNotNull(runResults);
+        if (retainedRuns.size() == numberOfRunsWithResultObjects) {
+            evictOldestRun();
+        }
+        ProcessResult[] results = runResults.toArray(new ProcessResult[0]);
+        retainedRuns.addLast(results);
+        for (ProcessResult processResult : results) {
+            retainedResults.append(processResult);
+            resultsByType.get(processResult.processType()).append(processResult);
+        }
+        if (columnarStore != null) {
+            columnarStore.recordRun(runResults);
+        }
+        numberOfRecordedRuns++;
+    }
+
+    /**
+     * Removes all retained results.
+     */
+    public void clear() {
+        retainedRuns.clear();
+        retainedResults.reset();
+        resultsByType.values().forEach(ResultRing::reset);
+        if (columnarStore != null) {
+            columnarStore.clear();
+        }
+    }
+
+    /**
+     * Retrieves all retained result objects, from the oldest run to the latest one.
+     *
+     * @return An unmodifiable snapshot list of {@link ProcessResult} instances.
+     */
+    public List<ProcessResult> getProcessResults() {
+        return List.copyOf(retainedResults);
+    }
+
+    /**
+     * Retrieves all retained result objects as a live view, without copying. The view must not be iterated while another run is
+     * recorded.
+     *
+     * @return An unmodifiable live view of {@link ProcessResult} instances.
+     */
+    public List<ProcessResult> getProcessResultsView() {
+        return retainedResults;
+    }
+
+    /**
+     * Retrieves retained result objects of the specified process type, from the oldest run to the latest one.
+     *
+     * @param processType The {@link ProcessType} to filter by.
+     * @return An unmodifiable snapshot list of {@link ProcessResult} instances that match the specified process type.
+     */
+    public List<ProcessResult> getResults(ProcessType processType) {
+        return List.copyOf(getResultsView(processType));
+    }
+
+    /**
+     * Retrieves retained result objects of the specified process type as a live view, without copying. The view must not be iterated
+     * while another run is recorded.
+     *
+     * @param processType The {@link ProcessType} to filter by.
+     * @return An unmodifiable live view of {@link ProcessResult} instances that match the specified process type.
+     */
+    public List<ProcessResult> getResultsView(ProcessType processType) {
+        CommonValidators.requireNotNull(processType);
+        return resultsByType.get(processType);
+    }
+
+    /**
+     * Retrieves results of the latest run.
+     *
+     * @return An unmodifiable list of {@link ProcessResult} instances, empty if no run was recorded.
+     */
+    public List<ProcessResult> getLastRunResults() {
+        ProcessResult[] lastRun = retainedRuns.peekLast();
+        return lastRun == null ? List.of() : List.of(lastRun);
+    }
+
+    /**
+     * Retrieves the last result of the latest run.
+     *
+     * @return The last {@link ProcessResult}, or {@code null} if no run was recorded.
+     */
+    public ProcessResult getLastResult() {
+        return retainedResults.isEmpty() ? null : retainedResults.get(retainedResults.size() - 1);
+    }
+
+    /**
+     * Retrieves the columnar store of key quantities, available for {@link ResultRetentionMode#COLUMNAR} policy.
+     *
+     * @return An {@link Optional} containing the {@link ColumnarResultStore}, or empty for other retention modes.
+     */
+    public Optional<ColumnarResultStore> getColumnarStore() {
+        return Optional.ofNullable(columnarStore);
+    }
+
+    public int getNumberOfRetainedRuns() {
+        return retainedRuns.size();
+    }
+
+    /**
+     * Retrieves the number of all runs recorded since creation, including runs evicted or cleared.
+     *
+     * @return The number of recorded runs.
+     */
+    public long getNumberOfRecordedRuns() {
+        return numberOfRecordedRuns;
+    }
+
+    public ResultRetentionPolicy getRetentionPolicy() {
+        return retentionPolicy;
+    }
+
+    // Helper Methods
+
+    private void evictOldestRun() {
+        ProcessResult[] oldestRun = retainedRuns.removeFirst();
+        for (ProcessResult processResult : oldestRun) {
+            retainedResults.dropOldest();
+            resultsByType.get(processResult.processType()).dropOldest();
+        }
+    }
+
+    /**
+     * Growable circular buffer of results with constant time access by index and removal of the oldest element. Exposed to
+     * callers as an unmodifiable list, since {@link AbstractList} rejects all modifications by default.
+     */
+    private static final class ResultRing extends AbstractList<ProcessResult> implements RandomAccess {
+
+        private ProcessResult[] elements = new ProcessResult[INITIAL_CAPACITY];
+        private int head;
+        private int count;
+
+        @Override
+        public ProcessResult get(int index) {
+            Objects.checkIndex(index, count);
+            return elements[(head + index) % elements.length];
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+
+        private void reset() {
+            Arrays.fill(elements, null);
+            head = 0;
+            count = 0;
+        }
+
+        private void append(ProcessResult processResult) {
+            if (count == elements.length) {
+                grow();
+            }
+            elements[(head + count) % elements.length] = processResult;
+            count++;
+        }
+
+        private void dropOldest() {
+            elements[head] = null;
+            head = (head + 1) % elements.length;
+            count--;
+        }
+
+        private void grow() {
+            ProcessResult[] grownElements = new ProcessResult[elements.length * 2];
+            for (int i = 0; i < count; i++) {
+                grownElements[i] = elements[(head + i) % elements.length];
+            }
+            elements = grownElements;
+            head = 0;
+        }
+
+    }
+
+    // Static factory methods
+
+    public static ProcessResultHistory of(ResultRetentionPolicy retentionPolicy) {
+        return new ProcessResultHistory(retentionPolicy);
+    }
+
+}
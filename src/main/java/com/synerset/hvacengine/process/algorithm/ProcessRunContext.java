@@ -0,0 +1,217 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
+import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
+import com.synerset.hvacengine.process.blockmodel.OutputConnection;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Lightweight state of a single run of a {@link ProcessTopology}: source data overrides, data produced on block output connectors
+ * and process results. <p>
+ * A context is created by its topology and is intended to be used by one thread at a time. Concurrent runs should use separate contexts.
+ * Versions of data and states of blocks (for example accumulators of incremental mixing) are kept by the context between its runs.
+ */
+public final class ProcessRunContext implements ConnectorDataAccess {
+
+    private final ProcessTopology topology;
+    private final Map<Object, Object> sourceDataOverrides;
+    private final Map<ConnectorOutput<?>, Object> outputData;
+    private final ProcessResult[] processResults;
+    private final Map<Object, DataVersion> dataVersions;
+    private final Map<Object, Object> blockStates;
+
+    ProcessRunContext(ProcessTopology topology) {
+        this.topology = topology;
+        this.sourceDataOverrides = new IdentityHashMap<>();
+        this.outputData = new IdentityHashMap<>();
+        this.processResults = new ProcessResult[topology.size()];
+        this.dataVersions = new IdentityHashMap<>();
+        this.blockStates = new IdentityHashMap<>();
+    }
+
+    /**
+     * Overrides data of an external source captured on topology compilation, for this context only.
+     *
+     * @param dataSource The external source (for example {@code SimpleDataSource}) connected to compiled blocks.
+     * @param sourceData The data to be used instead of the captured data.
+     * @param <T>        The type of data.
+     * @return This run context.
+     * @throws HvacEngineArgumentException if provided source is not an external source of the topology.
+     */
+    public <T> ProcessRunContext withSourceData(OutputConnection<T> dataSource, T sourceData) {
+        CommonValidators.requireNotNull(dataSource);
+        ConnectorOutput<T> sourceConnector = dataSource.getOutputConnector();
+        if (!topology.isExternalSource(sourceConnector)) {
+            throw new HvacEngineArgumentException("Data source is not an external source of compiled process topology.");
+        }
+        putSourceData(sourceConnector, sourceData);
+        return this;
+    }
+
+    /**
+     * Overrides inlet airflow of the first block in topological order, for this context only.
+     *
+     * @param inletAirFlow The inlet airflow to be used instead of the captured data.
+     * @return This run context.
+     */
+    public ProcessRunContext withInletAirFlow(FlowOfHumidAir inletAirFlow) {
+        CommonValidators.requireNotNull(inletAirFlow);
+        putSourceData(topology.getInletAirFlowKey(), inletAirFlow);
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T getInputData(ConnectorInput<T> inputConnector) {
+        Object dataKey = topology.getDataKey(inputConnector);
+        if (dataKey instanceof ConnectorOutput<?> blockOutput && topology.isBlockOutput(blockOutput)) {
+            return (T) outputData.get(blockOutput);
+        }
+        if (sourceDataOverrides.containsKey(dataKey)) {
+            return (T) sourceDataOverrides.get(dataKey);
+        }
+        return (T) topology.getExternalData(dataKey);
+    }
+
+    @Override
+    public <T> void setOutputData(ConnectorOutput<T> outputConnector, T data) {
+        if (!topology.isBlockOutput(outputConnector)) {
+            throw new HvacEngineArgumentException("Output connector is not a part of compiled process topology.");
+        }
+        outputData.put(outputConnector, data);
+        updateDataVersion(outputConnector, data);
+    }
+
+    /**
+     * Retrieves version of data for the specified input connector in this context. Version changes each time data produced on the
+     * connected block output or the overridden source data changes between runs of this context.
+     *
+     * @param inputConnector The input connector of a compiled block.
+     * @return The input data version, {@code 0} for source data captured on compilation.
+     */
+    @Override
+    public long getInputVersion(ConnectorInput<?> inputConnector) {
+        DataVersion dataVersion = dataVersions.get(topology.getDataKey(inputConnector));
+        return dataVersion == null ? 0 : dataVersion.version();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> S getBlockState(Object stateOwner, Supplier<S> stateFactory) {
+        CommonValidators.requireNotNull(stateOwner);
+        return (S) blockStates.computeIfAbsent(stateOwner, owner -> stateFactory.get());
+    }
+
+    /**
+     * Retrieves data produced in this run on the specified block output.
+     *
+     * @param blockWithOutput The compiled block (or other output connection owned by a compiled block).
+     * @param <T>             The type of data.
+     * @return The output data, or {@code null} if not produced.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOutputData(OutputConnection<T> blockWithOutput) {
+        CommonValidators.requireNotNull(blockWithOutput);
+        return (T) outputData.get(blockWithOutput.getOutputConnector());
+    }
+
+    /**
+     * Retrieves all process results of this run, in topological order.
+     *
+     * @return An unmodifiable list of {@link ProcessResult} instances.
+     */
+    public List<ProcessResult> getProcessResults() {
+        int[] topologicalOrder = topology.getProcessGraph().getTopologicalOrder();
+        List<ProcessResult> resultsInOrder = new ArrayList<>(topologicalOrder.length);
+        for (int blockIndex : topologicalOrder) {
+            if (processResults[blockIndex] != null) {
+                resultsInOrder.add(processResults[blockIndex]);
+            }
+        }
+        return Collections.unmodifiableList(resultsInOrder);
+    }
+
+    /**
+     * Retrieves the process results filtered by the specified process type.
+     *
+     * @param processType The {@link ProcessType} to filter by.
+     * @return A list of {@link ProcessResult} instances that match the specified process type.
+     */
+    public List<ProcessResult> getResults(ProcessType processType) {
+        return getProcessResults().stream().filter(result -> result.processType() == processType).toList();
+    }
+
+    /**
+     * Retrieves the result of the specified compiled block in this run.
+     *
+     * @param processBlock The compiled process block.
+     * @return The {@link ProcessResult} of the block, or {@code null} if not calculated.
+     */
+    public ProcessResult getResult(HvacProcessBlock processBlock) {
+        CommonValidators.requireNotNull(processBlock);
+        ProcessGraph processGraph = topology.getProcessGraph();
+        for (int i = 0; i < processGraph.size(); i++) {
+            if (processGraph.getBlock(i) == processBlock) {
+                return processResults[i];
+            }
+        }
+        throw new HvacEngineArgumentException("Process block is not a part of compiled process topology.");
+    }
+
+    /**
+     * Retrieves the result of the last block in topological order.
+     *
+     * @return The final {@link ProcessResult} of this run.
+     */
+    public ProcessResult getLastResult() {
+        int[] topologicalOrder = topology.getProcessGraph().getTopologicalOrder();
+        return processResults[topologicalOrder[topologicalOrder.length - 1]];
+    }
+
+    public ProcessTopology getTopology() {
+        return topology;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T getOutputData(ConnectorOutput<T> outputConnector) {
+        return (T) outputData.get(outputConnector);
+    }
+
+    void putSourceData(Object dataKey, Object sourceData) {
+        sourceDataOverrides.put(dataKey, sourceData);
+        updateDataVersion(dataKey, sourceData);
+    }
+
+    void copySourceDataFrom(ProcessRunContext runContext) {
+        runContext.sourceDataOverrides.forEach(this::putSourceData);
+    }
+
+    void setProcessResult(int blockIndex, ProcessResult processResult) {
+        processResults[blockIndex] = processResult;
+    }
+
+    void clearRunData() {
+        outputData.clear();
+        Arrays.fill(processResults, null);
+    }
+
+    private void updateDataVersion(Object dataKey, Object data) {
+        DataVersion lastVersion = dataVersions.get(dataKey);
+        if (lastVersion == null || !Objects.equals(lastVersion.data(), data)) {
+            dataVersions.put(dataKey, new DataVersion(data, lastVersion == null ? 1 : lastVersion.version() + 1));
+        }
+    }
+
+    private record DataVersion(Object data, long version) {
+    }
+
+}
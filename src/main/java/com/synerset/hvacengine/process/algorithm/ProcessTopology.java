@@ -0,0 +1,199 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
+import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
+
+import java.util.*;
+
+/**
+ * Immutable, compiled definition of connected process blocks, which can be shared between threads. <p>
+ * On compilation, connector wiring and current data of all external sources (connectors not owned by compiled blocks, for example
+ * {@code SimpleDataSource} outputs) are captured. Later changes of wiring or source data do not affect the compiled topology,
+ * and compiled blocks must not be rewired afterward. <p>
+ * Each run operates on its own {@link ProcessRunContext}, which holds the run's source data overrides, connector data and process results.
+ * Blocks are evaluated with {@link HvacProcessBlock#runProcessCalculations(com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess)},
+ * which does not modify the blocks. Therefore, many contexts can be run concurrently on one topology, without locking or cloning blocks.
+ */
+public final class ProcessTopology {
+
+    private final ProcessGraph processGraph;
+    private final Map<ConnectorOutput<?>, Integer> blockOutputs;
+    // Input connector -> data key: output connector of a compiled block, external source output connector, or the input itself
+    private final Map<ConnectorInput<?>, Object> inputDataKeys;
+    private final Map<Object, Object> externalData;
+    private final Object inletAirFlowKey;
+
+    private ProcessTopology(List<HvacProcessBlock> processBlocks, Set<ConnectorInput<?>> tornInputs) {
+        CommonValidators.requireNotNull(processBlocks);
+        if (processBlocks.isEmpty()) {
+            throw new HvacEngineArgumentException("No process found. Cannot compile topology");
+        }
+        this.processGraph = ProcessGraph.of(processBlocks, tornInputs);
+
+        Map<ConnectorOutput<?>, Integer> outputs = new IdentityHashMap<>();
+        for (int i = 0; i < processGraph.size(); i++) {
+            for (ConnectorOutput<?> outputConnector : processGraph.getBlock(i).getAllOutputConnectors()) {
+                outputs.put(outputConnector, i);
+            }
+        }
+
+        Map<ConnectorInput<?>, Object> dataKeys = new IdentityHashMap<>();
+        Map<Object, Object> dataOfExternalSources = new IdentityHashMap<>();
+        for (HvacProcessBlock processBlock : processGraph.getProcessBlocks()) {
+            for (ConnectorInput<?> inputConnector : processBlock.getAllInputConnectors()) {
+                ConnectorOutput<?> sourceConnector = inputConnector.getParentConnector();
+                if (sourceConnector == null || tornInputs.contains(inputConnector)) {
+                    dataKeys.put(inputConnector, inputConnector);
+                    dataOfExternalSources.put(inputConnector, inputConnector.getConnectorData());
+                    continue;
+                }
+                dataKeys.put(inputConnector, sourceConnector);
+                if (!outputs.containsKey(sourceConnector)) {
+                    dataOfExternalSources.put(sourceConnector, sourceConnector.getConnectorData());
+                }
+            }
+        }
+
+        this.blockOutputs = Collections.unmodifiableMap(outputs);
+        this.inputDataKeys = Collections.unmodifiableMap(dataKeys);
+        this.externalData = Collections.unmodifiableMap(dataOfExternalSources);
+        HvacProcessBlock firstBlock = processGraph.getBlock(processGraph.getTopologicalOrder()[0]);
+        this.inletAirFlowKey = inputDataKeys.get(firstBlock.getInputConnector());
+    }
+
+    /**
+     * Creates a new, empty run context. Unless overridden in the context, source data captured on compilation is used.
+     *
+     * @return A new {@link ProcessRunContext} for this topology.
+     */
+    public ProcessRunContext createRunContext() {
+        return new ProcessRunContext(this);
+    }
+
+    /**
+     * Runs all process blocks in topological order with source data captured on compilation.
+     *
+     * @return The completed {@link ProcessRunContext} with results of this run.
+     */
+    public ProcessRunContext run() {
+        return run(createRunContext());
+    }
+
+    /**
+     * Runs all process blocks in topological order using provided run context. Results of a previous run of the same context are replaced.
+     *
+     * @param runContext The run context created by this topology.
+     * @return The provided run context, holding results of this run.
+     * @throws HvacEngineArgumentException if context was created by another topology or airflow data for any of starting blocks is missing.
+     */
+    public ProcessRunContext run(ProcessRunContext runContext) {
+        CommonValidators.requireNotNull(runContext);
+        if (runContext.getTopology() != this) {
+            throw new HvacEngineArgumentException("Run context was created by another process topology.");
+        }
+        runContext.clearRunData();
+        for (int blockIndex : processGraph.getTopologicalOrder()) {
+            runBlock(blockIndex, runContext);
+        }
+        return runContext;
+    }
+
+    /**
+     * Retrieves compiled process blocks, in topological order.
+     *
+     * @return An unmodifiable list of {@link HvacProcessBlock} instances.
+     */
+    public List<HvacProcessBlock> getProcessBlocks() {
+        int[] topologicalOrder = processGraph.getTopologicalOrder();
+        List<HvacProcessBlock> blocksInOrder = new ArrayList<>(topologicalOrder.length);
+        for (int blockIndex : topologicalOrder) {
+            blocksInOrder.add(processGraph.getBlock(blockIndex));
+        }
+        return Collections.unmodifiableList(blocksInOrder);
+    }
+
+    public int size() {
+        return processGraph.size();
+    }
+
+    // Package-private access for run context
+
+    ProcessGraph getProcessGraph() {
+        return processGraph;
+    }
+
+    boolean isBlockOutput(ConnectorOutput<?> outputConnector) {
+        return blockOutputs.containsKey(outputConnector);
+    }
+
+    boolean isExternalSource(Object dataKey) {
+        return externalData.containsKey(dataKey);
+    }
+
+    Object getDataKey(ConnectorInput<?> inputConnector) {
+        Object dataKey = inputDataKeys.get(inputConnector);
+        if (dataKey == null) {
+            throw new HvacEngineArgumentException("Input connector is not a part of compiled process topology.");
+        }
+        return dataKey;
+    }
+
+    Object getExternalData(Object dataKey) {
+        return externalData.get(dataKey);
+    }
+
+    Object getInletAirFlowKey() {
+        return inletAirFlowKey;
+    }
+
+    /**
+     * Runs a single block in provided context. Blocks it depends on must have been already run in the same context.
+     */
+    void runBlock(int blockIndex, ProcessRunContext runContext) {
+        HvacProcessBlock processBlock = processGraph.getBlock(blockIndex);
+        if (processGraph.getDependencies(blockIndex).length == 0 && runContext.getInputData(processBlock.getInputConnector()) == null) {
+            throw new HvacEngineArgumentException("No inlet airflow data found for block: " + processBlock.getProcessType()
+                                                  + ". Cannot run calculations");
+        }
+        ProcessResult processResult = processBlock.runProcessCalculations(runContext);
+        runContext.setProcessResult(blockIndex, processResult);
+    }
+
+    // Static factory methods
+
+    /**
+     * Compiles provided connected process blocks into a topology.
+     *
+     * @param processBlocks The connected {@link HvacProcessBlock} instances.
+     * @return A new {@link ProcessTopology}.
+     */
+    public static ProcessTopology of(List<? extends HvacProcessBlock> processBlocks) {
+        CommonValidators.requireNotNull(processBlocks);
+        return new ProcessTopology(List.copyOf(processBlocks), Set.of());
+    }
+
+    /**
+     * Compiles provided connected process blocks into a topology.
+     *
+     * @param processBlocks The connected {@link HvacProcessBlock} instances.
+     * @return A new {@link ProcessTopology}.
+     */
+    public static ProcessTopology of(HvacProcessBlock... processBlocks) {
+        CommonValidators.requireNotNull(processBlocks);
+        return of(Arrays.asList(processBlocks));
+    }
+
+    /**
+     * Compiles provided process blocks into a topology, where torn input connectors are treated as external sources, so that their
+     * data has to be provided by run context. Used to solve topologies with recirculation loops.
+     */
+    static ProcessTopology of(List<? extends HvacProcessBlock> processBlocks, Set<ConnectorInput<?>> tornInputs) {
+        CommonValidators.requireNotNull(processBlocks);
+        return new ProcessTopology(List.copyOf(processBlocks), tornInputs);
+    }
+
+}
@@ -0,0 +1,449 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
+import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.property.fluids.humidair.HumidAir;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.*;
+import java.util.function.UnaryOperator;
+
+/**
+ * Solver of process topologies with a recirculation loop, for example return air mixed with fresh air upstream of the coil which
+ * conditions it. The loop is torn at the loop-closing input connector (for example a {@code Mixing} recirculation input connected to
+ * a downstream block output), and the loop airflow is found by fixed-point iteration: the chain is evaluated with assumed loop airflow,
+ * and the output feeding the loop-closing input, passed through the loop transform, becomes the next assumption. <p>
+ * The loop transform models everything between the downstream output and the loop-closing input, which is not a process block, for
+ * example a room load or a recirculation damper taking a part of the supply air. Without it, the whole downstream flow would be
+ * recirculated, and a loop with mixing would have no fixed point. <p>
+ * Iterated loop variables are temperature in oC, humidity ratio in g/kg and dry air mass flow in kg/s. Iteration stops when the largest
+ * change of these variables is not greater than tolerance, or when iteration limit is reached, which is reported in {@link LoopSolution}
+ * diagnostics. Convergence is accelerated with Anderson or Aitken methods, extrapolated states outside of humid air limits are replaced
+ * by plain fixed-point steps. <p>
+ * Solver configuration is immutable, each solve uses its own run context, so one solver can be used concurrently.
+ */
+public final class RecirculationLoopSolver {
+
+    private static final int LOOP_VARIABLES = 3;
+    private static final int TEMPERATURE = 0;
+    private static final int HUMIDITY_RATIO = 1;
+    private static final int DRY_AIR_MASS_FLOW = 2;
+    private static final double GRAMS_PER_KILOGRAM = 1000d;
+    private static final double REGULARIZATION = 1E-12;
+
+    private final ProcessTopology topology;
+    private final ConnectorInput<FlowOfHumidAir> loopClosingInput;
+    private final ConnectorOutput<FlowOfHumidAir> loopSourceOutput;
+    private final UnaryOperator<FlowOfHumidAir> loopTransform;
+    private final LoopAcceleration acceleration;
+    private final int andersonDepth;
+    private final double tolerance;
+    private final int maxIterations;
+
+    private RecirculationLoopSolver(Builder builder) {
+        CommonValidators.requireNotNull(builder.processBlocks);
+        CommonValidators.requireNotNull(builder.loopClosingInput);
+        if (builder.loopTransform == null) {
+            throw new HvacEngineArgumentException("Loop solver requires a loop transform. Recirculating the whole downstream flow "
+                                                  + "has no fixed point for a loop with mixing.");
+        }
+        CommonValidators.requireNotNull(builder.acceleration);
+        if (!(builder.tolerance > 0) || builder.maxIterations < 1 || builder.andersonDepth < 1) {
+            throw new HvacEngineArgumentException("Loop solver requires positive tolerance, iteration limit and Anderson depth. tolerance = "
+                                                  + builder.tolerance + " maxIterations = " + builder.maxIterations
+                                                  + " andersonDepth = " + builder.andersonDepth);
+        }
+        this.loopClosingInput = builder.loopClosingInput;
+        this.loopSourceOutput = loopClosingInput.getParentConnector();
+        boolean isInputOfProvidedBlocks = builder.processBlocks.stream()
+                .anyMatch(processBlock -> processBlock.getAllInputConnectors().contains(loopClosingInput));
+        if (!isInputOfProvidedBlocks) {
+            throw new HvacEngineArgumentException("Loop-closing input connector is not an input of provided process blocks.");
+        }
+        Set<ConnectorInput<?>> tornInputs = Collections.newSetFromMap(new IdentityHashMap<>());
+        tornInputs.add(loopClosingInput);
+        this.topology = ProcessTopology.of(builder.processBlocks, tornInputs);
+        if (loopSourceOutput == null || !topology.isBlockOutput(loopSourceOutput)) {
+            throw new HvacEngineArgumentException("Loop-closing input connector must be connected to an output of provided process blocks.");
+        }
+        this.loopTransform = builder.loopTransform;
+        this.acceleration = builder.acceleration;
+        this.andersonDepth = builder.andersonDepth;
+        this.tolerance = builder.tolerance;
+        this.maxIterations = builder.maxIterations;
+    }
+
+    /**
+     * Solves the loop with source data captured on compilation. Initial loop airflow is the loop transform of the inlet airflow.
+     *
+     * @return The {@link LoopSolution}.
+     */
+    public LoopSolution solve() {
+        return solve(topology.createRunContext());
+    }
+
+    /**
+     * Solves the loop for the specified inlet airflow of the first block. Initial loop airflow is the loop transform of the inlet airflow.
+     *
+     * @param inletAirFlow The inlet airflow.
+     * @return The {@link LoopSolution}.
+     */
+    public LoopSolution solve(FlowOfHumidAir inletAirFlow) {
+        return solve(topology.createRunContext().withInletAirFlow(inletAirFlow));
+    }
+
+    /**
+     * Solves the loop with source data overrides of provided run context. Initial loop airflow is the loop transform of the inlet airflow.
+     *
+     * @param runContext The run context created by topology of this solver, it will hold results of the last evaluation.
+     * @return The {@link LoopSolution}.
+     */
+    public LoopSolution solve(ProcessRunContext runContext) {
+        CommonValidators.requireNotNull(runContext);
+        HvacProcessBlock firstBlock = topology.getProcessBlocks().get(0);
+        FlowOfHumidAir inletAirFlow = runContext.getInputData(firstBlock.getInputConnector());
+        if (inletAirFlow == null) {
+            throw new HvacEngineArgumentException("No inlet airflow data found for block: " + firstBlock.getProcessType()
+                                                  + ". Cannot solve loop");
+        }
+        return solve(runContext, loopTransform.apply(inletAirFlow));
+    }
+
+    /**
+     * Solves the loop starting from provided loop airflow, for example the solution of a similar operating point.
+     *
+     * @param runContext         The run context created by topology of this solver, it will hold results of the last evaluation.
+     * @param initialLoopAirFlow The initial airflow at the loop-closing input.
+     * @return The {@link LoopSolution}.
+     */
+    public LoopSolution solve(ProcessRunContext runContext, FlowOfHumidAir initialLoopAirFlow) {
+        CommonValidators.requireNotNull(runContext);
+        CommonValidators.requireNotNull(initialLoopAirFlow);
+        if (runContext.getTopology() != topology) {
+            throw new HvacEngineArgumentException("Run context was created by another process topology.");
+        }
+        LoopEvaluation evaluation = new LoopEvaluation(runContext, initialLoopAirFlow.getPressure().getInPascals());
+        double[] loopState = toLoopState(initialLoopAirFlow);
+        double[] previousResidual = null;
+        double previousResidualNorm = Double.POSITIVE_INFINITY;
+        double relaxationFactor = 1.0;
+        Deque<double[]> residualDifferences = new ArrayDeque<>();
+        Deque<double[]> outputDifferences = new ArrayDeque<>();
+        double[] previousOutput = null;
+        double[] residualHistory = new double[maxIterations];
+        double residualNorm = Double.POSITIVE_INFINITY;
+        boolean isConverged = false;
+        int iteration = 0;
+
+        while (iteration < maxIterations) {
+            double[] output = evaluation.evaluate(loopState);
+            double[] residual = subtract(output, loopState);
+            residualNorm = maxAbs(residual);
+            residualHistory[iteration++] = residualNorm;
+            if (residualNorm <= tolerance) {
+                isConverged = true;
+                break;
+            }
+
+            double[] nextState = output;
+            boolean isRestarted = residualNorm > previousResidualNorm;
+            switch (acceleration) {
+                case NONE -> {
+                    // Plain fixed-point step
+                }
+                case AITKEN -> {
+                    if (previousResidual != null && !isRestarted) {
+                        double[] residualDifference = subtract(residual, previousResidual);
+                        double differenceNormSquared = dot(residualDifference, residualDifference);
+                        if (differenceNormSquared > 0) {
+                            relaxationFactor = -relaxationFactor * dot(previousResidual, residualDifference) / differenceNormSquared;
+                        }
+                    } else {
+                        relaxationFactor = 1.0;
+                    }
+                    nextState = add(loopState, scale(residual, relaxationFactor));
+                }
+                case ANDERSON -> {
+                    if (isRestarted) {
+                        residualDifferences.clear();
+                        outputDifferences.clear();
+                    } else if (previousResidual != null) {
+                        residualDifferences.addLast(subtract(residual, previousResidual));
+                        outputDifferences.addLast(subtract(output, previousOutput));
+                        if (residualDifferences.size() > andersonDepth) {
+                            residualDifferences.removeFirst();
+                            outputDifferences.removeFirst();
+                        }
+                    }
+                    if (!residualDifferences.isEmpty()) {
+                        nextState = andersonStep(output, residual, residualDifferences, outputDifferences);
+                    }
+                }
+            }
+            if (!isValidLoopState(nextState)) {
+                nextState = output;
+                relaxationFactor = 1.0;
+                residualDifferences.clear();
+                outputDifferences.clear();
+            }
+            previousResidual = residual;
+            previousResidualNorm = residualNorm;
+            previousOutput = output;
+            loopState = nextState;
+        }
+
+        return new LoopSolution(runContext, evaluation.lastLoopAirFlow, isConverged, iteration, evaluation.chainEvaluations,
+                residualNorm, Arrays.copyOf(residualHistory, iteration), acceleration);
+    }
+
+    public ProcessTopology getTopology() {
+        return topology;
+    }
+
+    public LoopAcceleration getAcceleration() {
+        return acceleration;
+    }
+
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    // Helper Methods
+
+    /**
+     * Anderson (type II) step: coefficients minimize the residual linearized over the last iterates, and the same combination of
+     * output differences is subtracted from the latest output.
+     */
+    private static double[] andersonStep(double[] output, double[] residual, Deque<double[]> residualDifferences,
+                                         Deque<double[]> outputDifferences) {
+        int depth = residualDifferences.size();
+        double[][] dF = residualDifferences.toArray(new double[0][]);
+        double[][] dG = outputDifferences.toArray(new double[0][]);
+        double[][] normalMatrix = new double[depth][depth];
+        double[] rightHandSide = new double[depth];
+        double trace = 0;
+        for (int i = 0; i < depth; i++) {
+            for (int j = 0; j < depth; j++) {
+                normalMatrix[i][j] = dot(dF[i], dF[j]);
+            }
+            rightHandSide[i] = dot(dF[i], residual);
+            trace += normalMatrix[i][i];
+        }
+        for (int i = 0; i < depth; i++) {
+            normalMatrix[i][i] += REGULARIZATION * Math.max(trace, 1.0);
+        }
+        double[] coefficients = solveLinearSystem(normalMatrix, rightHandSide);
+        double[] nextState = output.clone();
+        for (int j = 0; j < depth; j++) {
+            for (int i = 0; i < LOOP_VARIABLES; i++) {
+                nextState[i] -= coefficients[j] * dG[j][i];
+            }
+        }
+        return nextState;
+    }
+
+    /**
+     * Gaussian elimination with partial pivoting, for small symmetric positive definite systems.
+     */
+    private static double[] solveLinearSystem(double[][] matrix, double[] rightHandSide) {
+        int size = rightHandSide.length;
+        for (int pivot = 0; pivot < size; pivot++) {
+            int maxRow = pivot;
+            for (int row = pivot + 1; row < size; row++) {
+                if (Math.abs(matrix[row][pivot]) > Math.abs(matrix[maxRow][pivot])) {
+                    maxRow = row;
+                }
+            }
+            double[] swappedRow = matrix[pivot];
+            matrix[pivot] = matrix[maxRow];
+            matrix[maxRow] = swappedRow;
+            double swappedValue = rightHandSide[pivot];
+            rightHandSide[pivot] = rightHandSide[maxRow];
+            rightHandSide[maxRow] = swappedValue;
+            for (int row = pivot + 1; row < size; row++) {
+                double factor = matrix[row][pivot] / matrix[pivot][pivot];
+                rightHandSide[row] -= factor * rightHandSide[pivot];
+                for (int column = pivot; column < size; column++) {
+                    matrix[row][column] -= factor * matrix[pivot][column];
+                }
+            }
+        }
+        double[] solution = new double[size];
+        for (int row = size - 1; row >= 0; row--) {
+            double sum = rightHandSide[row];
+            for (int column = row + 1; column < size; column++) {
+                sum -= matrix[row][column] * solution[column];
+            }
+            solution[row] = sum / matrix[row][row];
+        }
+        return solution;
+    }
+
+    private static boolean isValidLoopState(double[] loopState) {
+        double temperature = loopState[TEMPERATURE];
+        double humidityRatio = loopState[HUMIDITY_RATIO] / GRAMS_PER_KILOGRAM;
+        double dryAirMassFlow = loopState[DRY_AIR_MASS_FLOW];
+        return temperature >= HumidAir.TEMPERATURE_MIN_LIMIT.getInCelsius()
+               && temperature <= HumidAir.TEMPERATURE_MAX_LIMIT.getInCelsius()
+               && humidityRatio >= 0 && humidityRatio <= HumidAir.HUMIDITY_RATIO_MAX_LIMIT.getInKilogramPerKilogram()
+               && dryAirMassFlow >= 0 && Double.isFinite(dryAirMassFlow);
+    }
+
+    private static double[] toLoopState(FlowOfHumidAir loopAirFlow) {
+        double[] loopState = new double[LOOP_VARIABLES];
+        loopState[TEMPERATURE] = loopAirFlow.getTemperature().getInCelsius();
+        loopState[HUMIDITY_RATIO] = loopAirFlow.getHumidityRatio().getInKilogramPerKilogram() * GRAMS_PER_KILOGRAM;
+        loopState[DRY_AIR_MASS_FLOW] = loopAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+        return loopState;
+    }
+
+    private static FlowOfHumidAir toLoopAirFlow(double pressure, double[] loopState) {
+        HumidAir humidAir = HumidAir.of(Pressure.ofPascal(pressure),
+                Temperature.ofCelsius(loopState[TEMPERATURE]),
+                HumidityRatio.ofKilogramPerKilogram(loopState[HUMIDITY_RATIO] / GRAMS_PER_KILOGRAM));
+        return FlowOfHumidAir.ofDryAirMassFlow(humidAir, MassFlow.ofKilogramsPerSecond(loopState[DRY_AIR_MASS_FLOW]));
+    }
+
+    private static double[] subtract(double[] first, double[] second) {
+        double[] difference = new double[first.length];
+        for (int i = 0; i < first.length; i++) {
+            difference[i] = first[i] - second[i];
+        }
+        return difference;
+    }
+
+    private static double[] add(double[] first, double[] second) {
+        double[] sum = new double[first.length];
+        for (int i = 0; i < first.length; i++) {
+            sum[i] = first[i] + second[i];
+        }
+        return sum;
+    }
+
+    private static double[] scale(double[] vector, double factor) {
+        double[] scaled = new double[vector.length];
+        for (int i = 0; i < vector.length; i++) {
+            scaled[i] = vector[i] * factor;
+        }
+        return scaled;
+    }
+
+    private static double dot(double[] first, double[] second) {
+        double sum = 0;
+        for (int i = 0; i < first.length; i++) {
+            sum += first[i] * second[i];
+        }
+        return sum;
+    }
+
+    private static double maxAbs(double[] vector) {
+        double max = 0;
+        for (double value : vector) {
+            max = Math.max(max, Math.abs(value));
+        }
+        return Double.isNaN(max) ? Double.POSITIVE_INFINITY : max;
+    }
+
+    /**
+     * Evaluates the process chain for an assumed loop state and returns the transformed loop output state.
+     */
+    private final class LoopEvaluation {
+
+        private final ProcessRunContext runContext;
+        private double loopPressure;
+        private FlowOfHumidAir lastLoopAirFlow;
+        private int chainEvaluations;
+
+        private LoopEvaluation(ProcessRunContext runContext, double loopPressure) {
+            this.runContext = runContext;
+            this.loopPressure = loopPressure;
+        }
+
+        private double[] evaluate(double[] loopState) {
+            lastLoopAirFlow = toLoopAirFlow(loopPressure, loopState);
+            runContext.putSourceData(loopClosingInput, lastLoopAirFlow);
+            topology.run(runContext);
+            chainEvaluations++;
+            FlowOfHumidAir loopOutput = runContext.getOutputData(loopSourceOutput);
+            FlowOfHumidAir transformedOutput = loopTransform.apply(loopOutput);
+            CommonValidators.requireNotNull(transformedOutput);
+            loopPressure = transformedOutput.getPressure().getInPascals();
+            return toLoopState(transformedOutput);
+        }
+
+    }
+
+    /**
+     * Builder of {@link RecirculationLoopSolver}. Process blocks, loop-closing input and loop transform are required. By default,
+     * Anderson acceleration of depth 3 is used, tolerance is 1E-6 and iteration limit is 100.
+     */
+    public static class Builder {
+        private List<? extends HvacProcessBlock> processBlocks;
+        private ConnectorInput<FlowOfHumidAir> loopClosingInput;
+        private UnaryOperator<FlowOfHumidAir> loopTransform;
+        private LoopAcceleration acceleration = LoopAcceleration.ANDERSON;
+        private int andersonDepth = 3;
+        private double tolerance = 1E-6;
+        private int maxIterations = 100;
+
+        public Builder processBlocks(List<? extends HvacProcessBlock> processBlocks) {
+            this.processBlocks = processBlocks;
+            return this;
+        }
+
+        public Builder processBlocks(HvacProcessBlock... processBlocks) {
+            this.processBlocks = List.of(processBlocks);
+            return this;
+        }
+
+        public Builder loopClosingInput(ConnectorInput<FlowOfHumidAir> loopClosingInput) {
+            this.loopClosingInput = loopClosingInput;
+            return this;
+        }
+
+        public Builder loopTransform(UnaryOperator<FlowOfHumidAir> loopTransform) {
+            this.loopTransform = loopTransform;
+            return this;
+        }
+
+        public Builder acceleration(LoopAcceleration acceleration) {
+            this.acceleration = acceleration;
+            return this;
+        }
+
+        public Builder andersonDepth(int andersonDepth) {
+            this.andersonDepth = andersonDepth;
+            return this;
+        }
+
+        public Builder tolerance(double tolerance) {
+            this.tolerance = tolerance;
+            return this;
+        }
+
+        public Builder maxIterations(int maxIterations) {
+            this.maxIterations = maxIterations;
+            return this;
+        }
+
+        public RecirculationLoopSolver build() {
+            return new RecirculationLoopSolver(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.synerset.hvacengine.process.algorithm;
+
+/**
+ * Key quantities of a process result, stored per block and per run in a {@link ColumnarResultStore}.
+ */
+public enum ResultQuantity {
+    /** Outlet air temperature, oC */
+    OUTLET_TEMPERATURE,
+    /** Outlet air humidity ratio, kg.wv/kg.da */
+    OUTLET_HUMIDITY_RATIO,
+    /** Outlet air relative humidity, % */
+    OUTLET_RELATIVE_HUMIDITY,
+    /** Outlet air specific enthalpy, kJ/kg */
+    OUTLET_SPECIFIC_ENTHALPY,
+    /** Heat of process, W */
+    HEAT_OF_PROCESS,
+    /** Condensate mass flow, kg/s. Zero for processes without condensation. */
+    CONDENSATE_MASS_FLOW
+}
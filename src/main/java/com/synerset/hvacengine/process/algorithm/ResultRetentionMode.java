@@ -0,0 +1,8 @@
+package com.synerset.hvacengine.process.algorithm;
+
+public enum ResultRetentionMode {
+    ALL_RUNS,
+    LAST_RUN,
+    LAST_RUNS,
+    COLUMNAR
+}
@@ -0,0 +1,60 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+
+/**
+ * Defines which results of consecutive runs are kept by a {@link ProcessResultHistory}:
+ * <ul>
+ *     <li>{@link ResultRetentionMode#ALL_RUNS}: results of all runs, the history grows with every run,</li>
+ *     <li>{@link ResultRetentionMode#LAST_RUN}: results of the last run only,</li>
+ *     <li>{@link ResultRetentionMode#LAST_RUNS}: results of the specified number of last runs, as a ring buffer,</li>
+ *     <li>{@link ResultRetentionMode#COLUMNAR}: results of the last run, and key quantities of the specified number of last runs
+ *     stored as primitive values in a {@link ColumnarResultStore}.</li>
+ * </ul>
+ * Bounded modes are intended for long-running engines, where keeping full result objects of all runs would exhaust memory.
+ *
+ * @param retentionMode The {@link ResultRetentionMode}.
+ * @param numberOfRuns  The number of retained runs: result objects for {@code LAST_RUNS}, primitive quantities for {@code COLUMNAR}.
+ */
+public record ResultRetentionPolicy(ResultRetentionMode retentionMode, int numberOfRuns) {
+
+    public ResultRetentionPolicy {
+        CommonValidators.requireNotNull(retentionMode);
+        if (numberOfRuns < 1) {
+            throw new HvacEngineArgumentException("Number of retained runs must be positive, numberOfRuns=" + numberOfRuns);
+        }
+    }
+
+    /**
+     * Retrieves the number of last runs, for which result objects are retained.
+     *
+     * @return The number of runs, or {@link Integer#MAX_VALUE} if results of all runs are retained.
+     */
+    public int numberOfRunsWithResultObjects() {
+        return switch (retentionMode) {
+            case ALL_RUNS -> Integer.MAX_VALUE;
+            case LAST_RUN, COLUMNAR -> 1;
+            case LAST_RUNS -> numberOfRuns;
+        };
+    }
+
+    // Static factory methods
+
+    public static ResultRetentionPolicy allRuns() {
+        return new ResultRetentionPolicy(ResultRetentionMode.ALL_RUNS, Integer.MAX_VALUE);
+    }
+
+    public static ResultRetentionPolicy lastRun() {
+        return new ResultRetentionPolicy(ResultRetentionMode.LAST_RUN, 1);
+    }
+
+    public static ResultRetentionPolicy lastRuns(int numberOfRuns) {
+        return new ResultRetentionPolicy(ResultRetentionMode.LAST_RUNS, numberOfRuns);
+    }
+
+    public static ResultRetentionPolicy columnar(int numberOfRuns) {
+        return new ResultRetentionPolicy(ResultRetentionMode.COLUMNAR, numberOfRuns);
+    }
+
+}
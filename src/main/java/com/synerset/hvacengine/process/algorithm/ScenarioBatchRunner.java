@@ -0,0 +1,184 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs one process block topology for many inlet airflow states (scenarios), for example 8760 hourly weather points, using multiple
+ * threads. <p>
+ * Process blocks keep their connector data and results in mutable fields, therefore each worker thread operates on its own
+ * {@link SequentialProcessingEngine}, created by the provided engine factory. The factory must create new process blocks on each call.
+ * Workers take scenarios one by one from a shared queue, so expensive scenarios do not leave other threads idle.
+ * Results are returned in order of provided inlet states.
+ */
+public class ScenarioBatchRunner {
+
+    private final Supplier<SequentialProcessingEngine> engineFactory;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * Constructs a new scenario batch runner.
+     *
+     * @param engineFactory The factory creating a new engine with new, connected process blocks on each call. Inlet airflow data
+     *                      source of created engines is replaced by the runner.
+     * @param executor      The executor used to run worker threads.
+     * @param parallelism   The maximum number of concurrently running workers.
+     */
+    public ScenarioBatchRunner(Supplier<SequentialProcessingEngine> engineFactory, Executor executor, int parallelism) {
+        CommonValidators.requireNotNull(engineFactory);
+        CommonValidators.requireNotNull(executor);
+        if (parallelism < 1) {
+            throw new HvacEngineArgumentException("Parallelism must be positive, parallelism=" + parallelism);
+        }
+        this.engineFactory = engineFactory;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Runs all scenarios and returns results of all process blocks for each of them.
+     *
+     * @param inletAirFlows The inlet airflow states, one per scenario.
+     * @return A list of process results of all blocks for each scenario, in order of provided inlet states.
+     */
+    public List<List<ProcessResult>> runScenarios(List<FlowOfHumidAir> inletAirFlows) {
+        CommonValidators.requireNotNull(inletAirFlows);
+        inletAirFlows.forEach(CommonValidators::requireNotNull);
+        int numberOfScenarios = inletAirFlows.size();
+        List<ProcessResult>[] scenarioResults = createResultsArray(numberOfScenarios);
+        if (numberOfScenarios == 0) {
+            return List.of();
+        }
+
+        AtomicInteger nextScenario = new AtomicInteger();
+        AtomicBoolean isFailed = new AtomicBoolean();
+        Set<HvacProcessBlock> usedBlocks = Collections.newSetFromMap(new IdentityHashMap<>());
+        int numberOfWorkers = Math.min(parallelism, numberOfScenarios);
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[numberOfWorkers];
+        for (int i = 0; i < numberOfWorkers; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    SimpleDataSource<FlowOfHumidAir> inletSource = SimpleDataSource.of(inletAirFlows.get(0));
+                    SequentialProcessingEngine engine = createWorkerEngine(usedBlocks, inletSource);
+                    int scenario;
+                    while (!isFailed.get() && (scenario = nextScenario.getAndIncrement()) < numberOfScenarios) {
+                        inletSource.setSourceData(inletAirFlows.get(scenario));
+                        engine.runCalculationsForAllNodes();
+                        scenarioResults[scenario] = engine.getAllProcessBlocks().stream()
+                                .map(HvacProcessBlock::getProcessResult)
+                                .toList();
+                    }
+                } catch (RuntimeException exception) {
+                    // Failure of engine creation or of any scenario stops all workers
+                    isFailed.set(true);
+                    throw exception;
+                }
+            }, executor);
+        }
+        awaitAll(workers);
+        return List.of(scenarioResults);
+    }
+
+    /**
+     * Runs all scenarios for provided inlet states.
+     *
+     * @param inletAirFlows The inlet airflow states, one per scenario.
+     * @return A list of process results of all blocks for each scenario, in order of provided inlet states.
+     */
+    public List<List<ProcessResult>> runScenarios(FlowOfHumidAir... inletAirFlows) {
+        CommonValidators.requireNotNull(inletAirFlows);
+        return runScenarios(Arrays.asList(inletAirFlows));
+    }
+
+    /**
+     * Runs all scenarios and returns the result of the last process block for each of them.
+     *
+     * @param inletAirFlows The inlet airflow states, one per scenario.
+     * @return A list of last block results, in order of provided inlet states.
+     */
+    public List<ProcessResult> runScenariosForLastResults(List<FlowOfHumidAir> inletAirFlows) {
+        return runScenarios(inletAirFlows).stream()
+                .map(results -> results.get(results.size() - 1))
+                .toList();
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    // Helper Methods
+
+    private SequentialProcessingEngine createWorkerEngine(Set<HvacProcessBlock> usedBlocks, SimpleDataSource<FlowOfHumidAir> inletSource) {
+        SequentialProcessingEngine engine = engineFactory.get();
+        CommonValidators.requireNotNull(engine);
+        if (engine.getAllProcessBlocks().isEmpty()) {
+            throw new HvacEngineArgumentException("No process found. Cannot run calculations");
+        }
+        synchronized (usedBlocks) {
+            for (HvacProcessBlock processBlock : engine.getAllProcessBlocks()) {
+                if (!usedBlocks.add(processBlock)) {
+                    throw new HvacEngineArgumentException("Engine factory must create new process blocks for each engine.");
+                }
+            }
+        }
+        engine.connectInletAirFlowDataSource(inletSource);
+        // Results are collected by the runner after each scenario, so the engine does not need to retain previous runs
+        engine.setResultRetentionPolicy(ResultRetentionPolicy.lastRun());
+        return engine;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ProcessResult>[] createResultsArray(int size) {
+        return (List<ProcessResult>[]) new List<?>[size];
+    }
+
+    private static void awaitAll(CompletableFuture<?>[] workers) {
+        try {
+            CompletableFuture.allOf(workers).join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+
+    // Static factory methods
+
+    /**
+     * Static factory method to create a {@link ScenarioBatchRunner} using common fork-join pool and its parallelism.
+     *
+     * @param engineFactory The factory creating a new engine with new, connected process blocks on each call.
+     * @return A new instance of {@link ScenarioBatchRunner}.
+     */
+    public static ScenarioBatchRunner of(Supplier<SequentialProcessingEngine> engineFactory) {
+        return new ScenarioBatchRunner(engineFactory, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    /**
+     * Static factory method to create a {@link ScenarioBatchRunner} using provided executor and parallelism.
+     *
+     * @param engineFactory The factory creating a new engine with new, connected process blocks on each call.
+     * @param executor      The executor used to run worker threads.
+     * @param parallelism   The maximum number of concurrently running workers.
+     * @return A new instance of {@link ScenarioBatchRunner}.
+     */
+    public static ScenarioBatchRunner of(Supplier<SequentialProcessingEngine> engineFactory, Executor executor, int parallelism) {
+        return new ScenarioBatchRunner(engineFactory, executor, parallelism);
+    }
+
+}
@@ -2,13 +2,17 @@ package com.synerset.hvacengine.process.algorithm;
 
 import com.synerset.hvacengine.common.ConsolePrintable;
 import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
 import com.synerset.hvacengine.process.HvacProcessBlock;
 import com.synerset.hvacengine.process.ProcessResult;
 import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
 import com.synerset.hvacengine.process.source.SimpleDataSource;
 import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
 
 import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.function.UnaryOperator;
 
 /**
  * A class that manages and executes a sequence of HVAC process blocks, computes their results, and provides
@@ -22,15 +26,18 @@ import java.util.*;
 public class SequentialProcessingEngine implements ConsolePrintable {
 
     private final List<HvacProcessBlock> processBlocksToCompute;
-    private final List<ProcessResult> processResults;
+    private final ProcessChangeTracker changeTracker;
+    private ProcessResultHistory resultHistory;
     private SimpleDataSource<FlowOfHumidAir> airFlowSource;
 
     /**
-     * Constructs a new empty sequential processing engine.
+     * Constructs a new empty sequential processing engine. Results of all runs are retained, unless another
+     * {@link ResultRetentionPolicy} is set.
      */
     public SequentialProcessingEngine() {
-        this.processResults = new ArrayList<>();
         this.processBlocksToCompute = new ArrayList<>();
+        this.changeTracker = new ProcessChangeTracker();
+        this.resultHistory = ProcessResultHistory.of(ResultRetentionPolicy.allRuns());
     }
 
     /**
@@ -56,6 +63,9 @@ public class SequentialProcessingEngine implements ConsolePrintable {
     /**
      * Runs the calculations for all process blocks in the engine.
      * Ensures that the necessary airflow data is available and connected before starting the calculations.
+     * Blocks whose inputs and configuration have not changed since their last calculation are not recalculated, their last results
+     * are reused. After changing global settings, {@link #invalidateAllNodes()} has to be called.
+     * Results of this run are recorded in the result history, according to its {@link ResultRetentionPolicy}.
      *
      * @return The final {@link ProcessResult} after all calculations have been completed.
      * @throws HvacEngineArgumentException if there are no process blocks or if airflow data is missing.
@@ -75,40 +85,134 @@ public class SequentialProcessingEngine implements ConsolePrintable {
             throw new HvacEngineArgumentException("No inlet airflow data found. Cannot run calculations");
         }
 
+        List<ProcessResult> runResults = new ArrayList<>(processBlocksToCompute.size());
         processBlocksToCompute.forEach(node -> {
-            node.runProcessCalculations();
-            processResults.add(node.getProcessResult());
+            changeTracker.calculateIfRequired(node);
+            runResults.add(node.getProcessResult());
         });
+        resultHistory.recordRun(runResults);
 
         return getLastResult();
     }
 
     /**
-     * Retrieves all the process results collected during the execution.
+     * Compiles current sequence of process blocks and connected inlet airflow data source into an immutable {@link ProcessTopology}.
+     * Compiled topology can be run concurrently from many threads, each run with its own {@link ProcessRunContext}.
+     *
+     * @return A new {@link ProcessTopology} of this engine's blocks.
+     * @throws HvacEngineArgumentException if there are no process blocks.
+     */
+    public ProcessTopology compileTopology() {
+        if (processBlocksToCompute.isEmpty()) {
+            throw new HvacEngineArgumentException("No process found. Cannot compile topology");
+        }
+        if (airFlowSource != null) {
+            processBlocksToCompute.get(0).connectAirFlowDataSource(airFlowSource);
+        }
+        return ProcessTopology.of(processBlocksToCompute);
+    }
+
+    /**
+     * Compiles current sequence of process blocks into a solver of a recirculation loop, closed by provided input connector connected
+     * to an output of a downstream block (for example a {@code Mixing} recirculation input connected to the last block). Such wiring
+     * contains a cycle, so it cannot be calculated by {@link #runCalculationsForAllNodes()}.
+     *
+     * @param loopClosingInput The input connector closing the loop.
+     * @param loopTransform    The transformation of the downstream output into loop airflow, for example a recirculated part of it.
+     * @return A new {@link RecirculationLoopSolver} with default acceleration and tolerance.
+     * @throws HvacEngineArgumentException if there are no process blocks or the input does not close a loop of this engine's blocks.
+     */
+    public RecirculationLoopSolver compileRecirculationLoop(ConnectorInput<FlowOfHumidAir> loopClosingInput,
+                                                            UnaryOperator<FlowOfHumidAir> loopTransform) {
+        if (processBlocksToCompute.isEmpty()) {
+            throw new HvacEngineArgumentException("No process found. Cannot compile recirculation loop");
+        }
+        if (airFlowSource != null) {
+            processBlocksToCompute.get(0).connectAirFlowDataSource(airFlowSource);
+        }
+        return RecirculationLoopSolver.builder()
+                .processBlocks(processBlocksToCompute)
+                .loopClosingInput(loopClosingInput)
+                .loopTransform(loopTransform)
+                .build();
+    }
+
+    /**
+     * Subscribes to a stream of inlet airflow states and publishes the result of the last block for each of them. Calculations are
+     * run on a topology compiled from current sequence of blocks, so later changes of this engine do not affect the stream.
+     *
+     * @param inletAirFlowPublisher The publisher of inlet airflow states, for example a streaming data source or live sensor readings.
+     * @return The {@link StreamingProcessor} publishing results with backpressure.
+     * @throws HvacEngineArgumentException if there are no process blocks.
+     */
+    public StreamingProcessor processStream(Flow.Publisher<FlowOfHumidAir> inletAirFlowPublisher) {
+        CommonValidators.requireNotNull(inletAirFlowPublisher);
+        StreamingProcessor streamingProcessor = StreamingProcessor.of(compileTopology());
+        inletAirFlowPublisher.subscribe(streamingProcessor);
+        return streamingProcessor;
+    }
+
+    /**
+     * Marks all process blocks for recalculation. By default, blocks are recalculated only if any of their inputs or their
+     * configuration has changed since their last calculation, otherwise their last results are reused. Changes of global settings,
+     * such as {@code HumidAirEquations.setSaturationPressureModel}, are not detected, this method has to be called after them.
+     */
+    public void invalidateAllNodes() {
+        changeTracker.invalidateAll();
+    }
+
+    /**
+     * Sets the policy of retaining results of consecutive runs. Results retained so far are discarded. For engines running for a long
+     * time, a bounded policy (last run, last runs or columnar) should be used, to keep memory usage constant.
+     *
+     * @param retentionPolicy The {@link ResultRetentionPolicy} to be applied.
+     */
+    public void setResultRetentionPolicy(ResultRetentionPolicy retentionPolicy) {
+        this.resultHistory = ProcessResultHistory.of(retentionPolicy);
+    }
+
+    /**
+     * Removes all retained results. Last results of blocks are still reused by following runs, if their inputs have not changed.
+     */
+    public void clearResults() {
+        resultHistory.clear();
+    }
+
+    /**
+     * Retrieves the history of results retained according to current {@link ResultRetentionPolicy}, including the columnar store.
+     *
+     * @return The {@link ProcessResultHistory} of this engine.
+     */
+    public ProcessResultHistory getResultHistory() {
+        return resultHistory;
+    }
+
+    /**
+     * Retrieves all the retained process results collected during the execution, from the oldest run to the latest one.
      *
      * @return An unmodifiable list of {@link ProcessResult} instances.
      */
     public List<ProcessResult> getProcessResults() {
-        return Collections.unmodifiableList(processResults);
+        return resultHistory.getProcessResults();
     }
 
     /**
-     * Retrieves the process results filtered by the specified process type.
+     * Retrieves the retained process results filtered by the specified process type, served from the index of the result history.
      *
      * @param processType The {@link ProcessType} to filter by.
      * @return A list of {@link ProcessResult} instances that match the specified process type.
      */
     public List<ProcessResult> getResults(ProcessType processType){
-        return processResults.stream().filter(result -> result.processType() == processType).toList();
+        return resultHistory.getResults(processType);
     }
 
     /**
      * Retrieves the last process result in the sequence.
      *
-     * @return The final {@link ProcessResult} from the process block sequence.
+     * @return The final {@link ProcessResult} from the process block sequence, or {@code null} if calculations were not run.
      */
     public ProcessResult getLastResult() {
-        return processResults.get(processResults.size() - 1);
+        return resultHistory.getLastResult();
     }
 
     /**
@@ -128,7 +232,7 @@ public class SequentialProcessingEngine implements ConsolePrintable {
     @Override
     public String toConsoleOutput() {
         StringBuilder stringBuilder = new StringBuilder();
-        processResults.forEach(result -> stringBuilder.append(result.toConsoleOutput()).append("\n"));
+        resultHistory.getProcessResultsView().forEach(result -> stringBuilder.append(result.toConsoleOutput()).append("\n"));
         return stringBuilder.toString();
     }
 
@@ -165,7 +269,7 @@ public class SequentialProcessingEngine implements ConsolePrintable {
         if (processBlocksToCompute.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(processResults.get(processResults.size() - 1));
+        return Optional.ofNullable(resultHistory.getLastResult());
     }
 
     // Static factory methods
@@ -0,0 +1,198 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Processes a stream of inlet airflow states through a compiled {@link ProcessTopology} continuously, at constant memory. <p>
+ * The processor subscribes to an inlet airflow publisher (for example {@link com.synerset.hvacengine.process.source.StreamingDataSource}
+ * replaying historical data, or a {@link java.util.concurrent.SubmissionPublisher} of live sensor readings with bounded buffer) and
+ * publishes the result of the last block in topological order for each received state, in order of arrival. <p>
+ * Each inlet state produces exactly one result, therefore the processor does not buffer anything: demand of the result subscriber is
+ * forwarded to the inlet publisher, and each state is calculated and delivered on the thread which delivered it. The number of states
+ * in flight is bounded by requested demand, and cancellation is forwarded the same way. The processor accepts a single result
+ * subscriber, fan-out to many subscribers can be done with a {@link java.util.concurrent.SubmissionPublisher}. <p>
+ * If calculations for any inlet state fail, the inlet subscription is cancelled and the result subscriber receives the failure.
+ */
+public class StreamingProcessor implements Flow.Processor<FlowOfHumidAir, ProcessResult> {
+
+    private static final Object COMPLETED = new Object();
+
+    private final ProcessTopology topology;
+    private final ProcessRunContext runContext;
+    private final AtomicReference<Flow.Subscriber<? super ProcessResult>> resultSubscriber;
+    private final AtomicReference<Flow.Subscription> inletSubscription;
+    private final AtomicLong pendingDemand;
+    // Completion marker or failure, received from inlet publisher or raised by calculations
+    private final AtomicReference<Object> terminalSignal;
+    private final AtomicBoolean isTerminalSignalDelivered;
+    private volatile boolean isCancelled;
+
+    /**
+     * Constructs a new streaming processor.
+     *
+     * @param topology The compiled process topology.
+     */
+    public StreamingProcessor(ProcessTopology topology) {
+        CommonValidators.requireNotNull(topology);
+        this.topology = topology;
+        this.runContext = topology.createRunContext();
+        this.resultSubscriber = new AtomicReference<>();
+        this.inletSubscription = new AtomicReference<>();
+        this.pendingDemand = new AtomicLong();
+        this.terminalSignal = new AtomicReference<>();
+        this.isTerminalSignalDelivered = new AtomicBoolean();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ProcessResult> subscriber) {
+        CommonValidators.requireNotNull(subscriber);
+        if (!resultSubscriber.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new ResultSubscription(true));
+            subscriber.onError(new HvacEngineArgumentException("Streaming processor accepts only one result subscriber."));
+            return;
+        }
+        subscriber.onSubscribe(new ResultSubscription(false));
+        deliverTerminalSignalIfReady();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        CommonValidators.requireNotNull(subscription);
+        if (!inletSubscription.compareAndSet(null, subscription) || isCancelled) {
+            subscription.cancel();
+            return;
+        }
+        forwardPendingDemand(subscription);
+    }
+
+    /**
+     * Runs calculations for received inlet state. Signals of one subscription are sequential, therefore a single run context is reused.
+     */
+    @Override
+    public void onNext(FlowOfHumidAir inletAirFlow) {
+        if (isCancelled || terminalSignal.get() != null) {
+            return;
+        }
+        ProcessResult lastResult;
+        try {
+            CommonValidators.requireNotNull(inletAirFlow);
+            lastResult = topology.run(runContext.withInletAirFlow(inletAirFlow)).getLastResult();
+        } catch (RuntimeException exception) {
+            cancelInletSubscription();
+            onError(exception);
+            return;
+        }
+        resultSubscriber.get().onNext(lastResult);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        CommonValidators.requireNotNull(throwable);
+        terminalSignal.compareAndSet(null, throwable);
+        deliverTerminalSignalIfReady();
+    }
+
+    @Override
+    public void onComplete() {
+        terminalSignal.compareAndSet(null, COMPLETED);
+        deliverTerminalSignalIfReady();
+    }
+
+    public ProcessTopology getTopology() {
+        return topology;
+    }
+
+    // Helper Methods
+
+    private void forwardPendingDemand(Flow.Subscription subscription) {
+        long demand = pendingDemand.getAndSet(0);
+        if (demand > 0) {
+            subscription.request(demand);
+        }
+    }
+
+    private void cancelInletSubscription() {
+        isCancelled = true;
+        Flow.Subscription subscription = inletSubscription.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void deliverTerminalSignalIfReady() {
+        Flow.Subscriber<? super ProcessResult> subscriber = resultSubscriber.get();
+        Object signal = terminalSignal.get();
+        if (subscriber == null || signal == null || !isTerminalSignalDelivered.compareAndSet(false, true)) {
+            return;
+        }
+        if (signal instanceof Throwable throwable) {
+            subscriber.onError(throwable);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+
+    /**
+     * Forwards demand and cancellation of the result subscriber to the inlet subscription. Demand received before the inlet publisher
+     * subscribes is accumulated and forwarded on its subscription.
+     */
+    private final class ResultSubscription implements Flow.Subscription {
+
+        private final boolean isRejected;
+
+        private ResultSubscription(boolean isRejected) {
+            this.isRejected = isRejected;
+        }
+
+        @Override
+        public void request(long n) {
+            if (isRejected || isCancelled) {
+                return;
+            }
+            if (n <= 0) {
+                cancelInletSubscription();
+                onError(new HvacEngineArgumentException("Requested number of results must be positive, n=" + n));
+                return;
+            }
+            Flow.Subscription subscription = inletSubscription.get();
+            if (subscription != null) {
+                subscription.request(n);
+                return;
+            }
+            pendingDemand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            subscription = inletSubscription.get();
+            if (subscription != null) {
+                forwardPendingDemand(subscription);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (!isRejected) {
+                cancelInletSubscription();
+            }
+        }
+
+    }
+
+    // Static factory methods
+
+    /**
+     * Static factory method to create a {@link StreamingProcessor}.
+     *
+     * @param topology The compiled process topology.
+     * @return A new instance of {@link StreamingProcessor}.
+     */
+    public static StreamingProcessor of(ProcessTopology topology) {
+        return new StreamingProcessor(topology);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.synerset.hvacengine.process.blockmodel;
+
+import java.util.function.Supplier;
+
+/**
+ * Provides input data to process calculations and receives their output data. <p>
+ * It allows the same process calculation to be evaluated either directly on data stored in connectors, or on data held outside
+ * of connectors, for example in a per-run context of a compiled process topology shared between threads.
+ */
+public interface ConnectorDataAccess {
+
+    /**
+     * Data access which reads and writes data stored directly in connectors.
+     */
+    ConnectorDataAccess CONNECTORS = new ConnectorDataAccess() {
+        @Override
+        public <T> T getInputData(ConnectorInput<T> inputConnector) {
+            return inputConnector.getConnectorData();
+        }
+
+        @Override
+        public <T> void setOutputData(ConnectorOutput<T> outputConnector, T outputData) {
+            outputConnector.setConnectorData(outputData);
+        }
+
+        @Override
+        public long getInputVersion(ConnectorInput<?> inputConnector) {
+            return inputConnector.getVersion();
+        }
+    };
+
+    /**
+     * Retrieves data for the specified input connector.
+     *
+     * @param inputConnector the input connector
+     * @param <T>            the type of data
+     * @return the input data
+     */
+    <T> T getInputData(ConnectorInput<T> inputConnector);
+
+    /**
+     * Stores data produced for the specified output connector.
+     *
+     * @param outputConnector the output connector
+     * @param outputData      the output data
+     * @param <T>             the type of data
+     */
+    <T> void setOutputData(ConnectorOutput<T> outputConnector, T outputData);
+
+    /**
+     * Retrieves version of data for the specified input connector. Version changes each time the data changes, so it can be used
+     * to detect changes without comparing the data itself. By default, version of the connector itself is returned, data access
+     * which holds data outside of connectors should override this method.
+     *
+     * @param inputConnector the input connector
+     * @return the input data version
+     */
+    default long getInputVersion(ConnectorInput<?> inputConnector) {
+        return inputConnector.getVersion();
+    }
+
+    /**
+     * Retrieves state which the specified owner (for example a process block) keeps between calculations on this data access,
+     * creating it on first use. By default, data access keeps no state and {@code null} is returned, so the owner has to calculate
+     * without it.
+     *
+     * @param stateOwner   the owner of the state
+     * @param stateFactory the factory of a new state
+     * @param <S>          the type of state
+     * @return the state of the owner, or {@code null} if this data access keeps no state
+     */
+    default <S> S getBlockState(Object stateOwner, Supplier<S> stateFactory) {
+        return null;
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.synerset.hvacengine.process.blockmodel;
 
+import java.util.Objects;
+
 /**
  * Represents an input connector that receives and holds data of type {@code T}.
  * It can be linked to a {@link ConnectorOutput} as a data source, allowing for data transfer.
@@ -10,6 +12,8 @@ public class ConnectorInput<T> implements Connector<T> {
 
     private T connectorData;
     private ConnectorOutput<T> dataSourceConnector;
+    private long version;
+    private long consumedSourceVersion = -1;
 
     /**
      * Creates an empty input connector with no initial data source.
@@ -30,11 +34,13 @@ public class ConnectorInput<T> implements Connector<T> {
 
     /**
      * Updates the connector data by retrieving it from the parent connector (data source),
-     * if a valid source is connected.
+     * if a valid source is connected and its version has changed since the last update.
      */
     public void updateConnectorData() {
-        if (getParentConnector() != null) {
-            setConnectorData(getParentConnector().getConnectorData());
+        ConnectorOutput<T> parentConnector = getParentConnector();
+        if (parentConnector != null && parentConnector.getVersion() != consumedSourceVersion) {
+            setConnectorData(parentConnector.getConnectorData());
+            consumedSourceVersion = parentConnector.getVersion();
         }
     }
 
@@ -50,12 +56,28 @@ public class ConnectorInput<T> implements Connector<T> {
 
     /**
      * Sets the data for this connector.
+     * Connector version is incremented if new data is not equal to the current one.
+     * Data set directly is replaced with data of the parent connector on the next update.
      *
      * @param connectorData the new data to be stored, of type {@code T}
      */
     @Override
     public void setConnectorData(T connectorData) {
+        if (!Objects.equals(this.connectorData, connectorData)) {
+            version++;
+        }
         this.connectorData = connectorData;
+        this.consumedSourceVersion = -1;
+    }
+
+    /**
+     * Retrieves the version of the connector data. Version is incremented each time the data changes,
+     * either set directly or consumed from the parent connector.
+     *
+     * @return the connector data version
+     */
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -66,6 +88,7 @@ public class ConnectorInput<T> implements Connector<T> {
      */
     public void connectAndConsumeDataFrom(ConnectorOutput<T> sourceConnector) {
         this.dataSourceConnector = sourceConnector;
+        this.consumedSourceVersion = -1;
         sourceConnector.setConnectedInputConnector(this);
         updateConnectorData();
     }
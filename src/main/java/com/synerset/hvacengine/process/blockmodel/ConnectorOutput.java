@@ -1,5 +1,7 @@
 package com.synerset.hvacengine.process.blockmodel;
 
+import java.util.Objects;
+
 /**
  * Represents an output connector that holds and provides data of type {@code T}.
  * It can be connected to a {@link ConnectorInput} to send data.
@@ -10,6 +12,7 @@ public class ConnectorOutput<T> implements Connector<T> {
 
     private T connectorData;
     private ConnectorInput<T> connectedInputConnector;
+    private long version;
 
     /**
      * Creates an empty output connector with no initial data or connected input.
@@ -38,14 +41,28 @@ public class ConnectorOutput<T> implements Connector<T> {
 
     /**
      * Sets the data for this output connector.
+     * Connector version is incremented if new data is not equal to the current one.
      *
      * @param connectorData the new data to be stored, of type {@code T}
      */
     @Override
     public void setConnectorData(T connectorData) {
+        if (!Objects.equals(this.connectorData, connectorData)) {
+            version++;
+        }
         this.connectorData = connectorData;
     }
 
+    /**
+     * Retrieves the version of the connector data. Version is incremented each time the data changes,
+     * so it can be used to detect changes without comparing the data itself.
+     *
+     * @return the connector data version
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Retrieves the input connector that is connected to this output connector.
      *
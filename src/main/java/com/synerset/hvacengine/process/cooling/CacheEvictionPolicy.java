@@ -0,0 +1,6 @@
+package com.synerset.hvacengine.process.cooling;
+
+public enum CacheEvictionPolicy {
+    LEAST_RECENTLY_USED,
+    FIRST_IN_FIRST_OUT
+}
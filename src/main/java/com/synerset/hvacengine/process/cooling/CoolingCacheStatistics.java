@@ -0,0 +1,27 @@
+package com.synerset.hvacengine.process.cooling;
+
+/**
+ * Snapshot of {@link CoolingResultCache} metrics.
+ *
+ * @param hitCount      The number of calculations served from the cache.
+ * @param missCount     The number of calculations performed by the coil model.
+ * @param evictionCount The number of results removed by the eviction policy.
+ * @param size          The number of cached results.
+ */
+public record CoolingCacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Retrieves the ratio of calculations served from the cache.
+     *
+     * @return The hit rate between 0 and 1, or 0 if no calculation was requested.
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+    }
+
+}
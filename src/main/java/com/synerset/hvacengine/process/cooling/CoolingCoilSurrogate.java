@@ -0,0 +1,538 @@
+package com.synerset.hvacengine.process.cooling;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.property.fluids.humidair.HumidAirEquations;
+import com.synerset.unitility.unitsystem.dimensionless.BypassFactor;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.synerset.hvacengine.common.validation.CommonValidators.requireAboveLowerBound;
+import static com.synerset.hvacengine.common.validation.CommonValidators.requireNotNull;
+import static com.synerset.hvacengine.process.cooling.CoolingEquations.*;
+import static com.synerset.hvacengine.process.cooling.CoolingValidators.requirePhysicalInputPowerForCooling;
+import static com.synerset.hvacengine.process.cooling.CoolingValidators.requireValidTargetTemperatureForCooling;
+
+/**
+ * Response surface surrogate of the real cooling coil model of {@link CoolingEquations}, for cooling from target temperature and from
+ * power, intended for long simulations (for example annual hourly runs) where coil evaluations dominate. <p>
+ * For fixed inlet air and coil wall states, the coil model is linear in dry air mass flow and in contact factor (1 - bypass factor).
+ * Therefore, only driving differences between inlet and near-wall air (specific enthalpy, humidity ratio and dry air specific enthalpy)
+ * are interpolated, on a table over inlet temperature, inlet humidity ratio and average wall temperature, built for a single pressure.
+ * Outlet temperature and bypass factor are calculated exactly, and the power solve is an explicit inversion of the heat balance,
+ * without iterations. <p>
+ * The table starts as a coarse grid of cells. Each cell is built on first use: model is evaluated at its corners, and interpolation
+ * error is estimated at its centre and at midpoints of all its edges. Cells exceeding tolerance, and cells with both dry and wet coil
+ * corners, are split in halves along all axes on demand, up to the refinement depth limit. Cells still inaccurate at this limit (for
+ * example crossing the dew point kink), points outside the table and inlet flows at other pressures are evaluated with the exact
+ * model. <p>
+ * Table refinement is synchronized per cell, built cells are immutable, so one surrogate can be shared by concurrent simulations.
+ */
+public final class CoolingCoilSurrogate {
+
+    // Interpolated driving differences between inlet and near-wall air
+    private static final int ENTHALPY_DIFFERENCE = 0;
+    private static final int HUMIDITY_RATIO_DIFFERENCE = 1;
+    private static final int DRY_ENTHALPY_DIFFERENCE = 2;
+    private static final int NUMBER_OF_QUANTITIES = 3;
+    // Coil state flag following driving differences: 1 for wet coil, 0 for dry coil
+    private static final int WET_COIL = 3;
+    private static final int NUMBER_OF_CORNERS = 8;
+
+    private final double pressure;
+    private final double[] lowerBounds;
+    private final double[] upperBounds;
+    private final int gridDivisions;
+    private final int maxRefinementDepth;
+    private final double enthalpyTolerance;
+    private final double humidityRatioTolerance;
+    private final AtomicReferenceArray<Cell> coarseCells;
+    private final AtomicInteger numberOfCells;
+    private final LongAdder numberOfFallbackEvaluations;
+
+    private CoolingCoilSurrogate(Builder builder) {
+        requireNotNull(builder.pressure);
+        if (builder.gridDivisions < 1 || builder.maxRefinementDepth < 0) {
+            throw new HvacEngineArgumentException("Surrogate requires positive grid divisions and non-negative refinement depth. gridDivisions = "
+                                                  + builder.gridDivisions + " maxRefinementDepth = " + builder.maxRefinementDepth);
+        }
+        if (!(builder.enthalpyTolerance > 0) || !(builder.humidityRatioTolerance > 0)) {
+            throw new HvacEngineArgumentException("Surrogate tolerances must be positive. enthalpyTolerance = " + builder.enthalpyTolerance
+                                                  + " humidityRatioTolerance = " + builder.humidityRatioTolerance);
+        }
+        for (int axis = 0; axis < 3; axis++) {
+            if (!(builder.lowerBounds[axis] < builder.upperBounds[axis])) {
+                throw new HvacEngineArgumentException("Surrogate range lower bound must be lower than upper bound. lower = "
+                                                      + builder.lowerBounds[axis] + " upper = " + builder.upperBounds[axis]);
+            }
+        }
+        this.pressure = builder.pressure.getInPascals();
+        this.lowerBounds = builder.lowerBounds.clone();
+        this.upperBounds = builder.upperBounds.clone();
+        this.gridDivisions = builder.gridDivisions;
+        this.maxRefinementDepth = builder.maxRefinementDepth;
+        this.enthalpyTolerance = builder.enthalpyTolerance;
+        this.humidityRatioTolerance = builder.humidityRatioTolerance;
+        this.coarseCells = new AtomicReferenceArray<>(gridDivisions * gridDivisions * gridDivisions);
+        this.numberOfCells = new AtomicInteger();
+        this.numberOfFallbackEvaluations = new LongAdder();
+    }
+
+    /**
+     * Builds all cells of the coarse grid in advance, instead of on first use. Refinement still takes place on demand.
+     *
+     * @return This surrogate.
+     */
+    public CoolingCoilSurrogate precomputeGrid() {
+        for (int i = 0; i < coarseCells.length(); i++) {
+            getCoarseCell(i);
+        }
+        return this;
+    }
+
+    /**
+     * Surrogate of {@link CoolingEquations#coolingFromTargetTemperature(double, double, double, double, double, double, double, double, double[])}
+     * at surrogate pressure. Results in the array are organized as in the exact kernel, see COIL_* indices of {@link CoolingEquations}.
+     * Input values are not validated.
+     *
+     * @param inletTemperature       inlet air temperature, oC
+     * @param inletHumidityRatio     inlet air humidity ratio, kg.wv/kg.da
+     * @param dryAirMassFlow         inlet dry air mass flow, kg/s
+     * @param averageWallTemperature average coil wall temperature, oC
+     * @param targetTemperature      target outlet temperature, oC
+     * @param result                 array of at least {@link CoolingEquations#COIL_RESULT_SIZE} elements, to which results are written
+     */
+    public void coolingFromTargetTemperature(double inletTemperature, double inletHumidityRatio, double dryAirMassFlow,
+                                             double averageWallTemperature, double targetTemperature, double[] result) {
+        double tIn = inletTemperature;
+        double tmWall = averageWallTemperature;
+        double tOut = Math.max(targetTemperature, minCoilOutletTemperature(tIn, tmWall));
+        double bypassFactor = (tOut - tmWall) / (tIn - tmWall);
+        if (tOut == tIn || dryAirMassFlow == 0.0) {
+            writeUnchanged(tIn, inletHumidityRatio, bypassFactor, result);
+            return;
+        }
+        double[] exactDifferences = null;
+        Cell cell = findCell(tIn, inletHumidityRatio, tmWall);
+        if (cell == null) {
+            exactDifferences = drivingDifferences(tIn, inletHumidityRatio, tmWall);
+            numberOfFallbackEvaluations.increment();
+        }
+        double enthalpyDifference = differenceOf(ENTHALPY_DIFFERENCE, cell, exactDifferences, tIn, inletHumidityRatio, tmWall);
+        double humidityRatioDifference = differenceOf(HUMIDITY_RATIO_DIFFERENCE, cell, exactDifferences, tIn, inletHumidityRatio, tmWall);
+        writeResult(tOut, inletHumidityRatio, dryAirMassFlow, bypassFactor, enthalpyDifference, humidityRatioDifference, result);
+    }
+
+    /**
+     * Surrogate of {@link CoolingEquations#coolingFromPower(double, double, double, double, double, double, double, double, double[])}
+     * at surrogate pressure. Cooling power is limited to 95% of power required to cool air down to average coil wall temperature, as in
+     * the exact model. Results in the array are organized as in the exact kernel, see COIL_* indices of {@link CoolingEquations}.
+     * Input values are not validated.
+     *
+     * @param inletTemperature       inlet air temperature, oC
+     * @param inletHumidityRatio     inlet air humidity ratio, kg.wv/kg.da
+     * @param dryAirMassFlow         inlet dry air mass flow, kg/s
+     * @param averageWallTemperature average coil wall temperature, oC
+     * @param coolingPower           cooling power, kW (absolute value is used)
+     * @param result                 array of at least {@link CoolingEquations#COIL_RESULT_SIZE} elements, to which results are written
+     */
+    public void coolingFromPower(double inletTemperature, double inletHumidityRatio, double dryAirMassFlow, double averageWallTemperature,
+                                 double coolingPower, double[] result) {
+        double tIn = inletTemperature;
+        double tmWall = averageWallTemperature;
+        double inputPowerInKw = Math.abs(coolingPower);
+        if (inputPowerInKw == 0.0 || dryAirMassFlow == 0.0) {
+            writeUnchanged(tIn, inletHumidityRatio, 1.0, result);
+            return;
+        }
+        double[] exactDifferences = null;
+        Cell cell = findCell(tIn, inletHumidityRatio, tmWall);
+        if (cell == null) {
+            exactDifferences = drivingDifferences(tIn, inletHumidityRatio, tmWall);
+            numberOfFallbackEvaluations.increment();
+        }
+        double enthalpyDifference = differenceOf(ENTHALPY_DIFFERENCE, cell, exactDifferences, tIn, inletHumidityRatio, tmWall);
+        double humidityRatioDifference = differenceOf(HUMIDITY_RATIO_DIFFERENCE, cell, exactDifferences, tIn, inletHumidityRatio, tmWall);
+        double dryEnthalpyDifference = differenceOf(DRY_ENTHALPY_DIFFERENCE, cell, exactDifferences, tIn, inletHumidityRatio, tmWall);
+        if (!(enthalpyDifference > 0)) {
+            writeUnchanged(tIn, inletHumidityRatio, 1.0, result);
+            return;
+        }
+
+        // Heat of process is linear in contact factor (1 - BF), so outlet state follows directly from required power
+        double acceptablePowerInKw = dryEnthalpyDifference * REALISTIC_COOLING_FACTOR * dryAirMassFlow;
+        double targetPowerInKw = Math.min(inputPowerInKw, acceptablePowerInKw);
+        double contactFactor = Math.min(targetPowerInKw / (dryAirMassFlow * enthalpyDifference), 1.0 - BypassFactor.BF_HVAC_MIN.getValue());
+        double bypassFactor = 1.0 - contactFactor;
+        double tOut = tmWall + bypassFactor * (tIn - tmWall);
+        writeResult(tOut, inletHumidityRatio, dryAirMassFlow, bypassFactor, enthalpyDifference, humidityRatioDifference, result);
+    }
+
+    /**
+     * Surrogate of {@link CoolingEquations#coolingFromTargetTemperature(FlowOfHumidAir, CoolantData, Temperature)}. Input data is
+     * validated as in the exact model. Inlet flows at other pressure than surrogate pressure are evaluated with the exact model.
+     *
+     * @param inletAirFlow      initial {@link FlowOfHumidAir}
+     * @param inletCoolantData  average cooling coil wall {@link CoolantData}
+     * @param targetTemperature target outlet {@link Temperature}
+     * @return the result of cooling process
+     */
+    public CoolingResult coolingFromTargetTemperature(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, Temperature targetTemperature) {
+        requireNotNull(inletAirFlow);
+        requireNotNull(inletCoolantData);
+        requireNotNull(targetTemperature);
+        requireAboveLowerBound(targetTemperature, Temperature.ofCelsius(0));
+        requireValidTargetTemperatureForCooling(inletAirFlow.getTemperature(), targetTemperature);
+        if (!isSurrogateApplicable(inletAirFlow, inletCoolantData)) {
+            return CoolingEquations.coolingFromTargetTemperature(inletAirFlow, inletCoolantData, targetTemperature);
+        }
+
+        double[] coilResult = new double[COIL_RESULT_SIZE];
+        coolingFromTargetTemperature(
+                inletAirFlow.getTemperature().getInCelsius(),
+                inletAirFlow.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond(),
+                inletCoolantData.getAverageTemperature().getInCelsius(),
+                targetTemperature.getInCelsius(),
+                coilResult
+        );
+        return coolingResultOf(CoolingMode.FROM_TEMPERATURE, inletAirFlow, inletCoolantData, coilResult);
+    }
+
+    /**
+     * Surrogate of {@link CoolingEquations#coolingFromPower(FlowOfHumidAir, CoolantData, Power)}. Input data is validated as in the
+     * exact model. Inlet flows at other pressure than surrogate pressure are evaluated with the exact model.
+     *
+     * @param inletAirFlow     initial {@link FlowOfHumidAir}
+     * @param inletCoolantData coolant data {@link CoolantData}
+     * @param inputPower       cooling {@link Power}
+     * @return the result of cooling process
+     */
+    public CoolingResult coolingFromPower(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, Power inputPower) {
+        requireNotNull(inletAirFlow);
+        requireNotNull(inletCoolantData);
+        requireNotNull(inputPower);
+        if (inputPower.isCloseToZero() || !isSurrogateApplicable(inletAirFlow, inletCoolantData)) {
+            return CoolingEquations.coolingFromPower(inletAirFlow, inletCoolantData, inputPower);
+        }
+
+        double[] coilResult = new double[COIL_RESULT_SIZE];
+        coolingFromPower(
+                inletAirFlow.getTemperature().getInCelsius(),
+                inletAirFlow.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond(),
+                inletCoolantData.getAverageTemperature().getInCelsius(),
+                inputPower.getInKiloWatts(),
+                coilResult
+        );
+        requirePhysicalInputPowerForCooling(inletAirFlow, Power.ofKiloWatts(coilResult[COIL_HEAT_OF_PROCESS]));
+        return coolingResultOf(CoolingMode.FROM_POWER, inletAirFlow, inletCoolantData, coilResult);
+    }
+
+    public Pressure getPressure() {
+        return Pressure.ofPascal(pressure);
+    }
+
+    /**
+     * Retrieves the number of table cells built so far, including refined cells.
+     *
+     * @return The number of cells.
+     */
+    public int getNumberOfCells() {
+        return numberOfCells.get();
+    }
+
+    /**
+     * Retrieves the number of evaluations of points outside of the table or in cells inaccurate at the refinement depth limit, which
+     * were evaluated with the exact model.
+     *
+     * @return The number of fallback evaluations.
+     */
+    public long getNumberOfFallbackEvaluations() {
+        return numberOfFallbackEvaluations.sum();
+    }
+
+    // Helper Methods
+
+    private boolean isSurrogateApplicable(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData) {
+        return inletAirFlow.getPressure().getInPascals() == pressure
+               && !inletAirFlow.getMassFlow().isCloseToZero()
+               && !inletCoolantData.getTemperatureDifference().isCloseToZero();
+    }
+
+    private Cell findCell(double inletTemperature, double inletHumidityRatio, double averageWallTemperature) {
+        double[] point = {inletTemperature, inletHumidityRatio, averageWallTemperature};
+        int coarseIndex = 0;
+        for (int axis = 2; axis >= 0; axis--) {
+            double position = (point[axis] - lowerBounds[axis]) / (upperBounds[axis] - lowerBounds[axis]) * gridDivisions;
+            if (!(position >= 0 && position <= gridDivisions)) {
+                return null;
+            }
+            coarseIndex = coarseIndex * gridDivisions + Math.min((int) position, gridDivisions - 1);
+        }
+        Cell cell = getCoarseCell(coarseIndex);
+        while (!cell.isAccurate) {
+            if (cell.depth == maxRefinementDepth) {
+                return null;
+            }
+            cell = cell.getChild(point);
+        }
+        return cell;
+    }
+
+    private Cell getCoarseCell(int coarseIndex) {
+        Cell cell = coarseCells.get(coarseIndex);
+        if (cell != null) {
+            return cell;
+        }
+        double[] lower = new double[3];
+        double[] upper = new double[3];
+        int index = coarseIndex;
+        for (int axis = 0; axis < 3; axis++) {
+            int axisIndex = index % gridDivisions;
+            index /= gridDivisions;
+            double step = (upperBounds[axis] - lowerBounds[axis]) / gridDivisions;
+            lower[axis] = lowerBounds[axis] + axisIndex * step;
+            upper[axis] = axisIndex == gridDivisions - 1 ? upperBounds[axis] : lower[axis] + step;
+        }
+        coarseCells.compareAndSet(coarseIndex, null, new Cell(lower, upper, 0));
+        return coarseCells.get(coarseIndex);
+    }
+
+    private static double differenceOf(int quantity, Cell cell, double[] exactDifferences, double inletTemperature,
+                                       double inletHumidityRatio, double averageWallTemperature) {
+        return cell == null
+                ? exactDifferences[quantity]
+                : cell.interpolate(quantity, inletTemperature, inletHumidityRatio, averageWallTemperature);
+    }
+
+    private static void writeUnchanged(double inletTemperature, double inletHumidityRatio, double bypassFactor, double[] result) {
+        result[COIL_OUTLET_TEMPERATURE] = inletTemperature;
+        result[COIL_OUTLET_HUMIDITY_RATIO] = inletHumidityRatio;
+        result[COIL_HEAT_OF_PROCESS] = 0.0;
+        result[COIL_CONDENSATE_MASS_FLOW] = 0.0;
+        result[COIL_BYPASS_FACTOR] = bypassFactor;
+    }
+
+    private static void writeResult(double outletTemperature, double inletHumidityRatio, double dryAirMassFlow, double bypassFactor,
+                                    double enthalpyDifference, double humidityRatioDifference, double[] result) {
+        double mDaDirectContact = (1.0 - bypassFactor) * dryAirMassFlow;
+        result[COIL_OUTLET_TEMPERATURE] = outletTemperature;
+        result[COIL_OUTLET_HUMIDITY_RATIO] = inletHumidityRatio - (1.0 - bypassFactor) * humidityRatioDifference;
+        result[COIL_HEAT_OF_PROCESS] = mDaDirectContact * enthalpyDifference;
+        result[COIL_CONDENSATE_MASS_FLOW] = mDaDirectContact * humidityRatioDifference;
+        result[COIL_BYPASS_FACTOR] = bypassFactor;
+    }
+
+    // Exact near-wall driving differences, as determined by the coil model: [i_in - i_tm, x_in - x_tm, i_in - i(t_m, x_in), wet coil flag]
+    private double[] drivingDifferences(double inletTemperature, double inletHumidityRatio, double averageWallTemperature) {
+        double xIn = inletHumidityRatio;
+        double tmWall = averageWallTemperature;
+        double iIn = HumidAirEquations.specificEnthalpy(inletTemperature, xIn, pressure);
+        double rhIn = HumidAirEquations.relativeHumidity(inletTemperature, xIn, pressure);
+        double tdpIn = HumidAirEquations.dewPointTemperature(inletTemperature, rhIn, pressure);
+        boolean isDryCoil = tmWall >= tdpIn;
+        double psTm = HumidAirEquations.saturationPressure(tmWall);
+        double xTm = isDryCoil ? xIn : HumidAirEquations.maxHumidityRatio(psTm, pressure);
+        double iTm = HumidAirEquations.specificEnthalpyFromPs(tmWall, xTm, pressure, psTm);
+        double iTmDry = isDryCoil ? iTm : HumidAirEquations.specificEnthalpy(tmWall, xIn, pressure);
+        return new double[]{iIn - iTm, isDryCoil || xIn == 0.0 ? 0.0 : xIn - xTm, iIn - iTmDry, isDryCoil ? 0.0 : 1.0};
+    }
+
+    /**
+     * Table cell with model values at its corners, interpolated trilinearly. Corner index bits select upper bound of inlet temperature,
+     * inlet humidity ratio and wall temperature axes respectively.
+     */
+    private final class Cell {
+
+        private final double[] lower;
+        private final double[] upper;
+        private final int depth;
+        private final double[] cornerValues;
+        private final boolean isAccurate;
+        private volatile Cell[] children;
+
+        private Cell(double[] lower, double[] upper, int depth) {
+            this.lower = lower;
+            this.upper = upper;
+            this.depth = depth;
+            this.cornerValues = new double[NUMBER_OF_QUANTITIES * NUMBER_OF_CORNERS];
+            int numberOfWetCorners = 0;
+            for (int corner = 0; corner < NUMBER_OF_CORNERS; corner++) {
+                double[] differences = drivingDifferences(coordinate(0, corner), coordinate(1, corner), coordinate(2, corner));
+                for (int quantity = 0; quantity < NUMBER_OF_QUANTITIES; quantity++) {
+                    cornerValues[quantity * NUMBER_OF_CORNERS + corner] = differences[quantity];
+                }
+                if (differences[WET_COIL] != 0.0) {
+                    numberOfWetCorners++;
+                }
+            }
+            boolean hasUniformCoilState = numberOfWetCorners == 0 || numberOfWetCorners == NUMBER_OF_CORNERS;
+            this.isAccurate = hasUniformCoilState && isWithinTolerance();
+            numberOfCells.incrementAndGet();
+        }
+
+        private double interpolate(int quantity, double inletTemperature, double inletHumidityRatio, double averageWallTemperature) {
+            double u = fraction(0, inletTemperature);
+            double v = fraction(1, inletHumidityRatio);
+            double w = fraction(2, averageWallTemperature);
+            int offset = quantity * NUMBER_OF_CORNERS;
+            double c00 = cornerValues[offset] + u * (cornerValues[offset + 1] - cornerValues[offset]);
+            double c10 = cornerValues[offset + 2] + u * (cornerValues[offset + 3] - cornerValues[offset + 2]);
+            double c01 = cornerValues[offset + 4] + u * (cornerValues[offset + 5] - cornerValues[offset + 4]);
+            double c11 = cornerValues[offset + 6] + u * (cornerValues[offset + 7] - cornerValues[offset + 6]);
+            double c0 = c00 + v * (c10 - c00);
+            double c1 = c01 + v * (c11 - c01);
+            return c0 + w * (c1 - c0);
+        }
+
+        private Cell getChild(double[] point) {
+            Cell[] currentChildren = children;
+            if (currentChildren == null) {
+                synchronized (this) {
+                    currentChildren = children;
+                    if (currentChildren == null) {
+                        currentChildren = split();
+                        children = currentChildren;
+                    }
+                }
+            }
+            int childIndex = 0;
+            for (int axis = 0; axis < 3; axis++) {
+                if (point[axis] >= (lower[axis] + upper[axis]) / 2) {
+                    childIndex |= 1 << axis;
+                }
+            }
+            return currentChildren[childIndex];
+        }
+
+        private Cell[] split() {
+            Cell[] newChildren = new Cell[NUMBER_OF_CORNERS];
+            for (int child = 0; child < NUMBER_OF_CORNERS; child++) {
+                double[] childLower = new double[3];
+                double[] childUpper = new double[3];
+                for (int axis = 0; axis < 3; axis++) {
+                    double middle = (lower[axis] + upper[axis]) / 2;
+                    boolean isUpperHalf = (child & (1 << axis)) != 0;
+                    childLower[axis] = isUpperHalf ? middle : lower[axis];
+                    childUpper[axis] = isUpperHalf ? upper[axis] : middle;
+                }
+                newChildren[child] = new Cell(childLower, childUpper, depth + 1);
+            }
+            return newChildren;
+        }
+
+        // Checks interpolation error at the cell centre and at midpoints of all 12 edges
+        private boolean isWithinTolerance() {
+            double[] middle = {(lower[0] + upper[0]) / 2, (lower[1] + upper[1]) / 2, (lower[2] + upper[2]) / 2};
+            if (!isWithinTolerance(middle[0], middle[1], middle[2])) {
+                return false;
+            }
+            double[] point = new double[3];
+            for (int edgeAxis = 0; edgeAxis < 3; edgeAxis++) {
+                for (int corner = 0; corner < NUMBER_OF_CORNERS; corner++) {
+                    if ((corner & (1 << edgeAxis)) != 0) {
+                        continue;
+                    }
+                    for (int axis = 0; axis < 3; axis++) {
+                        point[axis] = axis == edgeAxis ? middle[axis] : coordinate(axis, corner);
+                    }
+                    if (!isWithinTolerance(point[0], point[1], point[2])) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private boolean isWithinTolerance(double inletTemperature, double inletHumidityRatio, double averageWallTemperature) {
+            double[] exactDifferences = drivingDifferences(inletTemperature, inletHumidityRatio, averageWallTemperature);
+            for (int quantity = 0; quantity < NUMBER_OF_QUANTITIES; quantity++) {
+                double tolerance = quantity == HUMIDITY_RATIO_DIFFERENCE ? humidityRatioTolerance : enthalpyTolerance;
+                double error = Math.abs(interpolate(quantity, inletTemperature, inletHumidityRatio, averageWallTemperature)
+                                        - exactDifferences[quantity]);
+                if (!(error <= tolerance)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private double coordinate(int axis, int corner) {
+            return (corner & (1 << axis)) == 0 ? lower[axis] : upper[axis];
+        }
+
+        private double fraction(int axis, double value) {
+            return (value - lower[axis]) / (upper[axis] - lower[axis]);
+        }
+
+    }
+
+    public static class Builder {
+        private Pressure pressure = Pressure.STANDARD_ATMOSPHERE;
+        private final double[] lowerBounds = {0, 0, 0};
+        private final double[] upperBounds = {50, 0.025, 30};
+        private int gridDivisions = 6;
+        private int maxRefinementDepth = 4;
+        private double enthalpyTolerance = 0.005;
+        private double humidityRatioTolerance = 2E-6;
+
+        public Builder pressure(Pressure pressure) {
+            this.pressure = pressure;
+            return this;
+        }
+
+        public Builder inletTemperatureRange(double minTemperature, double maxTemperature) {
+            lowerBounds[0] = minTemperature;
+            upperBounds[0] = maxTemperature;
+            return this;
+        }
+
+        public Builder inletHumidityRatioRange(double minHumidityRatio, double maxHumidityRatio) {
+            lowerBounds[1] = minHumidityRatio;
+            upperBounds[1] = maxHumidityRatio;
+            return this;
+        }
+
+        public Builder wallTemperatureRange(double minTemperature, double maxTemperature) {
+            lowerBounds[2] = minTemperature;
+            upperBounds[2] = maxTemperature;
+            return this;
+        }
+
+        public Builder gridDivisions(int gridDivisions) {
+            this.gridDivisions = gridDivisions;
+            return this;
+        }
+
+        public Builder maxRefinementDepth(int maxRefinementDepth) {
+            this.maxRefinementDepth = maxRefinementDepth;
+            return this;
+        }
+
+        public Builder enthalpyTolerance(double enthalpyTolerance) {
+            this.enthalpyTolerance = enthalpyTolerance;
+            return this;
+        }
+
+        public Builder humidityRatioTolerance(double humidityRatioTolerance) {
+            this.humidityRatioTolerance = humidityRatioTolerance;
+            return this;
+        }
+
+        public CoolingCoilSurrogate build() {
+            return new CoolingCoilSurrogate(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+}
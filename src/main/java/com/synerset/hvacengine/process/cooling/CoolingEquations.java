@@ -28,7 +28,15 @@ import static com.synerset.hvacengine.process.cooling.CoolingValidators.*;
 
 public class CoolingEquations {
 
-    private static final double REALISTIC_COOLING_FACTOR = 0.95;
+    // Indices of primitive cooling coil kernel results
+    public static final int COIL_OUTLET_TEMPERATURE = 0;
+    public static final int COIL_OUTLET_HUMIDITY_RATIO = 1;
+    public static final int COIL_HEAT_OF_PROCESS = 2;
+    public static final int COIL_CONDENSATE_MASS_FLOW = 3;
+    public static final int COIL_BYPASS_FACTOR = 4;
+    public static final int COIL_RESULT_SIZE = 5;
+
+    static final double REALISTIC_COOLING_FACTOR = 0.95;
     private static final double REALISTIC_RH_LIMIT_VALUE = 98;
 
     private CoolingEquations() {
@@ -127,62 +135,92 @@ public class CoolingEquations {
      * @param inputPower       cooling {@link Power}
      */
     public static CoolingResult coolingFromPower(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, Power inputPower) {
-        requireNotNull(inletAirFlow);
-        requireNotNull(inletCoolantData);
-        requireNotNull(inputPower);
+        requireValidCoolingFromPowerInput(inletAirFlow, inletCoolantData, inputPower);
         inputPower = inputPower.abs();
 
+        double[] coilResult = new double[COIL_RESULT_SIZE];
         if (inputPower.isCloseToZero() || inletAirFlow.getMassFlow().isCloseToZero() || inletCoolantData.getTemperatureDifference().isCloseToZero()) {
-            LiquidWater condensate = LiquidWater.of(inletAirFlow.getTemperature());
-            FlowOfLiquidWater condensateFlow = FlowOfLiquidWater.of(condensate, MassFlow.ofKilogramsPerSecond(0.0));
-            BypassFactor bypassFactor = coilBypassFactor(inletCoolantData.getAverageTemperature(), inletAirFlow.getTemperature(), inletAirFlow.getTemperature());
+            double tIn = inletAirFlow.getTemperature().getInCelsius();
+            double tmWall = inletCoolantData.getAverageTemperature().getInCelsius();
+            unchangedCoilState(tIn, inletAirFlow.getHumidityRatio().getInKilogramPerKilogram(), (tIn - tmWall) / (tIn - tmWall),
+                    inputPower.getInKiloWatts(), coilResult);
+            return coolingResultOf(CoolingMode.FROM_POWER, inletAirFlow, inletCoolantData, coilResult);
+        }
 
-            return CoolingResult.builder()
-                    .processMode(CoolingMode.FROM_POWER)
-                    .inletAirFlow(inletAirFlow)
-                    .outletAirFlow(inletAirFlow)
-                    .heatOfProcess(inputPower)
-                    .condensateFlow(condensateFlow)
-                    .averageCoilWallTemperature(inletCoolantData.getAverageTemperature())
-                    .coolantSupplyFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getSupplyTemperature()), MassFlow.ofKilogramsPerSecond(0)))
-                    .coolantReturnFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getReturnTemperature()), MassFlow.ofKilogramsPerSecond(0)))
-                    .bypassFactor(bypassFactor)
-                    .build();
+        HumidAir inletAir = inletAirFlow.getFluid();
+        double pIn = inletAir.getPressure().getInPascals();
+        double tIn = inletAir.getTemperature().getInCelsius();
+        double xIn = inletAir.getHumidityRatio().getInKilogramPerKilogram();
+        double iIn = inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
+        double mdaIn = inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+        double tdpIn = inletAir.getDewPointTemperature().getInCelsius();
+        double tmWall = inletCoolantData.getAverageTemperature().getInCelsius();
+        double inputPowerInKw = inputPower.getInKiloWatts();
+
+        // Solver iterates on primitives only, full object graph is created once for the converged outlet state
+        coolingFromPower(pIn, tIn, xIn, iIn, mdaIn, tdpIn, tmWall, inputPowerInKw, coilResult);
+        return coolingResultOf(CoolingMode.FROM_POWER, inletAirFlow, inletCoolantData, coilResult);
+    }
+
+    /**
+     * Real cooling coil process kernel for provided cooling power, based on primitive values only, which writes results into provided
+     * array. Outlet temperature is solved on the coil heat balance only, between inlet temperature and outlet temperature of dry cooling
+     * with the same power. Near-wall air state is determined once, and each iteration evaluates only the outlet mixing balance of
+     * {@link #coolingFromTargetTemperature(double, double, double, double, double, double, double, double, double[])}, without creating
+     * any state objects. Cooling power is limited to 95% of power required to cool air down to
+     * average coil wall temperature. Input values are not validated.
+     * Results in the array are organized as in the target temperature kernel, see COIL_* indices.
+     * REFERENCE SOURCE: [1] [Q, W] (-) [37]
+     *
+     * @param pressure                 inlet air absolute pressure, Pa
+     * @param inletTemperature         inlet air temperature, oC
+     * @param inletHumidityRatio       inlet air humidity ratio, kg.wv/kg.da
+     * @param inletSpecificEnthalpy    inlet air specific enthalpy, kJ/kg
+     * @param dryAirMassFlow           inlet dry air mass flow, kg/s
+     * @param inletDewPointTemperature inlet air dew point temperature, oC
+     * @param averageWallTemperature   average coil wall temperature, oC
+     * @param coolingPower             cooling power, kW (absolute value is used)
+     * @param result                   array of at least {@link #COIL_RESULT_SIZE} elements, to which results are written
+     */
+    public static void coolingFromPower(double pressure, double inletTemperature, double inletHumidityRatio, double inletSpecificEnthalpy,
+                                        double dryAirMassFlow, double inletDewPointTemperature, double averageWallTemperature,
+                                        double coolingPower, double[] result) {
+        double inputPowerInKw = Math.abs(coolingPower);
+
+        // Determining direct near-wall air properties, common for all evaluated outlet states
+        boolean isDryCoil = averageWallTemperature >= inletDewPointTemperature;
+        double psTm = HumidAirEquations.saturationPressure(averageWallTemperature);
+        double xTm = isDryCoil ? inletHumidityRatio : HumidAirEquations.maxHumidityRatio(psTm, pressure);
+        double iTm = HumidAirEquations.specificEnthalpyFromPs(averageWallTemperature, xTm, pressure, psTm);
+        if (inputPowerInKw == 0.0 || dryAirMassFlow == 0.0) {
+            coilOutletState(inletTemperature, inletHumidityRatio, inletSpecificEnthalpy, dryAirMassFlow, averageWallTemperature,
+                    xTm, iTm, isDryCoil, inletTemperature, result);
+            return;
         }
 
         // Defensive algorithm, which will allow only cooling power to reach 95% of average wall temperature, to keep BF min at 0.05
         // It assumes that it is not possible to cool down air to the temperature lower than average coil wall temperature
-        HumidAir inletAir = inletAirFlow.getFluid();
-        HumidAir nearWallAir = inletAir.withDryBulbTemperature(inletCoolantData.getAverageTemperature());
-
-        double acceptablePowerValueInKw = nearWallAir.getSpecificEnthalpy().minus(inletAir.getSpecificEnthalpy())
-                                                  .getInKiloJoulesPerKiloGram()
-                                          * REALISTIC_COOLING_FACTOR
-                                          * inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond()
-                                          * -1;
-        Power acceptablePower = Power.ofKiloWatts(acceptablePowerValueInKw);
-
-        Power powerForFurtherCalculations = inputPower.isGreaterThan(acceptablePower)
-                ? acceptablePower
-                : inputPower;
-
-        // For the provided inputHeat, maximum possible cooling will occur for completely dry air, where no energy will be used for condensate discharge
-        DryCoolingResult dryCooling = dryCoolingFromPower(inletAirFlow, powerForFurtherCalculations);
-        double tmin = inletAirFlow.getTemperature().getInCelsius();
-        double tmax = dryCooling.outletAirFlow().getTemperature().getInCelsius();
+        double acceptablePowerInKw = acceptableCoolingPower(pressure, inletHumidityRatio, inletSpecificEnthalpy, dryAirMassFlow,
+                averageWallTemperature);
+        double targetPowerInKw = Math.min(inputPowerInKw, acceptablePowerInKw);
+
+        // For the provided power, maximum possible cooling will occur for completely dry air, where no energy will be used for condensate discharge
+        double dryOutletEnthalpy = (dryAirMassFlow * inletSpecificEnthalpy - targetPowerInKw) / dryAirMassFlow;
+        double tmax = HumidAirEquations.dryBulbTemperatureIX(dryOutletEnthalpy, inletHumidityRatio, pressure);
+
         BrentSolver solver = BrentSolver.of("COOL_FROM_Q_SOLVER");
-        solver.setCounterpartPoints(tmin, tmax);
+        solver.setCounterpartPoints(inletTemperature, tmax);
         solver.showDebugLogs(SHOW_SOLVER_DEBUG_LOGS);
         solver.showSummaryLogs(SHOW_SOLVER_SUMMARY_LOG);
-        CoolingResult[] coolingResults = new CoolingResult[1];
-        solver.findRoot(outTemp -> {
-            CoolingResult airCoolingResult = coolingFromTargetTemperature(inletAirFlow, inletCoolantData, Temperature.ofCelsius(outTemp));
-            coolingResults[0] = airCoolingResult;
-            Power calculatedQ = airCoolingResult.heatOfProcess();
-            return calculatedQ.getInWatts() - powerForFurtherCalculations.getInWatts();
+        double outTemp = solver.findRoot(testOutTemp -> {
+            coilOutletState(inletTemperature, inletHumidityRatio, inletSpecificEnthalpy, dryAirMassFlow, averageWallTemperature,
+                    xTm, iTm, isDryCoil, testOutTemp, result);
+            return (result[COIL_HEAT_OF_PROCESS] - targetPowerInKw) * 1000d;
         });
 
-        return coolingResults[0].withProcessMode(CoolingMode.FROM_POWER);
+        // Last solver evaluation does not have to be the returned root
+        coilOutletState(inletTemperature, inletHumidityRatio, inletSpecificEnthalpy, dryAirMassFlow, averageWallTemperature,
+                xTm, iTm, isDryCoil, outTemp, result);
     }
 
     /**
@@ -197,103 +235,118 @@ public class CoolingEquations {
      * @param targetTemperature target outlet {@link Temperature}
      */
     public static CoolingResult coolingFromTargetTemperature(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, Temperature targetTemperature) {
-        requireNotNull(inletAirFlow);
-        requireNotNull(inletCoolantData);
-        requireNotNull(targetTemperature);
-        requireAboveLowerBound(targetTemperature, Temperature.ofCelsius(0));
-        requireValidTargetTemperatureForCooling(inletAirFlow.getTemperature(), targetTemperature);
-
-        // Determining Bypass Factor and direct near-wall contact airflow and bypassing airflow
-        HumidAir inletHumidAir = inletAirFlow.getFluid();
-        double tIn = inletHumidAir.getTemperature().getInCelsius();
-
-        // Defensive mechanism to prevent unphysical results, and to keep BF in reasonable limit.
-        Temperature minPossibleTargetTemp = inletCoolantData.getAverageTemperature()
-                .minus(inletAirFlow.getTemperature()).multiply(BypassFactor.BF_HVAC_MIN.getValue() * -1)
-                .plus(inletCoolantData.getAverageTemperature());
-
-        targetTemperature = targetTemperature.isLowerThan(minPossibleTargetTemp) ? minPossibleTargetTemp : targetTemperature;
+        requireValidCoolingFromTargetTemperatureInput(inletAirFlow, inletCoolantData, targetTemperature);
 
+        HumidAir inletAir = inletAirFlow.getFluid();
+        double tIn = inletAir.getTemperature().getInCelsius();
+        double tmWall = inletCoolantData.getAverageTemperature().getInCelsius();
         double tOut = targetTemperature.getInCelsius();
+        double[] coilResult = new double[COIL_RESULT_SIZE];
 
-        double mCond = 0.0;
-        LiquidWater liquidWater = LiquidWater.of(inletAirFlow.getTemperature());
-        FlowOfLiquidWater condensateFlow = FlowOfLiquidWater.of(liquidWater, MassFlow.ofKilogramsPerSecond(mCond));
-        Temperature averageWallTemp = inletCoolantData.getAverageTemperature();
-        BypassFactor bypassFactor = coilBypassFactor(averageWallTemp, inletHumidAir.getTemperature(), targetTemperature);
-        if (tOut == tIn || inletAirFlow.getMassFlow().isEqualZero() || inletCoolantData.getTemperatureDifference().isCloseToZero()) {
-            return CoolingResult.builder()
-                    .processMode(CoolingMode.FROM_TEMPERATURE)
-                    .inletAirFlow(inletAirFlow)
-                    .outletAirFlow(inletAirFlow)
-                    .heatOfProcess(Power.ofWatts(0))
-                    .condensateFlow(condensateFlow)
-                    .bypassFactor(bypassFactor)
-                    .averageCoilWallTemperature(inletCoolantData.getAverageTemperature())
-                    .coolantSupplyFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getSupplyTemperature()), MassFlow.ofKilogramsPerSecond(0)))
-                    .coolantReturnFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getReturnTemperature()), MassFlow.ofKilogramsPerSecond(0)))
-                    .build();
+        if (inletCoolantData.getTemperatureDifference().isCloseToZero()) {
+            // Defensive mechanism to prevent unphysical results, and to keep BF in reasonable limit.
+            double bypassFactor = (Math.max(tOut, minCoilOutletTemperature(tIn, tmWall)) - tmWall) / (tIn - tmWall);
+            unchangedCoilState(tIn, inletAir.getHumidityRatio().getInKilogramPerKilogram(), bypassFactor, 0.0, coilResult);
+            return coolingResultOf(CoolingMode.FROM_TEMPERATURE, inletAirFlow, inletCoolantData, coilResult);
         }
 
-        double mdaIn = inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
-        double xIn = inletHumidAir.getHumidityRatio().getInKilogramPerKilogram();
-        double pIn = inletHumidAir.getPressure().getInPascals();
-        double tmWall = averageWallTemp.getInCelsius();
-        double tCond = tmWall;
-        BypassFactor coilBypassFactor = coilBypassFactor(averageWallTemp, inletHumidAir.getTemperature(), targetTemperature);
-        double mDaDirectContact = (1.0 - coilBypassFactor.getValue()) * mdaIn;
-        double mDaBypassing = mdaIn - mDaDirectContact;
-
-        // Determining direct near-wall air properties
-        double tdpIn = inletHumidAir.getDewPointTemperature().getInCelsius();
-        double psTm = HumidAirEquations.saturationPressure(tmWall);
-        double xTm = tmWall >= tdpIn ? xIn : HumidAirEquations.maxHumidityRatio(psTm, pIn);
-        double iTm = HumidAirEquations.specificEnthalpyFromPs(tmWall, xTm, pIn, psTm);
-
-        // Determining condensate discharge and properties
-        mCond = tmWall >= tdpIn
-                ? 0.0
-                : condensateDischarge(
-                MassFlow.ofKilogramsPerSecond(mDaDirectContact),
-                inletHumidAir.getHumidityRatio(),
-                HumidityRatio.ofKilogramPerKilogram(xTm))
-                .getInKilogramsPerSecond();
-
-        // Determining required cooling performance
-        double iIn = inletHumidAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
-        double qCool = (mDaDirectContact * (iIn - iTm));
-
-        // Determining an outlet humidity ratio
-        double xOut = (xTm * mDaDirectContact + xIn * mDaBypassing) / mdaIn;
-
-        liquidWater = LiquidWater.of(Temperature.ofCelsius(tCond));
-        condensateFlow = FlowOfLiquidWater.of(liquidWater, MassFlow.ofKilogramsPerSecond(mCond));
-        HumidAir outletHumidAir = HumidAir.of(
-                inletAirFlow.getPressure(),
-                Temperature.ofCelsius(tOut),
-                HumidityRatio.ofKilogramPerKilogram(xOut)
+        // Kernel returns unchanged inlet state for zero airflow or target equal to inlet temperature
+        coolingFromTargetTemperature(
+                inletAir.getPressure().getInPascals(),
+                tIn,
+                inletAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond(),
+                inletAir.getDewPointTemperature().getInCelsius(),
+                tmWall,
+                tOut,
+                coilResult
         );
 
-        FlowOfHumidAir outletFlow = FlowOfHumidAir.ofDryAirMassFlow(outletHumidAir, inletAirFlow.getFlowOfDryAir().getMassFlow());
-        Power resultingCoolingPower = Power.ofKiloWatts(qCool);
-        MassFlow coolantMassFlow = CoolingEquations.massFlowFromPower(
-                LiquidWater.of(inletCoolantData.getSupplyTemperature()),
-                inletCoolantData.getReturnTemperature(),
-                resultingCoolingPower
-        );
+        return coolingResultOf(CoolingMode.FROM_TEMPERATURE, inletAirFlow, inletCoolantData, coilResult);
+    }
 
-        return CoolingResult.builder()
-                .processMode(CoolingMode.FROM_TEMPERATURE)
-                .inletAirFlow(inletAirFlow)
-                .outletAirFlow(outletFlow)
-                .heatOfProcess(resultingCoolingPower)
-                .condensateFlow(condensateFlow)
-                .bypassFactor(coilBypassFactor)
-                .bypassFactor(bypassFactor)
-                .averageCoilWallTemperature(inletCoolantData.getAverageTemperature())
-                .coolantSupplyFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getSupplyTemperature()), coolantMassFlow))
-                .coolantReturnFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getReturnTemperature()), coolantMassFlow))
-                .build();
+    /**
+     * Real cooling coil process kernel, based on primitive values only, which writes results into provided array without creating
+     * any objects. Intended for fused process chains evaluated at high rate. Input values are not validated.
+     * Results in the array are organized as following:
+     * result: [outlet air temperature (oC), outlet humidity ratio x (kgWv/kgDa), cooling power (kW), condensate mass flow (kg/s),
+     * bypass factor (-)], see COIL_* indices. If outlet state does not change, inlet temperature and humidity ratio are returned.
+     * REFERENCE SOURCE: [1] [t2,oC] (-) [37]
+     *
+     * @param pressure                 inlet air absolute pressure, Pa
+     * @param inletTemperature         inlet air temperature, oC
+     * @param inletHumidityRatio       inlet air humidity ratio, kg.wv/kg.da
+     * @param inletSpecificEnthalpy    inlet air specific enthalpy, kJ/kg
+     * @param dryAirMassFlow           inlet dry air mass flow, kg/s
+     * @param inletDewPointTemperature inlet air dew point temperature, oC
+     * @param averageWallTemperature   average coil wall temperature, oC
+     * @param targetTemperature        target outlet temperature, oC
+     * @param result                   array of at least {@link #COIL_RESULT_SIZE} elements, to which results are written
+     */
+    public static void coolingFromTargetTemperature(double pressure, double inletTemperature, double inletHumidityRatio,
+                                                    double inletSpecificEnthalpy, double dryAirMassFlow, double inletDewPointTemperature,
+                                                    double averageWallTemperature, double targetTemperature, double[] result) {
+        // Determining direct near-wall air properties, common for all evaluated outlet states
+        boolean isDryCoil = averageWallTemperature >= inletDewPointTemperature;
+        double psTm = HumidAirEquations.saturationPressure(averageWallTemperature);
+        double xTm = isDryCoil ? inletHumidityRatio : HumidAirEquations.maxHumidityRatio(psTm, pressure);
+        double iTm = HumidAirEquations.specificEnthalpyFromPs(averageWallTemperature, xTm, pressure, psTm);
+        coilOutletState(inletTemperature, inletHumidityRatio, inletSpecificEnthalpy, dryAirMassFlow, averageWallTemperature,
+                xTm, iTm, isDryCoil, targetTemperature, result);
+    }
+
+    /**
+     * Real cooling coil process kernel for expected outlet relative humidity, based on primitive values only, which writes results into
+     * provided array. Outlet temperature is solved by Brent iterations between inlet temperature and the lowest possible coil outlet
+     * temperature. Near-wall air state (saturation pressure and maximum humidity ratio at the average wall temperature) is determined once
+     * for all iterations, and each iteration evaluates only the outlet mixing balance and a single direct saturation pressure of the
+     * outlet air. No state objects are created. Input values are not validated.
+     * Results in the array are organized as in the target temperature kernel, see COIL_* indices.
+     * REFERENCE SOURCE: [1] [t2,oC] (-) [37]
+     *
+     * @param pressure                 inlet air absolute pressure, Pa
+     * @param inletTemperature         inlet air temperature, oC
+     * @param inletHumidityRatio       inlet air humidity ratio, kg.wv/kg.da
+     * @param inletSpecificEnthalpy    inlet air specific enthalpy, kJ/kg
+     * @param dryAirMassFlow           inlet dry air mass flow, kg/s
+     * @param inletDewPointTemperature inlet air dew point temperature, oC
+     * @param averageWallTemperature   average coil wall temperature, oC
+     * @param targetRelativeHumidity   target outlet relative humidity, %
+     * @param result                   array of at least {@link #COIL_RESULT_SIZE} elements, to which results are written
+     */
+    public static void coolingFromTargetRelativeHumidity(double pressure, double inletTemperature, double inletHumidityRatio,
+                                                         double inletSpecificEnthalpy, double dryAirMassFlow, double inletDewPointTemperature,
+                                                         double averageWallTemperature, double targetRelativeHumidity, double[] result) {
+        // Determining direct near-wall air properties, common for all evaluated outlet states
+        boolean isDryCoil = averageWallTemperature >= inletDewPointTemperature;
+        double psTm = HumidAirEquations.saturationPressure(averageWallTemperature);
+        double xTm = isDryCoil ? inletHumidityRatio : HumidAirEquations.maxHumidityRatio(psTm, pressure);
+        double iTm = HumidAirEquations.specificEnthalpyFromPs(averageWallTemperature, xTm, pressure, psTm);
+        if (dryAirMassFlow == 0.0) {
+            coilOutletState(inletTemperature, inletHumidityRatio, inletSpecificEnthalpy, dryAirMassFlow, averageWallTemperature,
+                    xTm, iTm, isDryCoil, inletTemperature, result);
+            return;
+        }
+
+        // Iterative procedure to determine which outlet temperature will result in expected RH.
+        BrentSolver solver = BrentSolver.of("COOL_FROM_RH_SOLVER");
+        solver.showDebugLogs(SHOW_SOLVER_DEBUG_LOGS);
+        solver.showSummaryLogs(SHOW_SOLVER_SUMMARY_LOG);
+        // Along the coil line RH keeps rising below the dew point, up to the lowest possible outlet temperature
+        double minPossibleTargetTemp = minCoilOutletTemperature(inletTemperature, averageWallTemperature);
+        solver.setCounterpartPoints(inletTemperature, minPossibleTargetTemp);
+        double outTemp = solver.findRoot(testOutTemp -> {
+            coilOutletState(inletTemperature, inletHumidityRatio, inletSpecificEnthalpy, dryAirMassFlow, averageWallTemperature,
+                    xTm, iTm, isDryCoil, testOutTemp, result);
+            double outletSaturationPressure = HumidAirEquations.saturationPressure(result[COIL_OUTLET_TEMPERATURE]);
+            return targetRelativeHumidity - HumidAirEquations.relativeHumidityFromPs(result[COIL_OUTLET_HUMIDITY_RATIO], pressure,
+                    outletSaturationPressure);
+        });
+
+        // Last solver evaluation does not have to be the returned root
+        coilOutletState(inletTemperature, inletHumidityRatio, inletSpecificEnthalpy, dryAirMassFlow, averageWallTemperature,
+                xTm, iTm, isDryCoil, outTemp, result);
     }
 
     /**
@@ -308,54 +361,33 @@ public class CoolingEquations {
      * @param targetRelativeHumidity expected outlet {@link RelativeHumidity}
      */
     public static CoolingResult coolingFromTargetRelativeHumidity(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, RelativeHumidity targetRelativeHumidity) {
-        requireNotNull(inletAirFlow);
-        requireNotNull(inletCoolantData);
-        requireNotNull(targetRelativeHumidity);
-        requireBetweenBoundsInclusive(targetRelativeHumidity, RelativeHumidity.RH_MIN_LIMIT, RelativeHumidity.ofPercentage(REALISTIC_RH_LIMIT_VALUE));
-        requireValidTargetRelativeHumidityForCooling(inletAirFlow.getRelativeHumidity(), targetRelativeHumidity);
-
-        double pIn = inletAirFlow.getPressure().getInPascals();
+        requireValidCoolingFromTargetRelativeHumidityInput(inletAirFlow, inletCoolantData, targetRelativeHumidity);
 
         Temperature averageWallTemp = inletCoolantData.getAverageTemperature();
 
+        double[] coilResult = new double[COIL_RESULT_SIZE];
         if (inletAirFlow.getRelativeHumidity().equals(targetRelativeHumidity) || inletAirFlow.getMassFlow().isEqualZero() || inletCoolantData.getTemperatureDifference().isCloseToZero()) {
-            LiquidWater condensate = LiquidWater.of(inletAirFlow.getTemperature());
-            FlowOfLiquidWater condensateFlow = FlowOfLiquidWater.of(condensate, MassFlow.ofKilogramsPerSecond(0.0));
-            BypassFactor bypassFactor = coilBypassFactor(averageWallTemp, inletAirFlow.getTemperature(), inletAirFlow.getTemperature());
-            return CoolingResult.builder()
-                    .processMode(CoolingMode.FROM_HUMIDITY)
-                    .inletAirFlow(inletAirFlow)
-                    .outletAirFlow(inletAirFlow)
-                    .heatOfProcess(Power.ofWatts(0))
-                    .condensateFlow(condensateFlow)
-                    .bypassFactor(bypassFactor)
-                    .averageCoilWallTemperature(inletCoolantData.getAverageTemperature())
-                    .coolantSupplyFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getSupplyTemperature()), MassFlow.ofKilogramsPerSecond(0)))
-                    .coolantReturnFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getReturnTemperature()), MassFlow.ofKilogramsPerSecond(0)))
-                    .build();
+            double tIn = inletAirFlow.getTemperature().getInCelsius();
+            double tmWall = averageWallTemp.getInCelsius();
+            unchangedCoilState(tIn, inletAirFlow.getHumidityRatio().getInKilogramPerKilogram(), (tIn - tmWall) / (tIn - tmWall), 0.0, coilResult);
+            return coolingResultOf(CoolingMode.FROM_HUMIDITY, inletAirFlow, inletCoolantData, coilResult);
         }
 
-        // Iterative procedure to determine which outlet temperature will result in expected RH.
-        BrentSolver solver = BrentSolver.of("COOL_FROM_RH_SOLVER");
-        solver.showDebugLogs(SHOW_SOLVER_DEBUG_LOGS);
-        solver.showSummaryLogs(SHOW_SOLVER_SUMMARY_LOG);
-        double tIn = inletAirFlow.getTemperature().getInCelsius();
-        double tdpIn = inletAirFlow.getTemperature().getInCelsius();
-        solver.setCounterpartPoints(tIn, tdpIn);
-        double rhOut = targetRelativeHumidity.getInPercent();
-        CoolingResult[] coolingResults = new CoolingResult[1];
-
-        solver.findRoot(testOutTx -> {
-            CoolingResult airCoolingResult = coolingFromTargetTemperature(inletAirFlow, inletCoolantData, Temperature.ofCelsius(testOutTx));
-            coolingResults[0] = airCoolingResult;
-            FlowOfHumidAir outletFlow = airCoolingResult.outletAirFlow();
-            double outTx = outletFlow.getTemperature().getInCelsius();
-            double outX = outletFlow.getHumidityRatio().getInKilogramPerKilogram();
-            double actualRH = HumidAirEquations.relativeHumidity(outTx, outX, pIn);
-            return rhOut - actualRH;
-        });
+        // Solver iterates on primitives only, full object graph is created once for the converged outlet state
+        HumidAir inletAir = inletAirFlow.getFluid();
+        coolingFromTargetRelativeHumidity(
+                inletAir.getPressure().getInPascals(),
+                inletAir.getTemperature().getInCelsius(),
+                inletAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond(),
+                inletAir.getDewPointTemperature().getInCelsius(),
+                averageWallTemp.getInCelsius(),
+                targetRelativeHumidity.getInPercent(),
+                coilResult
+        );
 
-        return coolingResults[0].withProcessMode(CoolingMode.FROM_HUMIDITY);
+        return coolingResultOf(CoolingMode.FROM_HUMIDITY, inletAirFlow, inletCoolantData, coilResult);
     }
 
     // Helpers & tools
@@ -400,4 +432,117 @@ public class CoolingEquations {
         return MassFlow.ofKilogramsPerSecond(massFlowValue);
     }
 
-}
\ No newline at end of file
+    private static double acceptableCoolingPower(double pressure, double humidityRatio, double inletSpecificEnthalpy, double dryAirMassFlow,
+                                                 double averageWallTemperature) {
+        double nearWallSpecificEnthalpy = HumidAirEquations.specificEnthalpy(averageWallTemperature, humidityRatio, pressure);
+        return (inletSpecificEnthalpy - nearWallSpecificEnthalpy) * REALISTIC_COOLING_FACTOR * dryAirMassFlow;
+    }
+
+    private static void coilOutletState(double inletTemperature, double inletHumidityRatio, double inletSpecificEnthalpy,
+                                        double dryAirMassFlow, double averageWallTemperature, double wallHumidityRatio,
+                                        double wallSpecificEnthalpy, boolean isDryCoil, double targetTemperature, double[] result) {
+        double tIn = inletTemperature;
+        double tmWall = averageWallTemperature;
+
+        // Defensive mechanism to prevent unphysical results, and to keep BF in reasonable limit.
+        double tOut = Math.max(targetTemperature, minCoilOutletTemperature(tIn, tmWall));
+        double bypassFactor = (tOut - tmWall) / (tIn - tmWall);
+        result[COIL_BYPASS_FACTOR] = bypassFactor;
+
+        if (tOut == tIn || dryAirMassFlow == 0.0) {
+            unchangedCoilState(tIn, inletHumidityRatio, bypassFactor, 0.0, result);
+            return;
+        }
+
+        double xIn = inletHumidityRatio;
+        double mDaDirectContact = (1.0 - bypassFactor) * dryAirMassFlow;
+        double mDaBypassing = dryAirMassFlow - mDaDirectContact;
+        double xTm = wallHumidityRatio;
+        double iTm = wallSpecificEnthalpy;
+
+        // Determining condensate discharge, required cooling performance and outlet humidity ratio
+        result[COIL_OUTLET_TEMPERATURE] = tOut;
+        result[COIL_OUTLET_HUMIDITY_RATIO] = (xTm * mDaDirectContact + xIn * mDaBypassing) / dryAirMassFlow;
+        result[COIL_HEAT_OF_PROCESS] = mDaDirectContact * (inletSpecificEnthalpy - iTm);
+        result[COIL_CONDENSATE_MASS_FLOW] = isDryCoil || xIn == 0.0 ? 0.0 : mDaDirectContact * (xIn - xTm);
+    }
+
+    private static void unchangedCoilState(double inletTemperature, double inletHumidityRatio, double bypassFactor, double heatOfProcess,
+                                           double[] result) {
+        result[COIL_OUTLET_TEMPERATURE] = inletTemperature;
+        result[COIL_OUTLET_HUMIDITY_RATIO] = inletHumidityRatio;
+        result[COIL_HEAT_OF_PROCESS] = heatOfProcess;
+        result[COIL_CONDENSATE_MASS_FLOW] = 0.0;
+        result[COIL_BYPASS_FACTOR] = bypassFactor;
+    }
+
+    static void requireValidCoolingFromPowerInput(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, Power inputPower) {
+        requireNotNull(inletAirFlow);
+        requireNotNull(inletCoolantData);
+        requireNotNull(inputPower);
+        Power absInputPower = inputPower.abs();
+        if (absInputPower.isCloseToZero() || inletAirFlow.getMassFlow().isCloseToZero() || inletCoolantData.getTemperatureDifference().isCloseToZero()) {
+            return;
+        }
+        HumidAir inletAir = inletAirFlow.getFluid();
+        double acceptablePowerInKw = acceptableCoolingPower(inletAir.getPressure().getInPascals(),
+                inletAir.getHumidityRatio().getInKilogramPerKilogram(), inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond(), inletCoolantData.getAverageTemperature().getInCelsius());
+        requirePhysicalInputPowerForCooling(inletAirFlow, Power.ofKiloWatts(Math.min(absInputPower.getInKiloWatts(), acceptablePowerInKw)));
+    }
+
+    static void requireValidCoolingFromTargetTemperatureInput(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData,
+                                                              Temperature targetTemperature) {
+        requireNotNull(inletAirFlow);
+        requireNotNull(inletCoolantData);
+        requireNotNull(targetTemperature);
+        requireAboveLowerBound(targetTemperature, Temperature.ofCelsius(0));
+        requireValidTargetTemperatureForCooling(inletAirFlow.getTemperature(), targetTemperature);
+    }
+
+    static void requireValidCoolingFromTargetRelativeHumidityInput(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData,
+                                                                   RelativeHumidity targetRelativeHumidity) {
+        requireNotNull(inletAirFlow);
+        requireNotNull(inletCoolantData);
+        requireNotNull(targetRelativeHumidity);
+        requireBetweenBoundsInclusive(targetRelativeHumidity, RelativeHumidity.RH_MIN_LIMIT, RelativeHumidity.ofPercentage(REALISTIC_RH_LIMIT_VALUE));
+        requireValidTargetRelativeHumidityForCooling(inletAirFlow.getRelativeHumidity(), targetRelativeHumidity);
+    }
+
+    static double minCoilOutletTemperature(double inletTemperature, double averageWallTemperature) {
+        return (averageWallTemperature - inletTemperature) * (BypassFactor.BF_HVAC_MIN.getValue() * -1) + averageWallTemperature;
+    }
+
+    static CoolingResult coolingResultOf(CoolingMode processMode, FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData,
+                                         double[] coilResult) {
+        double tOut = coilResult[COIL_OUTLET_TEMPERATURE];
+        Power resultingCoolingPower = Power.ofKiloWatts(coilResult[COIL_HEAT_OF_PROCESS]);
+        LiquidWater coolantSupply = LiquidWater.of(inletCoolantData.getSupplyTemperature());
+        FlowOfHumidAir outletFlow = inletAirFlow;
+        LiquidWater condensate = LiquidWater.of(inletAirFlow.getTemperature());
+        MassFlow coolantMassFlow = MassFlow.ofKilogramsPerSecond(0);
+        // Unchanged outlet state means that the coil does not operate and coolant does not flow
+        if (tOut != inletAirFlow.getTemperature().getInCelsius()) {
+            HumidAir outletHumidAir = HumidAir.of(inletAirFlow.getPressure(), Temperature.ofCelsius(tOut),
+                    HumidityRatio.ofKilogramPerKilogram(coilResult[COIL_OUTLET_HUMIDITY_RATIO]));
+            outletFlow = FlowOfHumidAir.ofDryAirMassFlow(outletHumidAir, inletAirFlow.getDryAirMassFlow());
+            condensate = LiquidWater.of(inletCoolantData.getAverageTemperature());
+            coolantMassFlow = massFlowFromPower(coolantSupply, inletCoolantData.getReturnTemperature(), resultingCoolingPower);
+        }
+
+        FlowOfLiquidWater condensateFlow = FlowOfLiquidWater.of(condensate, MassFlow.ofKilogramsPerSecond(coilResult[COIL_CONDENSATE_MASS_FLOW]));
+
+        return CoolingResult.builder()
+                .processMode(processMode)
+                .inletAirFlow(inletAirFlow)
+                .outletAirFlow(outletFlow)
+                .heatOfProcess(resultingCoolingPower)
+                .condensateFlow(condensateFlow)
+                .bypassFactor(BypassFactor.of(coilResult[COIL_BYPASS_FACTOR]))
+                .averageCoilWallTemperature(inletCoolantData.getAverageTemperature())
+                .coolantSupplyFlow(FlowOfLiquidWater.of(coolantSupply, coolantMassFlow))
+                .coolantReturnFlow(FlowOfLiquidWater.of(LiquidWater.of(inletCoolantData.getReturnTemperature()), coolantMassFlow))
+                .build();
+    }
+
+}
@@ -4,6 +4,7 @@ import com.synerset.hvacengine.common.validation.CommonValidators;
 import com.synerset.hvacengine.process.ConsoleOutputFormatters;
 import com.synerset.hvacengine.process.HvacProcessBlock;
 import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
 import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
 import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
 import com.synerset.hvacengine.process.blockmodel.OutputConnection;
@@ -13,6 +14,8 @@ import com.synerset.hvacengine.property.fluids.liquidwater.FlowOfLiquidWater;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Power;
 
+import java.util.List;
+
 public class CoolingFromHumidity implements HvacProcessBlock {
 
     private static final ProcessType PROCESS_TYPE = ProcessType.COOLING;
@@ -24,6 +27,8 @@ public class CoolingFromHumidity implements HvacProcessBlock {
     private final ConnectorOutput<Power> heatConnector;
     private final ConnectorInput<RelativeHumidity> targetRelativeHumidityConnector;
     private CoolingResult processResult;
+    private CoolingResultCache resultCache;
+    private long configurationVersion;
 
     public CoolingFromHumidity() {
         this.inputAirFlowConnector = ConnectorInput.of(FlowOfHumidAir.class);
@@ -56,19 +61,26 @@ public class CoolingFromHumidity implements HvacProcessBlock {
         coolantDataInputConnector.updateConnectorData();
         targetRelativeHumidityConnector.updateConnectorData();
 
-        FlowOfHumidAir inletAirFlow = inputAirFlowConnector.getConnectorData();
-        RelativeHumidity targetRelativeHum = this.targetRelativeHumidityConnector.getConnectorData();
-        CoolantData coolantData = coolantDataInputConnector.getConnectorData();
-        CoolingResult results = CoolingEquations.coolingFromTargetRelativeHumidity(inletAirFlow, coolantData, targetRelativeHum);
-
-        outputAirFlowConnector.setConnectorData(results.outletAirFlow());
-        heatConnector.setConnectorData(results.heatOfProcess());
-        outputCondensateConnector.setConnectorData(results.condensateFlow());
-
+        CoolingResult results = runProcessCalculations(ConnectorDataAccess.CONNECTORS);
         this.processResult = results;
         return results;
     }
 
+    @Override
+    public CoolingResult runProcessCalculations(ConnectorDataAccess connectorDataAccess) {
+        FlowOfHumidAir inletAirFlow = connectorDataAccess.getInputData(inputAirFlowConnector);
+        RelativeHumidity targetRelativeHum = connectorDataAccess.getInputData(targetRelativeHumidityConnector);
+        CoolantData coolantData = connectorDataAccess.getInputData(coolantDataInputConnector);
+        CoolingResult results = resultCache == null
+                ? CoolingEquations.coolingFromTargetRelativeHumidity(inletAirFlow, coolantData, targetRelativeHum)
+                : resultCache.coolingFromTargetRelativeHumidity(inletAirFlow, coolantData, targetRelativeHum);
+
+        connectorDataAccess.setOutputData(outputAirFlowConnector, results.outletAirFlow());
+        connectorDataAccess.setOutputData(heatConnector, results.heatOfProcess());
+        connectorDataAccess.setOutputData(outputCondensateConnector, results.condensateFlow());
+        return results;
+    }
+
     @Override
     public CoolingResult getProcessResult() {
         return processResult;
@@ -79,6 +91,11 @@ public class CoolingFromHumidity implements HvacProcessBlock {
         return PROCESS_TYPE;
     }
 
+    @Override
+    public long getConfigurationVersion() {
+        return configurationVersion;
+    }
+
     public CoolingMode getProcessMode() {
         return COOLING_MODE;
     }
@@ -93,6 +110,16 @@ public class CoolingFromHumidity implements HvacProcessBlock {
         return outputAirFlowConnector;
     }
 
+    @Override
+    public List<ConnectorInput<?>> getAllInputConnectors() {
+        return List.of(inputAirFlowConnector, coolantDataInputConnector, targetRelativeHumidityConnector);
+    }
+
+    @Override
+    public List<ConnectorOutput<?>> getAllOutputConnectors() {
+        return List.of(outputAirFlowConnector, outputCondensateConnector, heatConnector);
+    }
+
     @Override
     public String toConsoleOutput() {
         if (inputAirFlowConnector.getConnectorData() == null || processResult == null) {
@@ -110,6 +137,24 @@ public class CoolingFromHumidity implements HvacProcessBlock {
         return targetRelativeHumidityConnector.getConnectorData();
     }
 
+    public ConnectorInput<CoolantData> getCoolantDataConnector() {
+        return coolantDataInputConnector;
+    }
+
+    /**
+     * Sets the cache of coil results, used instead of calculating repeated operating points. The cache may be shared by many blocks.
+     *
+     * @param resultCache The {@link CoolingResultCache}, or {@code null} to calculate each result.
+     */
+    public void setResultCache(CoolingResultCache resultCache) {
+        this.resultCache = resultCache;
+        configurationVersion++;
+    }
+
+    public CoolingResultCache getResultCache() {
+        return resultCache;
+    }
+
     public void connectCoolantDataSource(OutputConnection<CoolantData> blockWithOutputCoolantData){
         CommonValidators.requireNotNull(blockWithOutputCoolantData);
         this.coolantDataInputConnector.connectAndConsumeDataFrom(blockWithOutputCoolantData.getOutputConnector());
@@ -4,6 +4,7 @@ import com.synerset.hvacengine.common.validation.CommonValidators;
 import com.synerset.hvacengine.process.ConsoleOutputFormatters;
 import com.synerset.hvacengine.process.HvacProcessBlock;
 import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
 import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
 import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
 import com.synerset.hvacengine.process.blockmodel.OutputConnection;
@@ -12,6 +13,8 @@ import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
 import com.synerset.hvacengine.property.fluids.liquidwater.FlowOfLiquidWater;
 import com.synerset.unitility.unitsystem.thermodynamic.Power;
 
+import java.util.List;
+
 public class CoolingFromPower implements HvacProcessBlock {
 
     private static final ProcessType PROCESS_TYPE = ProcessType.COOLING;
@@ -22,6 +25,9 @@ public class CoolingFromPower implements HvacProcessBlock {
     private final ConnectorOutput<FlowOfLiquidWater> outputCondensateConnector;
     private final ConnectorInput<Power> heatConnector;
     private CoolingResult processResult;
+    private CoolingCoilSurrogate coilSurrogate;
+    private CoolingResultCache resultCache;
+    private long configurationVersion;
 
     public CoolingFromPower() {
         this.inputAirFlowConnector = ConnectorInput.of(FlowOfHumidAir.class);
@@ -52,16 +58,28 @@ public class CoolingFromPower implements HvacProcessBlock {
         coolantDataInputConnector.updateConnectorData();
         heatConnector.updateConnectorData();
 
-        FlowOfHumidAir inletAirFlow = inputAirFlowConnector.getConnectorData();
-        Power coolingPower = heatConnector.getConnectorData();
-        CoolantData coolantData = coolantDataInputConnector.getConnectorData();
-
-        CoolingResult results = CoolingEquations.coolingFromPower(inletAirFlow, coolantData, coolingPower);
+        CoolingResult results = runProcessCalculations(ConnectorDataAccess.CONNECTORS);
+        this.processResult = results;
+        return results;
+    }
 
-        outputAirFlowConnector.setConnectorData(results.outletAirFlow());
-        outputCondensateConnector.setConnectorData(results.condensateFlow());
+    @Override
+    public CoolingResult runProcessCalculations(ConnectorDataAccess connectorDataAccess) {
+        FlowOfHumidAir inletAirFlow = connectorDataAccess.getInputData(inputAirFlowConnector);
+        Power coolingPower = connectorDataAccess.getInputData(heatConnector);
+        CoolantData coolantData = connectorDataAccess.getInputData(coolantDataInputConnector);
+
+        CoolingResult results;
+        if (resultCache != null) {
+            results = resultCache.coolingFromPower(inletAirFlow, coolantData, coolingPower);
+        } else if (coilSurrogate != null) {
+            results = coilSurrogate.coolingFromPower(inletAirFlow, coolantData, coolingPower);
+        } else {
+            results = CoolingEquations.coolingFromPower(inletAirFlow, coolantData, coolingPower);
+        }
 
-        this.processResult = results;
+        connectorDataAccess.setOutputData(outputAirFlowConnector, results.outletAirFlow());
+        connectorDataAccess.setOutputData(outputCondensateConnector, results.condensateFlow());
         return results;
     }
 
@@ -75,6 +93,11 @@ public class CoolingFromPower implements HvacProcessBlock {
         return PROCESS_TYPE;
     }
 
+    @Override
+    public long getConfigurationVersion() {
+        return configurationVersion;
+    }
+
     public CoolingMode getProcessMode() {
         return COOLING_MODE;
     }
@@ -89,6 +112,16 @@ public class CoolingFromPower implements HvacProcessBlock {
         return outputAirFlowConnector;
     }
 
+    @Override
+    public List<ConnectorInput<?>> getAllInputConnectors() {
+        return List.of(inputAirFlowConnector, coolantDataInputConnector, heatConnector);
+    }
+
+    @Override
+    public List<ConnectorOutput<?>> getAllOutputConnectors() {
+        return List.of(outputAirFlowConnector, outputCondensateConnector);
+    }
+
     @Override
     public String toConsoleOutput() {
         if (inputAirFlowConnector.getConnectorData() == null || processResult == null) {
@@ -106,6 +139,39 @@ public class CoolingFromPower implements HvacProcessBlock {
         return heatConnector.getConnectorData();
     }
 
+    public ConnectorInput<CoolantData> getCoolantDataConnector() {
+        return coolantDataInputConnector;
+    }
+
+    /**
+     * Sets the coil surrogate used instead of the exact coil model, for example in long simulations. The surrogate may be shared
+     * by many blocks. It is not used if result cache is set.
+     *
+     * @param coilSurrogate The {@link CoolingCoilSurrogate}, or {@code null} to use the exact model.
+     */
+    public void setCoilSurrogate(CoolingCoilSurrogate coilSurrogate) {
+        this.coilSurrogate = coilSurrogate;
+        configurationVersion++;
+    }
+
+    public CoolingCoilSurrogate getCoilSurrogate() {
+        return coilSurrogate;
+    }
+
+    /**
+     * Sets the cache of coil results, used instead of calculating repeated operating points. The cache may be shared by many blocks.
+     *
+     * @param resultCache The {@link CoolingResultCache}, or {@code null} to calculate each result.
+     */
+    public void setResultCache(CoolingResultCache resultCache) {
+        this.resultCache = resultCache;
+        configurationVersion++;
+    }
+
+    public CoolingResultCache getResultCache() {
+        return resultCache;
+    }
+
     public void connectCoolantDataSource(OutputConnection<CoolantData> blockWithOutputCoolantData){
         CommonValidators.requireNotNull(blockWithOutputCoolantData);
         this.coolantDataInputConnector.connectAndConsumeDataFrom(blockWithOutputCoolantData.getOutputConnector());
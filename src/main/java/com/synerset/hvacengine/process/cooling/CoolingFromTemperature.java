@@ -4,6 +4,7 @@ import com.synerset.hvacengine.common.validation.CommonValidators;
 import com.synerset.hvacengine.process.ConsoleOutputFormatters;
 import com.synerset.hvacengine.process.HvacProcessBlock;
 import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
 import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
 import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
 import com.synerset.hvacengine.process.blockmodel.OutputConnection;
@@ -13,6 +14,8 @@ import com.synerset.hvacengine.property.fluids.liquidwater.FlowOfLiquidWater;
 import com.synerset.unitility.unitsystem.thermodynamic.Power;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 
+import java.util.List;
+
 public class CoolingFromTemperature implements HvacProcessBlock {
 
     private static final ProcessType PROCESS_TYPE = ProcessType.COOLING;
@@ -24,6 +27,9 @@ public class CoolingFromTemperature implements HvacProcessBlock {
     private final ConnectorOutput<Power> heatConnector;
     private final ConnectorInput<Temperature> targetTemperatureConnector;
     private CoolingResult processResult;
+    private CoolingCoilSurrogate coilSurrogate;
+    private CoolingResultCache resultCache;
+    private long configurationVersion;
 
     public CoolingFromTemperature() {
         this.inputAirFlowConnector = ConnectorInput.of(FlowOfHumidAir.class);
@@ -56,16 +62,28 @@ public class CoolingFromTemperature implements HvacProcessBlock {
         coolantDataInputConnector.updateConnectorData();
         targetTemperatureConnector.updateConnectorData();
 
-        FlowOfHumidAir inletAirFlow = inputAirFlowConnector.getConnectorData();
-        Temperature targetTemperature = targetTemperatureConnector.getConnectorData();
-        CoolantData coolantData = coolantDataInputConnector.getConnectorData();
-        CoolingResult results = CoolingEquations.coolingFromTargetTemperature(inletAirFlow, coolantData, targetTemperature);
+        CoolingResult results = runProcessCalculations(ConnectorDataAccess.CONNECTORS);
+        this.processResult = results;
+        return results;
+    }
 
-        heatConnector.setConnectorData(results.heatOfProcess());
-        outputAirFlowConnector.setConnectorData(results.outletAirFlow());
-        outputCondensateConnector.setConnectorData(results.condensateFlow());
+    @Override
+    public CoolingResult runProcessCalculations(ConnectorDataAccess connectorDataAccess) {
+        FlowOfHumidAir inletAirFlow = connectorDataAccess.getInputData(inputAirFlowConnector);
+        Temperature targetTemperature = connectorDataAccess.getInputData(targetTemperatureConnector);
+        CoolantData coolantData = connectorDataAccess.getInputData(coolantDataInputConnector);
+        CoolingResult results;
+        if (resultCache != null) {
+            results = resultCache.coolingFromTargetTemperature(inletAirFlow, coolantData, targetTemperature);
+        } else if (coilSurrogate != null) {
+            results = coilSurrogate.coolingFromTargetTemperature(inletAirFlow, coolantData, targetTemperature);
+        } else {
+            results = CoolingEquations.coolingFromTargetTemperature(inletAirFlow, coolantData, targetTemperature);
+        }
 
-        this.processResult = results;
+        connectorDataAccess.setOutputData(heatConnector, results.heatOfProcess());
+        connectorDataAccess.setOutputData(outputAirFlowConnector, results.outletAirFlow());
+        connectorDataAccess.setOutputData(outputCondensateConnector, results.condensateFlow());
         return results;
     }
 
@@ -79,6 +97,11 @@ public class CoolingFromTemperature implements HvacProcessBlock {
         return PROCESS_TYPE;
     }
 
+    @Override
+    public long getConfigurationVersion() {
+        return configurationVersion;
+    }
+
     public CoolingMode getProcessMode() {
         return COOLING_MODE;
     }
@@ -93,6 +116,16 @@ public class CoolingFromTemperature implements HvacProcessBlock {
         return outputAirFlowConnector;
     }
 
+    @Override
+    public List<ConnectorInput<?>> getAllInputConnectors() {
+        return List.of(inputAirFlowConnector, coolantDataInputConnector, targetTemperatureConnector);
+    }
+
+    @Override
+    public List<ConnectorOutput<?>> getAllOutputConnectors() {
+        return List.of(outputAirFlowConnector, outputCondensateConnector, heatConnector);
+    }
+
     @Override
     public String toConsoleOutput() {
         if (inputAirFlowConnector.getConnectorData() == null || processResult == null) {
@@ -110,6 +143,39 @@ public class CoolingFromTemperature implements HvacProcessBlock {
         return targetTemperatureConnector.getConnectorData();
     }
 
+    public ConnectorInput<CoolantData> getCoolantDataConnector() {
+        return coolantDataInputConnector;
+    }
+
+    /**
+     * Sets the coil surrogate used instead of the exact coil model, for example in long simulations. The surrogate may be shared
+     * by many blocks. It is not used if result cache is set.
+     *
+     * @param coilSurrogate The {@link CoolingCoilSurrogate}, or {@code null} to use the exact model.
+     */
+    public void setCoilSurrogate(CoolingCoilSurrogate coilSurrogate) {
+        this.coilSurrogate = coilSurrogate;
+        configurationVersion++;
+    }
+
+    public CoolingCoilSurrogate getCoilSurrogate() {
+        return coilSurrogate;
+    }
+
+    /**
+     * Sets the cache of coil results, used instead of calculating repeated operating points. The cache may be shared by many blocks.
+     *
+     * @param resultCache The {@link CoolingResultCache}, or {@code null} to calculate each result.
+     */
+    public void setResultCache(CoolingResultCache resultCache) {
+        this.resultCache = resultCache;
+        configurationVersion++;
+    }
+
+    public CoolingResultCache getResultCache() {
+        return resultCache;
+    }
+
     public void connectCoolantDataSource(OutputConnection<CoolantData> blockWithOutputCoolantData){
         CommonValidators.requireNotNull(blockWithOutputCoolantData);
         this.coolantDataInputConnector.connectAndConsumeDataFrom(blockWithOutputCoolantData.getOutputConnector());
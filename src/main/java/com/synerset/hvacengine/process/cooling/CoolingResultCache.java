@@ -0,0 +1,304 @@
+package com.synerset.hvacengine.process.cooling;
+
+import com.synerset.hvacengine.common.SegmentedCache;
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.property.fluids.humidair.HumidAirEquations;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+import java.util.function.Supplier;
+
+import static com.synerset.hvacengine.common.validation.CommonValidators.requireNotNull;
+
+/**
+ * Memoized map of cooling coil operating points, which returns previously calculated {@link CoolingResult}s of
+ * {@link CoolingEquations} (or of a {@link CoolingCoilSurrogate}, if provided). Intended for repeated runs, where coil operating
+ * points repeat (fixed coolant temperatures, hourly weather data). <p>
+ * Results are keyed by calculation mode, inlet air pressure, temperature, humidity ratio and dry air mass flow, coolant supply and
+ * return temperatures and calculation target, each quantized with configured resolution, and by the version of the saturation pressure
+ * model. Inputs are validated as by {@link CoolingEquations} before lookup. A hit for the same inlet flow and coolant temperatures
+ * returns the stored result. A hit for other inputs within the same quantization step returns the stored coil outlet state, rebuilt
+ * around the requested inlet flow and coolant data, with condensate flow (and cooling power, unless it is the input) scaled to the
+ * requested dry air mass flow. <p>
+ * The cache is bounded, results exceeding its size are evicted according to {@link CacheEvictionPolicy}. It is backed by
+ * {@link SegmentedCache}, split into independently locked segments, so it can be shared by concurrent simulations. Coil calculation is
+ * not performed under lock, therefore concurrent misses of the same operating point may calculate it more than once. All results are
+ * removed once {@link HumidAirEquations#setSaturationPressureModel} is called.
+ */
+public final class CoolingResultCache {
+
+    private final int maxSize;
+    private final CacheEvictionPolicy evictionPolicy;
+    private final double temperatureResolution;
+    private final double humidityRatioResolution;
+    private final double massFlowResolution;
+    private final double pressureResolution;
+    private final double powerResolution;
+    private final double relativeHumidityResolution;
+    private final CoolingCoilSurrogate coilSurrogate;
+    private final SegmentedCache<OperatingPoint, CachedResult> results;
+
+    private CoolingResultCache(Builder builder) {
+        requireNotNull(builder.evictionPolicy);
+        if (!(builder.temperatureResolution > 0) || !(builder.humidityRatioResolution > 0) || !(builder.massFlowResolution > 0)
+            || !(builder.pressureResolution > 0) || !(builder.powerResolution > 0) || !(builder.relativeHumidityResolution > 0)) {
+            throw new HvacEngineArgumentException("Cache key resolutions must be positive.");
+        }
+        this.maxSize = builder.maxSize;
+        this.evictionPolicy = builder.evictionPolicy;
+        this.temperatureResolution = builder.temperatureResolution;
+        this.humidityRatioResolution = builder.humidityRatioResolution;
+        this.massFlowResolution = builder.massFlowResolution;
+        this.pressureResolution = builder.pressureResolution;
+        this.powerResolution = builder.powerResolution;
+        this.relativeHumidityResolution = builder.relativeHumidityResolution;
+        this.coilSurrogate = builder.coilSurrogate;
+        this.results = evictionPolicy == CacheEvictionPolicy.LEAST_RECENTLY_USED
+                ? SegmentedCache.ofLeastRecentlyUsed(builder.maxSize, builder.concurrencyLevel)
+                : SegmentedCache.ofFirstInFirstOut(builder.maxSize, builder.concurrencyLevel);
+    }
+
+    /**
+     * Cached {@link CoolingEquations#coolingFromTargetTemperature(FlowOfHumidAir, CoolantData, Temperature)}, or its
+     * {@link CoolingCoilSurrogate} counterpart.
+     *
+     * @param inletAirFlow      initial {@link FlowOfHumidAir}
+     * @param inletCoolantData  average cooling coil wall {@link CoolantData}
+     * @param targetTemperature target outlet {@link Temperature}
+     * @return the result of cooling process
+     */
+    public CoolingResult coolingFromTargetTemperature(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, Temperature targetTemperature) {
+        CoolingEquations.requireValidCoolingFromTargetTemperatureInput(inletAirFlow, inletCoolantData, targetTemperature);
+        OperatingPoint operatingPoint = operatingPointOf(CoolingMode.FROM_TEMPERATURE, inletAirFlow, inletCoolantData,
+                quantize(targetTemperature.getInCelsius(), temperatureResolution));
+        return getOrCalculate(operatingPoint, inletAirFlow, inletCoolantData, () -> coilSurrogate == null
+                ? CoolingEquations.coolingFromTargetTemperature(inletAirFlow, inletCoolantData, targetTemperature)
+                : coilSurrogate.coolingFromTargetTemperature(inletAirFlow, inletCoolantData, targetTemperature));
+    }
+
+    /**
+     * Cached {@link CoolingEquations#coolingFromPower(FlowOfHumidAir, CoolantData, Power)}, or its {@link CoolingCoilSurrogate}
+     * counterpart.
+     *
+     * @param inletAirFlow     initial {@link FlowOfHumidAir}
+     * @param inletCoolantData coolant data {@link CoolantData}
+     * @param inputPower       cooling {@link Power}
+     * @return the result of cooling process
+     */
+    public CoolingResult coolingFromPower(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, Power inputPower) {
+        CoolingEquations.requireValidCoolingFromPowerInput(inletAirFlow, inletCoolantData, inputPower);
+        OperatingPoint operatingPoint = operatingPointOf(CoolingMode.FROM_POWER, inletAirFlow, inletCoolantData,
+                quantize(Math.abs(inputPower.getInWatts()), powerResolution));
+        return getOrCalculate(operatingPoint, inletAirFlow, inletCoolantData, () -> coilSurrogate == null
+                ? CoolingEquations.coolingFromPower(inletAirFlow, inletCoolantData, inputPower)
+                : coilSurrogate.coolingFromPower(inletAirFlow, inletCoolantData, inputPower));
+    }
+
+    /**
+     * Cached {@link CoolingEquations#coolingFromTargetRelativeHumidity(FlowOfHumidAir, CoolantData, RelativeHumidity)}.
+     *
+     * @param inletAirFlow           initial {@link FlowOfHumidAir}
+     * @param inletCoolantData       average cooling coil wall {@link CoolantData}
+     * @param targetRelativeHumidity expected outlet {@link RelativeHumidity}
+     * @return the result of cooling process
+     */
+    public CoolingResult coolingFromTargetRelativeHumidity(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData,
+                                                           RelativeHumidity targetRelativeHumidity) {
+        CoolingEquations.requireValidCoolingFromTargetRelativeHumidityInput(inletAirFlow, inletCoolantData, targetRelativeHumidity);
+        OperatingPoint operatingPoint = operatingPointOf(CoolingMode.FROM_HUMIDITY, inletAirFlow, inletCoolantData,
+                quantize(targetRelativeHumidity.getInPercent(), relativeHumidityResolution));
+        return getOrCalculate(operatingPoint, inletAirFlow, inletCoolantData,
+                () -> CoolingEquations.coolingFromTargetRelativeHumidity(inletAirFlow, inletCoolantData, targetRelativeHumidity));
+    }
+
+    /**
+     * Removes all cached results. Metrics are not reset.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    public CoolingCacheStatistics getStatistics() {
+        return new CoolingCacheStatistics(results.getHitCount(), results.getMissCount(), results.getEvictionCount(), size());
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public CacheEvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    // Helper Methods
+
+    private CoolingResult getOrCalculate(OperatingPoint operatingPoint, FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData,
+                                         Supplier<CoolingResult> calculation) {
+
+        CachedResult cachedResult = results.get(operatingPoint);
+        if (cachedResult != null) {
+            return cachedResult.resultFor(inletAirFlow, inletCoolantData);
+        }
+        CoolingResult coolingResult = calculation.get();
+        results.putIfAbsent(operatingPoint, new CachedResult(coolingResult, inletCoolantData));
+        return coolingResult;
+    }
+
+    private OperatingPoint operatingPointOf(CoolingMode coolingMode, FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData, long target) {
+        long saturationPressureModelVersion = HumidAirEquations.getSaturationPressureModelVersion();
+        results.clearIfVersionChanged(saturationPressureModelVersion);
+        return new OperatingPoint(coolingMode, saturationPressureModelVersion,
+                quantize(inletAirFlow.getPressure().getInPascals(), pressureResolution),
+                quantize(inletAirFlow.getTemperature().getInCelsius(), temperatureResolution),
+                quantize(inletAirFlow.getHumidityRatio().getInKilogramPerKilogram(), humidityRatioResolution),
+                quantize(inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond(), massFlowResolution),
+                quantize(inletCoolantData.getSupplyTemperature().getInCelsius(), temperatureResolution),
+                quantize(inletCoolantData.getReturnTemperature().getInCelsius(), temperatureResolution),
+                target);
+    }
+
+    private static long quantize(double value, double resolution) {
+        return Math.round(value / resolution);
+    }
+
+    private record OperatingPoint(CoolingMode coolingMode, long saturationPressureModelVersion, long pressure, long temperature,
+                                  long humidityRatio, long dryAirMassFlow, long supplyTemperature, long returnTemperature, long target) {
+    }
+
+    /**
+     * Stored result with coolant data it was calculated for.
+     */
+    private record CachedResult(CoolingResult coolingResult, CoolantData coolantData) {
+
+        private CoolingResult resultFor(FlowOfHumidAir inletAirFlow, CoolantData inletCoolantData) {
+            if (coolingResult.inletAirFlow().equals(inletAirFlow)
+                && coolantData.getSupplyTemperature().equals(inletCoolantData.getSupplyTemperature())
+                && coolantData.getReturnTemperature().equals(inletCoolantData.getReturnTemperature())) {
+                return coolingResult;
+            }
+            FlowOfHumidAir cachedInletAirFlow = coolingResult.inletAirFlow();
+            FlowOfHumidAir cachedOutletAirFlow = coolingResult.outletAirFlow();
+            double[] coilResult = new double[CoolingEquations.COIL_RESULT_SIZE];
+            coilResult[CoolingEquations.COIL_BYPASS_FACTOR] = coolingResult.bypassFactor().getValue();
+            // Unchanged outlet state means that the coil does not operate, it stays unchanged for the requested inlet flow
+            if (cachedOutletAirFlow.getTemperature().equals(cachedInletAirFlow.getTemperature())) {
+                coilResult[CoolingEquations.COIL_OUTLET_TEMPERATURE] = inletAirFlow.getTemperature().getInCelsius();
+                coilResult[CoolingEquations.COIL_OUTLET_HUMIDITY_RATIO] = inletAirFlow.getHumidityRatio().getInKilogramPerKilogram();
+                coilResult[CoolingEquations.COIL_HEAT_OF_PROCESS] = coolingResult.heatOfProcess().getInKiloWatts();
+                return CoolingEquations.coolingResultOf(coolingResult.processMode(), inletAirFlow, inletCoolantData, coilResult);
+            }
+            double cachedDryAirMassFlow = cachedInletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+            double massFlowRatio = cachedDryAirMassFlow == 0.0
+                    ? 0.0
+                    : inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond() / cachedDryAirMassFlow;
+            coilResult[CoolingEquations.COIL_OUTLET_TEMPERATURE] = cachedOutletAirFlow.getTemperature().getInCelsius();
+            coilResult[CoolingEquations.COIL_OUTLET_HUMIDITY_RATIO] = cachedOutletAirFlow.getHumidityRatio().getInKilogramPerKilogram();
+            // Cooling power is an input of calculation from power, it is not scaled with dry air mass flow
+            double heatOfProcessRatio = coolingResult.processMode() == CoolingMode.FROM_POWER ? 1.0 : massFlowRatio;
+            coilResult[CoolingEquations.COIL_HEAT_OF_PROCESS] = coolingResult.heatOfProcess().getInKiloWatts() * heatOfProcessRatio;
+            coilResult[CoolingEquations.COIL_CONDENSATE_MASS_FLOW] =
+                    coolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond() * massFlowRatio;
+            return CoolingEquations.coolingResultOf(coolingResult.processMode(), inletAirFlow, inletCoolantData, coilResult);
+        }
+    }
+
+    public static class Builder {
+        private int maxSize = 10_000;
+        private int concurrencyLevel = 16;
+        private CacheEvictionPolicy evictionPolicy = CacheEvictionPolicy.LEAST_RECENTLY_USED;
+        private double temperatureResolution = 1E-3;
+        private double humidityRatioResolution = 1E-7;
+        private double massFlowResolution = 1E-5;
+        private double pressureResolution = 1;
+        private double powerResolution = 0.1;
+        private double relativeHumidityResolution = 1E-3;
+        private CoolingCoilSurrogate coilSurrogate;
+
+        public Builder maxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        public Builder evictionPolicy(CacheEvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         * Sets resolution of inlet air, coolant and target temperatures, in oC.
+         */
+        public Builder temperatureResolution(double temperatureResolution) {
+            this.temperatureResolution = temperatureResolution;
+            return this;
+        }
+
+        /**
+         * Sets resolution of inlet air humidity ratio, in kg.wv/kg.da.
+         */
+        public Builder humidityRatioResolution(double humidityRatioResolution) {
+            this.humidityRatioResolution = humidityRatioResolution;
+            return this;
+        }
+
+        /**
+         * Sets resolution of inlet dry air mass flow, in kg/s.
+         */
+        public Builder massFlowResolution(double massFlowResolution) {
+            this.massFlowResolution = massFlowResolution;
+            return this;
+        }
+
+        /**
+         * Sets resolution of inlet air pressure, in Pa.
+         */
+        public Builder pressureResolution(double pressureResolution) {
+            this.pressureResolution = pressureResolution;
+            return this;
+        }
+
+        /**
+         * Sets resolution of target cooling power, in W.
+         */
+        public Builder powerResolution(double powerResolution) {
+            this.powerResolution = powerResolution;
+            return this;
+        }
+
+        /**
+         * Sets resolution of target relative humidity, in %.
+         */
+        public Builder relativeHumidityResolution(double relativeHumidityResolution) {
+            this.relativeHumidityResolution = relativeHumidityResolution;
+            return this;
+        }
+
+        /**
+         * Sets the coil surrogate used to calculate missing results of cooling from temperature and from power.
+         */
+        public Builder coilSurrogate(CoolingCoilSurrogate coilSurrogate) {
+            this.coilSurrogate = coilSurrogate;
+            return this;
+        }
+
+        public CoolingResultCache build() {
+            return new CoolingResultCache(this);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+}
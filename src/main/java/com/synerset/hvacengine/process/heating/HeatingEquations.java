@@ -10,6 +10,7 @@ import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Power;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 
+import static com.synerset.hvacengine.process.heating.HeatingValidators.REALISTIC_RH_LIMIT_VALUE;
 import static com.synerset.hvacengine.process.heating.HeatingValidators.requirePhysicalInputPowerForHeating;
 import static com.synerset.hvacengine.process.heating.HeatingValidators.requireValidInputPowerForHeating;
 import static com.synerset.hvacengine.process.heating.HeatingValidators.requireValidTargetRelativeHumidityForHeating;
@@ -17,6 +18,12 @@ import static com.synerset.hvacengine.process.heating.HeatingValidators.requireV
 
 public class HeatingEquations {
 
+    // Indices of primitive heating kernel results
+    public static final int HEATING_OUTLET_TEMPERATURE = 0;
+    public static final int HEATING_OUTLET_SPECIFIC_ENTHALPY = 1;
+    public static final int HEATING_HEAT_OF_PROCESS = 2;
+    public static final int HEATING_RESULT_SIZE = 3;
+
     private HeatingEquations() {
         throw new IllegalStateException("Utility class");
     }
@@ -45,13 +52,13 @@ public class HeatingEquations {
         }
 
         HumidAir inletHumidAir = inletAirFlow.getFluid();
-        double qHeat = inputPower.getInKiloWatts();
-        double xIn = inletHumidAir.getHumidityRatio().getInKilogramPerKilogram();
         double mdaIn = inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
-        double pIn = inletHumidAir.getPressure().getInPascals();
-        double iIn = inletHumidAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
-        double iOut = (mdaIn * iIn + qHeat) / mdaIn;
-        double tOut = HumidAirEquations.dryBulbTemperatureIX(iOut, xIn, pIn);
+        double[] heatingResult = new double[HEATING_RESULT_SIZE];
+        heatingFromPower(inletHumidAir.getPressure().getInPascals(),
+                inletHumidAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletHumidAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                mdaIn, inputPower.getInKiloWatts(), heatingResult);
+        double tOut = heatingResult[HEATING_OUTLET_TEMPERATURE];
 
         HumidAir outletHumidAir = HumidAir.of(inletAirFlow.getPressure(), Temperature.ofCelsius(tOut), inletAirFlow.getHumidityRatio());
         FlowOfHumidAir outletFlow = FlowOfHumidAir.ofDryAirMassFlow(outletHumidAir, MassFlow.ofKilogramsPerSecond(mdaIn));
@@ -88,15 +95,14 @@ public class HeatingEquations {
         }
 
         HumidAir inletHumidAir = inletAirFlow.getFluid();
-        double xIn = inletHumidAir.getHumidityRatio().getInKilogramPerKilogram();
         double mdaIn = inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
         double tOut = targetTemperature.getInCelsius();
-
-        double pIn = inletHumidAir.getPressure().getInPascals();
-        double iIn = inletHumidAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
-        double i2 = HumidAirEquations.specificEnthalpy(tOut, xIn, pIn);
-        double qHeat = (mdaIn * i2 - mdaIn * iIn) * 1000d;
-        Power requiredHeat = Power.ofWatts(qHeat);
+        double[] heatingResult = new double[HEATING_RESULT_SIZE];
+        heatingFromTargetTemperature(inletHumidAir.getPressure().getInPascals(),
+                inletHumidAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletHumidAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                mdaIn, tOut, heatingResult);
+        Power requiredHeat = Power.ofWatts(heatingResult[HEATING_HEAT_OF_PROCESS] * 1000d);
 
         HumidAir outletHumidAir = HumidAir.of(
                 inletAirFlow.getPressure(),
@@ -126,7 +132,8 @@ public class HeatingEquations {
     public static HeatingResult heatingFromRelativeHumidity(FlowOfHumidAir inletAirFlow, RelativeHumidity targetRelativeHumidity) {
         CommonValidators.requireNotNull(inletAirFlow);
         CommonValidators.requireNotNull(targetRelativeHumidity);
-        CommonValidators.requireBetweenBoundsInclusive(targetRelativeHumidity, RelativeHumidity.RH_MIN_LIMIT, RelativeHumidity.ofPercentage(98));
+        CommonValidators.requireBetweenBoundsInclusive(targetRelativeHumidity, RelativeHumidity.RH_MIN_LIMIT,
+                RelativeHumidity.ofPercentage(REALISTIC_RH_LIMIT_VALUE));
         requireValidTargetRelativeHumidityForHeating(inletAirFlow.getRelativeHumidity(), targetRelativeHumidity);
 
         if (inletAirFlow.getRelativeHumidity().equals(targetRelativeHumidity) || inletAirFlow.getMassFlow().isCloseToZero()) {
@@ -139,15 +146,14 @@ public class HeatingEquations {
         }
 
         HumidAir inletHumidAir = inletAirFlow.getFluid();
-        double rhOut = targetRelativeHumidity.getInPercent();
-        double xIn = inletHumidAir.getHumidityRatio().getInKilogramPerKilogram();
         double mdaIn = inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
-        double pIn = inletHumidAir.getPressure().getInPascals();
-        double iIn = inletHumidAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
-        double tOut = HumidAirEquations.dryBulbTemperatureXRH(xIn, rhOut, pIn);
-        double iOut = HumidAirEquations.specificEnthalpy(tOut, xIn, pIn);
-        double qHeat = (mdaIn * iOut - mdaIn * iIn) * 1000d;
-        Power requiredHeat = Power.ofWatts(qHeat);
+        double[] heatingResult = new double[HEATING_RESULT_SIZE];
+        heatingFromRelativeHumidity(inletHumidAir.getPressure().getInPascals(),
+                inletHumidAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletHumidAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                mdaIn, targetRelativeHumidity.getInPercent(), heatingResult);
+        double tOut = heatingResult[HEATING_OUTLET_TEMPERATURE];
+        Power requiredHeat = Power.ofWatts(heatingResult[HEATING_HEAT_OF_PROCESS] * 1000d);
 
         HumidAir outletHumidAir = HumidAir.of(inletAirFlow.getPressure(), Temperature.ofCelsius(tOut), inletAirFlow.getHumidityRatio());
         FlowOfHumidAir outletFlow = FlowOfHumidAir.ofDryAirMassFlow(outletHumidAir, MassFlow.ofKilogramsPerSecond(mdaIn));
@@ -160,4 +166,70 @@ public class HeatingEquations {
                 .build();
     }
 
-}
\ No newline at end of file
+    /**
+     * Heating kernel for input heat of process, based on primitive values only, which writes results into provided array without
+     * creating any objects. Input values are not validated. Results in the array are organized as following:
+     * result: [outlet air temperature (oC), outlet specific enthalpy (kJ/kg), heat of process (kW)], see HEATING_* indices.
+     * REFERENCE SOURCE: [1][2] [t2,oC] (42)(2.2) [6.12][37]
+     *
+     * @param pressure              inlet air absolute pressure, Pa
+     * @param inletHumidityRatio    inlet air humidity ratio, kg.wv/kg.da
+     * @param inletSpecificEnthalpy inlet air specific enthalpy, kJ/kg
+     * @param dryAirMassFlow        inlet dry air mass flow, kg/s
+     * @param inputPower            heating power, kW
+     * @param result                array of at least {@link #HEATING_RESULT_SIZE} elements, to which results are written
+     */
+    public static void heatingFromPower(double pressure, double inletHumidityRatio, double inletSpecificEnthalpy,
+                                        double dryAirMassFlow, double inputPower, double[] result) {
+
+        double iOut = (dryAirMassFlow * inletSpecificEnthalpy + inputPower) / dryAirMassFlow;
+        result[HEATING_OUTLET_TEMPERATURE] = HumidAirEquations.dryBulbTemperatureIX(iOut, inletHumidityRatio, pressure);
+        result[HEATING_OUTLET_SPECIFIC_ENTHALPY] = iOut;
+        result[HEATING_HEAT_OF_PROCESS] = inputPower;
+    }
+
+    /**
+     * Heating kernel for target outlet temperature, based on primitive values only, which writes results into provided array without
+     * creating any objects. Input values are not validated. Results are organized as in
+     * {@link #heatingFromPower(double, double, double, double, double, double[])}.
+     * REFERENCE SOURCE: [1][2] [t2,oC] (42)(2.2) [6.12][37]
+     *
+     * @param pressure              inlet air absolute pressure, Pa
+     * @param inletHumidityRatio    inlet air humidity ratio, kg.wv/kg.da
+     * @param inletSpecificEnthalpy inlet air specific enthalpy, kJ/kg
+     * @param dryAirMassFlow        inlet dry air mass flow, kg/s
+     * @param targetTemperature     target outlet temperature, oC
+     * @param result                array of at least {@link #HEATING_RESULT_SIZE} elements, to which results are written
+     */
+    public static void heatingFromTargetTemperature(double pressure, double inletHumidityRatio, double inletSpecificEnthalpy,
+                                                    double dryAirMassFlow, double targetTemperature, double[] result) {
+
+        double iOut = HumidAirEquations.specificEnthalpy(targetTemperature, inletHumidityRatio, pressure);
+        result[HEATING_OUTLET_TEMPERATURE] = targetTemperature;
+        result[HEATING_OUTLET_SPECIFIC_ENTHALPY] = iOut;
+        result[HEATING_HEAT_OF_PROCESS] = dryAirMassFlow * iOut - dryAirMassFlow * inletSpecificEnthalpy;
+    }
+
+    /**
+     * Heating kernel for target outlet relative humidity, based on primitive values only, which writes results into provided array
+     * without creating any objects. Input values are not validated. Results are organized as in
+     * {@link #heatingFromPower(double, double, double, double, double, double[])}.
+     *
+     * @param pressure               inlet air absolute pressure, Pa
+     * @param inletHumidityRatio     inlet air humidity ratio, kg.wv/kg.da
+     * @param inletSpecificEnthalpy  inlet air specific enthalpy, kJ/kg
+     * @param dryAirMassFlow         inlet dry air mass flow, kg/s
+     * @param targetRelativeHumidity target outlet relative humidity, %
+     * @param result                 array of at least {@link #HEATING_RESULT_SIZE} elements, to which results are written
+     */
+    public static void heatingFromRelativeHumidity(double pressure, double inletHumidityRatio, double inletSpecificEnthalpy,
+                                                   double dryAirMassFlow, double targetRelativeHumidity, double[] result) {
+
+        double tOut = HumidAirEquations.dryBulbTemperatureXRH(inletHumidityRatio, targetRelativeHumidity, pressure);
+        double iOut = HumidAirEquations.specificEnthalpy(tOut, inletHumidityRatio, pressure);
+        result[HEATING_OUTLET_TEMPERATURE] = tOut;
+        result[HEATING_OUTLET_SPECIFIC_ENTHALPY] = iOut;
+        result[HEATING_HEAT_OF_PROCESS] = dryAirMassFlow * iOut - dryAirMassFlow * inletSpecificEnthalpy;
+    }
+
+}
@@ -4,6 +4,7 @@ import com.synerset.hvacengine.common.validation.CommonValidators;
 import com.synerset.hvacengine.process.ConsoleOutputFormatters;
 import com.synerset.hvacengine.process.HvacProcessBlock;
 import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
 import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
 import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
 import com.synerset.hvacengine.process.blockmodel.OutputConnection;
@@ -11,6 +12,8 @@ import com.synerset.hvacengine.process.heating.dataobject.HeatingResult;
 import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
 import com.synerset.unitility.unitsystem.thermodynamic.Power;
 
+import java.util.List;
+
 public class HeatingFromPower implements HvacProcessBlock {
 
     private static final ProcessType PROCESS_TYPE = ProcessType.HEATING;
@@ -41,14 +44,20 @@ public class HeatingFromPower implements HvacProcessBlock {
     public HeatingResult runProcessCalculations() {
         inputAirFlowConnector.updateConnectorData();
         inputHeatConnector.updateConnectorData();
-        FlowOfHumidAir inletAirFlow = inputAirFlowConnector.getConnectorData();
-        Power heatingPower = inputHeatConnector.getConnectorData();
-        HeatingResult heatingProcessResults = HeatingEquations.heatingFromPower(inletAirFlow, heatingPower);
-        outputAirFlowConnector.setConnectorData(heatingProcessResults.outletAirFlow());
+        HeatingResult heatingProcessResults = runProcessCalculations(ConnectorDataAccess.CONNECTORS);
         this.processResult = heatingProcessResults;
         return heatingProcessResults;
     }
 
+    @Override
+    public HeatingResult runProcessCalculations(ConnectorDataAccess connectorDataAccess) {
+        FlowOfHumidAir inletAirFlow = connectorDataAccess.getInputData(inputAirFlowConnector);
+        Power heatingPower = connectorDataAccess.getInputData(inputHeatConnector);
+        HeatingResult heatingProcessResults = HeatingEquations.heatingFromPower(inletAirFlow, heatingPower);
+        connectorDataAccess.setOutputData(outputAirFlowConnector, heatingProcessResults.outletAirFlow());
+        return heatingProcessResults;
+    }
+
     @Override
     public HeatingResult getProcessResult() {
         return processResult;
@@ -73,6 +82,11 @@ public class HeatingFromPower implements HvacProcessBlock {
         return outputAirFlowConnector;
     }
 
+    @Override
+    public List<ConnectorInput<?>> getAllInputConnectors() {
+        return List.of(inputAirFlowConnector, inputHeatConnector);
+    }
+
     @Override
     public String toConsoleOutput() {
         if (inputAirFlowConnector.getConnectorData() == null || processResult == null) {
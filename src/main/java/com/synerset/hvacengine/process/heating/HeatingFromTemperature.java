@@ -4,6 +4,7 @@ import com.synerset.hvacengine.common.validation.CommonValidators;
 import com.synerset.hvacengine.process.ConsoleOutputFormatters;
 import com.synerset.hvacengine.process.HvacProcessBlock;
 import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
 import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
 import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
 import com.synerset.hvacengine.process.blockmodel.OutputConnection;
@@ -12,6 +13,8 @@ import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
 import com.synerset.unitility.unitsystem.thermodynamic.Power;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 
+import java.util.List;
+
 public class HeatingFromTemperature implements HvacProcessBlock {
 
     private static final ProcessType PROCESS_TYPE = ProcessType.HEATING;
@@ -45,15 +48,21 @@ public class HeatingFromTemperature implements HvacProcessBlock {
     public HeatingResult runProcessCalculations() {
         inputAirFlowConnector.updateConnectorData();
         targetTemperatureConnector.updateConnectorData();
-        Temperature targetTemperature = targetTemperatureConnector.getConnectorData();
-        FlowOfHumidAir inletAirFlow = inputAirFlowConnector.getConnectorData();
-        HeatingResult heatingProcessResults = HeatingEquations.heatingFromTargetTemperature(inletAirFlow, targetTemperature);
-        outputAirFlowConnector.setConnectorData(heatingProcessResults.outletAirFlow());
-        outputHeatConnector.setConnectorData(heatingProcessResults.heatOfProcess());
+        HeatingResult heatingProcessResults = runProcessCalculations(ConnectorDataAccess.CONNECTORS);
         this.processResult = heatingProcessResults;
         return heatingProcessResults;
     }
 
+    @Override
+    public HeatingResult runProcessCalculations(ConnectorDataAccess connectorDataAccess) {
+        Temperature targetTemperature = connectorDataAccess.getInputData(targetTemperatureConnector);
+        FlowOfHumidAir inletAirFlow = connectorDataAccess.getInputData(inputAirFlowConnector);
+        HeatingResult heatingProcessResults = HeatingEquations.heatingFromTargetTemperature(inletAirFlow, targetTemperature);
+        connectorDataAccess.setOutputData(outputAirFlowConnector, heatingProcessResults.outletAirFlow());
+        connectorDataAccess.setOutputData(outputHeatConnector, heatingProcessResults.heatOfProcess());
+        return heatingProcessResults;
+    }
+
     @Override
     public HeatingResult getProcessResult() {
         return processResult;
@@ -78,6 +87,16 @@ public class HeatingFromTemperature implements HvacProcessBlock {
         return outputAirFlowConnector;
     }
 
+    @Override
+    public List<ConnectorInput<?>> getAllInputConnectors() {
+        return List.of(inputAirFlowConnector, targetTemperatureConnector);
+    }
+
+    @Override
+    public List<ConnectorOutput<?>> getAllOutputConnectors() {
+        return List.of(outputAirFlowConnector, outputHeatConnector);
+    }
+
     @Override
     public String toConsoleOutput() {
         if (inputAirFlowConnector.getConnectorData() == null || processResult == null) {
@@ -15,6 +15,16 @@ import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
  */
 public class HeatingValidators {
 
+    /**
+     * Upper limit of target relative humidity for heating, in %.
+     */
+    public static final double REALISTIC_RH_LIMIT_VALUE = 98;
+
+    /**
+     * Reduction factor applied to maximum dry bulb temperature, when estimating maximum heating power.
+     */
+    public static final double MAX_TEMPERATURE_REDUCTION_FACTOR = 0.98;
+
     private HeatingValidators() {
         throw new IllegalStateException("utility class");
     }
@@ -68,11 +78,25 @@ public class HeatingValidators {
         }
     }
 
+    /**
+     * Estimates maximum heating power, which heats provided flow up to reduced maximum dry bulb temperature, based on primitive values.
+     *
+     * @param pressure              inlet air absolute pressure, Pa
+     * @param inletHumidityRatio    inlet air humidity ratio, kg.wv/kg.da
+     * @param inletSpecificEnthalpy inlet air specific enthalpy, kJ/kg
+     * @param massFlow              inlet humid air mass flow, kg/s
+     * @return maximum heating power, kW
+     */
+    public static double estimateMaxHeatingPower(double pressure, double inletHumidityRatio, double inletSpecificEnthalpy, double massFlow) {
+        double tMax = HumidAirEquations.dryBulbTemperatureMax(pressure) * MAX_TEMPERATURE_REDUCTION_FACTOR;
+        double iMax = HumidAirEquations.specificEnthalpy(tMax, inletHumidityRatio, pressure);
+        return (iMax - inletSpecificEnthalpy) * massFlow;
+    }
+
     // Helpers
     private static Power estimateMaxHeatingPower(FlowOfHumidAir inletAirFlow) {
         // Mox cooling power quick estimate to reach 0 degrees Qcool.max= G * (i_0 - i_in)
-        double stableReductionFactor = 0.98;
-        Temperature tMax = HumidAirEquations.dryBulbTemperatureMax(inletAirFlow.getPressure()).multiply(stableReductionFactor);
+        Temperature tMax = HumidAirEquations.dryBulbTemperatureMax(inletAirFlow.getPressure()).multiply(MAX_TEMPERATURE_REDUCTION_FACTOR);
         SpecificEnthalpy iMax = HumidAirEquations.specificEnthalpy(tMax, inletAirFlow.getHumidityRatio(),
                 inletAirFlow.getPressure());
         double qMax = iMax.minus(inletAirFlow.getSpecificEnthalpy())
@@ -4,6 +4,7 @@ import com.synerset.hvacengine.common.validation.CommonValidators;
 import com.synerset.hvacengine.process.ConsoleOutputFormatters;
 import com.synerset.hvacengine.process.HvacProcessBlock;
 import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
 import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
 import com.synerset.hvacengine.process.blockmodel.ConnectorOutput;
 import com.synerset.hvacengine.process.blockmodel.OutputConnection;
@@ -21,6 +22,8 @@ public class Mixing implements HvacProcessBlock {
     private final List<ConnectorInput<FlowOfHumidAir>> inputMixingFlowConnectors;
     private MixingResult processResult;
     private MixingMode mixingMode;
+    private MixingAccumulator mixingAccumulator;
+    private long configurationVersion;
 
     public Mixing() {
         this.inputAirFlowConnector = ConnectorInput.of(FlowOfHumidAir.class);
@@ -45,33 +48,44 @@ public class Mixing implements HvacProcessBlock {
     public MixingResult runProcessCalculations() {
         inputAirFlowConnector.updateConnectorData();
         inputMixingFlowConnectors.forEach(ConnectorInput::updateConnectorData);
+        MixingResult mixingProcessResults = runProcessCalculations(ConnectorDataAccess.CONNECTORS);
+        this.mixingMode = mixingProcessResults.processMode();
+        this.processResult = mixingProcessResults;
+        return mixingProcessResults;
+    }
+
+    @Override
+    public MixingResult runProcessCalculations(ConnectorDataAccess connectorDataAccess) {
+        MixingAccumulator accumulator = getMixingAccumulator(connectorDataAccess);
+        if (accumulator != null) {
+            FlowOfHumidAir inletAirFlow = connectorDataAccess.getInputData(inputAirFlowConnector);
+            MixingResult mixingProcessResults = accumulator.mix(inletAirFlow, inputMixingFlowConnectors, connectorDataAccess);
+            connectorDataAccess.setOutputData(outputAirFlowConnector, mixingProcessResults.outletAirFlow());
+            return mixingProcessResults;
+        }
+
         List<FlowOfHumidAir> recirculationFlows = inputMixingFlowConnectors.stream()
-                .map(ConnectorInput::getConnectorData)
+                .map(connectorDataAccess::getInputData)
                 .toList();
 
-        FlowOfHumidAir inletAirFlow = inputAirFlowConnector.getConnectorData();
+        FlowOfHumidAir inletAirFlow = connectorDataAccess.getInputData(inputAirFlowConnector);
 
         MixingResult mixingProcessResults;
 
         if (recirculationFlows.isEmpty()) {
-            mixingMode = MixingMode.SIMPLE_MIXING;
             mixingProcessResults = MixingResult.builder()
-                    .processMode(mixingMode)
+                    .processMode(MixingMode.SIMPLE_MIXING)
                     .inletAirFlow(inletAirFlow)
                     .outletAirFlow(inletAirFlow)
                     .recirculationFlows(List.of())
                     .build();
         } else if (recirculationFlows.size() == 1) {
             mixingProcessResults = MixingEquations.mixingOfTwoAirFlows(inletAirFlow, recirculationFlows.get(0));
-            mixingMode = MixingMode.SIMPLE_MIXING;
         } else {
             mixingProcessResults = MixingEquations.mixingOfMultipleFlows(inletAirFlow, recirculationFlows);
-            mixingMode = MixingMode.MULTIPLE_MIXING;
         }
 
-        outputAirFlowConnector.setConnectorData(mixingProcessResults.outletAirFlow());
-        this.processResult = mixingProcessResults;
-
+        connectorDataAccess.setOutputData(outputAirFlowConnector, mixingProcessResults.outletAirFlow());
         return mixingProcessResults;
     }
 
@@ -85,6 +99,11 @@ public class Mixing implements HvacProcessBlock {
         return PROCESS_TYPE;
     }
 
+    @Override
+    public long getConfigurationVersion() {
+        return configurationVersion;
+    }
+
     public MixingMode getProcessMode() {
         return mixingMode;
     }
@@ -99,6 +118,14 @@ public class Mixing implements HvacProcessBlock {
         return outputAirFlowConnector;
     }
 
+    @Override
+    public List<ConnectorInput<?>> getAllInputConnectors() {
+        List<ConnectorInput<?>> allInputConnectors = new ArrayList<>();
+        allInputConnectors.add(inputAirFlowConnector);
+        allInputConnectors.addAll(inputMixingFlowConnectors);
+        return allInputConnectors;
+    }
+
     @Override
     public String toConsoleOutput() {
         if (inputAirFlowConnector.getConnectorData() == null || processResult == null) {
@@ -122,6 +149,28 @@ public class Mixing implements HvacProcessBlock {
         inputMixingFlowConnectors.clear();
     }
 
+    /**
+     * Enables incremental mixing of multiple recirculation flows with {@link MixingAccumulator}, which on each run reads and updates
+     * mixing sums only for recirculation connectors which data version has changed since previous run. Runs on data stored in
+     * connectors use the accumulator returned by {@link #getMixingAccumulator()}, runs with other {@link ConnectorDataAccess} use
+     * an accumulator kept by the data access itself (for example by each run context of a shared process topology), or sum all flows
+     * if the data access keeps no state.
+     *
+     * @param incrementalMixing {@code true} to enable incremental mixing, {@code false} to sum all flows on each run.
+     */
+    public void setIncrementalMixing(boolean incrementalMixing) {
+        this.mixingAccumulator = incrementalMixing ? new MixingAccumulator() : null;
+        configurationVersion++;
+    }
+
+    public boolean isIncrementalMixing() {
+        return mixingAccumulator != null;
+    }
+
+    public MixingAccumulator getMixingAccumulator() {
+        return mixingAccumulator;
+    }
+
     public void connectMixingFlowDataSources(List<? extends OutputConnection<FlowOfHumidAir>> blocksWithInputMixingAirFlows) {
         CommonValidators.requireNotNull(blocksWithInputMixingAirFlows);
         resetMixingFlows();
@@ -141,6 +190,16 @@ public class Mixing implements HvacProcessBlock {
         inputMixingFlowConnectors.add(ConnectorInput.of(blockWithInputMixingAirFlow.getOutputConnector()));
     }
 
+    private MixingAccumulator getMixingAccumulator(ConnectorDataAccess connectorDataAccess) {
+        if (mixingAccumulator == null || inputMixingFlowConnectors.size() < 2) {
+            return null;
+        }
+        if (connectorDataAccess == ConnectorDataAccess.CONNECTORS) {
+            return mixingAccumulator;
+        }
+        return connectorDataAccess.getBlockState(this, MixingAccumulator::new);
+    }
+
     // Static factory methods
     public static Mixing of() {
         return new Mixing();
@@ -0,0 +1,271 @@
+package com.synerset.hvacengine.process.mixing;
+
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
+import com.synerset.hvacengine.process.blockmodel.ConnectorInput;
+import com.synerset.hvacengine.process.mixing.dataobject.MixingResult;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.common.Ratio;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+
+import java.util.List;
+
+/**
+ * Incremental counterpart of {@link MixingEquations#mixingOfMultipleFlows(FlowOfHumidAir, java.util.Collection)}, intended for
+ * mixing of many recirculation flows, where only some of them change between runs (for example return air of VAV zones). <p>
+ * Accumulator keeps primitive sums of dry air mass flow, moisture flow (mda·x) and enthalpy flow (mda·i) of all recirculation flows.
+ * Each changed flow is subtracted from and added to the sums in constant time, then outlet state is solved from the sums by the shared
+ * mixing kernel {@link MixingEquations#mixingOfFlowSums(double, double, double, double, double, double, double, double, double[])}.
+ * To bound round-off errors of repeated subtractions, sums are recalculated from scratch after as many flow updates as there are
+ * recirculation flows. <p>
+ * When mixing flows of connectors, recirculation flow is considered changed if version of its connector provided by
+ * {@link ConnectorDataAccess#getInputVersion(ConnectorInput)} differs from the one used in the previous run, so data of unchanged
+ * connectors is not read at all. When mixing a list of flows, recirculation flow is considered changed if its instance differs from
+ * the one used in the previous run. <p>
+ * Instances are not thread safe, each accumulator should be used by a single mixing node and a single data access.
+ */
+public final class MixingAccumulator {
+
+    private final double[] mixingResult;
+    private FlowOfHumidAir[] flows;
+    private ConnectorInput<?>[] connectors;
+    private long[] connectorVersions;
+    private double[] dryAirMassFlows;
+    private double[] moistureFlows;
+    private double[] enthalpyFlows;
+    private double[] massFlows;
+    private double[] pressures;
+    private int numberOfFlows;
+    private double dryAirMassFlowSum;
+    private double moistureFlowSum;
+    private double enthalpyFlowSum;
+    private double massFlowSum;
+    private double maxPressure;
+    private boolean maxPressureOutdated;
+    private int updatesSinceRecalculation;
+    private long numberOfFlowUpdates;
+
+    public MixingAccumulator() {
+        this.flows = new FlowOfHumidAir[0];
+        this.connectors = new ConnectorInput<?>[0];
+        this.connectorVersions = new long[0];
+        this.dryAirMassFlows = new double[0];
+        this.moistureFlows = new double[0];
+        this.enthalpyFlows = new double[0];
+        this.massFlows = new double[0];
+        this.pressures = new double[0];
+        this.mixingResult = new double[MixingEquations.MIXING_RESULT_SIZE];
+    }
+
+    /**
+     * Mixes inlet air with recirculation flows, updating accumulated sums only for recirculation flows changed since previous call.
+     * Results are equal to {@link MixingEquations#mixingOfMultipleFlows(FlowOfHumidAir, java.util.Collection)} within round-off.
+     *
+     * @param inletAir           inlet {@link FlowOfHumidAir}
+     * @param recirculationFlows list of recirculation {@link FlowOfHumidAir}
+     * @return {@link MixingResult} with outlet airflow and fresh air ratios
+     */
+    public MixingResult mix(FlowOfHumidAir inletAir, List<FlowOfHumidAir> recirculationFlows) {
+        CommonValidators.requireNotNull(inletAir);
+        CommonValidators.requireNotNull(recirculationFlows);
+        updateFlows(recirculationFlows);
+        return mixAccumulatedFlows(inletAir, recirculationFlows);
+    }
+
+    /**
+     * Mixes inlet air with recirculation flows of provided connectors, reading and updating accumulated sums only for connectors
+     * which data version has changed since previous call. Results are equal to
+     * {@link MixingEquations#mixingOfMultipleFlows(FlowOfHumidAir, java.util.Collection)} within round-off.
+     *
+     * @param inletAir                    inlet {@link FlowOfHumidAir}
+     * @param recirculationFlowConnectors list of connectors of recirculation {@link FlowOfHumidAir}
+     * @param connectorDataAccess         data access providing data of connectors and their versions
+     * @return {@link MixingResult} with outlet airflow and fresh air ratios
+     */
+    public MixingResult mix(FlowOfHumidAir inletAir, List<? extends ConnectorInput<FlowOfHumidAir>> recirculationFlowConnectors,
+                            ConnectorDataAccess connectorDataAccess) {
+
+        CommonValidators.requireNotNull(inletAir);
+        CommonValidators.requireNotNull(recirculationFlowConnectors);
+        CommonValidators.requireNotNull(connectorDataAccess);
+        updateFlows(recirculationFlowConnectors, connectorDataAccess);
+        return mixAccumulatedFlows(inletAir, List.of(flows));
+    }
+
+    /**
+     * Clears all accumulated flows, next call of {@link #mix(FlowOfHumidAir, List)} will sum all recirculation flows.
+     */
+    public void reset() {
+        resize(0);
+    }
+
+    public int getNumberOfFlows() {
+        return numberOfFlows;
+    }
+
+    /**
+     * Returns total number of recirculation flows added to accumulated sums, including full recalculations.
+     *
+     * @return number of flow updates
+     */
+    public long getNumberOfFlowUpdates() {
+        return numberOfFlowUpdates;
+    }
+
+    // Helper Methods
+
+    private MixingResult mixAccumulatedFlows(FlowOfHumidAir inletAir, List<FlowOfHumidAir> recirculationFlows) {
+        if (numberOfFlows == 0 || inletAir.getMassFlow().isCloseToZero() || MassFlow.ofKilogramsPerSecond(massFlowSum).isCloseToZero()) {
+            return MixingResult.builder()
+                    .processMode(MixingMode.MULTIPLE_MIXING)
+                    .inletAirFlow(inletAir)
+                    .outletAirFlow(inletAir)
+                    .dryAirMassFreshAirRatio(Ratio.ofPercentage(100))
+                    .humidAirVolFreshAirRatio(Ratio.ofPercentage(100))
+                    .recirculationFlows(recirculationFlows)
+                    .build();
+        }
+
+        double inletMassFlow = inletAir.getMassFlow().getInKilogramsPerSecond();
+        CommonValidators.requireBelowUpperBoundInclusive(MassFlow.ofKilogramsPerSecond(massFlowSum + inletMassFlow),
+                FlowOfHumidAir.MASS_FLOW_MAX_LIMIT);
+
+        double mdaIn = inletAir.getDryAirMassFlow().getInKilogramsPerSecond();
+        MixingEquations.mixingOfFlowSums(inletAir.getPressure().getInPascals(), inletAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(), mdaIn,
+                dryAirMassFlowSum, moistureFlowSum, enthalpyFlowSum, getMaxPressure(), mixingResult);
+        FlowOfHumidAir outletFlow = MixingEquations.toOutletFlow(mixingResult);
+        double mdaOut = mixingResult[MixingEquations.MIXING_OUTLET_DRY_AIR_MASS_FLOW];
+
+        Ratio dryAirMassFlowFreshAirRatio = Ratio.ofPercentage((mdaIn / mdaOut) * 100);
+        Ratio humidAirVolFreshAirRatio = Ratio.from(inletAir.getVolFlow(), outletFlow.getVolFlow()).toPercent();
+
+        return MixingResult.builder()
+                .processMode(MixingMode.MULTIPLE_MIXING)
+                .inletAirFlow(inletAir)
+                .outletAirFlow(outletFlow)
+                .dryAirMassFreshAirRatio(dryAirMassFlowFreshAirRatio)
+                .humidAirVolFreshAirRatio(humidAirVolFreshAirRatio)
+                .recirculationFlows(recirculationFlows)
+                .build();
+    }
+
+    private void updateFlows(List<FlowOfHumidAir> recirculationFlows) {
+        boolean resized = resizeIfNeeded(recirculationFlows.size());
+        for (int i = 0; i < numberOfFlows; i++) {
+            FlowOfHumidAir flow = recirculationFlows.get(i);
+            if (flow != flows[i]) {
+                CommonValidators.requireNotNull(flow);
+                updateFlow(i, flow);
+                connectors[i] = null;
+            }
+        }
+        completeUpdates(resized);
+    }
+
+    private void updateFlows(List<? extends ConnectorInput<FlowOfHumidAir>> recirculationFlowConnectors,
+                             ConnectorDataAccess connectorDataAccess) {
+
+        boolean resized = resizeIfNeeded(recirculationFlowConnectors.size());
+        for (int i = 0; i < numberOfFlows; i++) {
+            ConnectorInput<FlowOfHumidAir> connector = recirculationFlowConnectors.get(i);
+            long connectorVersion = connectorDataAccess.getInputVersion(connector);
+            if (connector != connectors[i] || connectorVersion != connectorVersions[i]) {
+                FlowOfHumidAir flow = connectorDataAccess.getInputData(connector);
+                CommonValidators.requireNotNull(flow);
+                updateFlow(i, flow);
+                connectors[i] = connector;
+                connectorVersions[i] = connectorVersion;
+            }
+        }
+        completeUpdates(resized);
+    }
+
+    private boolean resizeIfNeeded(int newNumberOfFlows) {
+        if (newNumberOfFlows == numberOfFlows) {
+            return false;
+        }
+        resize(newNumberOfFlows);
+        return true;
+    }
+
+    private void completeUpdates(boolean resized) {
+        if (resized) {
+            updatesSinceRecalculation = 0;
+        } else if (updatesSinceRecalculation > numberOfFlows) {
+            recalculateSums();
+        }
+    }
+
+    private void updateFlow(int index, FlowOfHumidAir flow) {
+        double dryAirMassFlow = flow.getDryAirMassFlow().getInKilogramsPerSecond();
+        double moistureFlow = dryAirMassFlow * flow.getHumidityRatio().getInKilogramPerKilogram();
+        double enthalpyFlow = dryAirMassFlow * flow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
+        double massFlow = flow.getMassFlow().getInKilogramsPerSecond();
+        double pressure = flow.getPressure().getInPascals();
+
+        dryAirMassFlowSum += dryAirMassFlow - dryAirMassFlows[index];
+        moistureFlowSum += moistureFlow - moistureFlows[index];
+        enthalpyFlowSum += enthalpyFlow - enthalpyFlows[index];
+        massFlowSum += massFlow - massFlows[index];
+        if (pressure >= maxPressure) {
+            maxPressure = pressure;
+        } else if (flows[index] != null && pressures[index] == maxPressure) {
+            maxPressureOutdated = true;
+        }
+
+        flows[index] = flow;
+        dryAirMassFlows[index] = dryAirMassFlow;
+        moistureFlows[index] = moistureFlow;
+        enthalpyFlows[index] = enthalpyFlow;
+        massFlows[index] = massFlow;
+        pressures[index] = pressure;
+        updatesSinceRecalculation++;
+        numberOfFlowUpdates++;
+    }
+
+    private void recalculateSums() {
+        dryAirMassFlowSum = 0;
+        moistureFlowSum = 0;
+        enthalpyFlowSum = 0;
+        massFlowSum = 0;
+        for (int i = 0; i < numberOfFlows; i++) {
+            dryAirMassFlowSum += dryAirMassFlows[i];
+            moistureFlowSum += moistureFlows[i];
+            enthalpyFlowSum += enthalpyFlows[i];
+            massFlowSum += massFlows[i];
+        }
+        updatesSinceRecalculation = 0;
+    }
+
+    private double getMaxPressure() {
+        if (maxPressureOutdated) {
+            maxPressure = 0;
+            for (int i = 0; i < numberOfFlows; i++) {
+                maxPressure = Double.max(maxPressure, pressures[i]);
+            }
+            maxPressureOutdated = false;
+        }
+        return maxPressure;
+    }
+
+    private void resize(int newNumberOfFlows) {
+        flows = new FlowOfHumidAir[newNumberOfFlows];
+        connectors = new ConnectorInput<?>[newNumberOfFlows];
+        connectorVersions = new long[newNumberOfFlows];
+        dryAirMassFlows = new double[newNumberOfFlows];
+        moistureFlows = new double[newNumberOfFlows];
+        enthalpyFlows = new double[newNumberOfFlows];
+        massFlows = new double[newNumberOfFlows];
+        pressures = new double[newNumberOfFlows];
+        numberOfFlows = newNumberOfFlows;
+        dryAirMassFlowSum = 0;
+        moistureFlowSum = 0;
+        enthalpyFlowSum = 0;
+        massFlowSum = 0;
+        maxPressure = 0;
+        maxPressureOutdated = false;
+        updatesSinceRecalculation = 0;
+    }
+
+}
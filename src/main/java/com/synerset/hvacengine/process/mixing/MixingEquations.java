@@ -17,6 +17,13 @@ import java.util.List;
 
 public class MixingEquations {
 
+    // Indices of primitive mixing kernel results
+    public static final int MIXING_OUTLET_PRESSURE = 0;
+    public static final int MIXING_OUTLET_TEMPERATURE = 1;
+    public static final int MIXING_OUTLET_HUMIDITY_RATIO = 2;
+    public static final int MIXING_OUTLET_DRY_AIR_MASS_FLOW = 3;
+    public static final int MIXING_RESULT_SIZE = 4;
+
     private MixingEquations() {
         throw new IllegalStateException("Utility class");
     }
@@ -42,21 +49,15 @@ public class MixingEquations {
                     .build();
         }
 
-        double xIn = inletAir.getHumidityRatio().getInKilogramPerKilogram();
-        double xRec = recirculationAirFlow.getHumidityRatio().getInKilogramPerKilogram();
         double pIn = inletAir.getPressure().getInPascals();
-        double iIn = inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
-        double iRec = recirculationAirFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
-
-        double xOut = (mdaIn * xIn + mdaRec * xRec) / mdaOut;
-        double iOut = (mdaIn * iIn + mdaRec * iRec) / mdaOut;
-        double tOut = HumidAirEquations.dryBulbTemperatureIX(iOut, xOut, pIn);
-
-        HumidAir outletHumidAir = HumidAir.of(Pressure.ofPascal(pIn),
-                Temperature.ofCelsius(tOut),
-                HumidityRatio.ofKilogramPerKilogram(xOut));
-
-        FlowOfHumidAir outletFlow = FlowOfHumidAir.ofDryAirMassFlow(outletHumidAir, MassFlow.ofKilogramsPerSecond(mdaOut));
+        double[] mixingResult = new double[MIXING_RESULT_SIZE];
+        mixingOfFlowSums(pIn, inletAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(), mdaIn,
+                mdaRec,
+                mdaRec * recirculationAirFlow.getHumidityRatio().getInKilogramPerKilogram(),
+                mdaRec * recirculationAirFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                pIn, mixingResult);
+        FlowOfHumidAir outletFlow = toOutletFlow(mixingResult);
 
         Ratio dryAirMassFreshAirRatio = Ratio.ofPercentage((mdaIn / mdaOut) * 100);
         Ratio humidAirVolFreshAirRatio = Ratio.from(inletAir.getVolFlow(), outletFlow.getVolFlow()).toPercent();
@@ -88,27 +89,25 @@ public class MixingEquations {
         MassFlow totalMassFlow = sumOfAllFlows(recirculationAirFlows).plus(inletAir.getMassFlow());
         CommonValidators.requireBelowUpperBoundInclusive(totalMassFlow, FlowOfHumidAir.MASS_FLOW_MAX_LIMIT);
 
-        double mdaOut = inletAir.getDryAirMassFlow().getInKilogramsPerSecond();
-        double xMda = mdaOut * inletAir.getHumidityRatio().getInKilogramPerKilogram();
-        double iMda = mdaOut * inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
-        double pOut = inletAir.getPressure().getInPascals();
+        double mdaRec = 0;
+        double xMdaRec = 0;
+        double iMdaRec = 0;
+        double pRec = 0;
 
         for (FlowOfHumidAir flow : recirculationAirFlows) {
-            mdaOut += flow.getDryAirMassFlow().getInKilogramsPerSecond();
-            xMda += flow.getDryAirMassFlow().getInKilogramsPerSecond() * flow.getFluid().getHumidityRatio().getInKilogramPerKilogram();
-            iMda += flow.getDryAirMassFlow().getInKilogramsPerSecond() * flow.getFluid().getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
-            pOut = Double.max(pOut, flow.getPressure().getInPascals());
+            double mda = flow.getDryAirMassFlow().getInKilogramsPerSecond();
+            mdaRec += mda;
+            xMdaRec += mda * flow.getFluid().getHumidityRatio().getInKilogramPerKilogram();
+            iMdaRec += mda * flow.getFluid().getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
+            pRec = Double.max(pRec, flow.getPressure().getInPascals());
         }
 
-        double xOut = xMda / mdaOut;
-        double iOut = iMda / mdaOut;
-        double tOut = HumidAirEquations.dryBulbTemperatureIX(iOut, xOut, pOut);
-
-        HumidAir outletHumidAir = HumidAir.of(Pressure.ofPascal(pOut),
-                Temperature.ofCelsius(tOut),
-                HumidityRatio.ofKilogramPerKilogram(xOut));
-
-        FlowOfHumidAir outletFlow = FlowOfHumidAir.ofDryAirMassFlow(outletHumidAir, MassFlow.ofKilogramsPerSecond(mdaOut));
+        double[] mixingResult = new double[MIXING_RESULT_SIZE];
+        mixingOfFlowSums(inletAir.getPressure().getInPascals(), inletAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(), inletAir.getDryAirMassFlow().getInKilogramsPerSecond(),
+                mdaRec, xMdaRec, iMdaRec, pRec, mixingResult);
+        FlowOfHumidAir outletFlow = toOutletFlow(mixingResult);
+        double mdaOut = mixingResult[MIXING_OUTLET_DRY_AIR_MASS_FLOW];
 
         Ratio dryAirMassFlowFreshAirRatio = Ratio.ofPercentage((inletAir.getDryAirMassFlow().getInKilogramsPerSecond() / mdaOut) * 100);
         Ratio humidAirVolFreshAirRatio = Ratio.from(inletAir.getVolFlow(), outletFlow.getVolFlow()).toPercent();
@@ -127,6 +126,50 @@ public class MixingEquations {
         return mixingOfMultipleFlows(inletAir, Arrays.stream(recirculationAirFlows).toList());
     }
 
+    /**
+     * Mixing kernel, based on primitive values only, which mixes inlet air with summed recirculation flows and writes outlet state
+     * into provided array without creating any objects. Recirculation flows are provided as sums of dry air mass flow, moisture flow
+     * (mda·x) and enthalpy flow (mda·i). Input values are not validated. Results in the array are organized as following:
+     * result: [outlet pressure (Pa), outlet air temperature (oC), outlet humidity ratio x (kgWv/kgDa), outlet dry air mass flow (kg/s)],
+     * see MIXING_* indices. Outlet pressure is the greater of inlet and recirculation pressure.
+     *
+     * @param inletPressure         inlet air absolute pressure, Pa
+     * @param inletHumidityRatio    inlet air humidity ratio, kg.wv/kg.da
+     * @param inletSpecificEnthalpy inlet air specific enthalpy, kJ/kg
+     * @param inletDryAirMassFlow   inlet dry air mass flow, kg/s
+     * @param mixingDryAirMassFlow  sum of recirculation dry air mass flows, kg/s
+     * @param mixingMoistureFlow    sum of recirculation moisture flows mda·x, kg/s
+     * @param mixingEnthalpyFlow    sum of recirculation enthalpy flows mda·i, kW
+     * @param mixingPressure        maximum absolute pressure of recirculation flows, Pa
+     * @param result                array of at least {@link #MIXING_RESULT_SIZE} elements, to which results are written
+     */
+    public static void mixingOfFlowSums(double inletPressure, double inletHumidityRatio, double inletSpecificEnthalpy,
+                                        double inletDryAirMassFlow, double mixingDryAirMassFlow, double mixingMoistureFlow,
+                                        double mixingEnthalpyFlow, double mixingPressure, double[] result) {
+
+        double mdaOut = inletDryAirMassFlow + mixingDryAirMassFlow;
+        double xOut = (inletDryAirMassFlow * inletHumidityRatio + mixingMoistureFlow) / mdaOut;
+        double iOut = (inletDryAirMassFlow * inletSpecificEnthalpy + mixingEnthalpyFlow) / mdaOut;
+        double pOut = Double.max(inletPressure, mixingPressure);
+        result[MIXING_OUTLET_PRESSURE] = pOut;
+        result[MIXING_OUTLET_TEMPERATURE] = HumidAirEquations.dryBulbTemperatureIX(iOut, xOut, pOut);
+        result[MIXING_OUTLET_HUMIDITY_RATIO] = xOut;
+        result[MIXING_OUTLET_DRY_AIR_MASS_FLOW] = mdaOut;
+    }
+
+    /**
+     * Creates outlet airflow from results of {@link #mixingOfFlowSums(double, double, double, double, double, double, double, double, double[])}.
+     *
+     * @param mixingResult mixing kernel results
+     * @return outlet {@link FlowOfHumidAir}
+     */
+    static FlowOfHumidAir toOutletFlow(double[] mixingResult) {
+        HumidAir outletHumidAir = HumidAir.of(Pressure.ofPascal(mixingResult[MIXING_OUTLET_PRESSURE]),
+                Temperature.ofCelsius(mixingResult[MIXING_OUTLET_TEMPERATURE]),
+                HumidityRatio.ofKilogramPerKilogram(mixingResult[MIXING_OUTLET_HUMIDITY_RATIO]));
+        return FlowOfHumidAir.ofDryAirMassFlow(outletHumidAir, MassFlow.ofKilogramsPerSecond(mixingResult[MIXING_OUTLET_DRY_AIR_MASS_FLOW]));
+    }
+
     private static MassFlow sumOfAllFlows(Collection<FlowOfHumidAir> airFlows) {
         MassFlow resultingFlow = MassFlow.ofKilogramsPerSecond(0);
         for (FlowOfHumidAir flow : airFlows) {
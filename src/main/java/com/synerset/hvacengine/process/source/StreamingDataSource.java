@@ -0,0 +1,162 @@
+package com.synerset.hvacengine.process.source;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * A pull-based streaming data source, publishing elements of an iterator as a {@link Flow.Publisher}, for example to replay large
+ * historical datasets. <p>
+ * Elements are taken from the iterator only when requested by the subscriber, so a lazily evaluated iterator (for example reading a file
+ * line by line) is processed at constant memory. Elements are delivered on the provided executor, one at a time and in iterator order.
+ * An iterator can be consumed only once, therefore the source accepts a single subscriber. For live data, any other publisher (for
+ * example {@link java.util.concurrent.SubmissionPublisher}) can be used in the same way.
+ *
+ * @param <T> The type of published data.
+ */
+public class StreamingDataSource<T> implements Flow.Publisher<T> {
+
+    private static final Flow.Subscription REJECTED_SUBSCRIPTION = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+            // Nothing will be published
+        }
+
+        @Override
+        public void cancel() {
+            // Nothing to cancel
+        }
+    };
+
+    private final Iterator<? extends T> iterator;
+    private final Executor executor;
+    private final AtomicBoolean isSubscribed;
+
+    public StreamingDataSource(Iterator<? extends T> iterator, Executor executor) {
+        CommonValidators.requireNotNull(iterator);
+        CommonValidators.requireNotNull(executor);
+        this.iterator = iterator;
+        this.executor = executor;
+        this.isSubscribed = new AtomicBoolean();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        CommonValidators.requireNotNull(subscriber);
+        if (!isSubscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(REJECTED_SUBSCRIPTION);
+            subscriber.onError(new HvacEngineArgumentException("Streaming data source accepts only one subscriber."));
+            return;
+        }
+        subscriber.onSubscribe(new IteratorSubscription(subscriber));
+    }
+
+    /**
+     * Subscription emitting iterator elements up to outstanding demand. Emission runs as a single task on the executor at a time,
+     * new demand received during emission is handled by the running task.
+     */
+    private final class IteratorSubscription implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand;
+        private final AtomicInteger pendingSignals;
+        private volatile boolean isCancelled;
+        private volatile long invalidRequest;
+
+        private IteratorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+            this.demand = new AtomicLong();
+            this.pendingSignals = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = n;
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            if (pendingSignals.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+        }
+
+        @Override
+        public void run() {
+            int missedSignals = 1;
+            do {
+                if (isCancelled) {
+                    return;
+                }
+                if (invalidRequest != 0) {
+                    isCancelled = true;
+                    subscriber.onError(new HvacEngineArgumentException("Requested number of elements must be positive, n=" + invalidRequest));
+                    return;
+                }
+                long emitted = 0;
+                long requested = demand.get();
+                while (!isCancelled) {
+                    T element;
+                    try {
+                        // Completion is signalled without waiting for further demand
+                        if (!iterator.hasNext()) {
+                            isCancelled = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        if (emitted == requested) {
+                            break;
+                        }
+                        element = iterator.next();
+                        CommonValidators.requireNotNull(element);
+                    } catch (RuntimeException exception) {
+                        isCancelled = true;
+                        subscriber.onError(exception);
+                        return;
+                    }
+                    subscriber.onNext(element);
+                    emitted++;
+                }
+                if (requested != Long.MAX_VALUE) {
+                    demand.addAndGet(-emitted);
+                }
+                missedSignals = pendingSignals.addAndGet(-missedSignals);
+            } while (missedSignals != 0);
+        }
+
+    }
+
+    // Static factory methods
+
+    public static <K> StreamingDataSource<K> of(Iterator<? extends K> iterator, Executor executor) {
+        return new StreamingDataSource<>(iterator, executor);
+    }
+
+    public static <K> StreamingDataSource<K> of(Iterator<? extends K> iterator) {
+        return new StreamingDataSource<>(iterator, ForkJoinPool.commonPool());
+    }
+
+    public static <K> StreamingDataSource<K> of(Iterable<? extends K> iterable) {
+        CommonValidators.requireNotNull(iterable);
+        return of(iterable.iterator());
+    }
+
+    public static <K> StreamingDataSource<K> of(Stream<? extends K> stream) {
+        CommonValidators.requireNotNull(stream);
+        return of(stream.iterator());
+    }
+
+}
@@ -62,11 +62,7 @@ public final class DryAirEquations {
      * @return thermal conductivity, W/(m*K)
      */
     public static double thermalConductivity(double ta) {
-        return 2.43714 * Math.pow(10, -2)
-                + 7.83035 * Math.pow(10, -5) * ta
-                - 1.94021 * Math.pow(10, -8) * Math.pow(ta, 2)
-                + 2.85943 * Math.pow(10, -12) * Math.pow(ta, 3)
-                - 2.61420 * Math.pow(10, -14) * Math.pow(ta, 4);
+        return 2.43714E-2 + ta * (7.83035E-5 + ta * (-1.94021E-8 + ta * (2.85943E-12 + ta * -2.61420E-14)));
     }
 
     public static ThermalConductivity thermalConductivity(Temperature dryAirTemperature) {
@@ -123,11 +119,7 @@ public final class DryAirEquations {
             d = -8.4171864437938596E-10;
             e = 3.0582028042912701E-13;
         }
-        return e * Math.pow(ta, 4)
-                + d * Math.pow(ta, 3)
-                + c * Math.pow(ta, 2)
-                + b * ta
-                + a;
+        return a + ta * (b + ta * (c + ta * (d + ta * e)));
     }
 
     public static SpecificHeat specificHeat(Temperature dryAirTemperature) {
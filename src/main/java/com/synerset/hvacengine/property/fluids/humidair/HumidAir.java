@@ -11,6 +11,7 @@ import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.*;
 
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * A class representing the properties of humid air, including temperature, pressure, humidity, and more.
@@ -21,6 +22,8 @@ public class HumidAir implements Fluid {
     public static final Temperature TEMPERATURE_MIN_LIMIT = Temperature.ofCelsius(-150);
     public static final Temperature TEMPERATURE_MAX_LIMIT = Temperature.ofCelsius(200);
     public static final HumidityRatio HUMIDITY_RATIO_MAX_LIMIT = HumidityRatio.ofKilogramPerKilogram(3);
+    // Optional cache used by static factory and "with" methods, disabled by default
+    private static volatile HumidAirCache cache;
     private final Temperature temperature;
     private final Pressure pressure;
     private final Density density;
@@ -29,16 +32,18 @@ public class HumidAir implements Fluid {
     private final HumidityRatio humidityRatio;
     private final HumidityRatio maxHumidityRatio;
     private final VapourState vapourState;
-    private final Temperature wetBulbTemperature;
-    private final Temperature dewPointTemperature;
     private final SpecificHeat specificHeat;
     private final SpecificEnthalpy specificEnthalpy;
-    private final DynamicViscosity dynamicViscosity;
-    private final KinematicViscosity kinematicViscosity;
-    private final ThermalConductivity thermalConductivity;
-    private final ThermalDiffusivity thermalDiffusivity;
-    private final PrandtlNumber prandtlNumber;
-    private final DryAir dryAirComponent;
+    // Secondary properties, evaluated on first access. All values are immutable and deterministic,
+    // therefore concurrent first access may at most evaluate the same value more than once.
+    private volatile Temperature wetBulbTemperature;
+    private volatile Temperature dewPointTemperature;
+    private volatile DynamicViscosity dynamicViscosity;
+    private volatile KinematicViscosity kinematicViscosity;
+    private volatile ThermalConductivity thermalConductivity;
+    private volatile ThermalDiffusivity thermalDiffusivity;
+    private volatile PrandtlNumber prandtlNumber;
+    private volatile DryAir dryAirComponent;
 
     /**
      * Constructs a `HumidAir` instance with the specified absolute pressure, dry bulb temperature, and humidity ratio.
@@ -65,13 +70,7 @@ public class HumidAir implements Fluid {
                     HumidityRatio humidityRatio,
                     Pressure satPressure) {
 
-        CommonValidators.requireNotNull(pressure);
-        CommonValidators.requireNotNull(temperature);
-        CommonValidators.requireNotNull(humidityRatio);
-        CommonValidators.requireBetweenBoundsInclusive(pressure, PRESSURE_MIN_LIMIT, PRESSURE_MAX_LIMIT);
-        CommonValidators.requireBetweenBoundsInclusive(temperature, TEMPERATURE_MIN_LIMIT, TEMPERATURE_MAX_LIMIT);
-        CommonValidators.requireBetweenBoundsInclusive(humidityRatio, HumidityRatio.HUM_RATIO_MIN_LIMIT, HUMIDITY_RATIO_MAX_LIMIT);
-        FluidValidators.requireValidSaturationPressure(satPressure, pressure, temperature);
+        requireValidState(pressure, temperature, humidityRatio, satPressure);
 
         this.pressure = pressure;
         this.temperature = temperature;
@@ -81,16 +80,8 @@ public class HumidAir implements Fluid {
         this.relativeHumidity = HumidAirEquations.relativeHumidityFromPs(humidityRatio, pressure, satPressure);
         this.maxHumidityRatio = HumidAirEquations.maxHumidityRatio(saturationPressure, pressure);
         this.vapourState = determineVapourState(temperature, humidityRatio, maxHumidityRatio);
-        this.wetBulbTemperature = HumidAirEquations.wetBulbTemperature(temperature, relativeHumidity, pressure);
-        this.dewPointTemperature = HumidAirEquations.dewPointTemperature(temperature, relativeHumidity, pressure);
         this.specificHeat = HumidAirEquations.specificHeat(temperature, humidityRatio);
         this.specificEnthalpy = HumidAirEquations.specificEnthalpy(temperature, humidityRatio, pressure, saturationPressure);
-        this.dynamicViscosity = HumidAirEquations.dynamicViscosity(temperature, humidityRatio);
-        this.kinematicViscosity = HumidAirEquations.kinematicViscosity(temperature, humidityRatio, density);
-        this.thermalConductivity = HumidAirEquations.thermalConductivity(temperature, humidityRatio);
-        this.thermalDiffusivity = SharedEquations.thermalDiffusivity(density, thermalConductivity, specificHeat);
-        this.prandtlNumber = SharedEquations.prandtlNumber(dynamicViscosity, thermalConductivity, specificHeat);
-        this.dryAirComponent = DryAir.of(pressure, temperature);
     }
 
     public Temperature getTemperature() {
@@ -126,11 +117,21 @@ public class HumidAir implements Fluid {
     }
 
     public Temperature getWetBulbTemperature() {
-        return wetBulbTemperature;
+        Temperature result = wetBulbTemperature;
+        if (result == null) {
+            result = HumidAirEquations.wetBulbTemperature(temperature, relativeHumidity, pressure);
+            wetBulbTemperature = result;
+        }
+        return result;
     }
 
     public Temperature getDewPointTemperature() {
-        return dewPointTemperature;
+        Temperature result = dewPointTemperature;
+        if (result == null) {
+            result = HumidAirEquations.dewPointTemperature(temperature, relativeHumidity, pressure);
+            dewPointTemperature = result;
+        }
+        return result;
     }
 
     public SpecificHeat getSpecificHeat() {
@@ -142,27 +143,57 @@ public class HumidAir implements Fluid {
     }
 
     public DynamicViscosity getDynamicViscosity() {
-        return dynamicViscosity;
+        DynamicViscosity result = dynamicViscosity;
+        if (result == null) {
+            result = HumidAirEquations.dynamicViscosity(temperature, humidityRatio);
+            dynamicViscosity = result;
+        }
+        return result;
     }
 
     public KinematicViscosity getKinematicViscosity() {
-        return kinematicViscosity;
+        KinematicViscosity result = kinematicViscosity;
+        if (result == null) {
+            result = HumidAirEquations.kinematicViscosity(temperature, humidityRatio, density);
+            kinematicViscosity = result;
+        }
+        return result;
     }
 
     public ThermalConductivity getThermalConductivity() {
-        return thermalConductivity;
+        ThermalConductivity result = thermalConductivity;
+        if (result == null) {
+            result = HumidAirEquations.thermalConductivity(temperature, humidityRatio);
+            thermalConductivity = result;
+        }
+        return result;
     }
 
     public ThermalDiffusivity getThermalDiffusivity() {
-        return thermalDiffusivity;
+        ThermalDiffusivity result = thermalDiffusivity;
+        if (result == null) {
+            result = SharedEquations.thermalDiffusivity(density, getThermalConductivity(), specificHeat);
+            thermalDiffusivity = result;
+        }
+        return result;
     }
 
     public PrandtlNumber getPrandtlNumber() {
-        return prandtlNumber;
+        PrandtlNumber result = prandtlNumber;
+        if (result == null) {
+            result = SharedEquations.prandtlNumber(getDynamicViscosity(), getThermalConductivity(), specificHeat);
+            prandtlNumber = result;
+        }
+        return result;
     }
 
     public DryAir getDryAirComponent() {
-        return dryAirComponent;
+        DryAir result = dryAirComponent;
+        if (result == null) {
+            result = DryAir.of(pressure, temperature);
+            dryAirComponent = result;
+        }
+        return result;
     }
 
     /**
@@ -182,7 +213,7 @@ public class HumidAir implements Fluid {
      * @return a new {@code HumidAir} instance with the specified pressure
      */
     public HumidAir withPressure(Pressure pressure) {
-        return HumidAir.of(pressure, temperature, humidityRatio);
+        return deriveAtSameTemperature(pressure, humidityRatio);
     }
 
     /**
@@ -192,7 +223,7 @@ public class HumidAir implements Fluid {
      * @return a new {@code HumidAir} instance with the specified humidity ratio
      */
     public HumidAir withHumidityRatio(HumidityRatio humidityRatio) {
-        return HumidAir.of(pressure, temperature, humidityRatio);
+        return deriveAtSameTemperature(pressure, humidityRatio);
     }
 
     /**
@@ -202,7 +233,28 @@ public class HumidAir implements Fluid {
      * @return a new {@code HumidAir} instance with the specified relative humidity
      */
     public HumidAir withRelativeHumidity(RelativeHumidity relativeHumidity) {
-        return HumidAir.of(pressure, temperature, relativeHumidity);
+        CommonValidators.requireNotNull(relativeHumidity);
+        CommonValidators.requireBetweenBoundsInclusive(relativeHumidity, RelativeHumidity.RH_MIN_LIMIT, RelativeHumidity.RH_MAX_LIMIT);
+        HumidityRatio humRatio = HumidAirEquations.humidityRatio(relativeHumidity, saturationPressure, pressure);
+        return deriveAtSameTemperature(pressure, humRatio);
+    }
+
+    /**
+     * Derives new instance at the same dry bulb temperature. Saturation pressure depends on temperature only and is carried forward,
+     * together with already evaluated dry air component if pressure is also unchanged.
+     */
+    private HumidAir deriveAtSameTemperature(Pressure newPressure, HumidityRatio newHumidityRatio) {
+        CommonValidators.requireNotNull(newPressure);
+        CommonValidators.requireNotNull(newHumidityRatio);
+        HumidAirCache currentCache = cache;
+        if (currentCache != null) {
+            return currentCache.get(newPressure, temperature, newHumidityRatio, saturationPressure);
+        }
+        HumidAir derivedAir = new HumidAir(newPressure, temperature, newHumidityRatio, saturationPressure);
+        if (newPressure.equals(pressure)) {
+            derivedAir.dryAirComponent = dryAirComponent;
+        }
+        return derivedAir;
     }
 
     @Override
@@ -218,22 +270,22 @@ public class HumidAir implements Fluid {
                maxHumidityRatio.toEngineeringFormat("x\"", digits) + end +
 
                saturationPressure.toEngineeringFormat("Ps", digits) + separator +
-               dewPointTemperature.toEngineeringFormat("WBT", digits) + separator +
-               wetBulbTemperature.toEngineeringFormat("TDP", digits) + separator +
+               getDewPointTemperature().toEngineeringFormat("WBT", digits) + separator +
+               getWetBulbTemperature().toEngineeringFormat("TDP", digits) + separator +
                "Vapour status: " + vapourState + end +
 
                specificEnthalpy.toEngineeringFormat("i", digits) + separator +
                density.toEngineeringFormat("ρ", digits) + separator +
                specificHeat.toEngineeringFormat("cp", digits) + end +
 
-               kinematicViscosity.toEngineeringFormat("ν", digits) + separator +
-               dynamicViscosity.toEngineeringFormat("μ", digits) + separator +
-               thermalConductivity.toEngineeringFormat("k", digits) + end +
+               getKinematicViscosity().toEngineeringFormat("ν", digits) + separator +
+               getDynamicViscosity().toEngineeringFormat("μ", digits) + separator +
+               getThermalConductivity().toEngineeringFormat("k", digits) + end +
 
-               thermalDiffusivity.toEngineeringFormat("α", digits) + separator +
-               prandtlNumber.toEngineeringFormat("Pr", digits) + end +
+               getThermalDiffusivity().toEngineeringFormat("α", digits) + separator +
+               getPrandtlNumber().toEngineeringFormat("Pr", digits) + end +
 
-               dryAirComponent.toConsoleOutput();
+               getDryAirComponent().toConsoleOutput();
     }
 
     @Override
@@ -262,16 +314,16 @@ public class HumidAir implements Fluid {
                ", humidityRatio=" + humidityRatio +
                ", maxHumidityRatio=" + maxHumidityRatio +
                ", vapourState=" + vapourState +
-               ", wetBulbTemperature=" + wetBulbTemperature +
-               ", dewPointTemperature=" + dewPointTemperature +
+               ", wetBulbTemperature=" + getWetBulbTemperature() +
+               ", dewPointTemperature=" + getDewPointTemperature() +
                ", specificHeat=" + specificHeat +
                ", specificEnthalpy=" + specificEnthalpy +
-               ", dynamicViscosity=" + dynamicViscosity +
-               ", kinematicViscosity=" + kinematicViscosity +
-               ", thermalConductivity=" + thermalConductivity +
-               ", thermalDiffusivity=" + thermalDiffusivity +
-               ", prandtlNumber=" + prandtlNumber +
-               ", dryAirComponent=" + dryAirComponent +
+               ", dynamicViscosity=" + getDynamicViscosity() +
+               ", kinematicViscosity=" + getKinematicViscosity() +
+               ", thermalConductivity=" + getThermalConductivity() +
+               ", thermalDiffusivity=" + getThermalDiffusivity() +
+               ", prandtlNumber=" + getPrandtlNumber() +
+               ", dryAirComponent=" + getDryAirComponent() +
                '}';
     }
 
@@ -298,6 +350,19 @@ public class HumidAir implements Fluid {
         }
     }
 
+    /**
+     * Validates humid air state, as done by constructors. Used also by {@link HumidAirCache} before lookup.
+     */
+    static void requireValidState(Pressure pressure, Temperature temperature, HumidityRatio humidityRatio, Pressure satPressure) {
+        CommonValidators.requireNotNull(pressure);
+        CommonValidators.requireNotNull(temperature);
+        CommonValidators.requireNotNull(humidityRatio);
+        CommonValidators.requireBetweenBoundsInclusive(pressure, PRESSURE_MIN_LIMIT, PRESSURE_MAX_LIMIT);
+        CommonValidators.requireBetweenBoundsInclusive(temperature, TEMPERATURE_MIN_LIMIT, TEMPERATURE_MAX_LIMIT);
+        CommonValidators.requireBetweenBoundsInclusive(humidityRatio, HumidityRatio.HUM_RATIO_MIN_LIMIT, HUMIDITY_RATIO_MAX_LIMIT);
+        FluidValidators.requireValidSaturationPressure(satPressure, pressure, temperature);
+    }
+
     // Static factory methods
 
     /**
@@ -309,6 +374,10 @@ public class HumidAir implements Fluid {
      * @return A `HumidAir` instance.
      */
     public static HumidAir of(Pressure pressure, Temperature dryBulbTemperature, HumidityRatio humidityRatio) {
+        HumidAirCache currentCache = cache;
+        if (currentCache != null) {
+            return currentCache.get(pressure, dryBulbTemperature, humidityRatio);
+        }
         return new HumidAir(pressure, dryBulbTemperature, humidityRatio);
     }
 
@@ -320,7 +389,7 @@ public class HumidAir implements Fluid {
      * @return A `HumidAir` instance.
      */
     public static HumidAir of(Temperature dryBulbTemperature, HumidityRatio humidityRatio) {
-        return new HumidAir(Pressure.STANDARD_ATMOSPHERE, dryBulbTemperature, humidityRatio);
+        return HumidAir.of(Pressure.STANDARD_ATMOSPHERE, dryBulbTemperature, humidityRatio);
     }
 
     /**
@@ -336,6 +405,10 @@ public class HumidAir implements Fluid {
         Pressure satPressure = HumidAirEquations.saturationPressure(dryBulbTemperature);
         FluidValidators.requireValidSaturationPressure(satPressure, pressure, dryBulbTemperature);
         HumidityRatio humRatio = HumidAirEquations.humidityRatio(relativeHumidity, satPressure, pressure);
+        HumidAirCache currentCache = cache;
+        if (currentCache != null) {
+            return currentCache.get(pressure, dryBulbTemperature, humRatio, satPressure);
+        }
         return new HumidAir(pressure, dryBulbTemperature, humRatio, satPressure);
     }
 
@@ -350,4 +423,33 @@ public class HumidAir implements Fluid {
         return HumidAir.of(Pressure.STANDARD_ATMOSPHERE, dryBulbTemperature, relativeHumidity);
     }
 
-}
\ No newline at end of file
+    // Cache configuration
+
+    /**
+     * Enables provided cache for all {@code HumidAir.of(...)} factory methods and "with" methods. Constructors are not affected.
+     * See {@link HumidAirCache} for details on key quantization.
+     *
+     * @param humidAirCache cache to be used
+     */
+    public static void enableCache(HumidAirCache humidAirCache) {
+        CommonValidators.requireNotNull(humidAirCache);
+        cache = humidAirCache;
+    }
+
+    /**
+     * Disables currently used cache, if any. Instances are created directly by each factory method call.
+     */
+    public static void disableCache() {
+        cache = null;
+    }
+
+    /**
+     * Returns currently enabled cache.
+     *
+     * @return optional cache, empty if caching is disabled
+     */
+    public static Optional<HumidAirCache> getCache() {
+        return Optional.ofNullable(cache);
+    }
+
+}
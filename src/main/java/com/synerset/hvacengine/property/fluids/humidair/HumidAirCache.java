@@ -0,0 +1,201 @@
+package com.synerset.hvacengine.property.fluids.humidair;
+
+import com.synerset.hvacengine.common.SegmentedCache;
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+
+/**
+ * Bounded, thread-safe cache of {@link HumidAir} instances. Instances are keyed on absolute pressure, dry bulb temperature and humidity ratio,
+ * each quantized to configured resolution. States falling into the same quantization cell share one instance, computed for the first
+ * requested state of that cell. Therefore, returned instance may differ from requested state by less than one resolution step per property.<p>
+ * Requested states are validated as by {@link HumidAir} constructors before lookup. Keys include version of saturation pressure model,
+ * and all instances are removed once {@link HumidAirEquations#setSaturationPressureModel(SaturationPressureModel)} is called.<p>
+ * Cache is backed by {@link SegmentedCache}, divided into independently locked segments, each of them evicting its least recently used
+ * entries once segment capacity is reached. Hit, miss and eviction statistics are collected for the whole cache.<p>
+ * Cache can be used directly, or enabled globally for {@link HumidAir} factory and "with" methods with {@link HumidAir#enableCache(HumidAirCache)}.
+ */
+public final class HumidAirCache {
+
+    public static final int DEFAULT_MAX_SIZE = 10_000;
+    public static final double DEFAULT_PRESSURE_RESOLUTION = 0.1;                // [Pa]
+    public static final double DEFAULT_TEMPERATURE_RESOLUTION = 1.0E-4;          // [K]
+    public static final double DEFAULT_HUMIDITY_RATIO_RESOLUTION = 1.0E-7;       // [kg.wv/kg.da]
+
+    private static final int MAX_NUMBER_OF_SEGMENTS = 16;
+
+    private final int maxSize;
+    private final double pressureResolution;
+    private final double temperatureResolution;
+    private final double humidityRatioResolution;
+    private final SegmentedCache<StateKey, HumidAir> entries;
+
+    private HumidAirCache(int maxSize, double pressureResolution, double temperatureResolution, double humidityRatioResolution) {
+        if (maxSize < 1) {
+            throw new HvacEngineArgumentException("Cache max size must be positive, maxSize=" + maxSize);
+        }
+        requirePositiveResolution("pressure", pressureResolution);
+        requirePositiveResolution("temperature", temperatureResolution);
+        requirePositiveResolution("humidity ratio", humidityRatioResolution);
+        this.maxSize = maxSize;
+        this.pressureResolution = pressureResolution;
+        this.temperatureResolution = temperatureResolution;
+        this.humidityRatioResolution = humidityRatioResolution;
+        this.entries = SegmentedCache.ofLeastRecentlyUsed(maxSize, MAX_NUMBER_OF_SEGMENTS);
+    }
+
+    /**
+     * Returns cached {@link HumidAir} instance for provided state. On cache miss, new instance is created and stored.<p>
+     * Requested state is validated before lookup. Lookup is quantized: if another state within the same quantization cell (see
+     * {@link #getPressureResolution()}, {@link #getTemperatureResolution()}, {@link #getHumidityRatioResolution()}) was requested before,
+     * its instance is returned, which may differ from requested state by less than one resolution step per property.
+     *
+     * @param pressure           absolute pressure
+     * @param dryBulbTemperature dry bulb temperature
+     * @param humidityRatio      humidity ratio
+     * @return humid air instance for provided state, within configured resolution
+     * @throws com.synerset.hvacengine.common.exception.HvacEngineArgumentException if requested state is not valid
+     */
+    public HumidAir get(Pressure pressure, Temperature dryBulbTemperature, HumidityRatio humidityRatio) {
+        CommonValidators.requireNotNull(dryBulbTemperature);
+        return get(pressure, dryBulbTemperature, humidityRatio, HumidAirEquations.saturationPressure(dryBulbTemperature));
+    }
+
+    HumidAir get(Pressure pressure, Temperature dryBulbTemperature, HumidityRatio humidityRatio, Pressure saturationPressure) {
+        HumidAir.requireValidState(pressure, dryBulbTemperature, humidityRatio, saturationPressure);
+        long saturationPressureModelVersion = HumidAirEquations.getSaturationPressureModelVersion();
+        entries.clearIfVersionChanged(saturationPressureModelVersion);
+        StateKey key = new StateKey(
+                saturationPressureModelVersion,
+                quantize(pressure.getInPascals(), pressureResolution),
+                quantize(dryBulbTemperature.getInCelsius(), temperatureResolution),
+                quantize(humidityRatio.getInKilogramPerKilogram(), humidityRatioResolution)
+        );
+        HumidAir cachedHumidAir = entries.get(key);
+        if (cachedHumidAir != null) {
+            return cachedHumidAir;
+        }
+        // Computed outside the segment lock, concurrent misses for the same key may evaluate the same state more than once.
+        HumidAir humidAir = new HumidAir(pressure, dryBulbTemperature, humidityRatio, saturationPressure);
+        return entries.putIfAbsent(key, humidAir);
+    }
+
+    /**
+     * Removes all cached instances. Statistics are not affected.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Resets hit, miss and eviction counters.
+     */
+    public void resetStatistics() {
+        entries.resetStatistics();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public double getPressureResolution() {
+        return pressureResolution;
+    }
+
+    public double getTemperatureResolution() {
+        return temperatureResolution;
+    }
+
+    public double getHumidityRatioResolution() {
+        return humidityRatioResolution;
+    }
+
+    public long getHitCount() {
+        return entries.getHitCount();
+    }
+
+    public long getMissCount() {
+        return entries.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return entries.getEvictionCount();
+    }
+
+    /**
+     * Returns ratio of cache hits to all requests, or 0 if no requests were made.
+     *
+     * @return hit rate, -
+     */
+    public double getHitRate() {
+        return entries.getHitRate();
+    }
+
+    private static long quantize(double value, double resolution) {
+        return Math.round(value / resolution);
+    }
+
+    private static void requirePositiveResolution(String propertyName, double resolution) {
+        if (!(resolution > 0.0) || !Double.isFinite(resolution)) {
+            throw new HvacEngineArgumentException(String.format("Cache %s resolution must be positive, resolution=%s", propertyName, resolution));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HumidAirCache{" +
+               "maxSize=" + maxSize +
+               ", size=" + size() +
+               ", pressureResolution=" + pressureResolution +
+               ", temperatureResolution=" + temperatureResolution +
+               ", humidityRatioResolution=" + humidityRatioResolution +
+               ", hitCount=" + getHitCount() +
+               ", missCount=" + getMissCount() +
+               ", evictionCount=" + getEvictionCount() +
+               '}';
+    }
+
+    private record StateKey(long saturationPressureModelVersion, long pressure, long temperature, long humidityRatio) {
+    }
+
+    // STATIC FACTORY METHODS
+
+    /**
+     * Creates cache with default size and resolutions.
+     *
+     * @return humid air cache
+     */
+    public static HumidAirCache of() {
+        return of(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates cache with given maximum number of entries and default resolutions.
+     *
+     * @param maxSize maximum number of cached instances
+     * @return humid air cache
+     */
+    public static HumidAirCache of(int maxSize) {
+        return of(maxSize, DEFAULT_PRESSURE_RESOLUTION, DEFAULT_TEMPERATURE_RESOLUTION, DEFAULT_HUMIDITY_RATIO_RESOLUTION);
+    }
+
+    /**
+     * Creates cache with given maximum number of entries and key resolutions.
+     *
+     * @param maxSize                 maximum number of cached instances
+     * @param pressureResolution      pressure quantization step, Pa
+     * @param temperatureResolution   temperature quantization step, K
+     * @param humidityRatioResolution humidity ratio quantization step, kg.wv/kg.da
+     * @return humid air cache
+     */
+    public static HumidAirCache of(int maxSize, double pressureResolution, double temperatureResolution, double humidityRatioResolution) {
+        return new HumidAirCache(maxSize, pressureResolution, temperatureResolution, humidityRatioResolution);
+    }
+
+}
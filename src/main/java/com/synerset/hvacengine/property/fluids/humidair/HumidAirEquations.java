@@ -2,6 +2,7 @@ package com.synerset.hvacengine.property.fluids.humidair;
 
 
 import com.synerset.brentsolver.BrentSolver;
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
 import com.synerset.hvacengine.common.validation.CommonValidators;
 import com.synerset.hvacengine.property.fluids.dryair.DryAirEquations;
 import com.synerset.hvacengine.property.fluids.liquidwater.LiquidWaterEquations;
@@ -11,6 +12,7 @@ import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.*;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.DoubleUnaryOperator;
 
 import static com.synerset.hvacengine.common.SharedSettings.SHOW_SOLVER_DEBUG_LOGS;
@@ -54,39 +56,116 @@ public final class HumidAirEquations {
     private static final double SOLVER_A_COEF = 0.8;
     private static final double SOLVER_B_COEF = 1.01;
 
+    private static volatile SaturationPressureModel saturationPressureModel = SaturationPressureModel.DIRECT;
+    private static final AtomicLong saturationPressureModelVersion = new AtomicLong();
+
+    // Hyland-Wexler equation coefficients, over ice (ta < 0oC) and over liquid water (ta >= 0oC)
+    private static final double C1 = -5.6745359E+03;
+    private static final double C2 = 6.3925247E+00;
+    private static final double C3 = -9.6778430E-03;
+    private static final double C4 = 6.2215701E-07;
+    private static final double C5 = 2.0747825E-09;
+    private static final double C6 = -9.4840240E-13;
+    private static final double C7 = 4.1635019E+00;
+    private static final double C8 = -5.8002206E+03;
+    private static final double C9 = 1.3914993E+00;
+    private static final double C10 = -4.8640239E-02;
+    private static final double C11 = 4.1764768E-05;
+    private static final double C12 = -1.4452093E-08;
+    private static final double C13 = 6.5459673E+00;
+    private static final double TK_FREEZING = 273.15;
+    private static final double LN_PS_OVER_WATER_AT_FREEZING = lnSaturationPressureOverWater(TK_FREEZING);
+    private static final double LN_PS_OVER_ICE_AT_FREEZING = lnSaturationPressureOverIce(TK_FREEZING);
+    private static final double TSAT_ACCURACY = 1.0E-12;
+    private static final int TSAT_MAX_ITERATIONS = 50;
+    private static final double WBT_LOWER_LIMIT = -150.0;
+    private static final double WBT_ACCURACY = 1.0E-12;
+    private static final int WBT_MAX_ITERATIONS = 100;
+
     private HumidAirEquations() {
     }
 
+    // SATURATION PRESSURE MODEL SELECTION
+
+    /**
+     * Returns saturation pressure model currently used by {@link #saturationPressure(double)}.
+     *
+     * @return current saturation pressure model
+     */
+    public static SaturationPressureModel getSaturationPressureModel() {
+        return saturationPressureModel;
+    }
+
+    /**
+     * Sets saturation pressure model used by {@link #saturationPressure(double)} and all dependent properties.
+     * Setting is global for the whole application. Each call changes {@link #getSaturationPressureModelVersion()}, so that caches of
+     * dependent properties can drop outdated entries.
+     *
+     * @param model saturation pressure model
+     */
+    public static void setSaturationPressureModel(SaturationPressureModel model) {
+        CommonValidators.requireNotNull(model);
+        saturationPressureModel = model;
+        saturationPressureModelVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns version of saturation pressure model setting, incremented each time the model is set.
+     *
+     * @return saturation pressure model version
+     */
+    public static long getSaturationPressureModelVersion() {
+        return saturationPressureModelVersion.get();
+    }
+
     // HUMID AIR CORE PROPERTIES
 
     /**
      * Returns moist air saturation vapour pressure, Pa<p>
+     * Evaluation is delegated to currently selected {@link SaturationPressureModel}, by default {@link SaturationPressureModel#DIRECT}.<p>
      * REFERENCE SOURCE: [1] [ps,Pa] (5,6) [6.2]<p>
      * EQUATION LIMITS: {-100oC,+200oC}<p>
      *
      * @param ta air temperature, oC
-     * @return temperature at provided altitude, oC
+     * @return saturation vapour pressure, Pa
      */
     public static double saturationPressure(double ta) {
+        return saturationPressureModel.saturationPressure(ta);
+    }
+
+    /**
+     * Returns moist air saturation vapour pressure, Pa<p>
+     * Direct (non-iterative) evaluation of Hyland-Wexler equation. Equation is explicit in ln(ps), therefore no solver is required.
+     * Maximum relative deviation from {@link #saturationPressureIterative(double)} is below 1E-6 in the equation limits,
+     * in practice it is limited only by solver accuracy (typically 1E-14).<p>
+     * REFERENCE SOURCE: [1] [ps,Pa] (5,6) [6.2]<p>
+     * EQUATION LIMITS: {-100oC,+200oC}<p>
+     *
+     * @param ta air temperature, oC
+     * @return saturation vapour pressure, Pa
+     */
+    public static double saturationPressureDirect(double ta) {
+        double tk = ta + 273.15;
+        double lnPs = ta < 0.0 ? lnSaturationPressureOverIce(tk) : lnSaturationPressureOverWater(tk);
+        return Math.exp(lnPs);
+    }
+
+    /**
+     * Returns moist air saturation vapour pressure, Pa<p>
+     * Legacy evaluation of Hyland-Wexler equation using Brent-Dekker solver.<p>
+     * REFERENCE SOURCE: [1] [ps,Pa] (5,6) [6.2]<p>
+     * EQUATION LIMITS: {-100oC,+200oC}<p>
+     *
+     * @param ta air temperature, oC
+     * @return saturation vapour pressure, Pa
+     */
+    public static double saturationPressureIterative(double ta) {
         double expectedSatPressure;
         double estimatedSatPressure;
         double a;
         double tk = ta + 273.15;
         // additional convergence coefficient for higher temperatures, determine empirically
         double n = 1.0;
-        final double C1 = -5.6745359E+03;
-        final double C2 = 6.3925247E+00;
-        final double C3 = -9.6778430E-03;
-        final double C4 = 6.2215701E-07;
-        final double C5 = 2.0747825E-09;
-        final double C6 = -9.4840240E-13;
-        final double C7 = 4.1635019E+00;
-        final double C8 = -5.8002206E+03;
-        final double C9 = 1.3914993E+00;
-        final double C10 = -4.8640239E-02;
-        final double C11 = 4.1764768E-05;
-        final double C12 = -1.4452093E-08;
-        final double C13 = 6.5459673E+00;
 
         DoubleUnaryOperator satPressureExpression;
 
@@ -120,6 +199,96 @@ public final class HumidAirEquations {
         return Pressure.ofPascal(saturationPressVal);
     }
 
+    /**
+     * Returns saturation temperature for given water vapour saturation pressure, oC<p>
+     * Inverse of currently selected {@link SaturationPressureModel}, consistent with {@link #saturationPressure(double)}.
+     * For {@link SaturationPressureModel#DIRECT} model it is equal to {@link #saturationTemperatureDirect(double)}. For other models,
+     * the direct inverse is used as first guess and refined with Newton iterations on ln(ps) of selected model, using Hyland-Wexler
+     * derivative. For pressures between saturation pressure over ice and over water at 0oC, 0oC is returned.<p>
+     * REFERENCE SOURCE: [1] [ps,Pa] (5,6) [6.2]<p>
+     * EQUATION LIMITS: {-100oC,+200oC}<p>
+     *
+     * @param ps water vapour saturation pressure, Pa
+     * @return saturation temperature, oC
+     */
+    public static double saturationTemperature(double ps) {
+        SaturationPressureModel model = saturationPressureModel;
+        double ta = saturationTemperatureDirect(ps);
+        if (model == SaturationPressureModel.DIRECT || !Double.isFinite(ta)) {
+            return ta;
+        }
+        double lnPs = Math.log(ps);
+        boolean crossedFreezingPoint = false;
+        for (int i = 0; i < TSAT_MAX_ITERATIONS; i++) {
+            double correction = (Math.log(model.saturationPressure(ta)) - lnPs) / lnSaturationPressureDerivative(ta);
+            double nextTa = ta - correction;
+            // Saturation pressure is discontinuous at 0oC, Newton steps are not allowed to jump over it more than once
+            if ((ta < 0.0) != (nextTa < 0.0)) {
+                if (crossedFreezingPoint) {
+                    return 0.0;
+                }
+                crossedFreezingPoint = true;
+                nextTa = nextTa < 0.0 ? -Double.MIN_VALUE : 0.0;
+            }
+            if (Math.abs(nextTa - ta) < TSAT_ACCURACY) {
+                return nextTa;
+            }
+            ta = nextTa;
+        }
+        return ta;
+    }
+
+    /**
+     * Returns saturation temperature for given water vapour saturation pressure, oC<p>
+     * Inverse of Hyland-Wexler equation, see {@link #saturationPressureDirect(double)}. Solved with Newton method on explicit ln(ps) form,
+     * starting from Magnus approximation, converges to machine precision in a few iterations. Over ice branch is used for pressures
+     * below saturation pressure over ice at 0oC. For pressures between saturation pressure over ice and over water at 0oC, 0oC is returned.<p>
+     * REFERENCE SOURCE: [1] [ps,Pa] (5,6) [6.2]<p>
+     * EQUATION LIMITS: {-100oC,+200oC}<p>
+     *
+     * @param ps water vapour saturation pressure, Pa
+     * @return saturation temperature, oC
+     */
+    public static double saturationTemperatureDirect(double ps) {
+        if (ps <= 0.0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        double lnPs = Math.log(ps);
+        boolean overIce;
+        if (lnPs >= LN_PS_OVER_WATER_AT_FREEZING) {
+            overIce = false;
+        } else if (lnPs >= LN_PS_OVER_ICE_AT_FREEZING) {
+            return 0.0;
+        } else {
+            overIce = true;
+        }
+        // Magnus approximation as first guess
+        double magnusArg = Math.log(ps / 611.2);
+        double tk = overIce
+                ? 272.62 * magnusArg / (22.46 - magnusArg) + TK_FREEZING
+                : 243.12 * magnusArg / (17.62 - magnusArg) + TK_FREEZING;
+        for (int i = 0; i < TSAT_MAX_ITERATIONS; i++) {
+            double residual = overIce
+                    ? lnSaturationPressureOverIce(tk) - lnPs
+                    : lnSaturationPressureOverWater(tk) - lnPs;
+            double derivative = overIce
+                    ? lnSaturationPressureOverIceDerivative(tk)
+                    : lnSaturationPressureOverWaterDerivative(tk);
+            double correction = residual / derivative;
+            tk -= correction;
+            if (Math.abs(correction) < TSAT_ACCURACY) {
+                break;
+            }
+        }
+        return tk - TK_FREEZING;
+    }
+
+    public static Temperature saturationTemperature(Pressure saturationPressure) {
+        CommonValidators.requireNotNull(saturationPressure);
+        double saturationTempVal = saturationTemperature(saturationPressure.getInPascals());
+        return Temperature.ofCelsius(saturationTempVal);
+    }
+
     /**
      * Returns moist air saturation vapour pressure, Pa<p>
      *
@@ -146,8 +315,12 @@ public final class HumidAirEquations {
      * REFERENCE SOURCE: [1,2,3] [Tdp,Pa] (-) [-]<p>
      * EQUATION LIMITS: {-80oc,+50oC}<p>
      *
-     * @param ta air temperature, oC
-     * @param rh relative humidity, %
+     * Below 25% relative humidity, dew point is the saturation temperature at which saturation humidity ratio for given pressure
+     * is equal to air humidity ratio.<p>
+     *
+     * @param ta  air temperature, oC
+     * @param rh  relative humidity, %
+     * @param pat atmospheric pressure, Pa
      * @return dew point temperature, oC
      */
     public static double dewPointTemperature(double ta, double rh, double pat) {
@@ -155,48 +328,10 @@ public final class HumidAirEquations {
             return ta;
         if (rh == 0.0)
             return Double.NEGATIVE_INFINITY;
-
-        // Arden-Buck procedure tdP estimation (used for rh>25)
-        double tdpEstimated;
-        double a, b, c, d;
-        double betaTrh, bTrh, cTrh;
-        if (ta > 0.0) {
-            b = 18.678;
-            c = 257.14;
-            d = 234.50;
-        } else {
-            b = 23.036;
-            c = 279.82;
-            d = 333.70;
-        }
-        a = 2.0 / d;
-        betaTrh = Math.log(rh / 100.0) + calcAlfaT(ta);
-        bTrh = b - betaTrh;
-        cTrh = -c * betaTrh;
-        tdpEstimated = 1.0 / a * (bTrh - Math.sqrt(bTrh * bTrh + 2.0 * a * cTrh));
-
         if (rh < 25.0) {
-            double ps = saturationPressure(ta);
-            double x = humidityRatio(rh, ps, pat);
-            BrentSolver solver = BrentSolver.of("T_SOLVER");
-            solver.setEvalDividerX2(2);
-            solver.setEvalDividerX2Value(5);
-            solver.showDebugLogs(SHOW_SOLVER_DEBUG_LOGS);
-            solver.showSummaryLogs(SHOW_SOLVER_SUMMARY_LOG);
-            solver.setCounterpartPoints(tdpEstimated * SOLVER_A_COEF, tdpEstimated * SOLVER_B_COEF);
-
-            if (rh < 1.0) {
-                solver.setAccuracy(0.0000001);
-            }
-
-            return solver.findRoot(temp -> {
-                double ps1 = saturationPressure(temp);
-                double x1 = maxHumidityRatio(ps1, pat);
-                return x1 - x;
-            });
+            return dewPointTemperatureFromX(humidityRatio(rh, saturationPressure(ta), pat), pat);
         }
-
-        return tdpEstimated;
+        return dewPointTemperatureArdenBuck(ta, rh);
     }
 
     public static Temperature dewPointTemperature(Temperature dryBulbTemp, RelativeHumidity relHum, Pressure absPressure) {
@@ -211,6 +346,7 @@ public final class HumidAirEquations {
 
     /**
      * Returns moist air wet bulb temperature, oC<p>
+     * Initial guess is estimated with Stull equation, see {@link #wetBulbTemperature(double, double, double, double)}.<p>
      * REFERENCE SOURCE: [1] [Twb,oC] (33) [6.9]<p>
      * EQUATION LIMITS: {-100oC,+200oC}<p>
      *
@@ -222,30 +358,31 @@ public final class HumidAirEquations {
     public static double wetBulbTemperature(double ta, double rh, double pat) {
         if (rh >= 100.0)
             return ta;
-        double estimatedWbt = ta * Math.atan(0.151977 * Math.pow(rh + 8.313659, 0.5))
-                              + Math.atan(ta + rh) - Math.atan(rh - 1.676331)
-                              + 0.00391838 * Math.pow(rh, 1.5) * Math.atan(0.023101 * rh)
-                              - 4.686035;
+        return wetBulbTemperature(ta, rh, pat, wetBulbTemperatureStull(ta, rh));
+    }
+
+    /**
+     * Returns moist air wet bulb temperature, oC<p>
+     * Psychrometric balance h + (x1 - x) * hw1 - h1 = 0 is solved with Newton method, using analytic derivative of saturation humidity ratio
+     * and component specific heats. Iterations are safeguarded by bisection within the bracket between dew point temperature
+     * and dry bulb temperature, where the balance always changes its sign. Initial guess is typically known from previous calculation
+     * (i.e. neighbouring state), if it is outside of the bracket, the bracket midpoint is used instead.<p>
+     * REFERENCE SOURCE: [1] [Twb,oC] (33) [6.9]<p>
+     * EQUATION LIMITS: {-100oC,+200oC}<p>
+     *
+     * @param ta           air temperature, oC
+     * @param rh           air relative humidity, oC
+     * @param pat          atmospheric pressure, Pa
+     * @param initialGuess wet bulb temperature initial guess, oC
+     * @return moist air wet bulb temperature, oC
+     */
+    public static double wetBulbTemperature(double ta, double rh, double pat, double initialGuess) {
+        if (rh >= 100.0)
+            return ta;
         double ps = saturationPressure(ta);
         double x = humidityRatio(rh, ps, pat);
         double h = specificEnthalpyFromPs(ta, x, pat, ps);
-        BrentSolver solver = BrentSolver.of("WBT_SOLVER");
-        solver.setEvalDividerX2(2);
-        solver.setEvalDividerX2Value(5);
-        solver.showDebugLogs(SHOW_SOLVER_DEBUG_LOGS);
-        solver.showSummaryLogs(SHOW_SOLVER_SUMMARY_LOG);
-        solver.setCounterpartPoints(estimatedWbt * SOLVER_A_COEF, estimatedWbt * SOLVER_B_COEF);
-        return solver.findRoot(temp -> {
-            double ps1 = saturationPressure(temp);
-            double x1 = maxHumidityRatio(ps1, pat);
-            double h1 = specificEnthalpyFromPs(temp, x1, pat, ps1);
-            double hw1;
-            if (temp <= 0.0)
-                hw1 = IceEquations.specificEnthalpy(temp);
-            else
-                hw1 = LiquidWaterEquations.specificEnthalpy(temp);
-            return h + (x1 - x) * hw1 - h1;
-        });
+        return wetBulbTemperatureFromPs(ta, rh, pat, ps, x, h, initialGuess);
     }
 
     public static Temperature wetBulbTemperature(Temperature dryBulbTemp, RelativeHumidity relHum, Pressure absPressure) {
@@ -649,12 +786,7 @@ public final class HumidAirEquations {
      * @return dry bulb air temperature, oC
      */
     public static double dryBulbTemperatureXRH(double x, double rh, double pat) {
-        BrentSolver solver = BrentSolver.of("T_Xrh_SOLVER");
-        solver.setEvalDividerX2(2);
-        solver.setEvalDividerX2Value(5);
-        solver.showDebugLogs(SHOW_SOLVER_DEBUG_LOGS);
-        solver.showSummaryLogs(SHOW_SOLVER_SUMMARY_LOG);
-        return solver.findRoot(tx -> saturationPressure(x, rh, pat) - saturationPressure(tx));
+        return saturationTemperature(saturationPressure(x, rh, pat));
     }
 
     public static Temperature dryBulbTemperatureXRH(HumidityRatio humidityRatio, RelativeHumidity relHum, Pressure absPressure) {
@@ -710,6 +842,9 @@ public final class HumidAirEquations {
         BrentSolver solver = BrentSolver.of("T_WbtRH_SOLVER");
         solver.showDebugLogs(SHOW_SOLVER_DEBUG_LOGS);
         solver.showSummaryLogs(SHOW_SOLVER_SUMMARY_LOG);
+        // dry bulb temperature is bounded by wet bulb temperature and maximum temperature for which ps < pat,
+        // upper point is slightly lowered, as wet bulb temperature cannot be evaluated for ps = pat
+        solver.setCounterpartPoints(wbt, dryBulbTemperatureMax(pat) - 0.1);
         return solver.findRoot(temp -> wbt - wetBulbTemperature(temp, rh, pat));
     }
 
@@ -730,12 +865,7 @@ public final class HumidAirEquations {
      * @return maximum dry bulb air temperature, oC
      */
     public static double dryBulbTemperatureMax(double inPat) {
-        double estimatedTa = -237300 * Math.log(0.001638 * inPat) / (1000 * Math.log(0.001638 * inPat) - 17269);
-        BrentSolver solver = new BrentSolver();
-        solver.showDebugLogs(SHOW_SOLVER_DEBUG_LOGS);
-        solver.showSummaryLogs(SHOW_SOLVER_SUMMARY_LOG);
-        solver.setCounterpartPoints(estimatedTa * SOLVER_A_COEF, estimatedTa * SOLVER_B_COEF * 1.5);
-        return solver.findRoot(ta -> inPat - saturationPressure(ta));
+        return saturationTemperature(inPat);
     }
 
     public static Temperature dryBulbTemperatureMax(Pressure absPressure) {
@@ -744,8 +874,214 @@ public final class HumidAirEquations {
         return Temperature.ofCelsius(dryBulbTemp);
     }
 
+    // BATCH CALCULATIONS
+
+    /**
+     * Batch evaluation of humid air properties for states given by dry bulb temperature, relative humidity and pressure.
+     * Properties are evaluated element by element, intermediate results (saturation pressure, humidity ratio, enthalpy) are shared
+     * between properties and no objects are allocated per element. Output arrays are provided by the caller, if output array is null,
+     * given property is not calculated. All provided arrays must have the same length.
+     *
+     * @param ta     air temperatures, oC
+     * @param rh     relative humidities, %
+     * @param pat    absolute pressures, Pa
+     * @param psOut  output saturation pressures, Pa
+     * @param xOut   output humidity ratios, kg.wv/kg.da
+     * @param hOut   output specific enthalpies, kJ/kg
+     * @param rhoOut output densities, kg/m3
+     * @param tdpOut output dew point temperatures, oC
+     * @param wbtOut output wet bulb temperatures, oC
+     */
+    public static void batchPropertiesTaRH(double[] ta, double[] rh, double[] pat,
+                                           double[] psOut, double[] xOut, double[] hOut,
+                                           double[] rhoOut, double[] tdpOut, double[] wbtOut) {
+        int size = requireSameBatchSize(ta, rh, pat, psOut, xOut, hOut, rhoOut, tdpOut, wbtOut);
+        for (int i = 0; i < size; i++) {
+            double ps = saturationPressure(ta[i]);
+            double x = humidityRatio(rh[i], ps, pat[i]);
+            batchFillElement(i, ta[i], rh[i], x, pat[i], ps, psOut, hOut, rhoOut, tdpOut, wbtOut);
+            if (xOut != null) {
+                xOut[i] = x;
+            }
+        }
+    }
+
+    /**
+     * Batch evaluation of humid air properties for states given by dry bulb temperature, humidity ratio and pressure.
+     * Properties are evaluated element by element, intermediate results (saturation pressure, relative humidity, enthalpy) are shared
+     * between properties and no objects are allocated per element. Output arrays are provided by the caller, if output array is null,
+     * given property is not calculated. All provided arrays must have the same length.
+     *
+     * @param ta     air temperatures, oC
+     * @param x      humidity ratios, kg.wv/kg.da
+     * @param pat    absolute pressures, Pa
+     * @param psOut  output saturation pressures, Pa
+     * @param rhOut  output relative humidities, %
+     * @param hOut   output specific enthalpies, kJ/kg
+     * @param rhoOut output densities, kg/m3
+     * @param tdpOut output dew point temperatures, oC
+     * @param wbtOut output wet bulb temperatures, oC
+     */
+    public static void batchPropertiesTaX(double[] ta, double[] x, double[] pat,
+                                          double[] psOut, double[] rhOut, double[] hOut,
+                                          double[] rhoOut, double[] tdpOut, double[] wbtOut) {
+        int size = requireSameBatchSize(ta, x, pat, psOut, rhOut, hOut, rhoOut, tdpOut, wbtOut);
+        for (int i = 0; i < size; i++) {
+            double ps = saturationPressure(ta[i]);
+            double rh = relativeHumidityFromPs(x[i], pat[i], ps);
+            batchFillElement(i, ta[i], rh, x[i], pat[i], ps, psOut, hOut, rhoOut, tdpOut, wbtOut);
+            if (rhOut != null) {
+                rhOut[i] = rh;
+            }
+        }
+    }
+
+    private static void batchFillElement(int i, double ta, double rh, double x, double pat, double ps,
+                                         double[] psOut, double[] hOut, double[] rhoOut, double[] tdpOut, double[] wbtOut) {
+        if (psOut != null) {
+            psOut[i] = ps;
+        }
+        double h = hOut != null || wbtOut != null ? specificEnthalpyFromPs(ta, x, pat, ps) : Double.NaN;
+        if (hOut != null) {
+            hOut[i] = h;
+        }
+        if (rhoOut != null) {
+            rhoOut[i] = density(ta, x, pat);
+        }
+        if (tdpOut != null) {
+            double tdp;
+            if (rh >= 100) {
+                tdp = ta;
+            } else if (rh == 0.0) {
+                tdp = Double.NEGATIVE_INFINITY;
+            } else {
+                tdp = rh < 25.0 ? dewPointTemperatureFromX(x, pat) : dewPointTemperatureArdenBuck(ta, rh);
+            }
+            tdpOut[i] = tdp;
+        }
+        if (wbtOut != null) {
+            wbtOut[i] = rh >= 100.0
+                    ? ta
+                    : wetBulbTemperatureFromPs(ta, rh, pat, ps, x, h, wetBulbTemperatureStull(ta, rh));
+        }
+    }
+
+    private static int requireSameBatchSize(double[] firstInput, double[] secondInput, double[] thirdInput, double[]... outputs) {
+        CommonValidators.requireNotNull(firstInput);
+        CommonValidators.requireNotNull(secondInput);
+        CommonValidators.requireNotNull(thirdInput);
+        int size = firstInput.length;
+        boolean isSizeValid = secondInput.length == size && thirdInput.length == size;
+        for (double[] output : outputs) {
+            isSizeValid &= output == null || output.length == size;
+        }
+        if (!isSizeValid) {
+            throw new HvacEngineArgumentException("All batch input and output arrays must have the same length: " + size);
+        }
+        return size;
+    }
+
     // TOOL METHODS
 
+    private static double dewPointTemperatureFromX(double x, double pat) {
+        // For x = const, dew point is saturation temperature of vapour partial pressure
+        return saturationTemperature(x * pat / (WG_RATIO + x));
+    }
+
+    private static double dewPointTemperatureArdenBuck(double ta, double rh) {
+        // Arden-Buck procedure tdP estimation (used for rh>25)
+        double a, b, c, d;
+        double betaTrh, bTrh, cTrh;
+        if (ta > 0.0) {
+            b = 18.678;
+            c = 257.14;
+            d = 234.50;
+        } else {
+            b = 23.036;
+            c = 279.82;
+            d = 333.70;
+        }
+        a = 2.0 / d;
+        betaTrh = Math.log(rh / 100.0) + calcAlfaT(ta);
+        bTrh = b - betaTrh;
+        cTrh = -c * betaTrh;
+        return 1.0 / a * (bTrh - Math.sqrt(bTrh * bTrh + 2.0 * a * cTrh));
+    }
+
+    private static double wetBulbTemperatureStull(double ta, double rh) {
+        return ta * Math.atan(0.151977 * Math.pow(rh + 8.313659, 0.5))
+               + Math.atan(ta + rh) - Math.atan(rh - 1.676331)
+               + 0.00391838 * Math.pow(rh, 1.5) * Math.atan(0.023101 * rh)
+               - 4.686035;
+    }
+
+    private static double wetBulbTemperatureFromPs(double ta, double rh, double pat, double ps, double x, double h, double initialGuess) {
+        double lowerBound = Math.max(saturationTemperature(rh / 100.0 * ps), WBT_LOWER_LIMIT);
+        double upperBound = ta;
+        double tw = initialGuess > lowerBound && initialGuess < upperBound ? initialGuess : 0.5 * (lowerBound + upperBound);
+        for (int i = 0; i < WBT_MAX_ITERATIONS; i++) {
+            double ps1 = saturationPressure(tw);
+            double x1 = maxHumidityRatio(ps1, pat);
+            double h1 = specificEnthalpyFromPs(tw, x1, pat, ps1);
+            double hw1;
+            double cpw1;
+            if (tw <= 0.0) {
+                hw1 = IceEquations.specificEnthalpy(tw);
+                cpw1 = IceEquations.specificHeat(tw);
+            } else {
+                hw1 = LiquidWaterEquations.specificEnthalpy(tw);
+                cpw1 = LiquidWaterEquations.specificHeat(tw);
+            }
+            double balance = h + (x1 - x) * hw1 - h1;
+            if (balance == 0.0) {
+                return tw;
+            }
+            // Balance is decreasing with wet bulb temperature
+            if (balance > 0.0) {
+                lowerBound = tw;
+            } else {
+                upperBound = tw;
+            }
+            double dPs1 = ps1 * lnSaturationPressureDerivative(tw);
+            double dX1 = WG_RATIO * pat / ((pat - ps1) * (pat - ps1)) * dPs1;
+            double dBalance = dX1 * (hw1 - WaterVapourEquations.specificEnthalpy(tw))
+                              + (x1 - x) * cpw1
+                              - DryAirEquations.specificHeat(tw)
+                              - WaterVapourEquations.specificHeat(tw) * x1;
+            double nextTw = tw - balance / dBalance;
+            if (!(nextTw > lowerBound && nextTw < upperBound)) {
+                nextTw = 0.5 * (lowerBound + upperBound);
+            }
+            if (Math.abs(nextTw - tw) < WBT_ACCURACY || upperBound - lowerBound < WBT_ACCURACY) {
+                return nextTw;
+            }
+            tw = nextTw;
+        }
+        return tw;
+    }
+
+
+    private static double lnSaturationPressureOverIce(double tk) {
+        return C1 / tk + C2 + tk * (C3 + tk * (C4 + tk * (C5 + tk * C6))) + C7 * Math.log(tk);
+    }
+
+    private static double lnSaturationPressureOverWater(double tk) {
+        return C8 / tk + C9 + tk * (C10 + tk * (C11 + tk * C12)) + C13 * Math.log(tk);
+    }
+
+    private static double lnSaturationPressureOverIceDerivative(double tk) {
+        return -C1 / (tk * tk) + C3 + tk * (2.0 * C4 + tk * (3.0 * C5 + tk * 4.0 * C6)) + C7 / tk;
+    }
+
+    private static double lnSaturationPressureOverWaterDerivative(double tk) {
+        return -C8 / (tk * tk) + C10 + tk * (2.0 * C11 + tk * 3.0 * C12) + C13 / tk;
+    }
+
+    private static double lnSaturationPressureDerivative(double ta) {
+        double tk = ta + TK_FREEZING;
+        return ta < 0.0 ? lnSaturationPressureOverIceDerivative(tk) : lnSaturationPressureOverWaterDerivative(tk);
+    }
+
     private static double calcAlfaT(double ta) {
         //Coefficient used for Arden-Buck equation for calculating saturation pressure ps, Pa
         double b = 0;
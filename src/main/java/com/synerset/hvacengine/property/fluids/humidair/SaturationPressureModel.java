@@ -0,0 +1,27 @@
+package com.synerset.hvacengine.property.fluids.humidair;
+
+/**
+ * Strategy of water vapour saturation pressure evaluation used by {@link HumidAirEquations#saturationPressure(double)}.
+ */
+@FunctionalInterface
+public interface SaturationPressureModel {
+
+    /**
+     * Direct, solver-free evaluation of Hyland-Wexler equation. Default model.
+     */
+    SaturationPressureModel DIRECT = HumidAirEquations::saturationPressureDirect;
+
+    /**
+     * Legacy evaluation of Hyland-Wexler equation with Brent-Dekker solver.
+     */
+    SaturationPressureModel ITERATIVE = HumidAirEquations::saturationPressureIterative;
+
+    /**
+     * Returns moist air saturation vapour pressure, Pa
+     *
+     * @param ta air temperature, oC
+     * @return saturation vapour pressure, Pa
+     */
+    double saturationPressure(double ta);
+
+}
@@ -0,0 +1,187 @@
+package com.synerset.hvacengine.property.fluids.humidair;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.common.validation.CommonValidators;
+
+/**
+ * Table-backed saturation pressure model. Saturation pressure is precomputed once from the source model on a uniform temperature grid and
+ * evaluated with piecewise cubic Hermite interpolation. Grid nodes are multiples of the step, therefore 0oC is always a node and the
+ * ice / water branches of the source equation are never interpolated across. Within each cell values and slopes are taken from the cell side,
+ * so interpolation is continuous and monotone for monotone, convex source functions.<p>
+ * Table covers the requested temperature range extended to the nearest grid nodes. Outside of this range the source model is used.<p>
+ * Maximum relative interpolation error is determined on construction by comparing interpolated values with the source model in each cell.
+ * For the default grid (-100oC..200oC, step 0.5K) it is below 1E-6, with the largest deviation at the lowest temperatures.<p>
+ * Instances are immutable and thread-safe.
+ */
+public final class SaturationPressureTable implements SaturationPressureModel {
+
+    public static final double DEFAULT_MIN_TEMPERATURE = -100.0;
+    public static final double DEFAULT_MAX_TEMPERATURE = 200.0;
+    public static final double DEFAULT_STEP = 0.5;
+
+    private static final double[] ERROR_PROBE_POINTS = {0.25, 0.5, 0.75};
+
+    private final SaturationPressureModel sourceModel;
+    private final double step;
+    private final double invStep;
+    private final int firstNodeIndex;
+    private final double minTemperature;
+    private final double maxTemperature;
+    // Four polynomial coefficients per cell, in terms of local coordinate s = (ta - t_i) / step
+    private final double[] coefficients;
+    private final double maxRelativeError;
+
+    private SaturationPressureTable(SaturationPressureModel sourceModel, double minTemperature, double maxTemperature, double step) {
+        CommonValidators.requireNotNull(sourceModel);
+        if (!(step > 0.0) || !Double.isFinite(step)) {
+            throw new HvacEngineArgumentException("Table step must be positive, step=" + step);
+        }
+        if (!(minTemperature < maxTemperature) || !Double.isFinite(minTemperature) || !Double.isFinite(maxTemperature)) {
+            throw new HvacEngineArgumentException(String.format("Invalid table range: min=%s, max=%s", minTemperature, maxTemperature));
+        }
+        this.sourceModel = sourceModel;
+        this.step = step;
+        this.invStep = 1.0 / step;
+        this.firstNodeIndex = (int) Math.floor(minTemperature * invStep);
+        int lastNodeIndex = (int) Math.ceil(maxTemperature * invStep);
+        this.minTemperature = firstNodeIndex * step;
+        this.maxTemperature = lastNodeIndex * step;
+        int numberOfCells = lastNodeIndex - firstNodeIndex;
+        this.coefficients = new double[numberOfCells * 4];
+        double maxError = 0.0;
+        for (int cell = 0; cell < numberOfCells; cell++) {
+            double tLeft = (firstNodeIndex + cell) * step;
+            double tRight = (firstNodeIndex + cell + 1) * step;
+            fillCellCoefficients(cell, tLeft, tRight);
+            for (double probe : ERROR_PROBE_POINTS) {
+                double ta = tLeft + probe * step;
+                double expected = sourceModel.saturationPressure(ta);
+                double relativeError = Math.abs(evaluateCell(cell, probe) - expected) / expected;
+                maxError = Math.max(maxError, relativeError);
+            }
+        }
+        this.maxRelativeError = maxError;
+    }
+
+    /**
+     * Returns moist air saturation vapour pressure, Pa
+     *
+     * @param ta air temperature, oC
+     * @return saturation vapour pressure, Pa
+     */
+    @Override
+    public double saturationPressure(double ta) {
+        if (!(ta >= minTemperature && ta < maxTemperature)) {
+            return sourceModel.saturationPressure(ta);
+        }
+        double position = ta * invStep;
+        double nodeIndex = Math.floor(position);
+        int cell = (int) nodeIndex - firstNodeIndex;
+        // Guards against rounding of ta * invStep at the upper table limit
+        if (cell >= coefficients.length / 4) {
+            cell = coefficients.length / 4 - 1;
+        }
+        return evaluateCell(cell, position - nodeIndex);
+    }
+
+    public double getMinTemperature() {
+        return minTemperature;
+    }
+
+    public double getMaxTemperature() {
+        return maxTemperature;
+    }
+
+    public double getStep() {
+        return step;
+    }
+
+    public int getNumberOfNodes() {
+        return coefficients.length / 4 + 1;
+    }
+
+    public SaturationPressureModel getSourceModel() {
+        return sourceModel;
+    }
+
+    /**
+     * Returns maximum relative interpolation error against source model, determined on table construction.
+     *
+     * @return maximum relative error, -
+     */
+    public double getMaxRelativeError() {
+        return maxRelativeError;
+    }
+
+    private double evaluateCell(int cell, double s) {
+        int i = cell * 4;
+        return coefficients[i] + s * (coefficients[i + 1] + s * (coefficients[i + 2] + s * coefficients[i + 3]));
+    }
+
+    private void fillCellCoefficients(int cell, double tLeft, double tRight) {
+        // Right side is evaluated just below the node to stay on the same equation branch as the cell.
+        double tRightInside = Math.nextDown(tRight);
+        double delta = Math.min(1.0E-3, step / 4.0);
+        double y0 = sourceModel.saturationPressure(tLeft);
+        double y1 = sourceModel.saturationPressure(tRightInside);
+        // Second order one-sided differences, evaluated inside the cell
+        double d0 = (-3.0 * y0 + 4.0 * sourceModel.saturationPressure(tLeft + delta)
+                     - sourceModel.saturationPressure(tLeft + 2.0 * delta)) / (2.0 * delta);
+        double d1 = (3.0 * y1 - 4.0 * sourceModel.saturationPressure(tRightInside - delta)
+                     + sourceModel.saturationPressure(tRightInside - 2.0 * delta)) / (2.0 * delta);
+        double m0 = d0 * step;
+        double m1 = d1 * step;
+        int i = cell * 4;
+        coefficients[i] = y0;
+        coefficients[i + 1] = m0;
+        coefficients[i + 2] = 3.0 * (y1 - y0) - 2.0 * m0 - m1;
+        coefficients[i + 3] = 2.0 * (y0 - y1) + m0 + m1;
+    }
+
+    @Override
+    public String toString() {
+        return "SaturationPressureTable{" +
+               "minTemperature=" + minTemperature +
+               ", maxTemperature=" + maxTemperature +
+               ", step=" + step +
+               ", maxRelativeError=" + maxRelativeError +
+               '}';
+    }
+
+    // STATIC FACTORY METHODS
+
+    /**
+     * Creates table with default range and resolution, built from the iterative saturation pressure model.
+     *
+     * @return saturation pressure table
+     */
+    public static SaturationPressureTable of() {
+        return of(DEFAULT_MIN_TEMPERATURE, DEFAULT_MAX_TEMPERATURE, DEFAULT_STEP);
+    }
+
+    /**
+     * Creates table with given range and resolution, built from the iterative saturation pressure model.
+     *
+     * @param minTemperature lower table limit, oC
+     * @param maxTemperature upper table limit, oC
+     * @param step           grid step, K
+     * @return saturation pressure table
+     */
+    public static SaturationPressureTable of(double minTemperature, double maxTemperature, double step) {
+        return of(SaturationPressureModel.ITERATIVE, minTemperature, maxTemperature, step);
+    }
+
+    /**
+     * Creates table with given range and resolution, built from provided source model.
+     *
+     * @param sourceModel    model used to build the table and outside of table range
+     * @param minTemperature lower table limit, oC
+     * @param maxTemperature upper table limit, oC
+     * @param step           grid step, K
+     * @return saturation pressure table
+     */
+    public static SaturationPressureTable of(SaturationPressureModel sourceModel, double minTemperature, double maxTemperature, double step) {
+        return new SaturationPressureTable(sourceModel, minTemperature, maxTemperature, step);
+    }
+
+}
@@ -55,12 +55,8 @@ public final class LiquidWaterEquations {
      * @return water density at temperature tx and atmospheric pressure, kg/m3
      */
     public static double density(double tx) {
-        return (999.83952 + 16.945176 * tx
-                - 7.9870401 * Math.pow(10, -3) * Math.pow(tx, 2)
-                - 46.170461 * Math.pow(10, -6) * Math.pow(tx, 3)
-                + 105.56302 * Math.pow(10, -9) * Math.pow(tx, 4)
-                - 280.54253 * Math.pow(10, -12) * Math.pow(tx, 5))
-               / (1 + 16.89785 * Math.pow(10, -3) * tx);
+        return (999.83952 + tx * (16.945176 + tx * (-7.9870401E-3 + tx * (-46.170461E-6 + tx * (105.56302E-9 + tx * -280.54253E-12)))))
+               / (1 + 16.89785E-3 * tx);
     }
 
     public static Density density(Temperature temperature) {
@@ -79,20 +75,11 @@ public final class LiquidWaterEquations {
      */
     public static double specificHeat(double tx) {
         if (tx > 0 && tx <= 100) {
-            return 3.93240161 * Math.pow(10, -13) * Math.pow(tx, 6)
-                   - 1.525847751 * Math.pow(10, -10) * Math.pow(tx, 5)
-                   + 2.479227180 * Math.pow(10, -8) * Math.pow(tx, 4)
-                   - 2.166932275 * Math.pow(10, -6) * Math.pow(tx, 3)
-                   + 1.156152199 * Math.pow(10, -4) * Math.pow(tx, 2)
-                   - 3.400567477 * Math.pow(10, -3) * tx + 4.219924305;
+            return 4.219924305 + tx * (-3.400567477E-3 + tx * (1.156152199E-4 + tx * (-2.166932275E-6
+                   + tx * (2.479227180E-8 + tx * (-1.525847751E-10 + tx * 3.93240161E-13)))));
         } else {
-            return 2.588246403 * Math.pow(10, -15) * Math.pow(tx, 7)
-                   - 3.604612987 * Math.pow(10, -12) * Math.pow(tx, 6)
-                   + 2.112059173 * Math.pow(10, -9) * Math.pow(tx, 5)
-                   - 6.727469888 * Math.pow(10, -7) * Math.pow(tx, 4)
-                   + 1.255841880 * Math.pow(10, -4) * Math.pow(tx, 3)
-                   - 1.370455849 * Math.pow(10, -2) * Math.pow(tx, 2)
-                   + 8.093157187 * Math.pow(10, -1) * tx - 15.75651097;
+            return -15.75651097 + tx * (8.093157187E-1 + tx * (-1.370455849E-2 + tx * (1.255841880E-4 + tx * (-6.727469888E-7
+                   + tx * (2.112059173E-9 + tx * (-3.604612987E-12 + tx * 2.588246403E-15))))));
         }
     }
 
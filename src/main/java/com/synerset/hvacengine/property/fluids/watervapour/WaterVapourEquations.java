@@ -111,7 +111,7 @@ public final class WaterVapourEquations {
             c0 = 1.8429999999889115e+000;
             c1 = 4.0000000111904223e-005;
             c2 = -2.7939677238430251e-016;
-            return c0 + c1 * tk + c2 * tk * tk;
+            return c0 + tk * (c1 + tk * c2);
         }
         c0 = 1.9295247225621268E+000;
         c1 = -9.1586611999057584E-004;
@@ -120,11 +120,7 @@ public final class WaterVapourEquations {
         c4 = 2.0703915723982299E-012;
         c5 = -7.0213425618115390E-016;
         c6 = 9.8631583006961855E-020;
-        return c0 + c1 * tk + c2 * tk * tk
-                + c3 * tk * tk * tk
-                + c4 * tk * tk * tk * tk
-                + c5 * tk * tk * tk * tk * tk
-                + c6 * tk * tk * tk * tk * tk * tk;
+        return c0 + tk * (c1 + tk * (c2 + tk * (c3 + tk * (c4 + tk * (c5 + tk * c6)))));
     }
 
     public static SpecificHeat specificHeat(Temperature temperature) {
@@ -0,0 +1,116 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingFromHumidity;
+import com.synerset.hvacengine.process.cooling.CoolingFromPower;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.hvacengine.process.heating.HeatingFromHumidity;
+import com.synerset.hvacengine.process.heating.HeatingFromPower;
+import com.synerset.hvacengine.process.heating.HeatingFromTemperature;
+import com.synerset.hvacengine.process.mixing.Mixing;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class FusedProcessChainTest {
+
+    @Test
+    @DisplayName("should evaluate mixing, cooling and heating chain with the same outlet state as regular calculations")
+    void evaluate_shouldMatchTopologyRun() {
+        // Given
+        Mixing mixingBlock = Mixing.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(24, 50, 800)));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(16)));
+        CoolingFromPower powerCoolingBlock = CoolingFromPower.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Power.ofKiloWatts(2)));
+        HeatingFromHumidity humidityHeatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(45)));
+        HeatingFromPower powerHeatingBlock = HeatingFromPower.of(SimpleDataSource.of(Power.ofKiloWatts(3)));
+        HeatingFromTemperature temperatureHeatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(35)));
+        ProcessTopology topology = SequentialProcessingEngine.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(30, 50, 1000)),
+                mixingBlock, coolingBlock, powerCoolingBlock, humidityHeatingBlock, powerHeatingBlock, temperatureHeatingBlock).compileTopology();
+        FusedProcessChain fusedChain = FusedProcessChain.of(topology);
+
+        for (int i = 0; i < 20; i++) {
+            FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(27 + i * 0.4, 40 + i, 900 + 20 * i);
+
+            // When
+            fusedChain.evaluate(inletAirFlow);
+            ProcessRunContext expectedContext = topology.run(topology.createRunContext().withInletAirFlow(inletAirFlow));
+
+            // Then
+            FlowOfHumidAir expectedOutlet = expectedContext.getLastResult().outletAirFlow();
+            assertThat(fusedChain.getOutletTemperature()).isEqualTo(expectedOutlet.getTemperature().getInCelsius(), withPrecision(1E-9));
+            assertThat(fusedChain.getOutletHumidityRatio()).isEqualTo(expectedOutlet.getHumidityRatio().getInKilogramPerKilogram(), withPrecision(1E-12));
+            assertThat(fusedChain.getOutletDryAirMassFlow()).isEqualTo(expectedOutlet.getDryAirMassFlow().getInKilogramsPerSecond(), withPrecision(1E-12));
+            assertThat(fusedChain.getOutletPressure()).isEqualTo(expectedOutlet.getPressure().getInPascals(), withPrecision(1E-9));
+            for (int stage = 0; stage < fusedChain.size(); stage++) {
+                ProcessResult expectedResult = expectedContext.getProcessResults().get(stage);
+                assertThat(fusedChain.getStageHeatOfProcess(stage)).isEqualTo(expectedResult.heatOfProcess().getInWatts(), withPrecision(1E-6));
+            }
+            CoolingResult coolingResult = (CoolingResult) expectedContext.getResult(coolingBlock);
+            assertThat(fusedChain.getStageCondensateMassFlow(1))
+                    .isEqualTo(coolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond(), withPrecision(1E-12));
+            CoolingResult powerCoolingResult = (CoolingResult) expectedContext.getResult(powerCoolingBlock);
+            assertThat(fusedChain.getStageCondensateMassFlow(2))
+                    .isEqualTo(powerCoolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond(), withPrecision(1E-12));
+        }
+    }
+
+    @Test
+    @DisplayName("should evaluate blocks without primitive kernel through regular calculations and apply changed stage parameters")
+    void evaluate_shouldUseChangedStageParameters() {
+        // Given
+        CoolingFromHumidity coolingBlock = CoolingFromHumidity.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(RelativeHumidity.ofPercentage(80)));
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(22)));
+        ProcessTopology topology = SequentialProcessingEngine.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(30, 60, 1000)),
+                coolingBlock, heatingBlock).compileTopology();
+        FusedProcessChain fusedChain = FusedProcessChain.of(topology);
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(30, 60, 1000);
+
+        // When
+        fusedChain.setStageParameter(1, 24);
+        fusedChain.evaluate(inletAirFlow);
+        ProcessRunContext materializedContext = fusedChain.materializeResults();
+
+        // Then
+        assertThat(fusedChain.getStageParameter(1)).isEqualTo(24);
+        assertThat(fusedChain.getOutletTemperature()).isEqualTo(24, withPrecision(1E-9));
+        ProcessResult expectedCoolingResult = materializedContext.getResult(coolingBlock);
+        assertThat(fusedChain.getStageHeatOfProcess(0)).isEqualTo(expectedCoolingResult.heatOfProcess().getInWatts());
+        assertThat(materializedContext.getLastResult().outletAirFlow().getTemperature().getInCelsius()).isEqualTo(24, withPrecision(1E-9));
+        assertThat(fusedChain.materializeOutletAirFlow().getHumidityRatio().getInKilogramPerKilogram())
+                .isEqualTo(materializedContext.getLastResult().outletAirFlow().getHumidityRatio().getInKilogramPerKilogram(), withPrecision(1E-12));
+        assertThat(topology.run().getLastResult().outletAirFlow().getTemperature().getInCelsius()).isEqualTo(22, withPrecision(1E-9));
+    }
+
+    @Test
+    @DisplayName("should throw an exception when stage target is invalid for its inlet state or chain is evaluated before use")
+    void evaluate_shouldThrowException_whenStageTargetIsInvalid() {
+        // Given
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(30)));
+        ProcessTopology topology = SequentialProcessingEngine.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(20, 50, 1000)),
+                heatingBlock).compileTopology();
+        FusedProcessChain fusedChain = FusedProcessChain.of(topology);
+
+        // When
+        // Then
+        assertThatThrownBy(fusedChain::getOutletTemperature).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> fusedChain.evaluate(FlowOfHumidAir.ofValues(40, 50, 1000))).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(fusedChain::getOutletTemperature).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> fusedChain.setStageParameter(0, Double.NaN)).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> fusedChain.setStageParameter(1, 25)).isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+}
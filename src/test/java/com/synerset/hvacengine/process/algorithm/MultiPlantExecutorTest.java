@@ -0,0 +1,112 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingFromPower;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.hvacengine.process.heating.HeatingFromTemperature;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class MultiPlantExecutorTest {
+
+    @Test
+    @DisplayName("should run all plants and aggregate cooling power, heating power and condensate of all of them")
+    void runAllPlants_shouldAggregateResultsOfAllPlants() {
+        // Given
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        MultiPlantExecutor plantExecutor = MultiPlantExecutor.of(executorService, 4);
+        CoolingFromTemperature sharedCoolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(18)));
+        HeatingFromTemperature sharedHeatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(22)));
+        ProcessTopology sharedTopology = SequentialProcessingEngine.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(30, 50, 1000)),
+                sharedCoolingBlock, sharedHeatingBlock).compileTopology();
+        for (int i = 0; i < 12; i++) {
+            SimpleDataSource<FlowOfHumidAir> inletSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(28 + i * 0.5, 50, 1000 + 100 * i));
+            CoolingFromPower coolingBlock = CoolingFromPower.of(SimpleDataSource.of(CoolantData.ofValues(7, 14)),
+                    SimpleDataSource.of(Power.ofKiloWatts(2 + i * 0.2)));
+            plantExecutor.addPlant("AHU-" + i, SequentialProcessingEngine.of(inletSource, coolingBlock), i % 3);
+            plantExecutor.addPlant("RTU-" + i, sharedTopology.createRunContext()
+                    .withInletAirFlow(FlowOfHumidAir.ofValues(26 + i * 0.5, 45, 800 + 50 * i)), 0);
+        }
+
+        // When
+        MultiPlantRunResult firstRunResult = plantExecutor.runAllPlants();
+        MultiPlantRunResult secondRunResult = plantExecutor.runAllPlants();
+        executorService.shutdown();
+
+        // Then
+        assertThat(firstRunResult.isSuccessful()).isTrue();
+        assertThat(secondRunResult.plantResults()).hasSize(24);
+        assertThat(plantExecutor.getPlantIds().get(1)).isEqualTo("RTU-0");
+        double expectedCoolingPower = 0;
+        double expectedHeatingPower = 0;
+        double expectedCondensateFlow = 0;
+        for (int i = 0; i < 12; i++) {
+            PlantRunResult rtuResult = secondRunResult.getPlantResult("RTU-" + i);
+            ProcessRunContext expectedContext = sharedTopology.run(sharedTopology.createRunContext()
+                    .withInletAirFlow(FlowOfHumidAir.ofValues(26 + i * 0.5, 45, 800 + 50 * i)));
+            assertThat(rtuResult.processResults()).isEqualTo(expectedContext.getProcessResults());
+            CoolingResult rtuCoolingResult = (CoolingResult) expectedContext.getResult(sharedCoolingBlock);
+            expectedCoolingPower += rtuCoolingResult.heatOfProcess().getInWatts();
+            expectedCondensateFlow += rtuCoolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond();
+            expectedHeatingPower += expectedContext.getResult(sharedHeatingBlock).heatOfProcess().getInWatts();
+
+            ProcessResult ahuResult = secondRunResult.getPlantResult("AHU-" + i).processResults().get(0);
+            assertThat(ahuResult.heatOfProcess().getInKiloWatts()).isEqualTo(2 + i * 0.2, withPrecision(1E-3));
+            assertThat(secondRunResult.getPlantResult("AHU-" + i).priority()).isEqualTo(i % 3);
+            expectedCoolingPower += ahuResult.heatOfProcess().getInWatts();
+            if (ahuResult instanceof CoolingResult ahuCoolingResult) {
+                expectedCondensateFlow += ahuCoolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond();
+            }
+        }
+        assertThat(secondRunResult.totalCoolingPower().getInWatts()).isEqualTo(expectedCoolingPower, withPrecision(1E-6));
+        assertThat(secondRunResult.totalHeatingPower().getInWatts()).isEqualTo(expectedHeatingPower, withPrecision(1E-6));
+        assertThat(secondRunResult.totalCondensateFlow().getInKilogramsPerSecond()).isEqualTo(expectedCondensateFlow, withPrecision(1E-12));
+    }
+
+    @Test
+    @DisplayName("should report failure of one plant without stopping other plants")
+    void runAllPlants_shouldIsolateFailures() {
+        // Given
+        MultiPlantExecutor plantExecutor = MultiPlantExecutor.of(Runnable::run, 2);
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(25)));
+        SequentialProcessingEngine failingEngine = SequentialProcessingEngine.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(30, 50, 1000)),
+                heatingBlock);
+        ProcessTopology heatingTopology = SequentialProcessingEngine.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(20, 50, 1000)),
+                HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(25)))).compileTopology();
+        ProcessRunContext heatingRunContext = heatingTopology.createRunContext();
+        plantExecutor.addPlant("failing", failingEngine, 10).addPlant("heating", heatingRunContext, 0);
+
+        // When
+        MultiPlantRunResult runResult = plantExecutor.runAllPlants();
+
+        // Then
+        assertThat(runResult.isSuccessful()).isFalse();
+        assertThat(runResult.getFailedPlantResults()).hasSize(1);
+        assertThat(runResult.getPlantResult("failing").failure()).isInstanceOf(HvacEngineArgumentException.class);
+        assertThat(runResult.getPlantResult("failing").processResults()).isEmpty();
+        assertThat(runResult.getPlantResult("heating").isSuccessful()).isTrue();
+        assertThat(runResult.totalHeatingPower().getInWatts()).isEqualTo(
+                runResult.getPlantResult("heating").processResults().get(0).heatOfProcess().getInWatts());
+        assertThatThrownBy(() -> plantExecutor.addPlant("heating", heatingTopology, 0)).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> plantExecutor.addPlant("other", SequentialProcessingEngine.of(heatingBlock), 0))
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> plantExecutor.addPlant("other", heatingRunContext, 0)).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> runResult.getPlantResult("unknown")).isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.heating.HeatingFromHumidity;
+import com.synerset.hvacengine.process.heating.HeatingFromTemperature;
+import com.synerset.hvacengine.process.mixing.Mixing;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class ParallelProcessingEngineTest {
+
+    /**
+     * Process graph scenario:
+     * 1. Outdoor air 5oC / 80% 1000 m3/h heated to 20oC (branch A)
+     * 2. Recirculation air 28oC / 50% 1500 m3/h cooled to 22oC (branch B)
+     * 3. Both branches mixed together
+     * 4. Mixture heated to reach 35% RH
+     */
+    @Test
+    @DisplayName("should compute branched process graph with the same results as blocks computed one by one")
+    void runCalculationsForAllNodes_shouldComputeBranchedGraph() {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        PlantBlocks plant = createBranchedPlant();
+        PlantBlocks referencePlant = createBranchedPlant();
+        ParallelProcessingEngine engine = ParallelProcessingEngine.of(executor,
+                plant.finalHeating(), plant.mixing(), plant.recirculationCooling(), plant.outdoorHeating());
+
+        // When
+        ProcessResult lastResult;
+        try {
+            lastResult = engine.runCalculationsForAllNodes();
+        } finally {
+            executor.shutdown();
+        }
+        referencePlant.outdoorHeating().runProcessCalculations();
+        referencePlant.recirculationCooling().runProcessCalculations();
+        referencePlant.mixing().runProcessCalculations();
+        ProcessResult expectedLastResult = referencePlant.finalHeating().runProcessCalculations();
+
+        // Then
+        List<ProcessResult> allResults = engine.getProcessResults();
+        assertThat(allResults).hasSize(4);
+        assertThat(allResults.get(0)).isEqualTo(plant.recirculationCooling().getProcessResult());
+        assertThat(allResults.get(1)).isEqualTo(plant.outdoorHeating().getProcessResult());
+        assertThat(allResults.get(2)).isEqualTo(plant.mixing().getProcessResult());
+        assertThat(lastResult).isSameAs(plant.finalHeating().getProcessResult());
+        assertThat(lastResult.outletAirFlow()).isEqualTo(expectedLastResult.outletAirFlow());
+        assertThat(lastResult.heatOfProcess()).isEqualTo(expectedLastResult.heatOfProcess());
+        assertThat(engine.getResults(ProcessType.HEATING)).hasSize(2);
+        assertThat(engine.toConsoleOutput()).contains("MIXING", "COOLING", "HEATING");
+    }
+
+    @Test
+    @DisplayName("should replace results of previous run when calculations are repeated")
+    void runCalculationsForAllNodes_shouldReplacePreviousResults_whenRunRepeatedly() {
+        // Given
+        PlantBlocks plant = createBranchedPlant();
+        ParallelProcessingEngine engine = ParallelProcessingEngine.of(
+                plant.outdoorHeating(), plant.recirculationCooling(), plant.mixing(), plant.finalHeating());
+
+        // When
+        engine.runCalculationsForAllNodes();
+        ProcessResult lastResult = engine.runCalculationsForAllNodes();
+
+        // Then
+        assertThat(engine.getProcessResults()).hasSize(4);
+        assertThat(lastResult.outletAirFlow().getRelativeHumidity().getInPercent()).isEqualTo(35.0, withPrecision(1E-9));
+    }
+
+    @Test
+    @DisplayName("should recalculate only blocks downstream of changed input")
+    void runCalculationsForAllNodes_shouldRecalculateOnlyDownstreamBlocks_whenOneInputChanges() {
+        // Given
+        PlantBlocks plant = createBranchedPlant();
+        ParallelProcessingEngine engine = ParallelProcessingEngine.of(
+                plant.outdoorHeating(), plant.recirculationCooling(), plant.mixing(), plant.finalHeating());
+        engine.runCalculationsForAllNodes();
+        ProcessResult firstOutdoorHeatingResult = plant.outdoorHeating().getProcessResult();
+        ProcessResult firstCoolingResult = plant.recirculationCooling().getProcessResult();
+        ProcessResult firstMixingResult = plant.mixing().getProcessResult();
+
+        // When
+        engine.runCalculationsForAllNodes();
+        ProcessResult unchangedMixingResult = plant.mixing().getProcessResult();
+        plant.recirculationAirSource().setSourceData(FlowOfHumidAir.ofValues(26, 50, 1500));
+        engine.runCalculationsForAllNodes();
+
+        // Then
+        assertThat(unchangedMixingResult).isSameAs(firstMixingResult);
+        assertThat(plant.outdoorHeating().getProcessResult()).isSameAs(firstOutdoorHeatingResult);
+        assertThat(plant.recirculationCooling().getProcessResult()).isNotSameAs(firstCoolingResult);
+        assertThat(plant.mixing().getProcessResult()).isNotSameAs(firstMixingResult);
+        assertThat(plant.recirculationCooling().getProcessResult().inletAirFlow().getTemperature().getInCelsius()).isEqualTo(26.0, withPrecision(1E-12));
+
+        // When
+        engine.invalidateAllNodes();
+        engine.runCalculationsForAllNodes();
+
+        // Then
+        assertThat(plant.outdoorHeating().getProcessResult()).isNotSameAs(firstOutdoorHeatingResult);
+    }
+
+    @Test
+    @DisplayName("should throw an exception when block connections contain a cycle")
+    void runCalculationsForAllNodes_shouldThrowException_whenConnectionsContainCycle() {
+        // Given
+        SimpleDataSource<Temperature> temperatureSource = SimpleDataSource.of(Temperature.ofCelsius(20));
+        HeatingFromTemperature firstHeating = HeatingFromTemperature.of(temperatureSource);
+        HeatingFromTemperature secondHeating = HeatingFromTemperature.of(firstHeating, temperatureSource);
+        firstHeating.connectAirFlowDataSource(secondHeating);
+        ParallelProcessingEngine engine = ParallelProcessingEngine.of(firstHeating, secondHeating);
+
+        // When
+        // Then
+        assertThatThrownBy(engine::runCalculationsForAllNodes)
+                .isInstanceOf(HvacEngineArgumentException.class)
+                .hasMessageContaining("cycle");
+        assertThatThrownBy(() -> ParallelProcessingEngine.of().runCalculationsForAllNodes())
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+    private static PlantBlocks createBranchedPlant() {
+        SimpleDataSource<FlowOfHumidAir> outdoorAirSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(5, 80, 1000));
+        SimpleDataSource<FlowOfHumidAir> recirculationAirSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(28, 50, 1500));
+        HeatingFromTemperature outdoorHeating = HeatingFromTemperature.of(outdoorAirSource, SimpleDataSource.of(Temperature.ofCelsius(20)));
+        CoolingFromTemperature recirculationCooling = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(22)));
+        recirculationCooling.connectAirFlowDataSource(recirculationAirSource);
+        Mixing mixing = Mixing.of(outdoorHeating, recirculationCooling);
+        HeatingFromHumidity finalHeating = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(35)));
+        finalHeating.connectAirFlowDataSource(mixing);
+        return new PlantBlocks(recirculationAirSource, outdoorHeating, recirculationCooling, mixing, finalHeating);
+    }
+
+    private record PlantBlocks(SimpleDataSource<FlowOfHumidAir> recirculationAirSource,
+                               HeatingFromTemperature outdoorHeating,
+                               CoolingFromTemperature recirculationCooling,
+                               Mixing mixing,
+                               HeatingFromHumidity finalHeating) {
+    }
+
+}
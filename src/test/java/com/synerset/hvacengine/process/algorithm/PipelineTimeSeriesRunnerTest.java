@@ -0,0 +1,114 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.blockmodel.ConnectorDataAccess;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.heating.HeatingFromHumidity;
+import com.synerset.hvacengine.process.heating.HeatingFromTemperature;
+import com.synerset.hvacengine.process.heating.dataobject.HeatingResult;
+import com.synerset.hvacengine.process.mixing.Mixing;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelineTimeSeriesRunnerTest {
+
+    @Test
+    @DisplayName("should return results for all time steps in order, equal to results of single topology runs")
+    void runTimeSeries_shouldReturnResultsInOrder() {
+        // Given
+        Mixing mixingBlock = Mixing.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(24, 50, 800)));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(18)));
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(40)));
+        ProcessTopology topology = SequentialProcessingEngine.of(
+                SimpleDataSource.of(FlowOfHumidAir.ofValues(30, 50, 1000)), mixingBlock, coolingBlock, heatingBlock).compileTopology();
+        List<FlowOfHumidAir> inletAirFlows = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            inletAirFlows.add(FlowOfHumidAir.ofValues(26 + (i % 20) * 0.5, 40 + i % 30, 1000 + 5 * i));
+        }
+        PipelineTimeSeriesRunner pipelineRunner = PipelineTimeSeriesRunner.of(topology, 2);
+
+        // When
+        List<ProcessRunContext> runContexts = pipelineRunner.runTimeSeries(inletAirFlows);
+        List<ProcessResult> lastResults = pipelineRunner.runTimeSeriesForLastResults(inletAirFlows);
+
+        // Then
+        assertThat(runContexts).hasSize(inletAirFlows.size());
+        assertThat(lastResults).hasSize(inletAirFlows.size());
+        for (int i = 0; i < inletAirFlows.size(); i++) {
+            ProcessRunContext expectedContext = topology.run(topology.createRunContext().withInletAirFlow(inletAirFlows.get(i)));
+            assertThat(runContexts.get(i).getProcessResults()).hasSize(3);
+            assertThat(runContexts.get(i).getResult(mixingBlock).inletAirFlow()).isEqualTo(inletAirFlows.get(i));
+            assertThat(lastResults.get(i).outletAirFlow()).isEqualTo(expectedContext.getLastResult().outletAirFlow());
+            assertThat(lastResults.get(i).heatOfProcess()).isEqualTo(expectedContext.getLastResult().heatOfProcess());
+        }
+        assertThat(pipelineRunner.runTimeSeries(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should rethrow the failure of any time step and stop the pipeline")
+    void runTimeSeries_shouldThrowException_whenTimeStepCalculationFails() {
+        // Given
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(30)));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(18)));
+        ProcessTopology topology = SequentialProcessingEngine.of(
+                SimpleDataSource.of(FlowOfHumidAir.ofValues(20, 50, 1000)), heatingBlock, coolingBlock).compileTopology();
+        List<FlowOfHumidAir> inletAirFlows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inletAirFlows.add(FlowOfHumidAir.ofValues(i == 50 ? 40 : 20, 50, 1000));
+        }
+        PipelineTimeSeriesRunner pipelineRunner = PipelineTimeSeriesRunner.of(topology, 1);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> pipelineRunner.runTimeSeries(inletAirFlows))
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> PipelineTimeSeriesRunner.of(topology, 0))
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should rethrow an error thrown by a middle stage and let all other stages terminate")
+    void runTimeSeries_shouldThrowError_whenMiddleStageFailsWithError() {
+        // Given
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(30)));
+        HeatingFromTemperature failingBlock = new HeatingFromTemperature(heatingBlock, SimpleDataSource.of(Temperature.ofCelsius(32))) {
+            @Override
+            public HeatingResult runProcessCalculations(ConnectorDataAccess connectorDataAccess) {
+                HeatingResult heatingResult = super.runProcessCalculations(connectorDataAccess);
+                if (heatingResult.inletAirFlow().getRelativeHumidity().getInPercent() < 40) {
+                    throw new AssertionError("Stage failure");
+                }
+                return heatingResult;
+            }
+        };
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(18)));
+        ProcessTopology topology = SequentialProcessingEngine.of(
+                SimpleDataSource.of(FlowOfHumidAir.ofValues(20, 50, 1000)), heatingBlock, failingBlock, coolingBlock).compileTopology();
+        List<FlowOfHumidAir> inletAirFlows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            inletAirFlows.add(FlowOfHumidAir.ofValues(20, i == 10 ? 20 : 90, 1000));
+        }
+        PipelineTimeSeriesRunner pipelineRunner = PipelineTimeSeriesRunner.of(topology, 1);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> pipelineRunner.runTimeSeries(inletAirFlows))
+                .isInstanceOf(AssertionError.class);
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.ProcessType;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.heating.HeatingFromHumidity;
+import com.synerset.hvacengine.process.mixing.Mixing;
+import com.synerset.hvacengine.process.mixing.MixingAccumulator;
+import com.synerset.hvacengine.process.mixing.MixingEquations;
+import com.synerset.hvacengine.process.mixing.dataobject.MixingResult;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class ProcessTopologyTest {
+
+    @Test
+    @DisplayName("should run compiled topology with the same results as sequential engine, without modifying blocks")
+    void run_shouldReturnSameResultsAsSequentialEngine() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(35, 55, 1000));
+        Mixing mixingBlock = Mixing.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(25, 70, 1000)));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(25)));
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(30)));
+        SequentialProcessingEngine engine = SequentialProcessingEngine.of(airFlowSource, mixingBlock, coolingBlock, heatingBlock);
+        ProcessTopology topology = engine.compileTopology();
+
+        // When
+        ProcessRunContext runContext = topology.run();
+        ProcessResult expectedLastResult = engine.runCalculationsForAllNodes();
+
+        // Then
+        assertThat(runContext.getProcessResults()).hasSize(3);
+        assertThat(runContext.getLastResult().outletAirFlow()).isEqualTo(expectedLastResult.outletAirFlow());
+        assertThat(runContext.getLastResult().heatOfProcess()).isEqualTo(expectedLastResult.heatOfProcess());
+        assertThat(runContext.getResult(coolingBlock).outletAirFlow()).isEqualTo(coolingBlock.getProcessResult().outletAirFlow());
+        assertThat(runContext.getResults(ProcessType.MIXING)).hasSize(1);
+        assertThat(runContext.getOutputData(heatingBlock)).isEqualTo(expectedLastResult.outletAirFlow());
+        assertThat(topology.getProcessBlocks()).containsExactly(mixingBlock, coolingBlock, heatingBlock);
+    }
+
+    @Test
+    @DisplayName("should run one topology concurrently with different inlet data in separate contexts")
+    void run_shouldRunConcurrently_whenSeparateContextsAreUsed() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(30, 50, 1000));
+        SimpleDataSource<Temperature> targetTemperatureSource = SimpleDataSource.of(Temperature.ofCelsius(20));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(SimpleDataSource.of(CoolantData.ofValues(7, 14)), targetTemperatureSource);
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(45)));
+        ProcessTopology topology = SequentialProcessingEngine.of(airFlowSource, coolingBlock, heatingBlock).compileTopology();
+        List<FlowOfHumidAir> inletAirFlows = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            inletAirFlows.add(FlowOfHumidAir.ofValues(25 + i, 40 + i, 1000 + 100 * i));
+        }
+
+        // When
+        List<ProcessResult> concurrentResults = IntStream.range(0, inletAirFlows.size()).parallel()
+                .mapToObj(i -> topology.run(topology.createRunContext().withInletAirFlow(inletAirFlows.get(i))).getLastResult())
+                .toList();
+        ProcessRunContext changedTargetContext = topology.createRunContext()
+                .withSourceData(targetTemperatureSource, Temperature.ofCelsius(18));
+        topology.run(changedTargetContext);
+
+        // Then
+        for (int i = 0; i < inletAirFlows.size(); i++) {
+            SequentialProcessingEngine referenceEngine = SequentialProcessingEngine.of(
+                    SimpleDataSource.of(inletAirFlows.get(i)),
+                    CoolingFromTemperature.of(SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(20))),
+                    HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(45))));
+            ProcessResult expectedResult = referenceEngine.runCalculationsForAllNodes();
+            assertThat(concurrentResults.get(i).outletAirFlow()).isEqualTo(expectedResult.outletAirFlow());
+        }
+        assertThat(changedTargetContext.getResult(coolingBlock).outletAirFlow().getTemperature().getInCelsius()).isEqualTo(18, withPrecision(1E-9));
+        assertThat(coolingBlock.getProcessResult()).isNull();
+        assertThat(heatingBlock.getProcessResult()).isNull();
+    }
+
+    @Test
+    @DisplayName("should throw an exception when context or source does not belong to topology")
+    void run_shouldThrowException_whenContextOrSourceDoesNotBelongToTopology() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(30, 50, 1000));
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(45)));
+        heatingBlock.connectAirFlowDataSource(airFlowSource);
+        ProcessTopology topology = ProcessTopology.of(heatingBlock);
+        ProcessTopology otherTopology = ProcessTopology.of(heatingBlock);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> topology.run(otherTopology.createRunContext()))
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> topology.createRunContext().withSourceData(SimpleDataSource.of(1.0), 2.0))
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(ProcessTopology::of)
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should incrementally mix only changed recirculation flows, with accumulator kept by run context")
+    void run_shouldIncrementallyMixChangedFlows_whenIncrementalMixingIsEnabled() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(5, 60, 10_000));
+        List<SimpleDataSource<FlowOfHumidAir>> zoneFlowSources = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            zoneFlowSources.add(SimpleDataSource.of(FlowOfHumidAir.ofValues(20 + i * 0.1, 40 + i * 0.2, 500 + i * 10)));
+        }
+        Mixing mixingBlock = Mixing.of(airFlowSource, zoneFlowSources);
+        mixingBlock.setIncrementalMixing(true);
+        ProcessTopology topology = ProcessTopology.of(mixingBlock);
+        ProcessRunContext runContext = topology.run();
+
+        // When
+        FlowOfHumidAir changedZoneFlow = FlowOfHumidAir.ofValues(26, 55, 900);
+        topology.run(runContext.withSourceData(zoneFlowSources.get(7), changedZoneFlow));
+
+        // Then
+        List<FlowOfHumidAir> expectedZoneFlows = new ArrayList<>(zoneFlowSources.stream().map(SimpleDataSource::getSourceData).toList());
+        expectedZoneFlows.set(7, changedZoneFlow);
+        MixingResult expectedResults = MixingEquations.mixingOfMultipleFlows(airFlowSource.getSourceData(), expectedZoneFlows);
+        FlowOfHumidAir outletAirFlow = runContext.getOutputData(mixingBlock);
+        MixingAccumulator contextAccumulator = runContext.getBlockState(mixingBlock, MixingAccumulator::new);
+        assertThat(contextAccumulator.getNumberOfFlowUpdates()).isEqualTo(21);
+        assertThat(mixingBlock.getMixingAccumulator().getNumberOfFlowUpdates()).isZero();
+        assertThat(outletAirFlow.getTemperature().getInCelsius())
+                .isEqualTo(expectedResults.outletAirFlow().getTemperature().getInCelsius(), withPrecision(1E-9));
+        assertThat(outletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond())
+                .isEqualTo(expectedResults.outletAirFlow().getDryAirMassFlow().getInKilogramsPerSecond(), withPrecision(1E-12));
+    }
+
+}
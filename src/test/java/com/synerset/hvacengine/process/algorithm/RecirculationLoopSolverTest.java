@@ -0,0 +1,148 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.heating.HeatingFromTemperature;
+import com.synerset.hvacengine.process.mixing.Mixing;
+import com.synerset.hvacengine.process.mixing.dataobject.MixingResult;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.property.fluids.humidair.HumidAir;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class RecirculationLoopSolverTest {
+
+    // Room load of 3 K and 0.5 g/kg, 40% of supply dry air is recirculated
+    private static final UnaryOperator<FlowOfHumidAir> RETURN_AIR = supplyAir -> FlowOfHumidAir.ofDryAirMassFlow(
+            HumidAir.of(supplyAir.getPressure(),
+                    Temperature.ofCelsius(supplyAir.getTemperature().getInCelsius() + 3),
+                    HumidityRatio.ofKilogramPerKilogram(supplyAir.getHumidityRatio().getInKilogramPerKilogram() + 0.0005)),
+            MassFlow.ofKilogramsPerSecond(supplyAir.getDryAirMassFlow().getInKilogramsPerSecond() * 0.4));
+
+    @Test
+    @DisplayName("should find the same loop solution with all accelerations, using fewer chain evaluations when accelerated")
+    void solve_shouldConvergeFaster_whenAccelerated() {
+        // Given
+        FlowOfHumidAir freshAir = FlowOfHumidAir.ofValues(32, 45, 1000);
+        Mixing mixingBlock = Mixing.of(SimpleDataSource.of(freshAir), List.of());
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 12)), SimpleDataSource.of(Temperature.ofCelsius(14)));
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(18)));
+        SequentialProcessingEngine engine = SequentialProcessingEngine.of(mixingBlock, coolingBlock, heatingBlock);
+        mixingBlock.connectMixingFlowDataSource(heatingBlock);
+        RecirculationLoopSolver.Builder solverBuilder = RecirculationLoopSolver.builder()
+                .processBlocks(mixingBlock, coolingBlock, heatingBlock)
+                .loopClosingInput(mixingBlock.getInputMixingFlowConnectors().get(0))
+                .loopTransform(RETURN_AIR)
+                .tolerance(1E-8);
+
+        // When
+        LoopSolution plainSolution = solverBuilder.acceleration(LoopAcceleration.NONE).build().solve();
+        LoopSolution aitkenSolution = solverBuilder.acceleration(LoopAcceleration.AITKEN).build().solve();
+        LoopSolution andersonSolution = solverBuilder.acceleration(LoopAcceleration.ANDERSON).build().solve();
+        LoopSolution engineSolution = engine.compileRecirculationLoop(mixingBlock.getInputMixingFlowConnectors().get(0), RETURN_AIR).solve();
+
+        // Then
+        for (LoopSolution solution : List.of(plainSolution, aitkenSolution, andersonSolution)) {
+            assertThat(solution.isConverged()).isTrue();
+            assertThat(solution.residualHistory()).hasSize(solution.iterations());
+            FlowOfHumidAir loopAirFlow = solution.loopAirFlow();
+            assertThat(loopAirFlow.getTemperature().getInCelsius()).isEqualTo(21, withPrecision(1E-5));
+            assertThat(loopAirFlow.getDryAirMassFlow().getInKilogramsPerSecond())
+                    .isEqualTo(0.4 / 0.6 * freshAir.getDryAirMassFlow().getInKilogramsPerSecond(), withPrecision(1E-6));
+            assertThat(loopAirFlow.getHumidityRatio().getInKilogramPerKilogram())
+                    .isEqualTo(plainSolution.loopAirFlow().getHumidityRatio().getInKilogramPerKilogram(), withPrecision(1E-8));
+            MixingResult mixingResult = (MixingResult) solution.runContext().getResult(mixingBlock);
+            assertThat(mixingResult.recirculationFlows()).containsExactly(loopAirFlow);
+        }
+        assertThat(plainSolution.chainEvaluations()).isGreaterThanOrEqualTo(15);
+        assertThat(aitkenSolution.chainEvaluations()).isLessThan(plainSolution.chainEvaluations());
+        assertThat(andersonSolution.chainEvaluations() * 2).isLessThan(plainSolution.chainEvaluations());
+        assertThat(engineSolution.isConverged()).isTrue();
+        assertThat(engineSolution.acceleration()).isEqualTo(LoopAcceleration.ANDERSON);
+    }
+
+    @Test
+    @DisplayName("should report not converged solution when iteration limit is reached")
+    void solve_shouldReportNotConverged_whenIterationLimitIsReached() {
+        // Given
+        Mixing mixingBlock = Mixing.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(32, 45, 1000)), List.of());
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(35)));
+        heatingBlock.connectAirFlowDataSource(mixingBlock);
+        mixingBlock.connectMixingFlowDataSource(heatingBlock);
+        RecirculationLoopSolver loopSolver = RecirculationLoopSolver.builder()
+                .processBlocks(mixingBlock, heatingBlock)
+                .loopClosingInput(mixingBlock.getInputMixingFlowConnectors().get(0))
+                .loopTransform(RETURN_AIR)
+                .acceleration(LoopAcceleration.NONE)
+                .maxIterations(3)
+                .build();
+
+        // When
+        LoopSolution loopSolution = loopSolver.solve(FlowOfHumidAir.ofValues(30, 40, 1200));
+
+        // Then
+        assertThat(loopSolution.isConverged()).isFalse();
+        assertThat(loopSolution.iterations()).isEqualTo(3);
+        assertThat(loopSolution.chainEvaluations()).isEqualTo(3);
+        assertThat(loopSolution.residualNorm()).isGreaterThan(1E-6);
+        assertThat(loopSolution.runContext().getLastResult()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("should throw an exception when loop-closing input is not connected to an output of provided blocks")
+    void builder_shouldThrowException_whenLoopIsNotClosed() {
+        // Given
+        Mixing mixingBlock = Mixing.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(32, 45, 1000)),
+                List.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(24, 50, 500))));
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(35)));
+        heatingBlock.connectAirFlowDataSource(mixingBlock);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> RecirculationLoopSolver.builder()
+                .processBlocks(mixingBlock, heatingBlock)
+                .loopClosingInput(mixingBlock.getInputMixingFlowConnectors().get(0))
+                .loopTransform(RETURN_AIR)
+                .build())
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> RecirculationLoopSolver.builder()
+                .processBlocks(mixingBlock, heatingBlock)
+                .loopClosingInput(heatingBlock.getInputConnector())
+                .loopTransform(RETURN_AIR)
+                .tolerance(0)
+                .build())
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should throw an exception when loop transform is not provided")
+    void builder_shouldThrowException_whenLoopTransformIsMissing() {
+        // Given
+        Mixing mixingBlock = Mixing.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(32, 45, 1000)), List.of());
+        HeatingFromTemperature heatingBlock = HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(35)));
+        SequentialProcessingEngine.of(mixingBlock, heatingBlock);
+        mixingBlock.connectMixingFlowDataSource(heatingBlock);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> RecirculationLoopSolver.builder()
+                .processBlocks(mixingBlock, heatingBlock)
+                .loopClosingInput(mixingBlock.getInputMixingFlowConnectors().get(0))
+                .build())
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.HvacProcessBlock;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.heating.HeatingFromHumidity;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScenarioBatchRunnerTest {
+
+    @Test
+    @DisplayName("should return results for all scenarios in input order, equal to results of single engine runs")
+    void runScenarios_shouldReturnResultsInInputOrder() {
+        // Given
+        List<FlowOfHumidAir> inletAirFlows = new ArrayList<>();
+        for (int i = 0; i < 24; i++) {
+            inletAirFlows.add(FlowOfHumidAir.ofValues(26 + i * 0.5, 40 + i, 1000 + 50 * i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ScenarioBatchRunner batchRunner = ScenarioBatchRunner.of(ScenarioBatchRunnerTest::createEngine, executor, 4);
+
+        // When
+        List<List<ProcessResult>> scenarioResults;
+        List<ProcessResult> lastResults;
+        try {
+            scenarioResults = batchRunner.runScenarios(inletAirFlows);
+            lastResults = batchRunner.runScenariosForLastResults(inletAirFlows);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(scenarioResults).hasSize(inletAirFlows.size());
+        assertThat(lastResults).hasSize(inletAirFlows.size());
+        for (int i = 0; i < inletAirFlows.size(); i++) {
+            SequentialProcessingEngine referenceEngine = createEngine();
+            referenceEngine.connectInletAirFlowDataSource(SimpleDataSource.of(inletAirFlows.get(i)));
+            ProcessResult expectedResult = referenceEngine.runCalculationsForAllNodes();
+            assertThat(scenarioResults.get(i)).hasSize(2);
+            assertThat(scenarioResults.get(i).get(0).inletAirFlow()).isEqualTo(inletAirFlows.get(i));
+            assertThat(lastResults.get(i).outletAirFlow()).isEqualTo(expectedResult.outletAirFlow());
+            assertThat(lastResults.get(i).heatOfProcess()).isEqualTo(expectedResult.heatOfProcess());
+        }
+    }
+
+    @Test
+    @DisplayName("should throw an exception when engine factory reuses process blocks")
+    void runScenarios_shouldThrowException_whenEngineFactoryReusesBlocks() {
+        // Given
+        SequentialProcessingEngine sharedEngine = createEngine();
+        ScenarioBatchRunner batchRunner = ScenarioBatchRunner.of(() -> SequentialProcessingEngine.of(
+                sharedEngine.getAllProcessBlocks().toArray(new HvacProcessBlock[0])), Runnable::run, 2);
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(30, 50, 1000);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> batchRunner.runScenarios(inletAirFlow, inletAirFlow))
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should stop other workers when engine factory fails, and retain only the last run in worker engines")
+    void runScenarios_shouldStopOtherWorkers_whenEngineFactoryFails() {
+        // Given
+        List<SequentialProcessingEngine> createdEngines = new ArrayList<>();
+        ScenarioBatchRunner failingRunner = ScenarioBatchRunner.of(() -> {
+            if (createdEngines.isEmpty()) {
+                createdEngines.add(null);
+                throw new HvacEngineArgumentException("Engine creation failed.");
+            }
+            SequentialProcessingEngine engine = createEngine();
+            createdEngines.add(engine);
+            return engine;
+        }, Runnable::run, 2);
+        List<SequentialProcessingEngine> workerEngines = new ArrayList<>();
+        ScenarioBatchRunner batchRunner = ScenarioBatchRunner.of(() -> {
+            SequentialProcessingEngine engine = createEngine();
+            workerEngines.add(engine);
+            return engine;
+        }, Runnable::run, 1);
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(30, 50, 1000);
+
+        // When
+        List<List<ProcessResult>> scenarioResults = batchRunner.runScenarios(inletAirFlow, inletAirFlow, inletAirFlow);
+
+        // Then
+        assertThatThrownBy(() -> failingRunner.runScenarios(inletAirFlow, inletAirFlow))
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThat(createdEngines).hasSize(2);
+        assertThat(createdEngines.get(1).getResultHistory().getNumberOfRecordedRuns()).isZero();
+        assertThat(scenarioResults).hasSize(3);
+        assertThat(workerEngines).hasSize(1);
+        assertThat(workerEngines.get(0).getResultHistory().getRetentionPolicy()).isEqualTo(ResultRetentionPolicy.lastRun());
+        assertThat(workerEngines.get(0).getProcessResults()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should return empty results when no scenarios are provided")
+    void runScenarios_shouldReturnEmptyResults_whenNoScenariosAreProvided() {
+        // Given
+        ScenarioBatchRunner batchRunner = ScenarioBatchRunner.of(ScenarioBatchRunnerTest::createEngine);
+
+        // When
+        List<List<ProcessResult>> scenarioResults = batchRunner.runScenarios(List.of());
+
+        // Then
+        assertThat(scenarioResults).isEmpty();
+    }
+
+    private static SequentialProcessingEngine createEngine() {
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(20)));
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(45)));
+        return SequentialProcessingEngine.of(coolingBlock, heatingBlock);
+    }
+
+}
@@ -1,20 +1,26 @@
 package com.synerset.hvacengine.process.algorithm;
 
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
 import com.synerset.hvacengine.process.ProcessResult;
 import com.synerset.hvacengine.process.ProcessType;
 import com.synerset.hvacengine.process.cooling.CoolantData;
 import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.cooling.CoolingResultCache;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
 import com.synerset.hvacengine.process.heating.HeatingFromHumidity;
 import com.synerset.hvacengine.process.mixing.Mixing;
 import com.synerset.hvacengine.process.source.SimpleDataSource;
 import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 
 class SequentialProcessingEngineTest {
@@ -73,4 +79,136 @@ class SequentialProcessingEngineTest {
         assertThat(SequentialProcessingEngine.of()).isNotNull().isInstanceOf(SequentialProcessingEngine.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    void sequentialProcessingEngine_shouldReuseResults_whenInputsHaveNotChanged() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(35, 55, 1000));
+        SimpleDataSource<Temperature> temperatureDataSource = SimpleDataSource.of(Temperature.ofCelsius(25));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(SimpleDataSource.of(CoolantData.ofValues(7, 14)), temperatureDataSource);
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(30)));
+        SequentialProcessingEngine processComputation = SequentialProcessingEngine.of(airFlowSource, coolingBlock, heatingBlock);
+        processComputation.runCalculationsForAllNodes();
+        ProcessResult firstCoolingResult = coolingBlock.getProcessResult();
+        ProcessResult firstHeatingResult = heatingBlock.getProcessResult();
+
+        // When
+        processComputation.runCalculationsForAllNodes();
+        ProcessResult unchangedHeatingResult = heatingBlock.getProcessResult();
+        temperatureDataSource.setSourceData(Temperature.ofCelsius(24));
+        ProcessResult lastResult = processComputation.runCalculationsForAllNodes();
+
+        // Then
+        assertThat(unchangedHeatingResult).isSameAs(firstHeatingResult);
+        assertThat(coolingBlock.getProcessResult()).isNotSameAs(firstCoolingResult);
+        assertThat(lastResult).isNotSameAs(firstHeatingResult);
+        assertThat(lastResult.inletAirFlow().getTemperature().getInCelsius()).isEqualTo(24, withPrecision(1E-12));
+    }
+
+    @Test
+    @DisplayName("should recalculate block when its configuration has changed, even if inputs have not changed")
+    void sequentialProcessingEngine_shouldRecalculateBlock_whenConfigurationHasChanged() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(35, 55, 1000));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(SimpleDataSource.of(CoolantData.ofValues(7, 14)),
+                SimpleDataSource.of(Temperature.ofCelsius(25)));
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(30)));
+        SequentialProcessingEngine processComputation = SequentialProcessingEngine.of(airFlowSource, coolingBlock, heatingBlock);
+        processComputation.runCalculationsForAllNodes();
+        ProcessResult firstCoolingResult = coolingBlock.getProcessResult();
+        CoolingResultCache resultCache = CoolingResultCache.builder().build();
+
+        // When
+        coolingBlock.setResultCache(resultCache);
+        processComputation.runCalculationsForAllNodes();
+
+        // Then
+        assertThat(coolingBlock.getProcessResult()).isNotSameAs(firstCoolingResult);
+        assertThat(resultCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should retain results of the specified number of last runs, indexed by process type")
+    void sequentialProcessingEngine_shouldRetainBoundedHistory_whenLastRunsPolicyIsSet() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(35, 55, 1000));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(SimpleDataSource.of(CoolantData.ofValues(7, 14)),
+                SimpleDataSource.of(Temperature.ofCelsius(25)));
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(30)));
+        SequentialProcessingEngine processComputation = SequentialProcessingEngine.of(airFlowSource, coolingBlock, heatingBlock);
+        processComputation.setResultRetentionPolicy(ResultRetentionPolicy.lastRuns(3));
+        List<ProcessResult> lastHeatingResults = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            airFlowSource.setSourceData(FlowOfHumidAir.ofValues(30 + i, 55, 1000));
+            processComputation.runCalculationsForAllNodes();
+            lastHeatingResults.add(heatingBlock.getProcessResult());
+        }
+
+        // Then
+        ProcessResultHistory resultHistory = processComputation.getResultHistory();
+        assertThat(resultHistory.getNumberOfRecordedRuns()).isEqualTo(10);
+        assertThat(resultHistory.getNumberOfRetainedRuns()).isEqualTo(3);
+        assertThat(processComputation.getProcessResults()).hasSize(6);
+        assertThat(processComputation.getResults(ProcessType.HEATING)).isEqualTo(lastHeatingResults.subList(7, 10));
+        assertThat(processComputation.getResults(ProcessType.MIXING)).isEmpty();
+        assertThat(processComputation.getLastResult()).isSameAs(lastHeatingResults.get(9));
+        assertThat(resultHistory.getLastRunResults()).containsExactly(coolingBlock.getProcessResult(), heatingBlock.getProcessResult());
+        assertThat(resultHistory.getColumnarStore()).isEmpty();
+
+        List<ProcessResult> resultsSnapshot = processComputation.getProcessResults();
+        List<ProcessResult> heatingResultsSnapshot = resultHistory.getResults(ProcessType.HEATING);
+        List<ProcessResult> resultsView = resultHistory.getProcessResultsView();
+        processComputation.clearResults();
+        assertThat(resultsSnapshot).hasSize(6);
+        assertThat(heatingResultsSnapshot).hasSize(3);
+        assertThat(resultsView).isEmpty();
+        assertThat(resultHistory.getResultsView(ProcessType.HEATING)).isEmpty();
+        assertThat(processComputation.getProcessResults()).isEmpty();
+        assertThat(processComputation.getLastResult()).isNull();
+        assertThat(processComputation.toConsoleOutputLastResult()).isEqualTo("Results not available");
+    }
+
+    @Test
+    @DisplayName("should store key quantities of last runs as primitive values, when columnar policy is set")
+    void sequentialProcessingEngine_shouldStoreColumnarHistory_whenColumnarPolicyIsSet() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(35, 55, 1000));
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(SimpleDataSource.of(CoolantData.ofValues(7, 14)),
+                SimpleDataSource.of(Temperature.ofCelsius(20)));
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(40)));
+        SequentialProcessingEngine processComputation = SequentialProcessingEngine.of(airFlowSource, coolingBlock, heatingBlock);
+        processComputation.setResultRetentionPolicy(ResultRetentionPolicy.columnar(4));
+        List<CoolingResult> coolingResults = new ArrayList<>();
+        List<ProcessResult> heatingResults = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            airFlowSource.setSourceData(FlowOfHumidAir.ofValues(28 + i, 50 + i, 1000));
+            processComputation.runCalculationsForAllNodes();
+            coolingResults.add((CoolingResult) coolingBlock.getProcessResult());
+            heatingResults.add(heatingBlock.getProcessResult());
+        }
+
+        // Then
+        assertThat(processComputation.getProcessResults()).hasSize(2);
+        ColumnarResultStore columnarStore = processComputation.getResultHistory().getColumnarStore().orElseThrow();
+        assertThat(columnarStore.size()).isEqualTo(4);
+        assertThat(columnarStore.getNumberOfBlocks()).isEqualTo(2);
+        assertThat(columnarStore.getProcessType(0)).isEqualTo(ProcessType.COOLING);
+        double[] outletTemperatures = columnarStore.getSeries(ResultQuantity.OUTLET_TEMPERATURE, 1);
+        double[] condensateFlows = columnarStore.getSeries(ResultQuantity.CONDENSATE_MASS_FLOW, 0);
+        assertThat(outletTemperatures).hasSize(4);
+        for (int run = 0; run < 4; run++) {
+            ProcessResult heatingResult = heatingResults.get(run + 2);
+            CoolingResult coolingResult = coolingResults.get(run + 2);
+            assertThat(outletTemperatures[run]).isEqualTo(heatingResult.outletAirFlow().getTemperature().getInCelsius());
+            assertThat(columnarStore.getValue(ResultQuantity.HEAT_OF_PROCESS, run, 1)).isEqualTo(heatingResult.heatOfProcess().getInWatts());
+            assertThat(columnarStore.getValue(ResultQuantity.OUTLET_RELATIVE_HUMIDITY, run, 1)).isEqualTo(40, withPrecision(1E-9));
+            assertThat(condensateFlows[run]).isEqualTo(coolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond());
+        }
+        assertThatThrownBy(() -> columnarStore.getValue(ResultQuantity.OUTLET_TEMPERATURE, 4, 0)).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> ResultRetentionPolicy.lastRuns(0)).isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+}
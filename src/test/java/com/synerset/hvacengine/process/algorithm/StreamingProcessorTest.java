@@ -0,0 +1,151 @@
+package com.synerset.hvacengine.process.algorithm;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.ProcessResult;
+import com.synerset.hvacengine.process.cooling.CoolantData;
+import com.synerset.hvacengine.process.cooling.CoolingFromTemperature;
+import com.synerset.hvacengine.process.heating.HeatingFromHumidity;
+import com.synerset.hvacengine.process.heating.HeatingFromTemperature;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.process.source.StreamingDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingProcessorTest {
+
+    @Test
+    @DisplayName("should publish results for all streamed inlet states in order")
+    void processStream_shouldPublishResultsInOrder() throws InterruptedException {
+        // Given
+        SequentialProcessingEngine engine = createEngine();
+        List<FlowOfHumidAir> inletAirFlows = IntStream.range(0, 500)
+                .mapToObj(i -> FlowOfHumidAir.ofValues(25 + (i % 40) * 0.25, 40 + i % 30, 1000 + i))
+                .toList();
+        CollectingSubscriber resultSubscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        // When
+        StreamingProcessor streamingProcessor = engine.processStream(StreamingDataSource.of(inletAirFlows));
+        streamingProcessor.subscribe(resultSubscriber);
+
+        // Then
+        assertThat(resultSubscriber.completed.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(resultSubscriber.failure.get()).isNull();
+        assertThat(resultSubscriber.results).hasSize(inletAirFlows.size());
+        ProcessTopology topology = streamingProcessor.getTopology();
+        for (int i = 0; i < inletAirFlows.size(); i++) {
+            ProcessResult expectedResult = topology.run(topology.createRunContext().withInletAirFlow(inletAirFlows.get(i))).getLastResult();
+            assertThat(resultSubscriber.results.get(i).outletAirFlow()).isEqualTo(expectedResult.outletAirFlow());
+        }
+    }
+
+    @Test
+    @DisplayName("should pull only a bounded number of inlet states when result subscriber does not request more")
+    void processStream_shouldApplyBackpressure_whenSubscriberIsSlow() throws InterruptedException {
+        // Given
+        AtomicInteger pulledInletStates = new AtomicInteger();
+        Stream<FlowOfHumidAir> infiniteInletStream = Stream.generate(() -> {
+            pulledInletStates.incrementAndGet();
+            return FlowOfHumidAir.ofValues(30, 50, 1000);
+        });
+        StreamingProcessor streamingProcessor = StreamingProcessor.of(createEngine().compileTopology());
+        CollectingSubscriber resultSubscriber = new CollectingSubscriber(10);
+
+        // When
+        streamingProcessor.subscribe(resultSubscriber);
+        StreamingDataSource.of(infiniteInletStream).subscribe(streamingProcessor);
+        assertThat(resultSubscriber.received.await(30, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        resultSubscriber.subscription.cancel();
+
+        // Then
+        assertThat(resultSubscriber.results).hasSize(10);
+        // Stream iterator may generate one element ahead to answer hasNext
+        assertThat(pulledInletStates.get()).isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("should signal failure to result subscriber when calculation of inlet state fails")
+    void processStream_shouldSignalError_whenCalculationFails() throws InterruptedException {
+        // Given
+        SequentialProcessingEngine engine = SequentialProcessingEngine.of(HeatingFromTemperature.of(SimpleDataSource.of(Temperature.ofCelsius(30))));
+        List<FlowOfHumidAir> inletAirFlows = List.of(FlowOfHumidAir.ofValues(20, 50, 1000), FlowOfHumidAir.ofValues(40, 50, 1000),
+                FlowOfHumidAir.ofValues(20, 50, 1000));
+        CollectingSubscriber resultSubscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        // When
+        engine.processStream(StreamingDataSource.of(inletAirFlows)).subscribe(resultSubscriber);
+
+        // Then
+        assertThat(resultSubscriber.completed.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(resultSubscriber.failure.get()).isInstanceOf(HvacEngineArgumentException.class);
+        assertThat(resultSubscriber.results).hasSize(1);
+    }
+
+    private static SequentialProcessingEngine createEngine() {
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(
+                SimpleDataSource.of(CoolantData.ofValues(7, 14)), SimpleDataSource.of(Temperature.ofCelsius(20)));
+        HeatingFromHumidity heatingBlock = HeatingFromHumidity.of(SimpleDataSource.of(RelativeHumidity.ofPercentage(45)));
+        return SequentialProcessingEngine.of(coolingBlock, heatingBlock);
+    }
+
+    /**
+     * Requests results one by one, up to the specified limit.
+     */
+    private static class CollectingSubscriber implements Flow.Subscriber<ProcessResult> {
+
+        private final long limit;
+        private final List<ProcessResult> results = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch received;
+        private Flow.Subscription subscription;
+
+        private CollectingSubscriber(long limit) {
+            this.limit = limit;
+            this.received = new CountDownLatch((int) Math.min(limit, Integer.MAX_VALUE));
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ProcessResult item) {
+            results.add(item);
+            received.countDown();
+            if (results.size() < limit) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure.set(throwable);
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+    }
+
+}
@@ -86,9 +86,9 @@ class AirCoolingEquationsTest {
         // Given
         Temperature expectedOutAirTemp = Temperature.ofCelsius(17.0);
 
-        HumidityRatio expectedOutHumRatio = HumidityRatio.ofKilogramPerKilogram(0.009772748723824064);
+        HumidityRatio expectedOutHumRatio = HumidityRatio.ofKilogramPerKilogram(0.009772748723823915);
         Power expectedHeatOfProcess = Power.ofWatts(27016.52106432564);
-        MassFlow expectedCondensateFlow = MassFlow.ofKilogramsPerSecond(0.0037604402299109005);
+        MassFlow expectedCondensateFlow = MassFlow.ofKilogramsPerSecond(0.0037604402299110215);
 
         // When
         CoolingResult airCoolingResult = CoolingEquations.coolingFromTargetTemperature(inletFlow, COOLANT_DATA, expectedOutAirTemp);
@@ -106,6 +106,35 @@ class AirCoolingEquationsTest {
         assertThat(actualCondensateFlow).isEqualTo(expectedCondensateFlow);
     }
 
+    @Test
+    @DisplayName("Cooling equations: primitive cooling kernel should return the same result as cooling from target temperature")
+    void coolingFromTargetTemperature_shouldReturnSameResultAsFullModel_whenPrimitiveStateIsGiven() {
+        // Given
+        Temperature targetTemperature = Temperature.ofCelsius(17.0);
+        CoolingResult expectedResult = CoolingEquations.coolingFromTargetTemperature(inletFlow, COOLANT_DATA, targetTemperature);
+
+        // When
+        double[] actualResult = new double[CoolingEquations.COIL_RESULT_SIZE];
+        CoolingEquations.coolingFromTargetTemperature(
+                inletFlow.getPressure().getInPascals(),
+                inletFlow.getTemperature().getInCelsius(),
+                inletFlow.getHumidityRatio().getInKilogramPerKilogram(),
+                inletFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                inletFlow.getDryAirMassFlow().getInKilogramsPerSecond(),
+                inletFlow.getFluid().getDewPointTemperature().getInCelsius(),
+                COOLANT_DATA.getAverageTemperature().getInCelsius(),
+                targetTemperature.getInCelsius(),
+                actualResult
+        );
+
+        // Then
+        assertThat(actualResult[CoolingEquations.COIL_HEAT_OF_PROCESS]).isEqualTo(expectedResult.heatOfProcess().getInKiloWatts(), withPrecision(1E-12));
+        assertThat(actualResult[CoolingEquations.COIL_OUTLET_TEMPERATURE]).isEqualTo(expectedResult.outletAirFlow().getTemperature().getInCelsius());
+        assertThat(actualResult[CoolingEquations.COIL_OUTLET_HUMIDITY_RATIO]).isEqualTo(expectedResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram());
+        assertThat(actualResult[CoolingEquations.COIL_CONDENSATE_MASS_FLOW]).isEqualTo(expectedResult.condensateFlow().getMassFlow().getInKilogramsPerSecond());
+        assertThat(actualResult[CoolingEquations.COIL_BYPASS_FACTOR]).isEqualTo(expectedResult.bypassFactor().getValue(), withPrecision(1E-15));
+    }
+
     @Test
     @DisplayName("Cooling equations: should cool down inlet air when target relative humidity and average wall temperature of cooling coil is given")
     void processOfRealCooling_shouldCoolDownInletAir_whenTargetOutletRHAndAverageCoilWallTempAreGiven() {
@@ -113,9 +142,9 @@ class AirCoolingEquationsTest {
         RelativeHumidity expectedRelativeHumidity = RelativeHumidity.ofPercentage(79.82572722353957);
 
         Temperature expectedOutAirTemp = Temperature.ofCelsius(17.0);
-        HumidityRatio expectedOutHumRatio = HumidityRatio.ofKilogramPerKilogram(0.009772748723824064);
+        HumidityRatio expectedOutHumRatio = HumidityRatio.ofKilogramPerKilogram(0.009772748723823915);
         Power expectedHeatOfProcess = Power.ofWatts(27016.521064325912);
-        MassFlow expectedCondensateFlow = MassFlow.ofKilogramsPerSecond(0.0037604402299109005);
+        MassFlow expectedCondensateFlow = MassFlow.ofKilogramsPerSecond(0.0037604402299110215);
 
         // When
         CoolingResult airCoolingResult = CoolingEquations.coolingFromTargetRelativeHumidity(inletFlow, COOLANT_DATA, expectedRelativeHumidity);
@@ -135,6 +164,57 @@ class AirCoolingEquationsTest {
         assertThat(actualCondensateFlow.getInKilogramsPerSecond()).isEqualTo(expectedCondensateFlow.getInKilogramsPerSecond(), withPrecision(1E-16));
     }
 
+    @Test
+    @DisplayName("Cooling equations: primitive cooling kernel should return the same result as cooling from target relative humidity")
+    void coolingFromTargetRelativeHumidity_shouldReturnSameResultAsFullModel_whenPrimitiveStateIsGiven() {
+        // Given
+        RelativeHumidity targetRelativeHumidity = RelativeHumidity.ofPercentage(85);
+        CoolingResult expectedResult = CoolingEquations.coolingFromTargetRelativeHumidity(inletFlow, COOLANT_DATA, targetRelativeHumidity);
+        HumidAir inletAir = inletFlow.getFluid();
+        double[] coilResult = new double[CoolingEquations.COIL_RESULT_SIZE];
+
+        // When
+        CoolingEquations.coolingFromTargetRelativeHumidity(
+                inletAir.getPressure().getInPascals(),
+                inletAir.getTemperature().getInCelsius(),
+                inletAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                inletFlow.getDryAirMassFlow().getInKilogramsPerSecond(),
+                inletAir.getDewPointTemperature().getInCelsius(),
+                COOLANT_DATA.getAverageTemperature().getInCelsius(),
+                targetRelativeHumidity.getInPercent(),
+                coilResult
+        );
+
+        // Then
+        assertThat(expectedResult.outletAirFlow().getRelativeHumidity().getInPercent()).isEqualTo(85, withPrecision(1E-9));
+        assertThat(coilResult[CoolingEquations.COIL_OUTLET_TEMPERATURE]).isEqualTo(expectedResult.outletAirFlow().getTemperature().getInCelsius());
+        assertThat(coilResult[CoolingEquations.COIL_OUTLET_HUMIDITY_RATIO]).isEqualTo(expectedResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram());
+        assertThat(coilResult[CoolingEquations.COIL_HEAT_OF_PROCESS]).isEqualTo(expectedResult.heatOfProcess().getInKiloWatts());
+        assertThat(coilResult[CoolingEquations.COIL_CONDENSATE_MASS_FLOW]).isEqualTo(expectedResult.condensateFlow().getMassFlow().getInKilogramsPerSecond());
+        assertThat(expectedResult.processMode()).isEqualTo(CoolingMode.FROM_HUMIDITY);
+    }
+
+    @Test
+    @DisplayName("Cooling equations: should reach target relative humidity below inlet dew point, when target is above relative humidity at dew point")
+    void coolingFromTargetRelativeHumidity_shouldReachTargetRelativeHumidity_whenOutletIsBelowDewPoint() {
+        // Given
+        FlowOfHumidAir humidInletFlow = FlowOfHumidAir.ofValues(30, 60, 5000);
+        CoolantData coolantData = CoolantData.ofValues(7, 12);
+        RelativeHumidity targetRelativeHumidity = RelativeHumidity.ofPercentage(90);
+
+        // When
+        CoolingResult coolingResult = CoolingEquations.coolingFromTargetRelativeHumidity(humidInletFlow, coolantData, targetRelativeHumidity);
+
+        // Then
+        FlowOfHumidAir outletFlow = coolingResult.outletAirFlow();
+        assertThat(outletFlow.getRelativeHumidity().getInPercent()).isEqualTo(90, withPrecision(1E-9));
+        assertThat(outletFlow.getTemperature().getInCelsius()).isLessThan(humidInletFlow.getFluid().getDewPointTemperature().getInCelsius());
+        assertThat(outletFlow.getTemperature().getInCelsius()).isGreaterThan(CoolingEquations.minCoilOutletTemperature(30,
+                coolantData.getAverageTemperature().getInCelsius()));
+        assertThat(coolingResult.condensateFlow().getMassFlow().getInKilogramsPerSecond()).isGreaterThan(0);
+    }
+
     @Test
     @DisplayName("Cooling equations: should cool down inlet air when input heat and average wall temperature of cooling coil is given")
     void processOfRealCooling_shouldCoolDownInletAir_whenHeatOfProcessIsGiven() {
@@ -161,6 +241,38 @@ class AirCoolingEquationsTest {
         assertThat(actualCondensateFlow).isEqualTo(expectedCondensateFlow);
     }
 
+    @Test
+    @DisplayName("Cooling equations: primitive cooling kernel should return the same result as cooling from power")
+    void coolingFromPower_shouldReturnSameResultAsFullModel_whenPrimitiveStateIsGiven() {
+        // Given
+        Power coolingPower = Power.ofKiloWatts(20);
+        CoolingResult expectedResult = CoolingEquations.coolingFromPower(inletFlow, COOLANT_DATA, coolingPower);
+        HumidAir inletAir = inletFlow.getFluid();
+        double[] coilResult = new double[CoolingEquations.COIL_RESULT_SIZE];
+
+        // When
+        CoolingEquations.coolingFromPower(
+                inletAir.getPressure().getInPascals(),
+                inletAir.getTemperature().getInCelsius(),
+                inletAir.getHumidityRatio().getInKilogramPerKilogram(),
+                inletAir.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(),
+                inletFlow.getDryAirMassFlow().getInKilogramsPerSecond(),
+                inletAir.getDewPointTemperature().getInCelsius(),
+                COOLANT_DATA.getAverageTemperature().getInCelsius(),
+                -coolingPower.getInKiloWatts(),
+                coilResult
+        );
+
+        // Then
+        assertThat(coilResult[CoolingEquations.COIL_HEAT_OF_PROCESS]).isEqualTo(coolingPower.getInKiloWatts(), withPrecision(1E-6));
+        assertThat(coilResult[CoolingEquations.COIL_HEAT_OF_PROCESS]).isEqualTo(expectedResult.heatOfProcess().getInKiloWatts());
+        assertThat(coilResult[CoolingEquations.COIL_OUTLET_TEMPERATURE]).isEqualTo(expectedResult.outletAirFlow().getTemperature().getInCelsius());
+        assertThat(coilResult[CoolingEquations.COIL_OUTLET_HUMIDITY_RATIO]).isEqualTo(expectedResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram());
+        assertThat(coilResult[CoolingEquations.COIL_CONDENSATE_MASS_FLOW]).isEqualTo(expectedResult.condensateFlow().getMassFlow().getInKilogramsPerSecond());
+        assertThat(coilResult[CoolingEquations.COIL_BYPASS_FACTOR]).isEqualTo(expectedResult.bypassFactor().getValue());
+        assertThat(expectedResult.processMode()).isEqualTo(CoolingMode.FROM_POWER);
+    }
+
     // TOOLS
 
     @Test
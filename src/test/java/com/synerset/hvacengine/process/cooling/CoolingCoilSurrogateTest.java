@@ -0,0 +1,157 @@
+package com.synerset.hvacengine.process.cooling;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.property.fluids.humidair.HumidAir;
+import com.synerset.unitility.unitsystem.flow.MassFlow;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class CoolingCoilSurrogateTest {
+
+    private static final CoolantData COOLANT_DATA = CoolantData.ofValues(7, 12);
+
+    @Test
+    @DisplayName("Coil surrogate: should match exact cooling from target temperature and refine table on demand")
+    void coolingFromTargetTemperature_shouldMatchExactModel() {
+        // Given
+        CoolingCoilSurrogate surrogate = CoolingCoilSurrogate.builder()
+                .inletTemperatureRange(20, 40)
+                .inletHumidityRatioRange(0.005, 0.020)
+                .wallTemperatureRange(5, 15)
+                .gridDivisions(2)
+                .build();
+
+        for (int i = 0; i < 25; i++) {
+            FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(24 + i * 0.5, 30 + i * 1.5, 5000 + 100 * i);
+            Temperature targetTemperature = Temperature.ofCelsius(14 + i * 0.2);
+
+            // When
+            CoolingResult actualResult = surrogate.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+            CoolingResult expectedResult = CoolingEquations.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+
+            // Then
+            double dryAirMassFlow = inletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+            assertThat(actualResult.outletAirFlow().getTemperature().getInCelsius())
+                    .isEqualTo(expectedResult.outletAirFlow().getTemperature().getInCelsius(), withPrecision(1E-9));
+            assertThat(actualResult.heatOfProcess().getInKiloWatts())
+                    .isEqualTo(expectedResult.heatOfProcess().getInKiloWatts(), withPrecision(0.005 * dryAirMassFlow));
+            assertThat(actualResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram())
+                    .isEqualTo(expectedResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram(), withPrecision(2E-6));
+            assertThat(actualResult.condensateFlow().getMassFlow().getInKilogramsPerSecond())
+                    .isEqualTo(expectedResult.condensateFlow().getMassFlow().getInKilogramsPerSecond(), withPrecision(2E-6 * dryAirMassFlow));
+            assertThat(actualResult.bypassFactor().getValue()).isEqualTo(expectedResult.bypassFactor().getValue(), withPrecision(1E-12));
+            assertThat(actualResult.processMode()).isEqualTo(CoolingMode.FROM_TEMPERATURE);
+        }
+        assertThat(surrogate.getNumberOfCells()).isGreaterThan(8);
+    }
+
+    @Test
+    @DisplayName("Coil surrogate: should match exact cooling from power without iterations")
+    void coolingFromPower_shouldMatchExactModel() {
+        // Given
+        CoolingCoilSurrogate surrogate = CoolingCoilSurrogate.builder().build().precomputeGrid();
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(30, 45, 5000);
+
+        for (double powerInKw = 5; powerInKw <= 60; powerInKw += 5) {
+            Power coolingPower = Power.ofKiloWatts(powerInKw);
+
+            // When
+            CoolingResult actualResult = surrogate.coolingFromPower(inletAirFlow, COOLANT_DATA, coolingPower);
+            CoolingResult expectedResult = CoolingEquations.coolingFromPower(inletAirFlow, COOLANT_DATA, coolingPower);
+
+            // Then
+            assertThat(actualResult.heatOfProcess().getInKiloWatts()).isEqualTo(expectedResult.heatOfProcess().getInKiloWatts(), withPrecision(0.01));
+            assertThat(actualResult.outletAirFlow().getTemperature().getInCelsius())
+                    .isEqualTo(expectedResult.outletAirFlow().getTemperature().getInCelsius(), withPrecision(5E-3));
+            assertThat(actualResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram())
+                    .isEqualTo(expectedResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram(), withPrecision(2E-6));
+            assertThat(actualResult.processMode()).isEqualTo(CoolingMode.FROM_POWER);
+        }
+    }
+
+    @Test
+    @DisplayName("Coil surrogate: should evaluate points outside of the table and other pressures with exact model")
+    void coolingFromTargetTemperature_shouldFallBackToExactModel_whenPointIsOutsideOfTable() {
+        // Given
+        CoolingCoilSurrogate surrogate = CoolingCoilSurrogate.builder()
+                .inletTemperatureRange(20, 30)
+                .build();
+        FlowOfHumidAir hotAirFlow = FlowOfHumidAir.ofValues(35, 40, 5000);
+        HumidAir lowPressureAir = HumidAir.of(Pressure.ofPascal(90_000), Temperature.ofCelsius(25), RelativeHumidity.ofPercentage(50));
+        FlowOfHumidAir lowPressureAirFlow = FlowOfHumidAir.ofDryAirMassFlow(lowPressureAir, MassFlow.ofKilogramsPerSecond(1.5));
+        Temperature targetTemperature = Temperature.ofCelsius(16);
+
+        // When
+        CoolingResult hotAirResult = surrogate.coolingFromTargetTemperature(hotAirFlow, COOLANT_DATA, targetTemperature);
+        CoolingResult lowPressureResult = surrogate.coolingFromTargetTemperature(lowPressureAirFlow, COOLANT_DATA, targetTemperature);
+
+        // Then
+        CoolingResult expectedHotAirResult = CoolingEquations.coolingFromTargetTemperature(hotAirFlow, COOLANT_DATA, targetTemperature);
+        assertThat(hotAirResult.heatOfProcess().getInKiloWatts()).isEqualTo(expectedHotAirResult.heatOfProcess().getInKiloWatts(), withPrecision(1E-9));
+        assertThat(surrogate.getNumberOfFallbackEvaluations()).isEqualTo(1);
+        assertThat(surrogate.getNumberOfCells()).isZero();
+        CoolingResult expectedLowPressureResult = CoolingEquations.coolingFromTargetTemperature(lowPressureAirFlow, COOLANT_DATA, targetTemperature);
+        assertThat(lowPressureResult.heatOfProcess()).isEqualTo(expectedLowPressureResult.heatOfProcess());
+        assertThat(lowPressureResult.outletAirFlow().getPressure()).isEqualTo(lowPressureAirFlow.getPressure());
+    }
+
+    @Test
+    @DisplayName("Coil surrogate: should not interpolate across the dew point, when cell corners have both dry and wet coil states")
+    void coolingFromTargetTemperature_shouldUseExactModel_whenCellCrossesDewPoint() {
+        // Given
+        CoolingCoilSurrogate surrogate = CoolingCoilSurrogate.builder()
+                .inletTemperatureRange(20, 30)
+                .inletHumidityRatioRange(0.008, 0.012)
+                .wallTemperatureRange(8, 16)
+                .gridDivisions(1)
+                .maxRefinementDepth(0)
+                .enthalpyTolerance(100)
+                .humidityRatioTolerance(1)
+                .build();
+        HumidAir inletAir = HumidAir.of(Pressure.STANDARD_ATMOSPHERE, Temperature.ofCelsius(25), HumidityRatio.ofKilogramPerKilogram(0.01));
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofDryAirMassFlow(inletAir, MassFlow.ofKilogramsPerSecond(1.5));
+        Temperature targetTemperature = Temperature.ofCelsius(15);
+
+        // When
+        CoolingResult actualResult = surrogate.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+
+        // Then
+        CoolingResult expectedResult = CoolingEquations.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+        assertThat(actualResult.heatOfProcess().getInKiloWatts()).isEqualTo(expectedResult.heatOfProcess().getInKiloWatts(), withPrecision(1E-9));
+        assertThat(actualResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram())
+                .isEqualTo(expectedResult.outletAirFlow().getHumidityRatio().getInKilogramPerKilogram(), withPrecision(1E-12));
+        assertThat(surrogate.getNumberOfFallbackEvaluations()).isEqualTo(1);
+        assertThat(surrogate.getNumberOfCells()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Coil surrogate: should throw an exception when table settings or target temperature are invalid")
+    void builder_shouldThrowException_whenSettingsAreInvalid() {
+        // Given
+        CoolingCoilSurrogate surrogate = CoolingCoilSurrogate.builder().build();
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(25, 50, 5000);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> CoolingCoilSurrogate.builder().inletTemperatureRange(30, 20).build())
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> CoolingCoilSurrogate.builder().gridDivisions(0).build())
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> CoolingCoilSurrogate.builder().enthalpyTolerance(0).build())
+                .isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> surrogate.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, Temperature.ofCelsius(30)))
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.synerset.hvacengine.process.cooling;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.hvacengine.process.cooling.dataobject.CoolingResult;
+import com.synerset.hvacengine.process.source.SimpleDataSource;
+import com.synerset.hvacengine.property.fluids.humidair.FlowOfHumidAir;
+import com.synerset.hvacengine.property.fluids.humidair.HumidAirEquations;
+import com.synerset.hvacengine.property.fluids.humidair.SaturationPressureModel;
+import com.synerset.hvacengine.property.fluids.humidair.SaturationPressureTable;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Power;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class CoolingResultCacheTest {
+
+    private static final CoolantData COOLANT_DATA = CoolantData.ofValues(7, 12);
+
+    @Test
+    @DisplayName("Coil result cache: should return cached result for repeated and quantized operating points")
+    void coolingFromTargetTemperature_shouldReturnCachedResult_whenOperatingPointRepeats() {
+        // Given
+        CoolingResultCache resultCache = CoolingResultCache.builder().build();
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(28, 50, 5000);
+        FlowOfHumidAir nearlySameInletAirFlow = FlowOfHumidAir.ofValues(28 + 1E-6, 50, 5000);
+        Temperature targetTemperature = Temperature.ofCelsius(16);
+
+        // When
+        CoolingResult firstResult = resultCache.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+        CoolingResult repeatedResult = resultCache.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+        CoolingResult quantizedResult = resultCache.coolingFromTargetTemperature(nearlySameInletAirFlow, COOLANT_DATA, targetTemperature);
+        CoolingResult otherTargetResult = resultCache.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, Temperature.ofCelsius(17));
+        CoolingResult powerResult = resultCache.coolingFromPower(inletAirFlow, COOLANT_DATA, Power.ofKiloWatts(20));
+        CoolingResult humidityResult = resultCache.coolingFromTargetRelativeHumidity(inletAirFlow, COOLANT_DATA, RelativeHumidity.ofPercentage(80));
+
+        // Then
+        CoolingResult expectedResult = CoolingEquations.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+        assertThat(firstResult.heatOfProcess()).isEqualTo(expectedResult.heatOfProcess());
+        assertThat(repeatedResult).isSameAs(firstResult);
+        assertThat(quantizedResult).isNotSameAs(firstResult);
+        assertThat(quantizedResult.inletAirFlow()).isSameAs(nearlySameInletAirFlow);
+        assertThat(quantizedResult.outletAirFlow().getTemperature()).isEqualTo(firstResult.outletAirFlow().getTemperature());
+        assertThat(otherTargetResult.outletAirFlow().getTemperature().getInCelsius()).isEqualTo(17, withPrecision(1E-9));
+        assertThat(powerResult.processMode()).isEqualTo(CoolingMode.FROM_POWER);
+        assertThat(humidityResult.processMode()).isEqualTo(CoolingMode.FROM_HUMIDITY);
+        CoolingCacheStatistics statistics = resultCache.getStatistics();
+        assertThat(statistics.hitCount()).isEqualTo(2);
+        assertThat(statistics.missCount()).isEqualTo(4);
+        assertThat(statistics.size()).isEqualTo(4);
+        assertThat(statistics.hitRate()).isEqualTo(2.0 / 6.0, withPrecision(1E-12));
+    }
+
+    @Test
+    @DisplayName("Coil result cache: should evict results according to eviction policy when cache is full")
+    void coolingFromPower_shouldEvictResults_whenCacheIsFull() {
+        // Given
+        CoolingResultCache lruCache = CoolingResultCache.builder().maxSize(2).concurrencyLevel(1).build();
+        CoolingResultCache fifoCache = CoolingResultCache.builder().maxSize(2).concurrencyLevel(1)
+                .evictionPolicy(CacheEvictionPolicy.FIRST_IN_FIRST_OUT).build();
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(28, 50, 5000);
+
+        for (CoolingResultCache resultCache : new CoolingResultCache[]{lruCache, fifoCache}) {
+            // When
+            CoolingResult firstResult = resultCache.coolingFromPower(inletAirFlow, COOLANT_DATA, Power.ofKiloWatts(10));
+            resultCache.coolingFromPower(inletAirFlow, COOLANT_DATA, Power.ofKiloWatts(20));
+            resultCache.coolingFromPower(inletAirFlow, COOLANT_DATA, Power.ofKiloWatts(10));
+            resultCache.coolingFromPower(inletAirFlow, COOLANT_DATA, Power.ofKiloWatts(30));
+            CoolingResult repeatedFirstResult = resultCache.coolingFromPower(inletAirFlow, COOLANT_DATA, Power.ofKiloWatts(10));
+
+            // Then
+            CoolingCacheStatistics statistics = resultCache.getStatistics();
+            assertThat(statistics.size()).isEqualTo(2);
+            if (resultCache.getEvictionPolicy() == CacheEvictionPolicy.LEAST_RECENTLY_USED) {
+                assertThat(repeatedFirstResult).isSameAs(firstResult);
+                assertThat(statistics.evictionCount()).isEqualTo(1);
+            } else {
+                assertThat(repeatedFirstResult).isNotSameAs(firstResult);
+                assertThat(statistics.evictionCount()).isEqualTo(2);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Coil result cache: should be used by cooling block and reject invalid settings")
+    void coolingBlock_shouldUseResultCache() {
+        // Given
+        CoolingResultCache resultCache = CoolingResultCache.builder().build();
+        CoolingFromTemperature coolingBlock = CoolingFromTemperature.of(SimpleDataSource.of(FlowOfHumidAir.ofValues(28, 50, 5000)),
+                SimpleDataSource.of(COOLANT_DATA), SimpleDataSource.of(Temperature.ofCelsius(16)));
+        coolingBlock.setResultCache(resultCache);
+
+        // When
+        CoolingResult firstResult = coolingBlock.runProcessCalculations();
+        CoolingResult secondResult = coolingBlock.runProcessCalculations();
+
+        // Then
+        assertThat(secondResult).isSameAs(firstResult);
+        assertThat(resultCache.getStatistics().hitCount()).isEqualTo(1);
+        assertThatThrownBy(() -> CoolingResultCache.builder().maxSize(0).build()).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> CoolingResultCache.builder().temperatureResolution(0).build()).isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Coil result cache: should rebuild cached result around requested inlet flow within the same quantization step")
+    void coolingFromTargetTemperature_shouldRebuildCachedResult_whenInletFlowDiffersWithinResolution() {
+        // Given
+        CoolingResultCache resultCache = CoolingResultCache.builder().massFlowResolution(1).build();
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(28, 50, 5000);
+        FlowOfHumidAir largerInletAirFlow = FlowOfHumidAir.ofValues(28, 50, 5050);
+        Temperature targetTemperature = Temperature.ofCelsius(16);
+        resultCache.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+
+        // When
+        CoolingResult rebuiltResult = resultCache.coolingFromTargetTemperature(largerInletAirFlow, COOLANT_DATA, targetTemperature);
+
+        // Then
+        CoolingResult expectedResult = CoolingEquations.coolingFromTargetTemperature(largerInletAirFlow, COOLANT_DATA, targetTemperature);
+        assertThat(resultCache.getStatistics().hitCount()).isEqualTo(1);
+        assertThat(rebuiltResult.inletAirFlow()).isSameAs(largerInletAirFlow);
+        assertThat(rebuiltResult.outletAirFlow().getDryAirMassFlow()).isEqualTo(largerInletAirFlow.getDryAirMassFlow());
+        assertThat(rebuiltResult.heatOfProcess().getInKiloWatts())
+                .isEqualTo(expectedResult.heatOfProcess().getInKiloWatts(), withPrecision(1E-9));
+        assertThat(rebuiltResult.condensateFlow().getMassFlow().getInKilogramsPerSecond())
+                .isEqualTo(expectedResult.condensateFlow().getMassFlow().getInKilogramsPerSecond(), withPrecision(1E-12));
+    }
+
+    @Test
+    @DisplayName("Coil result cache: should validate inputs before lookup")
+    void coolingFromTargetTemperature_shouldThrowException_whenInvalidInputFallsIntoCachedOperatingPoint() {
+        // Given
+        CoolingResultCache resultCache = CoolingResultCache.builder().build();
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(28, 50, 5000);
+        resultCache.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, Temperature.ofCelsius(28));
+
+        // When
+        // Then
+        // Target above inlet temperature falls into the same quantization step as the cached target equal to inlet temperature
+        assertThatThrownBy(() -> resultCache.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, Temperature.ofCelsius(28 + 1E-5)))
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Coil result cache: should drop cached results when saturation pressure model changes")
+    void coolingFromTargetTemperature_shouldDropCachedResults_whenSaturationPressureModelChanges() {
+        // Given
+        CoolingResultCache resultCache = CoolingResultCache.builder().build();
+        FlowOfHumidAir inletAirFlow = FlowOfHumidAir.ofValues(28, 50, 5000);
+        Temperature targetTemperature = Temperature.ofCelsius(16);
+        resultCache.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+
+        try {
+            // When
+            HumidAirEquations.setSaturationPressureModel(SaturationPressureTable.of());
+            CoolingResult tableModelResult = resultCache.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+
+            // Then
+            CoolingResult expectedResult = CoolingEquations.coolingFromTargetTemperature(inletAirFlow, COOLANT_DATA, targetTemperature);
+            assertThat(resultCache.getStatistics().missCount()).isEqualTo(2);
+            assertThat(resultCache.size()).isEqualTo(1);
+            assertThat(tableModelResult.heatOfProcess()).isEqualTo(expectedResult.heatOfProcess());
+        } finally {
+            HumidAirEquations.setSaturationPressureModel(SaturationPressureModel.DIRECT);
+        }
+    }
+
+}
@@ -83,4 +83,33 @@ class AirHeatingEquationsTest {
         assertThat(actualOutAirTemp.isEqualWithPrecision(expectedOutTemp, 1E-9)).isTrue();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Heating equations: primitive kernels should return the same outlet state and heat as object based equations")
+    void heatingKernels_shouldMatchObjectBasedEquations() {
+        // Given
+        double pIn = inletFlow.getPressure().getInPascals();
+        double xIn = inletFlow.getHumidityRatio().getInKilogramPerKilogram();
+        double iIn = inletFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram();
+        double mdaIn = inletFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+        double[] powerResult = new double[HeatingEquations.HEATING_RESULT_SIZE];
+        double[] temperatureResult = new double[HeatingEquations.HEATING_RESULT_SIZE];
+        double[] humidityResult = new double[HeatingEquations.HEATING_RESULT_SIZE];
+
+        // When
+        HeatingEquations.heatingFromPower(pIn, xIn, iIn, mdaIn, 56.09307605668045, powerResult);
+        HeatingEquations.heatingFromTargetTemperature(pIn, xIn, iIn, mdaIn, 30, temperatureResult);
+        HeatingEquations.heatingFromRelativeHumidity(pIn, xIn, iIn, mdaIn, 17.352612275343887, humidityResult);
+        HeatingResult expectedFromTemperature = HeatingEquations.heatingFromTargetTemperature(inletFlow, Temperature.ofCelsius(30));
+        HeatingResult expectedFromHumidity = HeatingEquations.heatingFromRelativeHumidity(inletFlow, RelativeHumidity.ofPercentage(17.352612275343887));
+
+        // Then
+        assertThat(powerResult[HeatingEquations.HEATING_OUTLET_TEMPERATURE]).isEqualTo(30, withPrecision(1E-9));
+        assertThat(powerResult[HeatingEquations.HEATING_HEAT_OF_PROCESS]).isEqualTo(56.09307605668045);
+        assertThat(temperatureResult[HeatingEquations.HEATING_HEAT_OF_PROCESS] * 1000d).isEqualTo(expectedFromTemperature.heatOfProcess().getInWatts());
+        assertThat(temperatureResult[HeatingEquations.HEATING_OUTLET_SPECIFIC_ENTHALPY])
+                .isEqualTo(expectedFromTemperature.outletAirFlow().getSpecificEnthalpy().getInKiloJoulesPerKiloGram(), withPrecision(1E-12));
+        assertThat(humidityResult[HeatingEquations.HEATING_OUTLET_TEMPERATURE]).isEqualTo(expectedFromHumidity.outletAirFlow().getTemperature().getInCelsius());
+        assertThat(humidityResult[HeatingEquations.HEATING_HEAT_OF_PROCESS] * 1000d).isEqualTo(expectedFromHumidity.heatOfProcess().getInWatts());
+    }
+
+}
@@ -121,7 +121,7 @@ class HeatingBlockTest {
         FlowOfHumidAir outletAirFlow = processResults.outletAirFlow();
         assertThat(outletAirFlow.getPressure()).isEqualTo(TEST_HUMID_AIR.getPressure());
         assertThat(outletAirFlow.getTemperature().getInCelsius()).isEqualTo(expectedTemperature.getInCelsius(), withPrecision(1E-10));
-        assertThat(outletAirFlow.getRelativeHumidity().getInPercent()).isEqualTo(targetRH.getInPercent());
+        assertThat(outletAirFlow.getRelativeHumidity().getInPercent()).isEqualTo(targetRH.getInPercent(), withPrecision(1E-12));
         assertThat(outletAirFlow.getHumidityRatio()).isEqualTo(TEST_INLET_AIR_FLOW.getHumidityRatio());
         SpecificEnthalpy expectedEnthalpy = HumidAirEquations.specificEnthalpy(outletAirFlow.getTemperature(), outletAirFlow.getHumidityRatio(), outletAirFlow.getPressure());
         assertThat(outletAirFlow.getSpecificEnthalpy()).isEqualTo(expectedEnthalpy);
@@ -89,4 +89,27 @@ class AirMixingEquationsTest {
         assertThat(mixingResult.humidAirVolFreshAirRatio()).isEqualTo(Ratio.ofDecimal(0.33336424043131485));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Mixing equations: primitive kernel should return the same outlet state as object based equations")
+    void mixingKernel_shouldMatchObjectBasedEquations() {
+        // Given
+        FlowOfHumidAir inletFlow = FlowOfHumidAir.ofValues(-20, 99, 1000);
+        FlowOfHumidAir recircFlow = FlowOfHumidAir.ofValues(20, 50, 1000);
+        double mdaRec = recircFlow.getDryAirMassFlow().getInKilogramsPerSecond();
+        double[] mixingResult = new double[MixingEquations.MIXING_RESULT_SIZE];
+
+        // When
+        MixingEquations.mixingOfFlowSums(inletFlow.getPressure().getInPascals(), inletFlow.getHumidityRatio().getInKilogramPerKilogram(),
+                inletFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(), inletFlow.getDryAirMassFlow().getInKilogramsPerSecond(),
+                mdaRec, mdaRec * recircFlow.getHumidityRatio().getInKilogramPerKilogram(),
+                mdaRec * recircFlow.getSpecificEnthalpy().getInKiloJoulesPerKiloGram(), recircFlow.getPressure().getInPascals(), mixingResult);
+        FlowOfHumidAir expectedOutletFlow = MixingEquations.mixingOfTwoAirFlows(inletFlow, recircFlow).outletAirFlow();
+
+        // Then
+        assertThat(mixingResult[MixingEquations.MIXING_OUTLET_TEMPERATURE]).isEqualTo(expectedOutletFlow.getTemperature().getInCelsius());
+        assertThat(mixingResult[MixingEquations.MIXING_OUTLET_HUMIDITY_RATIO]).isEqualTo(expectedOutletFlow.getHumidityRatio().getInKilogramPerKilogram());
+        assertThat(mixingResult[MixingEquations.MIXING_OUTLET_DRY_AIR_MASS_FLOW]).isEqualTo(expectedOutletFlow.getDryAirMassFlow().getInKilogramsPerSecond());
+        assertThat(mixingResult[MixingEquations.MIXING_OUTLET_PRESSURE]).isEqualTo(expectedOutletFlow.getPressure().getInPascals());
+    }
+
+}
@@ -16,6 +16,7 @@ import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -159,4 +160,36 @@ class MixingBlockTest {
         assertThat(processResultsNewFlow.outletAirFlow().getMassFlow().toKiloGramPerHour().getValue()).isEqualTo(120000, withPrecision(1E-10));
 
     }
+
+    @Test
+    @DisplayName("Mixing node: should incrementally update mixing of many flows when one of them changes")
+    void shouldIncrementallyMixManyHumidAirFlows() {
+        // Given
+        SimpleDataSource<FlowOfHumidAir> airFlowSource = SimpleDataSource.of(FlowOfHumidAir.ofValues(5, 60, 10_000));
+        List<SimpleDataSource<FlowOfHumidAir>> zoneFlowSources = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            zoneFlowSources.add(SimpleDataSource.of(FlowOfHumidAir.ofValues(20 + i * 0.1, 40 + i * 0.2, 500 + i * 10)));
+        }
+        Mixing mixingBlock = Mixing.of(airFlowSource, zoneFlowSources);
+        mixingBlock.setIncrementalMixing(true);
+        mixingBlock.runProcessCalculations();
+
+        // When
+        zoneFlowSources.get(7).setSourceData(FlowOfHumidAir.ofValues(26, 55, 900));
+        MixingResult processResults = mixingBlock.runProcessCalculations();
+
+        // Then
+        MixingResult expectedResults = MixingEquations.mixingOfMultipleFlows(airFlowSource.getSourceData(), mixingBlock.getUnwrappedMixingFlows());
+        FlowOfHumidAir outletAirFlow = processResults.outletAirFlow();
+        FlowOfHumidAir expectedOutletAirFlow = expectedResults.outletAirFlow();
+        assertThat(mixingBlock.isIncrementalMixing()).isTrue();
+        assertThat(mixingBlock.getMixingAccumulator().getNumberOfFlowUpdates()).isEqualTo(51);
+        assertThat(processResults.processMode()).isEqualTo(MixingMode.MULTIPLE_MIXING);
+        assertThat(mixingBlock.getOutputConnector().getConnectorData()).isEqualTo(outletAirFlow);
+        assertThat(outletAirFlow.getTemperature().getInCelsius()).isEqualTo(expectedOutletAirFlow.getTemperature().getInCelsius(), withPrecision(1E-9));
+        assertThat(outletAirFlow.getHumidityRatio().getInKilogramPerKilogram()).isEqualTo(expectedOutletAirFlow.getHumidityRatio().getInKilogramPerKilogram(), withPrecision(1E-12));
+        assertThat(outletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond()).isEqualTo(expectedOutletAirFlow.getDryAirMassFlow().getInKilogramsPerSecond(), withPrecision(1E-12));
+        assertThat(outletAirFlow.getPressure()).isEqualTo(expectedOutletAirFlow.getPressure());
+        assertThat(processResults.dryAirMassFreshAirRatio().getValue()).isEqualTo(expectedResults.dryAirMassFreshAirRatio().getValue(), withPrecision(1E-9));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.synerset.hvacengine.property.fluids.humidair;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
+import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
+import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
+import com.synerset.unitility.unitsystem.thermodynamic.Temperature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HumidAirCacheTest {
+
+    @AfterEach
+    void tearDown() {
+        HumidAir.disableCache();
+    }
+
+    @Test
+    @DisplayName("should return the same instance and count hits when state falls into the same quantization cell")
+    void get_shouldReturnCachedInstance_whenStateIsWithinResolution() {
+        // Given
+        HumidAirCache cache = HumidAirCache.of(100, 1.0, 0.01, 1.0E-6);
+        Pressure pressure = Pressure.ofPascal(101_325);
+
+        // When
+        HumidAir first = cache.get(pressure, Temperature.ofCelsius(20.0), HumidityRatio.ofKilogramPerKilogram(0.0072));
+        HumidAir second = cache.get(pressure, Temperature.ofCelsius(20.004), HumidityRatio.ofKilogramPerKilogram(0.0072002));
+        HumidAir third = cache.get(pressure, Temperature.ofCelsius(20.01), HumidityRatio.ofKilogramPerKilogram(0.0072));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        assertThat(first).isEqualTo(HumidAir.of(pressure, Temperature.ofCelsius(20.0), HumidityRatio.ofKilogramPerKilogram(0.0072)));
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+        assertThat(cache.getHitRate()).isEqualTo(1.0 / 3.0);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should evict least recently used entries when max size is exceeded")
+    void get_shouldEvictLeastRecentlyUsedEntries_whenMaxSizeIsExceeded() {
+        // Given
+        HumidAirCache cache = HumidAirCache.of(1);
+        Pressure pressure = Pressure.ofPascal(101_325);
+        HumidityRatio humidityRatio = HumidityRatio.ofKilogramPerKilogram(0.005);
+        HumidAir first = cache.get(pressure, Temperature.ofCelsius(10), humidityRatio);
+
+        // When
+        cache.get(pressure, Temperature.ofCelsius(11), humidityRatio);
+        HumidAir firstRequestedAgain = cache.get(pressure, Temperature.ofCelsius(10), humidityRatio);
+
+        // Then
+        assertThat(firstRequestedAgain).isNotSameAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+        assertThat(cache.getHitCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("should use enabled cache in HumidAir factory and with methods")
+    void enableCache_shouldBeUsedByHumidAirFactoryAndWithMethods() {
+        // Given
+        HumidAirCache cache = HumidAirCache.of();
+        HumidAir.enableCache(cache);
+        HumidAir humidAir = HumidAir.of(Temperature.ofCelsius(25), RelativeHumidity.ofPercentage(50));
+
+        // When
+        HumidAir sameState = humidAir.withHumidityRatio(humidAir.getHumidityRatio());
+        HumidAir sameStateFromRH = HumidAir.of(Temperature.ofCelsius(25), RelativeHumidity.ofPercentage(50));
+        HumidAir.disableCache();
+        HumidAir uncached = HumidAir.of(Temperature.ofCelsius(25), RelativeHumidity.ofPercentage(50));
+
+        // Then
+        assertThat(sameState).isSameAs(humidAir);
+        assertThat(sameStateFromRH).isSameAs(humidAir);
+        assertThat(uncached).isNotSameAs(humidAir).isEqualTo(humidAir);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(HumidAir.getCache()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should reset statistics and remove entries")
+    void clearAndResetStatistics_shouldRemoveEntriesAndResetCounters() {
+        // Given
+        HumidAirCache cache = HumidAirCache.of(10);
+        cache.get(Pressure.ofPascal(101_325), Temperature.ofCelsius(10), HumidityRatio.ofKilogramPerKilogram(0.005));
+
+        // When
+        cache.clear();
+        cache.resetStatistics();
+
+        // Then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+        assertThat(cache.getHitRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("should validate requested state before lookup, even if it falls into a cached quantization cell")
+    void get_shouldThrowException_whenRequestedStateIsInvalidWithinCachedCell() {
+        // Given
+        HumidAirCache cache = HumidAirCache.of(10, 1.0, 1.0, 1.0E-6);
+        Pressure pressure = Pressure.ofBar(50);
+        HumidityRatio humidityRatio = HumidityRatio.ofKilogramPerKilogram(0.005);
+        cache.get(pressure, Temperature.ofCelsius(199.8), humidityRatio);
+
+        // When
+        // Then
+        assertThatThrownBy(() -> cache.get(pressure, Temperature.ofCelsius(200.3), humidityRatio))
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("should remove cached instances when saturation pressure model changes")
+    void get_shouldRecalculateState_whenSaturationPressureModelChanges() {
+        // Given
+        HumidAirCache cache = HumidAirCache.of(10);
+        Pressure pressure = Pressure.ofPascal(101_325);
+        HumidityRatio humidityRatio = HumidityRatio.ofKilogramPerKilogram(0.005);
+        HumidAir directModelAir = cache.get(pressure, Temperature.ofCelsius(10), humidityRatio);
+
+        try {
+            // When
+            HumidAirEquations.setSaturationPressureModel(SaturationPressureTable.of());
+            HumidAir tableModelAir = cache.get(pressure, Temperature.ofCelsius(10), humidityRatio);
+
+            // Then
+            assertThat(tableModelAir).isNotSameAs(directModelAir);
+            assertThat(tableModelAir.getSaturationPressure()).isEqualTo(HumidAirEquations.saturationPressure(Temperature.ofCelsius(10)));
+            assertThat(cache.getMissCount()).isEqualTo(2);
+            assertThat(cache.size()).isEqualTo(1);
+        } finally {
+            HumidAirEquations.setSaturationPressureModel(SaturationPressureModel.DIRECT);
+        }
+    }
+
+    @Test
+    @DisplayName("should throw an exception when cache configuration is invalid")
+    void of_shouldThrowException_whenConfigurationIsInvalid() {
+        assertThatThrownBy(() -> HumidAirCache.of(0)).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> HumidAirCache.of(10, 0.0, 0.01, 1.0E-6)).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> HumidAirCache.of(10, 1.0, Double.NaN, 1.0E-6)).isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+}
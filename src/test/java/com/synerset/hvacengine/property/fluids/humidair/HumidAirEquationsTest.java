@@ -1,5 +1,6 @@
 package com.synerset.hvacengine.property.fluids.humidair;
 
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
 import com.synerset.hvacengine.property.fluids.liquidwater.LiquidWaterEquations;
 import com.synerset.hvacengine.property.solids.ice.IceEquations;
 import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
@@ -18,6 +19,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.withPrecision;
 
 class HumidAirEquationsTest {
@@ -52,6 +54,60 @@ class HumidAirEquationsTest {
         assertThat(actual).isEqualTo(expected, withPrecision(accuracy));
     }
 
+    @ParameterizedTest
+    @MethodSource("psModelInlineData")
+    @DisplayName("should return the same saturation pressure for direct and iterative model when air temperature is given")
+    void saturationPressureDirect_shouldReturnSameSatPressureAsIterativeModel_whenAirTempIsGiven(double ta) {
+        //Act
+        var expected = HumidAirEquations.saturationPressureIterative(ta);
+        var actual = HumidAirEquations.saturationPressureDirect(ta);
+
+        // Assert
+        assertThat(Math.abs(actual - expected) / expected).isLessThan(LIMITED_MATH_ACCURACY);
+    }
+
+    static Stream<Arguments> psModelInlineData() {
+        return Stream.of(-100, -75, -50, -25, -10, -0.5, 0, 0.5, 10, 25, 49.9, 50.1, 75, 100, 150, 200)
+                .map(Arguments::of);
+    }
+
+    @Test
+    @DisplayName("should use direct saturation pressure model by default")
+    void saturationPressure_shouldUseDirectModel_byDefault() {
+        // Assert
+        assertThat(HumidAirEquations.getSaturationPressureModel()).isSameAs(SaturationPressureModel.DIRECT);
+        assertThat(HumidAirEquations.saturationPressure(20)).isEqualTo(HumidAirEquations.saturationPressureDirect(20));
+    }
+
+    @ParameterizedTest
+    @MethodSource("psModelInlineData")
+    @DisplayName("should return saturation temperature when saturation pressure for given air temperature is given")
+    void saturationTemperature_shouldReturnAirTemperature_whenSaturationPressureIsGiven(double expectedTa) {
+        // Arrange
+        var ps = HumidAirEquations.saturationPressureDirect(expectedTa);
+
+        //Act
+        var actualTa = HumidAirEquations.saturationTemperature(ps);
+
+        // Assert
+        assertThat(actualTa).isEqualTo(expectedTa, withPrecision(MATH_ACCURACY));
+    }
+
+    @Test
+    @DisplayName("should return freezing point when saturation pressure is between ice and water saturation pressure at 0oC")
+    void saturationTemperature_shouldReturnFreezingPoint_whenSaturationPressureIsWithinIceWaterGap() {
+        // Arrange
+        var psIce = HumidAirEquations.saturationPressureDirect(-1E-12);
+        var psWater = HumidAirEquations.saturationPressureDirect(0);
+
+        //Act
+        var actualTa = HumidAirEquations.saturationTemperature((psIce + psWater) / 2.0);
+
+        // Assert
+        assertThat(actualTa).isEqualTo(0.0);
+        assertThat(HumidAirEquations.saturationTemperature(0.0)).isEqualTo(Double.NEGATIVE_INFINITY);
+    }
+
     //INLINE DATA SEED: ASHRAE Tables /6.3, table 2/
     static Stream<Arguments> psInlineData() {
         return Stream.of(
@@ -104,6 +160,32 @@ class HumidAirEquationsTest {
         assertThat(actual).isEqualTo(expected, withPrecision(accuracy));
     }
 
+    @ParameterizedTest()
+    @MethodSource("wbtInitialGuessInlineData")
+    @DisplayName("should return the same wet bulb temperature regardless of provided initial guess")
+    void wetBulbTemperature_shouldReturnSameWetBulbTemp_whenDifferentInitialGuessIsGiven(double ta, double RH, double initialGuess) {
+        // Arrange
+        var expected = HumidAirEquations.wetBulbTemperature(ta, RH, PHYS_ATMOSPHERE);
+
+        //Act
+        var actual = HumidAirEquations.wetBulbTemperature(ta, RH, PHYS_ATMOSPHERE, initialGuess);
+
+        // Assert
+        assertThat(actual).isEqualTo(expected, withPrecision(MATH_ACCURACY));
+    }
+
+    static Stream<Arguments> wbtInitialGuessInlineData() {
+        return Stream.of(
+                Arguments.of(-20, 50, -21.0),
+                Arguments.of(-20, 50, Double.NaN),
+                Arguments.of(0, 2, 100.0),
+                Arguments.of(20, 50, 13.7),
+                Arguments.of(20, 50, -200.0),
+                Arguments.of(60, 10, 30.0),
+                Arguments.of(90, 0.5, 0.0)
+        );
+    }
+
     //INLINE DATA SEED -> generated from: https://www.psychrometric-calculator.com/humidairweb.aspx
     static Stream<Arguments> wbtInlineData() {
 
@@ -600,4 +682,70 @@ class HumidAirEquationsTest {
 
     }
 
+    @Test
+    @DisplayName("should return the same properties in batch as for single state when temperature and relative humidity arrays are given")
+    void batchPropertiesTaRH_shouldReturnSameResultsAsScalarEquations_whenArraysAreGiven() {
+        // Arrange
+        double[] ta = {-20, -5, 0, 12.5, 20, 35, 60};
+        double[] rh = {90, 10, 100, 0, 50, 20.5, 5};
+        double[] pat = {PHYS_ATMOSPHERE, PHYS_ATMOSPHERE, 101_325, PHYS_ATMOSPHERE, 95_000, PHYS_ATMOSPHERE, PHYS_ATMOSPHERE};
+        int size = ta.length;
+        double[] ps = new double[size];
+        double[] x = new double[size];
+        double[] h = new double[size];
+        double[] rho = new double[size];
+        double[] tdp = new double[size];
+        double[] wbt = new double[size];
+
+        //Act
+        HumidAirEquations.batchPropertiesTaRH(ta, rh, pat, ps, x, h, rho, tdp, wbt);
+
+        // Assert
+        for (int i = 0; i < size; i++) {
+            double expectedPs = HumidAirEquations.saturationPressure(ta[i]);
+            double expectedX = HumidAirEquations.humidityRatio(rh[i], expectedPs, pat[i]);
+            assertThat(ps[i]).isEqualTo(expectedPs);
+            assertThat(x[i]).isEqualTo(expectedX);
+            assertThat(h[i]).isEqualTo(HumidAirEquations.specificEnthalpy(ta[i], expectedX, pat[i]));
+            assertThat(rho[i]).isEqualTo(HumidAirEquations.density(ta[i], expectedX, pat[i]));
+            assertThat(tdp[i]).isEqualTo(HumidAirEquations.dewPointTemperature(ta[i], rh[i], pat[i]));
+            assertThat(wbt[i]).isEqualTo(HumidAirEquations.wetBulbTemperature(ta[i], rh[i], pat[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("should return the same properties in batch as for single state when temperature and humidity ratio arrays are given")
+    void batchPropertiesTaX_shouldReturnSameResultsAsScalarEquations_whenArraysAreGiven() {
+        // Arrange
+        double[] ta = {-10, 20, 30};
+        double[] x = {0.0005, 0.0072, 0.0};
+        double[] pat = {PHYS_ATMOSPHERE, PHYS_ATMOSPHERE, PHYS_ATMOSPHERE};
+        double[] rh = new double[3];
+        double[] wbt = new double[3];
+
+        //Act
+        HumidAirEquations.batchPropertiesTaX(ta, x, pat, null, rh, null, null, null, wbt);
+
+        // Assert
+        for (int i = 0; i < ta.length; i++) {
+            double expectedRH = HumidAirEquations.relativeHumidity(ta[i], x[i], pat[i]);
+            assertThat(rh[i]).isEqualTo(expectedRH);
+            assertThat(wbt[i]).isEqualTo(HumidAirEquations.wetBulbTemperature(ta[i], expectedRH, pat[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("should throw an exception when batch arrays have different lengths")
+    void batchPropertiesTaRH_shouldThrowException_whenArraysHaveDifferentLengths() {
+        // Arrange
+        double[] ta = {20, 25};
+        double[] rh = {50, 50};
+        double[] pat = {PHYS_ATMOSPHERE, PHYS_ATMOSPHERE};
+        double[] ps = new double[1];
+
+        //Act & Assert
+        assertThatThrownBy(() -> HumidAirEquations.batchPropertiesTaRH(ta, rh, pat, ps, null, null, null, null, null))
+                .isInstanceOf(HvacEngineArgumentException.class);
+    }
+
 }
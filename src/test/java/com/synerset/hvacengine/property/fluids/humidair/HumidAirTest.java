@@ -1,6 +1,7 @@
 package com.synerset.hvacengine.property.fluids.humidair;
 
 import com.synerset.hvacengine.property.fluids.SharedEquations;
+import com.synerset.hvacengine.property.fluids.dryair.DryAir;
 import com.synerset.unitility.unitsystem.humidity.HumidityRatio;
 import com.synerset.unitility.unitsystem.humidity.RelativeHumidity;
 import com.synerset.unitility.unitsystem.thermodynamic.Pressure;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withPrecision;
 
 class HumidAirTest {
 
@@ -119,4 +121,54 @@ class HumidAirTest {
 
     }
 
+    @Test
+    @DisplayName("should evaluate secondary properties once, on first access")
+    void shouldMemoizeSecondaryProperties_whenAccessedMultipleTimes() {
+        // Given
+        HumidAir humidAir = HumidAir.of(
+                Pressure.ofPascal(100_000.0),
+                Temperature.ofCelsius(25.0),
+                RelativeHumidity.ofPercentage(45.0)
+        );
+
+        // When
+        Temperature firstWetBulb = humidAir.getWetBulbTemperature();
+        Temperature secondWetBulb = humidAir.getWetBulbTemperature();
+
+        // Then
+        assertThat(secondWetBulb).isSameAs(firstWetBulb);
+        assertThat(humidAir.getDewPointTemperature()).isSameAs(humidAir.getDewPointTemperature());
+        assertThat(humidAir.getPrandtlNumber()).isSameAs(humidAir.getPrandtlNumber());
+        assertThat(humidAir.getDryAirComponent()).isSameAs(humidAir.getDryAirComponent());
+        assertThat(firstWetBulb).isEqualTo(HumidAirEquations.wetBulbTemperature(humidAir.getTemperature(),
+                humidAir.getRelativeHumidity(), humidAir.getPressure()));
+    }
+
+    @Test
+    @DisplayName("should derive humid air with changed humidity, reusing temperature dependent properties")
+    void shouldDeriveHumidAirWithChangedHumidity_whenWithMethodsAreUsed() {
+        // Given
+        HumidAir humidAir = HumidAir.of(
+                Pressure.ofPascal(100_000.0),
+                Temperature.ofCelsius(25.0),
+                RelativeHumidity.ofPercentage(45.0)
+        );
+        DryAir dryAirComponent = humidAir.getDryAirComponent();
+
+        // When
+        HumidAir withHumidityRatio = humidAir.withHumidityRatio(HumidityRatio.ofKilogramPerKilogram(0.012));
+        HumidAir withRelativeHumidity = humidAir.withRelativeHumidity(RelativeHumidity.ofPercentage(80.0));
+        HumidAir withPressure = humidAir.withPressure(Pressure.ofPascal(90_000.0));
+
+        // Then
+        assertThat(withHumidityRatio).isEqualTo(HumidAir.of(humidAir.getPressure(), humidAir.getTemperature(), HumidityRatio.ofKilogramPerKilogram(0.012)));
+        assertThat(withRelativeHumidity).isEqualTo(HumidAir.of(humidAir.getPressure(), humidAir.getTemperature(), RelativeHumidity.ofPercentage(80.0)));
+        assertThat(withPressure).isEqualTo(HumidAir.of(Pressure.ofPascal(90_000.0), humidAir.getTemperature(), humidAir.getHumidityRatio()));
+        assertThat(withRelativeHumidity.getRelativeHumidity().getInPercent()).isEqualTo(80.0, withPrecision(1E-12));
+        assertThat(withHumidityRatio.getSaturationPressure()).isSameAs(humidAir.getSaturationPressure());
+        assertThat(withPressure.getSaturationPressure()).isSameAs(humidAir.getSaturationPressure());
+        assertThat(withHumidityRatio.getDryAirComponent()).isSameAs(dryAirComponent);
+        assertThat(withPressure.getDryAirComponent().getPressure()).isEqualTo(Pressure.ofPascal(90_000.0));
+    }
+
 }
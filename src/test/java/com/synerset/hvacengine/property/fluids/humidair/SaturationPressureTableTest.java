@@ -0,0 +1,94 @@
+package com.synerset.hvacengine.property.fluids.humidair;
+
+import com.synerset.hvacengine.common.exception.HvacEngineArgumentException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withPrecision;
+
+class SaturationPressureTableTest {
+
+    private static final SaturationPressureTable DEFAULT_TABLE = SaturationPressureTable.of();
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-100, -63.37, -20.1, -0.3, -1.0E-9, 0, 1.0E-9, 0.3, 17.77, 45.5, 99.99, 150.123, 199.9})
+    @DisplayName("should return saturation pressure within reported accuracy when air temperature is given")
+    void saturationPressure_shouldReturnSatPressureWithinReportedAccuracy_whenAirTempIsGiven(double ta) {
+        // Arrange
+        var expected = HumidAirEquations.saturationPressureIterative(ta);
+
+        //Act
+        var actual = DEFAULT_TABLE.saturationPressure(ta);
+
+        // Assert
+        assertThat(Math.abs(actual - expected) / expected).isLessThanOrEqualTo(DEFAULT_TABLE.getMaxRelativeError() * 1.5);
+        assertThat(DEFAULT_TABLE.getMaxRelativeError()).isLessThan(1.0E-6);
+    }
+
+    @Test
+    @DisplayName("should trade accuracy for resolution and fall back to source model outside of table range")
+    void saturationPressure_shouldUseCoarseGridAndFallBackToSourceModel_whenOutOfRange() {
+        // Arrange
+        var coarseTable = SaturationPressureTable.of(SaturationPressureModel.DIRECT, -10.3, 40.2, 5.0);
+
+        //Act
+        var outOfRange = coarseTable.saturationPressure(60);
+
+        // Assert
+        assertThat(coarseTable.getMinTemperature()).isEqualTo(-15.0);
+        assertThat(coarseTable.getMaxTemperature()).isEqualTo(45.0);
+        assertThat(coarseTable.getNumberOfNodes()).isEqualTo(13);
+        assertThat(coarseTable.getMaxRelativeError()).isGreaterThan(DEFAULT_TABLE.getMaxRelativeError()).isLessThan(1.0E-3);
+        assertThat(outOfRange).isEqualTo(HumidAirEquations.saturationPressureDirect(60));
+    }
+
+    @Test
+    @DisplayName("should be usable as saturation pressure model of humid air equations")
+    void setSaturationPressureModel_shouldUseTable_whenTableIsSet() {
+        try {
+            //Act
+            HumidAirEquations.setSaturationPressureModel(DEFAULT_TABLE);
+            var actual = HumidAirEquations.saturationPressure(20.05);
+
+            // Assert
+            assertThat(actual).isEqualTo(DEFAULT_TABLE.saturationPressure(20.05));
+        } finally {
+            HumidAirEquations.setSaturationPressureModel(SaturationPressureModel.DIRECT);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-42.3, -7.1, -0.2, 0.4, 12.6, 33.3})
+    @DisplayName("should invert selected saturation pressure model when saturation and dew point temperatures are calculated")
+    void saturationTemperature_shouldInvertSelectedModel_whenTableIsSet(double ta) {
+        // Arrange
+        var coarseTable = SaturationPressureTable.of(SaturationPressureModel.DIRECT, -50, 50, 5.0);
+        try {
+            HumidAirEquations.setSaturationPressureModel(coarseTable);
+            var ps = HumidAirEquations.saturationPressure(ta);
+
+            //Act
+            var actualTa = HumidAirEquations.saturationTemperature(ps);
+            var actualTdp = HumidAirEquations.dewPointTemperature(ta, 20, 101_325);
+
+            // Assert
+            assertThat(actualTa).isEqualTo(ta, withPrecision(1.0E-9));
+            assertThat(HumidAirEquations.saturationPressure(actualTdp) / (0.2 * ps)).isEqualTo(1.0, withPrecision(1.0E-12));
+            assertThat(Math.abs(HumidAirEquations.saturationTemperatureDirect(ps) - actualTa)).isGreaterThan(1.0E-9);
+        } finally {
+            HumidAirEquations.setSaturationPressureModel(SaturationPressureModel.DIRECT);
+        }
+    }
+
+    @Test
+    @DisplayName("should throw exception when table step or range is invalid")
+    void of_shouldThrowException_whenStepOrRangeIsInvalid() {
+        assertThatThrownBy(() -> SaturationPressureTable.of(0, 10, 0)).isInstanceOf(HvacEngineArgumentException.class);
+        assertThatThrownBy(() -> SaturationPressureTable.of(10, 0, 1)).isInstanceOf(HvacEngineArgumentException.class);
+    }
+
+}